@@ -1,9 +1,14 @@
 package com.example.definex.taskmanagement;
 
+import com.example.definex.taskmanagement.repository.BaseRepositoryImpl;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableJpaRepositories(repositoryBaseClass = BaseRepositoryImpl.class)
+@EnableScheduling
 public class TaskManagementApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(TaskManagementApplication.class, args);
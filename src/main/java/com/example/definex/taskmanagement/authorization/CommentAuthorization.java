@@ -1,8 +1,10 @@
 package com.example.definex.taskmanagement.authorization;
 
+import com.example.definex.taskmanagement.dto.projection.CommentRevisionView;
 import com.example.definex.taskmanagement.entities.Task;
 
 public interface CommentAuthorization {
     void userCanReachComment(Task task);
+    void userCanReachComment(CommentRevisionView comment);
 
 }
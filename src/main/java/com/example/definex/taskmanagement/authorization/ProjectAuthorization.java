@@ -1,7 +1,10 @@
 package com.example.definex.taskmanagement.authorization;
 
+import com.example.definex.taskmanagement.dto.projection.ProjectView;
 import com.example.definex.taskmanagement.entities.Project;
 
 public interface ProjectAuthorization {
     void userHasAuthorization(Project project);
+    void userHasAuthorization(ProjectView project);
+    void userHasAuthorizationForDepartment(Long departmentId);
 }
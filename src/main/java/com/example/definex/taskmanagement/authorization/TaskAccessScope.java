@@ -0,0 +1,7 @@
+package com.example.definex.taskmanagement.authorization;
+
+public record TaskAccessScope(boolean unrestricted, Long departmentId, Long assigneeId) {
+    public static TaskAccessScope unrestrictedScope() {
+        return new TaskAccessScope(true, null, null);
+    }
+}
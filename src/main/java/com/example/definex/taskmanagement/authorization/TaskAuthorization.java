@@ -1,13 +1,19 @@
 package com.example.definex.taskmanagement.authorization;
 
+import com.example.definex.taskmanagement.dto.projection.TaskRevisionView;
+import com.example.definex.taskmanagement.dto.projection.TaskView;
 import com.example.definex.taskmanagement.entities.Project;
 import com.example.definex.taskmanagement.entities.Task;
 import com.example.definex.taskmanagement.entities.TaskStateType;
 
 public interface TaskAuthorization {
     void canCreateTask(Project project);
+    TaskAccessScope getTaskAccessScope();
     boolean canAccessTask(Task task);
     void validateTaskAccess(Task task);
+    boolean canAccessTask(TaskView task);
+    void validateTaskAccess(TaskView task);
+    void validateTaskAccess(TaskRevisionView task);
     boolean canManageTask(Task task);
     void validateTaskManagement(Task task);
     void validateTaskStateChange(Task task, TaskStateType newState);
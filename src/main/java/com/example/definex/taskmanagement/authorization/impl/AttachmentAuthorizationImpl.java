@@ -1,10 +1,10 @@
 package com.example.definex.taskmanagement.authorization.impl;
 
 import com.example.definex.taskmanagement.authorization.AttachmentAuthorization;
+import com.example.definex.taskmanagement.config.security.AuthenticatedUser;
 import com.example.definex.taskmanagement.entities.Attachment;
 import com.example.definex.taskmanagement.entities.Role;
 import com.example.definex.taskmanagement.entities.Task;
-import com.example.definex.taskmanagement.entities.User;
 import com.example.definex.taskmanagement.exception.UnauthorizedAccessException;
 import com.example.definex.taskmanagement.exception.constants.MessageKey;
 import org.springframework.security.core.Authentication;
@@ -14,13 +14,13 @@ import java.util.Objects;
 
 @Component
 public class AttachmentAuthorizationImpl implements AttachmentAuthorization {
-    private User getCurrentUser() {
+    private AuthenticatedUser getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return (User) authentication.getPrincipal();
+        return (AuthenticatedUser) authentication.getPrincipal();
     }
 
     public boolean userCanAttachFileToTask(Task task) {
-        User user = getCurrentUser();
+        AuthenticatedUser user = getCurrentUser();
 
         if (user.getRole() == Role.TEAM_LEADER) {
             return true;
@@ -40,7 +40,7 @@ public class AttachmentAuthorizationImpl implements AttachmentAuthorization {
     }
 
     public boolean userCanDownloadAttachment(Attachment attachment) {
-        User user = getCurrentUser();
+        AuthenticatedUser user = getCurrentUser();
         Task task = attachment.getTask();
 
         if (user.getRole() == Role.TEAM_LEADER) {
@@ -62,7 +62,7 @@ public class AttachmentAuthorizationImpl implements AttachmentAuthorization {
     }
 
     public boolean userCanDeleteAttachment(Attachment attachment) {
-        User user = getCurrentUser();
+        AuthenticatedUser user = getCurrentUser();
         Task task = attachment.getTask();
 
         if (user.getRole() == Role.TEAM_LEADER) {
@@ -91,7 +91,7 @@ public class AttachmentAuthorizationImpl implements AttachmentAuthorization {
     }
 
     public boolean userCanViewTaskAttachments(Task task) {
-        User user = getCurrentUser();
+        AuthenticatedUser user = getCurrentUser();
 
         if (user.getRole() == Role.TEAM_LEADER) {
             return true;
@@ -111,15 +111,15 @@ public class AttachmentAuthorizationImpl implements AttachmentAuthorization {
         return false;
     }
 
-    private boolean isSameDepartment(User user, Task task) {
+    private boolean isSameDepartment(AuthenticatedUser user, Task task) {
         if (user == null || task == null || task.getProject() == null ||
-                task.getProject().getDepartment() == null || user.getDepartment() == null) {
+                task.getProject().getDepartment() == null || user.getDepartmentId() == null) {
             return false;
         }
-        return Objects.equals(user.getDepartment().getId(), task.getProject().getDepartment().getId());
+        return Objects.equals(user.getDepartmentId(), task.getProject().getDepartment().getId());
     }
 
-    private boolean isTaskAssignedToUser(User user, Task task) {
+    private boolean isTaskAssignedToUser(AuthenticatedUser user, Task task) {
         if (user == null || task == null || task.getAssignee() == null) {
             return false;
         }
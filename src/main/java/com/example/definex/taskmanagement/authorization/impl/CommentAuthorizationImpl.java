@@ -1,9 +1,10 @@
 package com.example.definex.taskmanagement.authorization.impl;
 
 import com.example.definex.taskmanagement.authorization.CommentAuthorization;
+import com.example.definex.taskmanagement.config.security.AuthenticatedUser;
+import com.example.definex.taskmanagement.dto.projection.CommentRevisionView;
 import com.example.definex.taskmanagement.entities.Role;
 import com.example.definex.taskmanagement.entities.Task;
-import com.example.definex.taskmanagement.entities.User;
 import com.example.definex.taskmanagement.exception.UnauthorizedAccessException;
 import com.example.definex.taskmanagement.exception.constants.MessageKey;
 import org.springframework.security.core.Authentication;
@@ -14,16 +15,25 @@ import org.springframework.stereotype.Component;
 public class CommentAuthorizationImpl implements CommentAuthorization {
 
     public void userCanReachComment(Task task){
-        User user = (User) getCurrentAuthentication().getPrincipal();
+        userCanReachComment(task.getProject().getDepartment().getId(),
+                task.getAssignee() != null ? task.getAssignee().getId() : null);
+    }
+
+    public void userCanReachComment(CommentRevisionView comment){
+        userCanReachComment(comment.departmentId(), comment.assigneeId());
+    }
+
+    private void userCanReachComment(Long departmentId, Long assigneeId){
+        AuthenticatedUser user = (AuthenticatedUser) getCurrentAuthentication().getPrincipal();
         if (user.getRole() == Role.TEAM_LEADER) {
             return;
         }
 
-        if (user.getRole() == Role.GROUP_MANAGER && !task.getProject().getDepartment().getId().equals(user.getDepartment().getId())){
+        if (user.getRole() == Role.GROUP_MANAGER && !departmentId.equals(user.getDepartmentId())){
             throw new UnauthorizedAccessException(MessageKey.GROUP_MANAGER_CANNOT_COMMENT_ON_OTHER_DEPARTMENTS.toString());
         }
 
-        if (!isAssigneeForTask(user,task)){
+        if (assigneeId == null || !assigneeId.equals(user.getId())){
             throw new UnauthorizedAccessException(MessageKey.USER_CAN_NOT_COMMENT_TO_UNASSIGNED_TASK.toString());
         }
     }
@@ -31,9 +41,4 @@ public class CommentAuthorizationImpl implements CommentAuthorization {
     private Authentication getCurrentAuthentication() {
         return SecurityContextHolder.getContext().getAuthentication();
     }
-
-    private boolean isAssigneeForTask(User user, Task task) {
-        return task.getAssignee() != null &&
-                task.getAssignee().getId().equals(user.getId());
-    }
 }
\ No newline at end of file
@@ -1,10 +1,11 @@
 package com.example.definex.taskmanagement.authorization.impl;
 
 import com.example.definex.taskmanagement.authorization.ProjectAuthorization;
+import com.example.definex.taskmanagement.config.security.AuthenticatedUser;
+import com.example.definex.taskmanagement.dto.projection.ProjectView;
 import com.example.definex.taskmanagement.entities.Department;
 import com.example.definex.taskmanagement.entities.Project;
 import com.example.definex.taskmanagement.entities.Role;
-import com.example.definex.taskmanagement.entities.User;
 import com.example.definex.taskmanagement.exception.UnauthorizedAccessException;
 import com.example.definex.taskmanagement.exception.constants.MessageKey;
 import org.springframework.security.core.Authentication;
@@ -15,16 +16,31 @@ import org.springframework.stereotype.Component;
 public class ProjectAuthorizationImpl implements ProjectAuthorization {
 
     public void userHasAuthorization(Project project) {
-        User user = (User) getCurrentAuthentication().getPrincipal();
+        AuthenticatedUser user = (AuthenticatedUser) getCurrentAuthentication().getPrincipal();
         if (!isAuthorizedToManage(user, project.getDepartment())) {
             throw new UnauthorizedAccessException(MessageKey.USER_CANNOT_MANAGE_PROJECTS_IN_DEPARTMENT.toString() +project.getDepartment().getId());
         }
     }
+    public void userHasAuthorization(ProjectView project) {
+        AuthenticatedUser user = (AuthenticatedUser) getCurrentAuthentication().getPrincipal();
+        if (!isAuthorizedToManage(user, project.departmentId())) {
+            throw new UnauthorizedAccessException(MessageKey.USER_CANNOT_MANAGE_PROJECTS_IN_DEPARTMENT.toString() +project.departmentId());
+        }
+    }
+    public void userHasAuthorizationForDepartment(Long departmentId) {
+        AuthenticatedUser user = (AuthenticatedUser) getCurrentAuthentication().getPrincipal();
+        if (!isAuthorizedToManage(user, departmentId)) {
+            throw new UnauthorizedAccessException(MessageKey.USER_CANNOT_MANAGE_PROJECTS_IN_DEPARTMENT.toString() +departmentId);
+        }
+    }
     private Authentication getCurrentAuthentication() {
         return SecurityContextHolder.getContext().getAuthentication();
     }
-    private boolean isAuthorizedToManage(User user, Department department) {
+    private boolean isAuthorizedToManage(AuthenticatedUser user, Department department) {
+        return isAuthorizedToManage(user, department.getId());
+    }
+    private boolean isAuthorizedToManage(AuthenticatedUser user, Long departmentId) {
         return user.getRole() == Role.TEAM_LEADER ||
-                (user.getRole() == Role.GROUP_MANAGER && user.getDepartment().getId().equals(department.getId()));
+                (user.getRole() == Role.GROUP_MANAGER && departmentId.equals(user.getDepartmentId()));
     }
 }
\ No newline at end of file
@@ -1,25 +1,45 @@
 package com.example.definex.taskmanagement.authorization.impl;
 
+import com.example.definex.taskmanagement.authorization.TaskAccessScope;
 import com.example.definex.taskmanagement.authorization.TaskAuthorization;
+import com.example.definex.taskmanagement.config.security.AuthenticatedUser;
+import com.example.definex.taskmanagement.dto.projection.TaskRevisionView;
+import com.example.definex.taskmanagement.dto.projection.TaskView;
 import com.example.definex.taskmanagement.entities.*;
 import com.example.definex.taskmanagement.exception.*;
 import com.example.definex.taskmanagement.exception.constants.MessageKey;
+import com.example.definex.taskmanagement.workflow.TaskStateMachine;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class TaskAuthorizationImpl implements TaskAuthorization {
+    private final TaskStateMachine taskStateMachine;
 
     public void canCreateTask(Project project) {
-        User user = (User) getCurrentAuthentication().getPrincipal();
+        AuthenticatedUser user = (AuthenticatedUser) getCurrentAuthentication().getPrincipal();
         if (!(isTeamLeader(user) || isGroupManagerForDepartment(user, project.getDepartment()))) {
             throw new UnauthorizedAccessException(MessageKey.USER_DOES_NOT_HAVE_PERMISSION_TO_CREATE_TASK.toString());
         }
     }
 
+    public TaskAccessScope getTaskAccessScope() {
+        AuthenticatedUser user = (AuthenticatedUser) getCurrentAuthentication().getPrincipal();
+
+        if (isTeamLeader(user)) {
+            return TaskAccessScope.unrestrictedScope();
+        }
+        if (user.getRole() == Role.GROUP_MANAGER) {
+            return new TaskAccessScope(false, user.getDepartmentId(), user.getId());
+        }
+        return new TaskAccessScope(false, null, user.getId());
+    }
+
     public boolean canAccessTask(Task task) {
-        User user = (User) getCurrentAuthentication().getPrincipal();
+        AuthenticatedUser user = (AuthenticatedUser) getCurrentAuthentication().getPrincipal();
 
         if (isLeaderOrManagerForDepartment(user, task.getProject().getDepartment())) {
             return true;
@@ -34,8 +54,24 @@ public class TaskAuthorizationImpl implements TaskAuthorization {
         }
     }
 
+    public boolean canAccessTask(TaskView task) {
+        return canAccessTask(task.departmentId(), task.assigneeId());
+    }
+
+    public void validateTaskAccess(TaskView task) {
+        if (!canAccessTask(task)) {
+            throw new UnauthorizedAccessException(MessageKey.USER_DOES_NOT_HAVE_ACCESS_TO_TASK.toString());
+        }
+    }
+
+    public void validateTaskAccess(TaskRevisionView task) {
+        if (!canAccessTask(task.departmentId(), task.assigneeId())) {
+            throw new UnauthorizedAccessException(MessageKey.USER_DOES_NOT_HAVE_ACCESS_TO_TASK.toString());
+        }
+    }
+
     public boolean canManageTask(Task task) {
-        User user = (User) getCurrentAuthentication().getPrincipal();
+        AuthenticatedUser user = (AuthenticatedUser) getCurrentAuthentication().getPrincipal();
         return isLeaderOrManagerForDepartment(user, task.getProject().getDepartment());
     }
 
@@ -51,48 +87,16 @@ public class TaskAuthorizationImpl implements TaskAuthorization {
             throw new UnauthorizedAccessException(MessageKey.USER_DOES_NOT_HAVE_ACCESS_TO_TASK.getMessage());
         }
 
-        if (task.getState() == TaskStateType.COMPLETED) {
-            throw new TaskCompletedException(task.getState(), newState);
-        }
-
-        if (!isValidStateTransition(task.getState(), newState)) {
+        if (!taskStateMachine.canTransition(task, newState)) {
+            if (task.getState() == TaskStateType.COMPLETED) {
+                throw new TaskCompletedException(task.getState(), newState);
+            }
             throw new InvalidTaskStateTransitionException(task.getState(), newState);
         }
     }
-    private boolean isValidStateTransition(TaskStateType currentState, TaskStateType newState) {
-
-        return switch (currentState) {
-
-            case BACKLOG ->     newState == TaskStateType.IN_ANALYSIS ||
-                                newState == TaskStateType.IN_PROGRESS ||
-                                newState == TaskStateType.COMPLETED   ||
-                                newState == TaskStateType.CANCELLED   ;
-
-            case IN_ANALYSIS -> newState == TaskStateType.BACKLOG ||
-                                newState == TaskStateType.IN_PROGRESS ||
-                                newState == TaskStateType.BLOCKED ||
-                                newState == TaskStateType.COMPLETED ||
-                                newState == TaskStateType.CANCELLED;
-
-            case IN_PROGRESS -> newState == TaskStateType.IN_ANALYSIS ||
-                                newState == TaskStateType.COMPLETED ||
-                                newState == TaskStateType.BLOCKED ||
-                                newState == TaskStateType.CANCELLED;
-
-            case BLOCKED ->     newState == TaskStateType.IN_ANALYSIS ||
-                                newState == TaskStateType.IN_PROGRESS ||
-                                newState == TaskStateType.BACKLOG  ||
-                                newState == TaskStateType.CANCELLED;
-
-            case CANCELLED ->   newState == TaskStateType.IN_ANALYSIS ||
-                                newState == TaskStateType.IN_PROGRESS ||
-                                newState == TaskStateType.BACKLOG  ;
-            default -> false;
-        };
-    }
 
     public boolean canAssignTask(Task task) {
-        User user = (User) getCurrentAuthentication().getPrincipal();
+        AuthenticatedUser user = (AuthenticatedUser) getCurrentAuthentication().getPrincipal();
         return isLeaderOrManagerForDepartment(user, task.getProject().getDepartment());
     }
 
@@ -103,7 +107,7 @@ public class TaskAuthorizationImpl implements TaskAuthorization {
     }
 
     public boolean canChangeTaskPriority(Task task) {
-        User user = (User) getCurrentAuthentication().getPrincipal();
+        AuthenticatedUser user = (AuthenticatedUser) getCurrentAuthentication().getPrincipal();
         return isLeaderOrManagerForDepartment(user, task.getProject().getDepartment());
     }
 
@@ -114,7 +118,7 @@ public class TaskAuthorizationImpl implements TaskAuthorization {
     }
 
     public boolean canDeleteTask(Task task) {
-        User user = (User) getCurrentAuthentication().getPrincipal();
+        AuthenticatedUser user = (AuthenticatedUser) getCurrentAuthentication().getPrincipal();
         return isLeaderOrManagerForDepartment(user, task.getProject().getDepartment());
     }
 
@@ -124,24 +128,38 @@ public class TaskAuthorizationImpl implements TaskAuthorization {
         }
     }
 
+    private boolean canAccessTask(Long departmentId, Long assigneeId) {
+        AuthenticatedUser user = (AuthenticatedUser) getCurrentAuthentication().getPrincipal();
+
+        if (isTeamLeader(user) || isGroupManagerForDepartment(user, departmentId)) {
+            return true;
+        }
+
+        return assigneeId != null && assigneeId.equals(user.getId());
+    }
+
     private Authentication getCurrentAuthentication() {
         return SecurityContextHolder.getContext().getAuthentication();
     }
 
-    private boolean isTeamLeader(User user) {
+    private boolean isTeamLeader(AuthenticatedUser user) {
         return user.getRole() == Role.TEAM_LEADER;
     }
 
-    private boolean isGroupManagerForDepartment(User user, Department department) {
+    private boolean isGroupManagerForDepartment(AuthenticatedUser user, Department department) {
+        return isGroupManagerForDepartment(user, department.getId());
+    }
+
+    private boolean isGroupManagerForDepartment(AuthenticatedUser user, Long departmentId) {
         return user.getRole() == Role.GROUP_MANAGER &&
-                user.getDepartment().getId().equals(department.getId());
+                departmentId.equals(user.getDepartmentId());
     }
 
-    private boolean isLeaderOrManagerForDepartment(User user, Department department) {
+    private boolean isLeaderOrManagerForDepartment(AuthenticatedUser user, Department department) {
         return isTeamLeader(user) || isGroupManagerForDepartment(user, department);
     }
 
-    private boolean isAssigneeForTask(User user, Task task) {
+    private boolean isAssigneeForTask(AuthenticatedUser user, Task task) {
         return task.getAssignee() != null &&
                 task.getAssignee().getId().equals(user.getId());
     }
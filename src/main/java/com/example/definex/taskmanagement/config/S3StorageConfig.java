@@ -0,0 +1,34 @@
+package com.example.definex.taskmanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import java.net.URI;
+
+@Configuration
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+public class S3StorageConfig {
+    @Bean(destroyMethod = "close")
+    public S3Client attachmentS3Client(@Value("${file.storage.s3.endpoint:}") String endpoint,
+                                       @Value("${file.storage.s3.region:us-east-1}") String region,
+                                       @Value("${file.storage.s3.access-key:}") String accessKey,
+                                       @Value("${file.storage.s3.secret-key:}") String secretKey,
+                                       @Value("${file.storage.s3.path-style-access:true}") boolean pathStyleAccess) {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .forcePathStyle(pathStyleAccess);
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        if (!accessKey.isBlank()) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+        }
+        return builder.build();
+    }
+}
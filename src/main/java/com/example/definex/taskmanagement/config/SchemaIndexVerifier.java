@@ -0,0 +1,64 @@
+package com.example.definex.taskmanagement.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "schema.index-check.enabled", havingValue = "true", matchIfMissing = true)
+public class SchemaIndexVerifier implements ApplicationRunner {
+    static final List<String> REQUIRED_INDEXES = List.of(
+            "idx_users_email_active",
+            "idx_project_department_active",
+            "idx_project_partipicant_project",
+            "idx_task_project_priority_active",
+            "idx_task_assignee_project_priority_active",
+            "idx_comment_task_active",
+            "idx_comment_task_feed_position",
+            "idx_attachment_task_active",
+            "idx_attachment_blob_unreferenced",
+            "idx_attachment_pending",
+            "idx_attachment_processing_claim",
+            "idx_task_state_transition_task",
+            "idx_task_state_transition_project",
+            "idx_task_state_transition_department",
+            "idx_task_search_active",
+            "idx_comment_search_active",
+            "idx_outbox_event_pending",
+            "idx_outbox_event_published");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean failOnMissing;
+
+    public SchemaIndexVerifier(JdbcTemplate jdbcTemplate,
+                               @Value("${schema.index-check.fail-on-missing:true}") boolean failOnMissing) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.failOnMissing = failOnMissing;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE schemaname = current_schema()", String.class));
+        List<String> missing = REQUIRED_INDEXES.stream()
+                .filter(index -> !existing.contains(index))
+                .toList();
+
+        if (missing.isEmpty()) {
+            log.info("Verified {} required database indexes", REQUIRED_INDEXES.size());
+            return;
+        }
+        if (failOnMissing) {
+            throw new IllegalStateException("Missing database indexes, run the Flyway migrations: " + missing);
+        }
+        log.warn("Missing database indexes, queries on soft-deleted tables will scan: {}", missing);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.definex.taskmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits applied by the task service: the largest batch a single request may carry, and how often a commutative
+ * update is retried after losing an optimistic-lock race.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "task")
+public class TaskProperties {
+    private Batch batch = new Batch();
+    private Concurrency concurrency = new Concurrency();
+
+    @Getter
+    @Setter
+    public static class Batch {
+        private int maxSize = 2000;
+    }
+
+    @Getter
+    @Setter
+    public static class Concurrency {
+        private int conflictRetries = 3;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.definex.taskmanagement.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps monthly partitions of {@code task_state_transition} created ahead of the current month, so new rows never
+ * land in the default partition (which would block creating the partition for their month later).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "task.history.partition-maintenance.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskStateTransitionPartitionMaintainer implements ApplicationRunner {
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+
+    public TaskStateTransitionPartitionMaintainer(JdbcTemplate jdbcTemplate,
+                                                  @Value("${task.history.partition-maintenance.months-ahead:2}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ensurePartitions();
+    }
+    @Scheduled(cron = "${task.history.partition-maintenance.cron:0 0 3 * * *}")
+    public void ensurePartitions() {
+        jdbcTemplate.execute("select ensure_task_state_transition_partitions(" + monthsAhead + ")");
+        log.info("Ensured task_state_transition partitions for the next {} months", monthsAhead);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.definex.taskmanagement.config;
+
+import com.example.definex.taskmanagement.entities.TaskStateType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Workflow overrides keyed by department or project id. Each entry replaces the allowed next states for the listed
+ * source states only; states that are not listed keep the department or default rules.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "task.workflow")
+public class TaskWorkflowProperties {
+    private Map<Long, Map<TaskStateType, Set<TaskStateType>>> departments = new HashMap<>();
+    private Map<Long, Map<TaskStateType, Set<TaskStateType>>> projects = new HashMap<>();
+}
@@ -0,0 +1,9 @@
+package com.example.definex.taskmanagement.config.security;
+
+import com.example.definex.taskmanagement.entities.Role;
+
+public interface AuthenticatedUser {
+    Long getId();
+    Role getRole();
+    Long getDepartmentId();
+}
@@ -0,0 +1,40 @@
+package com.example.definex.taskmanagement.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class CaffeineUserCache implements UserCache {
+    private final Cache<String, UserDetails> cache;
+
+    public CaffeineUserCache(@Value("${security.auth.principal-cache.ttl:5m}") Duration ttl,
+                             @Value("${security.auth.principal-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        return cache.getIfPresent(username);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        cache.put(user.getUsername(), user);
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        if (username != null) {
+            cache.invalidate(username);
+        }
+    }
+}
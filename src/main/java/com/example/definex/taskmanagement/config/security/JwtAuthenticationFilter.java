@@ -1,12 +1,16 @@
 package com.example.definex.taskmanagement.config.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -20,6 +24,9 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final UserCache userCache;
+    @Value("${jwt.stateless-principal.enabled:false}")
+    private boolean statelessPrincipalEnabled;
     @Override
     public void doFilterInternal(
              HttpServletRequest request,
@@ -28,6 +35,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
         final  String jwt;
+        final Claims claims;
         final String userEmail;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")){
@@ -35,11 +43,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        claims = jwtService.verifyToken(jwt);
+        userEmail = claims.getSubject();
 
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication()==null){
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            if (jwtService.isTokenValid(jwt,userDetails)){
+            UserDetails userDetails = statelessPrincipalEnabled ? jwtService.extractPrincipal(claims) : null;
+            if (userDetails == null) {
+                userDetails = loadUser(userEmail);
+            }
+            if (jwtService.isTokenValid(claims,userDetails)){
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -53,4 +65,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request,response);
     }
+    private UserDetails loadUser(String userEmail) {
+        UserDetails userDetails = userCache.getUserFromCache(userEmail);
+        if (userDetails == null) {
+            userDetails = userDetailsService.loadUserByUsername(userEmail);
+            if (userDetails instanceof CredentialsContainer credentials) {
+                credentials.eraseCredentials();
+            }
+            userCache.putUserInCache(userDetails);
+        }
+        return userDetails;
+    }
 }
@@ -1,6 +1,10 @@
 package com.example.definex.taskmanagement.config.security;
 
+import com.example.definex.taskmanagement.entities.Role;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -8,7 +12,12 @@ import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -16,18 +25,46 @@ import java.util.function.Function;
 
 @Service
 public class JwtService {
-    @Value("${jwt.secret}")
-    private String SECRET_KEY;
-    @Value("${jwt.expiration}")
-    private long EXPIRATION_TIME;
-    public String extractUsername(String token) {
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+    private static final String DEPARTMENT_ID_CLAIM = "dep";
+    private final long EXPIRATION_TIME;
+    private final Key signInKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, Claims> verifiedClaimsCache;
 
+    public JwtService(@Value("${jwt.secret}") String secretKey,
+                      @Value("${jwt.expiration}") long expirationTime,
+                      @Value("${jwt.claims-cache.enabled:true}") boolean claimsCacheEnabled,
+                      @Value("${jwt.claims-cache.ttl:30s}") Duration claimsCacheTtl,
+                      @Value("${jwt.claims-cache.max-size:10000}") long claimsCacheMaxSize) {
+        this.EXPIRATION_TIME = expirationTime;
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signInKey).build();
+        this.verifiedClaimsCache = claimsCacheEnabled
+                ? Caffeine.newBuilder().expireAfterWrite(claimsCacheTtl).maximumSize(claimsCacheMaxSize).build()
+                : null;
+    }
+    public Claims verifyToken(String token) {
+        if (verifiedClaimsCache == null) {
+            return extractAllClaims(token);
+        }
+        String tokenHash = hash(token);
+        Claims claims = verifiedClaimsCache.getIfPresent(tokenHash);
+        if (claims != null && !isExpired(claims)) {
+            return claims;
+        }
+        claims = extractAllClaims(token);
+        verifiedClaimsCache.put(tokenHash, claims);
+        return claims;
+    }
+    public String extractUsername(String token) {
 
         return extractClaim(token,Claims::getSubject);
     }
     public <T> T extractClaim(String token, Function<Claims,T> claimsResolver){
 
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = verifyToken(token);
         return claimsResolver.apply(claims);
     }
     public String generateToken(UserDetails userDetails){
@@ -36,39 +73,56 @@ public class JwtService {
     }
     public String generateToken(Map<String,Object> extraClaims, UserDetails userDetails){
 
+        Map<String,Object> claims = new HashMap<>(extraClaims);
+        if (userDetails instanceof AuthenticatedUser authenticatedUser) {
+            claims.put(USER_ID_CLAIM, authenticatedUser.getId());
+            claims.put(ROLE_CLAIM, authenticatedUser.getRole() != null ? authenticatedUser.getRole().name() : null);
+            claims.put(DEPARTMENT_ID_CLAIM, authenticatedUser.getDepartmentId());
+        }
         return Jwts
                 .builder()
-                .setClaims(extraClaims)
+                .setClaims(claims)
                 .setSubject(userDetails.getUsername())
                 .claim("authorities", userDetails.getAuthorities())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
+    public JwtUserPrincipal extractPrincipal(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+        Number departmentId = claims.get(DEPARTMENT_ID_CLAIM, Number.class);
+        return new JwtUserPrincipal(
+                userId.longValue(),
+                claims.getSubject(),
+                Role.valueOf(role),
+                departmentId != null ? departmentId.longValue() : null);
+    }
     public boolean isTokenValid(String token, UserDetails userDetails){
-        String userName = extractUsername(token);
-        return  (userName.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(verifyToken(token), userDetails);
     }
-    private boolean isTokenExpired(String token) {
-        return  extractExpiration(token).before(new Date());
+    public boolean isTokenValid(Claims claims, UserDetails userDetails){
+        return  claims.getSubject().equals(userDetails.getUsername()) && !isExpired(claims);
     }
-    private Date extractExpiration(String token) {
-
-        return  extractClaim(token, Claims::getExpiration);
+    private boolean isExpired(Claims claims) {
+        return  claims.getExpiration().before(new Date());
     }
     private Claims extractAllClaims(String token){
 
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
-    private Key getSignInKey() {
-
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
-}
\ No newline at end of file
+}
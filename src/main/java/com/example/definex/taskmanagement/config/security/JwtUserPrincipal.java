@@ -0,0 +1,51 @@
+package com.example.definex.taskmanagement.config.security;
+
+import com.example.definex.taskmanagement.entities.Role;
+import com.example.definex.taskmanagement.entities.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Security principal for both login and bearer-token requests. It is built from a {@link User} row or from token claims
+ * and never references the entity, so nothing persistent ends up in the security context or the principal cache. The
+ * password hash is only needed to check a login; bearer-token requests erase it before the principal is cached.
+ */
+@Getter
+@AllArgsConstructor
+public class JwtUserPrincipal implements UserDetails, AuthenticatedUser, CredentialsContainer {
+    private final Long id;
+    private final String username;
+    private final Role role;
+    private final Long departmentId;
+    private String password;
+
+    public JwtUserPrincipal(Long id, String username, Role role, Long departmentId) {
+        this(id, username, role, departmentId, null);
+    }
+
+    public static JwtUserPrincipal from(User user) {
+        return new JwtUserPrincipal(
+                user.getId(),
+                user.getEmail(),
+                user.getRole(),
+                user.getDepartment() != null ? user.getDepartment().getId() : null,
+                user.getPassword());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role.name()));
+    }
+
+    @Override
+    public void eraseCredentials() {
+        password = null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.definex.taskmanagement.config.security;
 
 import com.example.definex.taskmanagement.entities.Role;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -34,6 +35,7 @@ public class SecurityConfig {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(publicEndpoints).permitAll()
                         .requestMatchers(teamLeaderEndpoints).hasAuthority(Role.TEAM_LEADER.getType())
                         .anyRequest().authenticated()
@@ -15,6 +15,7 @@ public class UserDetailsServiceConfig {
     @Bean
     public UserDetailsService userDetailsService() {
         return email -> userRepository.findByEmail(email)
+                .map(JwtUserPrincipal::from)
                 .orElseThrow(() -> new UsernameNotFoundException(MessageKey.USER_NOT_FOUND_WITH_EMAIL.getMessage() +email));
     }
 }
\ No newline at end of file
@@ -1,23 +1,43 @@
 package com.example.definex.taskmanagement.controller;
 
+import com.example.definex.taskmanagement.dto.response.AttachmentDownload;
 import com.example.definex.taskmanagement.dto.response.FileAttachmentResponse;
 import com.example.definex.taskmanagement.dto.request.UploadFileAttachmentRequest;
 import com.example.definex.taskmanagement.dto.response.UploadedFileAttachmentResponse;
 import com.example.definex.taskmanagement.service.AttachmentService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/attachments")
 @RequiredArgsConstructor
 public class AttachmentController {
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
     private final AttachmentService attachmentService;
 
     @PostMapping("/upload")
@@ -34,12 +54,33 @@ public class AttachmentController {
 
         return ResponseEntity.ok(response);
     }
+    @PostMapping(value = "/upload/stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<UploadedFileAttachmentResponse> uploadFileStream(
+            @RequestParam("fileName") String fileName,
+            @RequestParam("userId") Long userId,
+            @RequestParam("taskId") Long taskId,
+            HttpServletRequest httpRequest) throws IOException {
+
+        UploadFileAttachmentRequest request = new UploadFileAttachmentRequest();
+        request.setUserId(userId);
+        request.setTaskId(taskId);
+
+        UploadedFileAttachmentResponse response = attachmentService.uploadFile(
+                httpRequest.getInputStream(), fileName, httpRequest.getContentLengthLong(), request);
+
+        return ResponseEntity.ok(response);
+    }
     @GetMapping("/download/{attachmentId}")
-    public ResponseEntity<Resource> downloadFile(@PathVariable Long attachmentId) {
-        Resource resource = attachmentService.downloadFile(attachmentId);
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + resource.getFilename() + "\"")
-                .body(resource);
+    public void downloadFile(@PathVariable Long attachmentId,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        writeDownload(attachmentService.downloadFile(attachmentId), request, response);
+    }
+    @GetMapping("/{attachmentId}/thumbnail")
+    public void downloadThumbnail(@PathVariable Long attachmentId,
+                                  HttpServletRequest request,
+                                  HttpServletResponse response) throws IOException {
+        writeDownload(attachmentService.downloadThumbnail(attachmentId), request, response);
     }
     @DeleteMapping("/{attachmentId}")
     public ResponseEntity<Void> deleteAttachment(@PathVariable Long attachmentId) {
@@ -50,4 +91,123 @@ public class AttachmentController {
     public ResponseEntity<List<FileAttachmentResponse>> getTaskAttachments(@PathVariable Long taskId) {
         return ResponseEntity.ok(attachmentService.getTaskAttachments(taskId));
     }
+    private void writeDownload(AttachmentDownload download,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+        // A client that accepts the stored coding gets the whole encoded body even when it asked for a range: a range
+        // of decoded bytes would mean inflating the blob from its first byte up to the offset.
+        boolean encoded = download.contentEncoding() != null && acceptsEncoding(request, download.contentEncoding());
+        String eTag = encoded ? encodedETag(download) : download.eTag();
+        if (download.contentEncoding() != null) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (new ServletWebRequest(request, response).checkNotModified(eTag, download.lastModified())) {
+            return;
+        }
+
+        long length = encoded ? download.encodedLength() : download.contentLength();
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = encoded ? null : resolveRange(request, download);
+        if (range != null) {
+            if (length == 0 || range.getRangeStart(length) >= length) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        if (encoded) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, download.contentEncoding());
+        }
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, encoded ? "none" : "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(download.fileName()).build().toString());
+        response.setContentType(MediaTypeFactory.getMediaType(download.fileName())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setContentLengthLong(end - start + 1);
+
+        if ("HEAD".equals(request.getMethod()) || end < start) {
+            return;
+        }
+        if (download.contentEncoding() != null && !encoded) {
+            copyStream(attachmentService.openDecodedDownload(download, start, end - start + 1), end - start + 1, response);
+            return;
+        }
+        if (download.localPath() == null) {
+            copyStream(attachmentService.openDownload(download, start, end - start + 1), end - start + 1, response);
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, download.localPath().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel file = FileChannel.open(download.localPath(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                position += file.transferTo(position, end - position + 1, out);
+            }
+        }
+    }
+    private void copyStream(InputStream content, long length, HttpServletResponse response) throws IOException {
+        byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+        try (InputStream in = content) {
+            OutputStream out = response.getOutputStream();
+            long remaining = length;
+            int read;
+            while (remaining > 0 && (read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining))) != -1) {
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+    }
+    private boolean acceptsEncoding(HttpServletRequest request, String contentEncoding) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase(contentEncoding) && !coding.equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") && parameter.substring(2).trim().matches("0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+    private String encodedETag(AttachmentDownload download) {
+        String eTag = download.eTag();
+        return eTag.substring(0, eTag.length() - 1) + "-" + download.contentEncoding() + "\"";
+    }
+    private HttpRange resolveRange(HttpServletRequest request, AttachmentDownload download) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !(download.strongETag() && ifRange.equals(download.eTag()))) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
 }
\ No newline at end of file
@@ -8,8 +8,10 @@ import com.example.definex.taskmanagement.dto.response.UpdatedCommentResponse;
 import com.example.definex.taskmanagement.service.CommentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/comments")
@@ -23,8 +25,10 @@ public class CommentController {
     @PutMapping("/{id}")
     public ResponseEntity<UpdatedCommentResponse> updateComment(
             @PathVariable Long id,
-            @RequestBody UpdateCommentRequest request) {
-        return ResponseEntity.ok(commentService.update(request, id));
+            @RequestBody UpdateCommentRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        UpdatedCommentResponse response = commentService.update(request, id, EntityTags.ifMatchRevisions(ifMatch));
+        return EntityTags.tagged(response, response.getVersion());
     }
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteComment(@PathVariable Long id) {
@@ -32,7 +36,10 @@ public class CommentController {
         return ResponseEntity.noContent().build();
     }
     @GetMapping("/{id}")
-    public ResponseEntity<CommentResponse> getById(@PathVariable Long id){
+    public ResponseEntity<CommentResponse> getById(@PathVariable Long id, WebRequest request){
+        if (request.checkNotModified(EntityTags.etag(commentService.findRevision(id)))) {
+            return null;
+        }
         return ResponseEntity.ok(commentService.findById(id));
     }
 }
\ No newline at end of file
@@ -2,20 +2,23 @@ package com.example.definex.taskmanagement.controller;
 
 import com.example.definex.taskmanagement.dto.request.CreateDepartmentRequest;
 import com.example.definex.taskmanagement.dto.response.CreatedDepartmentResponse;
+import com.example.definex.taskmanagement.dto.response.CursorPageResponse;
 import com.example.definex.taskmanagement.dto.response.DepartmentResponse;
 import com.example.definex.taskmanagement.service.DepartmentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/departments")
 @RequiredArgsConstructor
 public class DepartmentController {
+    private static final String DEPRECATION = "Deprecation";
+
     private final DepartmentService departmentService;
 
     @PostMapping
@@ -23,20 +26,32 @@ public class DepartmentController {
         return ResponseEntity.ok(departmentService.save(request));
     }
     @GetMapping("/{id}")
-    public ResponseEntity<DepartmentResponse> getDepartmentById(@PathVariable Long id) {
+    public ResponseEntity<DepartmentResponse> getDepartmentById(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(EntityTags.etag(departmentService.findRevision(id)))) {
+            return null;
+        }
         return ResponseEntity.ok(departmentService.findById(id));
     }
     @GetMapping
-    public ResponseEntity<Page<DepartmentResponse>> getAllDepartments(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+    public ResponseEntity<CursorPageResponse<DepartmentResponse>> getAllDepartments(
+            @RequestParam(required = false) String cursor,
+            @Deprecated @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
 
-        Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(departmentService.findAll(pageable));
+        if (page != null && cursor == null) {
+            return ResponseEntity.ok().header(DEPRECATION, "true").body(departmentService.findPage(page, size, includeTotal));
+        }
+        return ResponseEntity.ok(departmentService.findAll(cursor, size, includeTotal));
     }
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteDepartment(@PathVariable Long id) {
         departmentService.deleteById(id);
         return ResponseEntity.noContent().build();
     }
+    @PostMapping("/batch/delete")
+    public ResponseEntity<Void> deleteDepartments(@RequestBody List<Long> departmentIds) {
+        departmentService.deleteAllById(departmentIds);
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.example.definex.taskmanagement.controller;
+
+import com.example.definex.taskmanagement.exception.PreconditionFailedException;
+import com.example.definex.taskmanagement.exception.constants.MessageKey;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps service revisions to strong entity tags. GETs hand the tag to {@code WebRequest.checkNotModified} before the
+ * body is loaded, so a revalidation that hits costs one narrow query and no mapping.
+ */
+final class EntityTags {
+    private static final String ANY = "*";
+    private static final String QUOTE = "\"";
+    private static final String WEAK_PREFIX = "W/";
+
+    private EntityTags() {
+    }
+
+    static String etag(String revision) {
+        return QUOTE + revision + QUOTE;
+    }
+
+    /**
+     * Body of a successful write, tagged with the version it committed so the caller can chain the next conditional
+     * update without another GET.
+     */
+    static <T> ResponseEntity<T> tagged(T body, Long version) {
+        return ResponseEntity.ok().eTag(etag(String.valueOf(version))).body(body);
+    }
+
+    /**
+     * Returns the revisions a write may apply to, or {@code null} when the request is unconditional. {@code If-Match}
+     * is satisfied when any listed tag strong-matches, so weak tags are dropped rather than failing the whole list; a
+     * header left with no strong tags yields an empty list and fails the precondition in the service.
+     */
+    static List<String> ifMatchRevisions(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+        List<String> revisions = new ArrayList<>();
+        int position = 0;
+        while (position < ifMatch.length()) {
+            char current = ifMatch.charAt(position);
+            if (current == ',' || Character.isWhitespace(current)) {
+                position++;
+                continue;
+            }
+            boolean weak = ifMatch.startsWith(WEAK_PREFIX, position);
+            int open = weak ? position + WEAK_PREFIX.length() : position;
+            int close = open < ifMatch.length() && ifMatch.charAt(open) == '"' ? ifMatch.indexOf('"', open + 1) : -1;
+            if (close < 0) {
+                throw new PreconditionFailedException(MessageKey.RESOURCE_REVISION_DOES_NOT_MATCH.toString());
+            }
+            if (!weak) {
+                revisions.add(ifMatch.substring(open + 1, close));
+            }
+            position = close + 1;
+        }
+        return revisions;
+    }
+}
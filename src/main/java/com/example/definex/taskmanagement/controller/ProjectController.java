@@ -8,8 +8,14 @@ import com.example.definex.taskmanagement.dto.response.UpdatedProjectResponse;
 import com.example.definex.taskmanagement.service.ProjectService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -22,16 +28,30 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.save(request,departmentId));
     }
     @PostMapping("/update/{projectId}")
-    public ResponseEntity<UpdatedProjectResponse> updateProject(@RequestBody UpdateProjectRequest updateProjectRequest,@PathVariable Long projectId){
-        return ResponseEntity.ok(projectService.update(updateProjectRequest,projectId));
+    public ResponseEntity<UpdatedProjectResponse> updateProject(@RequestBody UpdateProjectRequest updateProjectRequest,@PathVariable Long projectId,
+                                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        UpdatedProjectResponse response = projectService.update(updateProjectRequest,projectId, EntityTags.ifMatchRevisions(ifMatch));
+        return EntityTags.tagged(response, response.getVersion());
     }
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectResponse> getProjectById(@PathVariable Long id) {
+    public ResponseEntity<ProjectResponse> getProjectById(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(EntityTags.etag(projectService.findRevision(id)))) {
+            return null;
+        }
         return ResponseEntity.ok(projectService.findById(id));
     }
+    @GetMapping(path = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamProjectEvents(@PathVariable Long id) {
+        return ResponseEntity.ok(projectService.subscribeToEvents(id));
+    }
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
         projectService.deleteById(id);
         return ResponseEntity.noContent().build();
     }
+    @PostMapping("/batch/delete")
+    public ResponseEntity<Void> deleteProjects(@RequestBody List<Long> projectIds) {
+        projectService.deleteAllById(projectIds);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,32 @@
+package com.example.definex.taskmanagement.controller;
+
+import com.example.definex.taskmanagement.dto.response.FlowMetricsResponse;
+import com.example.definex.taskmanagement.service.TaskAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+public class TaskAnalyticsController {
+    private final TaskAnalyticsService taskAnalyticsService;
+
+    @GetMapping("/projects/{projectId}/flow")
+    public ResponseEntity<FlowMetricsResponse> getProjectFlowMetrics(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(taskAnalyticsService.getProjectFlowMetrics(projectId, from, to));
+    }
+    @GetMapping("/departments/{departmentId}/flow")
+    public ResponseEntity<FlowMetricsResponse> getDepartmentFlowMetrics(
+            @PathVariable Long departmentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(taskAnalyticsService.getDepartmentFlowMetrics(departmentId, from, to));
+    }
+}
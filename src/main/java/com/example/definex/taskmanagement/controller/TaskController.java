@@ -1,58 +1,134 @@
 package com.example.definex.taskmanagement.controller;
 
+import com.example.definex.taskmanagement.dto.request.BatchAssignTaskRequest;
+import com.example.definex.taskmanagement.dto.request.BatchCreateTaskRequest;
+import com.example.definex.taskmanagement.dto.request.BatchUpdateTaskStateRequest;
 import com.example.definex.taskmanagement.dto.request.CreateTaskRequest;
+import com.example.definex.taskmanagement.dto.request.TaskFilterRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateTaskRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateTaskStateRequest;
+import com.example.definex.taskmanagement.dto.response.BatchResponse;
+import com.example.definex.taskmanagement.dto.response.CommentFeedResponse;
 import com.example.definex.taskmanagement.dto.response.CreatedTaskResponse;
+import com.example.definex.taskmanagement.dto.response.CursorPageResponse;
 import com.example.definex.taskmanagement.dto.response.TaskResponse;
+import com.example.definex.taskmanagement.dto.response.TaskSearchResponse;
+import com.example.definex.taskmanagement.dto.response.TaskTransitionsResponse;
 import com.example.definex.taskmanagement.entities.Task;
 import com.example.definex.taskmanagement.entities.TaskPriorityType;
 import com.example.definex.taskmanagement.entities.TaskStateType;
+import com.example.definex.taskmanagement.service.CommentService;
 import com.example.definex.taskmanagement.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/tasks")
 @RequiredArgsConstructor
 public class TaskController {
     private final TaskService taskService;
+    private final CommentService commentService;
 
     @PostMapping("/{projectId}")
     public ResponseEntity<CreatedTaskResponse> createTask(@Valid @RequestBody CreateTaskRequest createTaskRequest,@PathVariable Long projectId) {
         return ResponseEntity.ok(taskService.save(createTaskRequest,projectId));
     }
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResponse<TaskResponse>> createTasks(@RequestBody List<BatchCreateTaskRequest> batchCreateTaskRequests) {
+        return ResponseEntity.ok(taskService.saveAll(batchCreateTaskRequests));
+    }
+    @PostMapping("/batch/delete")
+    public ResponseEntity<Void> deleteTasks(@RequestBody List<Long> taskIds) {
+        taskService.deleteAllById(taskIds);
+        return ResponseEntity.noContent().build();
+    }
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskSearchResponse>> searchTasks(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(taskService.search(query, size));
+    }
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(EntityTags.etag(taskService.findRevision(id)))) {
+            return null;
+        }
         return ResponseEntity.ok(taskService.findById(id));
     }
+    @GetMapping("/{id}/transitions")
+    public ResponseEntity<TaskTransitionsResponse> getAllowedTransitions(@PathVariable Long id) {
+        return ResponseEntity.ok(taskService.findAllowedTransitions(id));
+    }
+    @GetMapping("/{id}/comments")
+    public ResponseEntity<CommentFeedResponse> getComments(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(commentService.findByTaskId(id, cursor, since, size, includeTotal));
+    }
+    @GetMapping
+    public ResponseEntity<CursorPageResponse<TaskResponse>> getTasks(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) TaskStateType state,
+            @RequestParam(required = false) TaskPriorityType priority,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        TaskFilterRequest filter = new TaskFilterRequest(projectId, assigneeId, state, priority);
+        return ResponseEntity.ok(taskService.findAll(filter, cursor, size));
+    }
     @PutMapping("/{id}/state")
     public ResponseEntity<TaskResponse> updateTaskState(
             @PathVariable Long id,
-            @RequestBody UpdateTaskStateRequest updateTaskStateRequest){
+            @RequestBody UpdateTaskStateRequest updateTaskStateRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
 
-        return ResponseEntity.ok(taskService.updateTaskState(updateTaskStateRequest,id));
+        TaskResponse response = taskService.updateTaskState(updateTaskStateRequest,id, EntityTags.ifMatchRevisions(ifMatch));
+        return EntityTags.tagged(response, response.getVersion());
+    }
+    @PutMapping("/batch/state")
+    public ResponseEntity<BatchResponse<TaskResponse>> updateTaskStates(
+            @RequestBody List<BatchUpdateTaskStateRequest> batchUpdateTaskStateRequests) {
+        return ResponseEntity.ok(taskService.updateTaskStates(batchUpdateTaskStateRequests));
     }
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponse> updateTask(
             @PathVariable Long id,
-            @RequestBody UpdateTaskRequest updateTaskRequest) {
+            @RequestBody UpdateTaskRequest updateTaskRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
-        return ResponseEntity.ok(taskService.updateTask(id, updateTaskRequest));
+        TaskResponse response = taskService.updateTask(id, updateTaskRequest, EntityTags.ifMatchRevisions(ifMatch));
+        return EntityTags.tagged(response, response.getVersion());
     }
     @PatchMapping("/{taskId}/assign/{userId}")
     public ResponseEntity<TaskResponse> assignTaskToUser(
             @PathVariable Long taskId,
-            @PathVariable Long userId) {
-        return ResponseEntity.ok(taskService.assignTaskToTeamMember(taskId, userId));
+            @PathVariable Long userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponse response = taskService.assignTaskToTeamMember(taskId, userId, EntityTags.ifMatchRevisions(ifMatch));
+        return EntityTags.tagged(response, response.getVersion());
+    }
+    @PatchMapping("/batch/assign")
+    public ResponseEntity<BatchResponse<TaskResponse>> assignTasks(
+            @RequestBody List<BatchAssignTaskRequest> batchAssignTaskRequests) {
+        return ResponseEntity.ok(taskService.assignTasks(batchAssignTaskRequests));
     }
     @PutMapping("/{id}/priority")
     public ResponseEntity<TaskResponse> changeTaskPriority(
             @PathVariable Long id,
-            @RequestParam TaskPriorityType priority) {
-        return ResponseEntity.ok(taskService.changeTaskPriority(id, priority));
+            @RequestParam TaskPriorityType priority,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponse response = taskService.changeTaskPriority(id, priority, EntityTags.ifMatchRevisions(ifMatch));
+        return EntityTags.tagged(response, response.getVersion());
     }
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
@@ -3,21 +3,23 @@ package com.example.definex.taskmanagement.controller;
 import com.example.definex.taskmanagement.dto.request.CreateUserRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateUserRequest;
 import com.example.definex.taskmanagement.dto.response.CreatedUserResponse;
+import com.example.definex.taskmanagement.dto.response.CursorPageResponse;
 import com.example.definex.taskmanagement.dto.response.UpdatedUserResponse;
 import com.example.definex.taskmanagement.dto.response.UserResponse;
 import com.example.definex.taskmanagement.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/users")
 public class UserController {
+    private static final String DEPRECATION = "Deprecation";
+
     private final UserService userService;
 
     @PostMapping
@@ -25,11 +27,16 @@ public class UserController {
         return ResponseEntity.ok(userService.save(request));
     }
     @PostMapping("/update/{userId}")
-    public ResponseEntity<UpdatedUserResponse> updateUser(@RequestBody UpdateUserRequest updateUserRequest,@PathVariable Long userId){
-        return ResponseEntity.ok(userService.update(updateUserRequest,userId));
+    public ResponseEntity<UpdatedUserResponse> updateUser(@RequestBody UpdateUserRequest updateUserRequest,@PathVariable Long userId,
+                                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        UpdatedUserResponse response = userService.update(updateUserRequest,userId, EntityTags.ifMatchRevisions(ifMatch));
+        return EntityTags.tagged(response, response.getVersion());
     }
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponse> getUserById(@PathVariable Long id) {
+    public ResponseEntity<UserResponse> getUserById(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(EntityTags.etag(userService.findRevision(id)))) {
+            return null;
+        }
         return ResponseEntity.ok(userService.getById(id));
     }
     @DeleteMapping("/{id}")
@@ -38,11 +45,15 @@ public class UserController {
         return ResponseEntity.noContent().build();
     }
     @GetMapping
-    public ResponseEntity<Page<UserResponse>> getAllUser(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+    public ResponseEntity<CursorPageResponse<UserResponse>> getAllUser(
+            @RequestParam(required = false) String cursor,
+            @Deprecated @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
 
-        Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(userService.findAll(pageable));
+        if (page != null && cursor == null) {
+            return ResponseEntity.ok().header(DEPRECATION, "true").body(userService.findPage(page, size, includeTotal));
+        }
+        return ResponseEntity.ok(userService.findAll(cursor, size, includeTotal));
     }
 }
@@ -1,5 +1,6 @@
 package com.example.definex.taskmanagement.dto.mapper;
 
+import com.example.definex.taskmanagement.dto.projection.CommentView;
 import com.example.definex.taskmanagement.dto.request.CreateCommentRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateCommentRequest;
 import com.example.definex.taskmanagement.dto.response.CommentResponse;
@@ -22,4 +23,5 @@ public interface CommentMapper {
     @Mapping(source = "task.id", target = "taskId")
     @Mapping(source = "user.id", target = "userId")
     CommentResponse commentToCommentResponse(Comment comment);
+    CommentResponse commentViewToCommentResponse(CommentView commentView);
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.example.definex.taskmanagement.dto.mapper;
 
+import com.example.definex.taskmanagement.dto.projection.DepartmentView;
+import com.example.definex.taskmanagement.dto.projection.ProjectSummaryView;
 import com.example.definex.taskmanagement.dto.request.CreateDepartmentRequest;
 import com.example.definex.taskmanagement.dto.response.CreatedDepartmentResponse;
 import com.example.definex.taskmanagement.dto.response.DepartmentResponse;
@@ -25,6 +27,10 @@ public interface DepartmentMapper {
     @Mapping(source = "projects", target = "projects", qualifiedByName = "projectToProjectSummaryResponse")
     DepartmentResponse departmentToDepartmentResponse(Department department);
 
+    DepartmentResponse departmentViewToDepartmentResponse(DepartmentView departmentView, List<ProjectSummaryResponse> projects);
+
+    ProjectSummaryResponse projectSummaryViewToProjectSummaryResponse(ProjectSummaryView projectSummaryView);
+
     @Named("projectToProjectSummaryResponse")
     default List<ProjectSummaryResponse> projectToProjectSummaryDto(List<Project> projects) {
         if (projects == null) {
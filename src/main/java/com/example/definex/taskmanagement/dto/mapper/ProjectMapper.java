@@ -1,5 +1,6 @@
 package com.example.definex.taskmanagement.dto.mapper;
 
+import com.example.definex.taskmanagement.dto.projection.ProjectView;
 import com.example.definex.taskmanagement.dto.request.CreateProjectRequest;
 import com.example.definex.taskmanagement.dto.response.CreatedProjectResponse;
 import com.example.definex.taskmanagement.dto.response.ProjectResponse;
@@ -17,6 +18,7 @@ public interface ProjectMapper {
     @Mapping(source = "department.id", target = "departmentId")
     CreatedProjectResponse projectToCreatedProjectResponse(Project project);
     ProjectResponse projectToProjectResponse(Project project);
+    ProjectResponse projectViewToProjectResponse(ProjectView projectView);
     @Mapping(source = "department.id", target = "departmentId")
     UpdatedProjectResponse projectToUpdatedProjectResponse(Project project);
 }
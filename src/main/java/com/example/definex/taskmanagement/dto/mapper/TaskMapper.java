@@ -1,8 +1,14 @@
 package com.example.definex.taskmanagement.dto.mapper;
 
+import com.example.definex.taskmanagement.dto.projection.DurationStatsView;
+import com.example.definex.taskmanagement.dto.projection.TaskSearchView;
+import com.example.definex.taskmanagement.dto.projection.TaskView;
+import com.example.definex.taskmanagement.dto.request.BatchCreateTaskRequest;
 import com.example.definex.taskmanagement.dto.request.CreateTaskRequest;
 import com.example.definex.taskmanagement.dto.response.CreatedTaskResponse;
+import com.example.definex.taskmanagement.dto.response.DurationStatsResponse;
 import com.example.definex.taskmanagement.dto.response.TaskResponse;
+import com.example.definex.taskmanagement.dto.response.TaskSearchResponse;
 import com.example.definex.taskmanagement.entities.Task;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -18,8 +24,22 @@ public interface TaskMapper {
     @Mapping(target = "attachments", ignore = true)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "stateChangeReason", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "recordedState", ignore = true)
     Task createdTaskRequestToTask(CreateTaskRequest createTaskRequest);
+    @Mapping(target = "project", ignore = true)
+    @Mapping(target = "assignee", ignore = true)
+    @Mapping(target = "comments", ignore = true)
+    @Mapping(target = "attachments", ignore = true)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "stateChangeReason", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "recordedState", ignore = true)
+    Task batchCreateTaskRequestToTask(BatchCreateTaskRequest batchCreateTaskRequest);
     CreatedTaskResponse taskToCreatedTaskResponse(Task task);
     @Mapping(source = "project.id", target = "projectId")
     TaskResponse taskToTaskResponse(Task task);
+    TaskResponse taskViewToTaskResponse(TaskView taskView);
+    TaskSearchResponse taskSearchViewToTaskSearchResponse(TaskSearchView taskSearchView);
+    DurationStatsResponse durationStatsViewToDurationStatsResponse(DurationStatsView durationStatsView);
 }
@@ -1,5 +1,6 @@
 package com.example.definex.taskmanagement.dto.mapper;
 
+import com.example.definex.taskmanagement.dto.projection.UserView;
 import com.example.definex.taskmanagement.dto.request.CreateUserRequest;
 import com.example.definex.taskmanagement.dto.response.CreatedUserResponse;
 import com.example.definex.taskmanagement.dto.response.UpdatedUserResponse;
@@ -16,5 +17,6 @@ public interface UserMapper {
     User createUserRequestToUser(CreateUserRequest createUserRequest);
     CreatedUserResponse userToCreatedUserResponse(User user);
     UserResponse userToUserResponse(User user);
+    UserResponse userViewToUserResponse(UserView userView);
     UpdatedUserResponse userToUpdatedUserResponse(User user);
 }
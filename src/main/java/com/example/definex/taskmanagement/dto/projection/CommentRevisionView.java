@@ -0,0 +1,7 @@
+package com.example.definex.taskmanagement.dto.projection;
+
+public record CommentRevisionView(
+        Long version,
+        Long departmentId,
+        Long assigneeId) {
+}
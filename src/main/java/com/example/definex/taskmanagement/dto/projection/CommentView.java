@@ -0,0 +1,15 @@
+package com.example.definex.taskmanagement.dto.projection;
+
+import java.time.LocalDateTime;
+
+public record CommentView(
+        Long id,
+        Long feedPosition,
+        String content,
+        Long taskId,
+        Long userId,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime updatedAt,
+        Boolean isDeleted) {
+}
@@ -0,0 +1,9 @@
+package com.example.definex.taskmanagement.dto.projection;
+
+import java.time.LocalDateTime;
+
+public record DepartmentRevisionView(
+        LocalDateTime modifiedAt,
+        Long projectCount,
+        LocalDateTime projectsModifiedAt) {
+}
@@ -0,0 +1,12 @@
+package com.example.definex.taskmanagement.dto.projection;
+
+import java.time.LocalDateTime;
+
+public record DepartmentView(
+        Long id,
+        String name,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime updatedAt,
+        Boolean isDeleted) {
+}
@@ -0,0 +1,10 @@
+package com.example.definex.taskmanagement.dto.projection;
+
+public interface DurationStatsView {
+    String getMetric();
+    Long getSamples();
+    Double getAverageSeconds();
+    Double getP50Seconds();
+    Double getP85Seconds();
+    Double getP95Seconds();
+}
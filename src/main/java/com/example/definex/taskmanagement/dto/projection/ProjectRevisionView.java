@@ -0,0 +1,6 @@
+package com.example.definex.taskmanagement.dto.projection;
+
+public record ProjectRevisionView(
+        Long version,
+        Long departmentId) {
+}
@@ -0,0 +1,8 @@
+package com.example.definex.taskmanagement.dto.projection;
+
+public record ProjectSummaryView(
+        Long departmentId,
+        Long id,
+        String title,
+        String description) {
+}
@@ -0,0 +1,14 @@
+package com.example.definex.taskmanagement.dto.projection;
+
+import java.time.LocalDateTime;
+
+public record ProjectView(
+        Long id,
+        String title,
+        String description,
+        Long departmentId,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime updatedAt,
+        Boolean isDeleted) {
+}
@@ -0,0 +1,7 @@
+package com.example.definex.taskmanagement.dto.projection;
+
+public record TaskRevisionView(
+        Long version,
+        Long departmentId,
+        Long assigneeId) {
+}
@@ -0,0 +1,16 @@
+package com.example.definex.taskmanagement.dto.projection;
+
+import com.example.definex.taskmanagement.entities.TaskPriorityType;
+import com.example.definex.taskmanagement.entities.TaskStateType;
+
+public record TaskSearchView(
+        Long id,
+        String title,
+        String userStoryDescription,
+        TaskStateType state,
+        TaskPriorityType priority,
+        Long projectId,
+        Long departmentId,
+        Long assigneeId,
+        double rank) {
+}
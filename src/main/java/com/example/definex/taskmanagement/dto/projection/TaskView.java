@@ -0,0 +1,22 @@
+package com.example.definex.taskmanagement.dto.projection;
+
+import com.example.definex.taskmanagement.entities.TaskPriorityType;
+import com.example.definex.taskmanagement.entities.TaskStateType;
+import java.time.LocalDateTime;
+
+public record TaskView(
+        Long id,
+        Long version,
+        String title,
+        String userStoryDescription,
+        String acceptanceCriteria,
+        TaskStateType state,
+        TaskPriorityType priority,
+        Long projectId,
+        Long departmentId,
+        Long assigneeId,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime updatedAt,
+        Boolean isDeleted) {
+}
@@ -0,0 +1,13 @@
+package com.example.definex.taskmanagement.dto.projection;
+
+import java.time.LocalDateTime;
+
+public record UserView(
+        Long id,
+        String name,
+        String email,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime updatedAt,
+        Boolean isDeleted) {
+}
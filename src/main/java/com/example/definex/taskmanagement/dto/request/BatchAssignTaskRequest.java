@@ -0,0 +1,13 @@
+package com.example.definex.taskmanagement.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class BatchAssignTaskRequest {
+    private Long taskId;
+    private Long userId;
+}
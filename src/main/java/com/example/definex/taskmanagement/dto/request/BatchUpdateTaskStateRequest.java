@@ -0,0 +1,15 @@
+package com.example.definex.taskmanagement.dto.request;
+
+import com.example.definex.taskmanagement.entities.TaskStateType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class BatchUpdateTaskStateRequest {
+    private Long taskId;
+    private TaskStateType newState;
+    private String reason;
+}
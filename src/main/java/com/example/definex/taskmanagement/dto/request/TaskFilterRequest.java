@@ -0,0 +1,17 @@
+package com.example.definex.taskmanagement.dto.request;
+
+import com.example.definex.taskmanagement.entities.TaskPriorityType;
+import com.example.definex.taskmanagement.entities.TaskStateType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class TaskFilterRequest {
+    private Long projectId;
+    private Long assigneeId;
+    private TaskStateType state;
+    private TaskPriorityType priority;
+}
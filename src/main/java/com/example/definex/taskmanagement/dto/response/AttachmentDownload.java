@@ -0,0 +1,15 @@
+package com.example.definex.taskmanagement.dto.response;
+
+import java.nio.file.Path;
+
+public record AttachmentDownload(
+        String storageKey,
+        Path localPath,
+        String fileName,
+        long contentLength,
+        long lastModified,
+        String eTag,
+        boolean strongETag,
+        String contentEncoding,
+        long encodedLength) {
+}
@@ -0,0 +1,15 @@
+package com.example.definex.taskmanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class BatchItemResponse<T> {
+    private int index;
+    private int status;
+    private T result;
+    private String message;
+}
@@ -0,0 +1,16 @@
+package com.example.definex.taskmanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class BatchResponse<T> {
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResponse<T>> items;
+}
@@ -0,0 +1,23 @@
+package com.example.definex.taskmanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Page of a task's comments. {@code nextCursor} walks back to older comments,
+ * {@code latestCursor} is the position to pass as {@code since} on the next poll.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class CommentFeedResponse {
+    private List<CommentResponse> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+    private String latestCursor;
+    private Long totalElements;
+}
@@ -9,6 +9,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Data
 public class CommentResponse {
+    private Long id;
     private String content;
     private Long taskId;
     private Long userId;
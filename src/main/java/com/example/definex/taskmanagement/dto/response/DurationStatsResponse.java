@@ -0,0 +1,16 @@
+package com.example.definex.taskmanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class DurationStatsResponse {
+    private Long samples;
+    private Double averageSeconds;
+    private Double p50Seconds;
+    private Double p85Seconds;
+    private Double p95Seconds;
+}
@@ -1,6 +1,7 @@
 package com.example.definex.taskmanagement.dto.response;
 
 import lombok.AllArgsConstructor;
+import com.example.definex.taskmanagement.entities.AttachmentProcessingStatus;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -12,6 +13,11 @@ import java.time.LocalDateTime;
 public class FileAttachmentResponse {
     private String filePath;
     private String fileName;
+    private String contentHash;
+    private Long fileSize;
+    private AttachmentProcessingStatus processingStatus;
+    private String mimeType;
+    private String textPreview;
     private Long userId;
     private Long taskId;
     private LocalDateTime createdAt;
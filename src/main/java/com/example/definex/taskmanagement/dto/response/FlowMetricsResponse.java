@@ -0,0 +1,20 @@
+package com.example.definex.taskmanagement.dto.response;
+
+import com.example.definex.taskmanagement.entities.TaskStateType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class FlowMetricsResponse {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private DurationStatsResponse leadTime;
+    private DurationStatsResponse cycleTime;
+    private Map<TaskStateType, DurationStatsResponse> timeInState;
+}
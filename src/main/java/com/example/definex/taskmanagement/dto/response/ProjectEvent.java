@@ -0,0 +1,36 @@
+package com.example.definex.taskmanagement.dto.response;
+
+import java.time.Instant;
+
+/**
+ * Change notification pushed to project event streams. It only identifies what changed; clients re-read the task,
+ * comment or attachment through the regular endpoints.
+ */
+public record ProjectEvent(
+        Type type,
+        Long projectId,
+        Long departmentId,
+        Long taskId,
+        Long assigneeId,
+        Long subjectId,
+        Instant occurredAt) {
+
+    public enum Type {
+        TASK_CREATED,
+        TASK_UPDATED,
+        TASK_STATE_CHANGED,
+        TASK_PRIORITY_CHANGED,
+        TASK_ASSIGNED,
+        TASK_DELETED,
+        COMMENT_ADDED,
+        COMMENT_UPDATED,
+        COMMENT_DELETED,
+        ATTACHMENT_ADDED,
+        ATTACHMENT_DELETED,
+        RESYNC
+    }
+
+    public static ProjectEvent resync(Long projectId) {
+        return new ProjectEvent(Type.RESYNC, projectId, null, null, null, null, Instant.now());
+    }
+}
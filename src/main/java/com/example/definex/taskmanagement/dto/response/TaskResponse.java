@@ -12,6 +12,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Data
 public class TaskResponse {
+    private Long id;
+    private Long version;
     private String title;
     private String userStoryDescription;
     private String acceptanceCriteria;
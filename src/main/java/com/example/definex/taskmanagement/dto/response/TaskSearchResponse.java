@@ -0,0 +1,21 @@
+package com.example.definex.taskmanagement.dto.response;
+
+import com.example.definex.taskmanagement.entities.TaskPriorityType;
+import com.example.definex.taskmanagement.entities.TaskStateType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class TaskSearchResponse {
+    private Long id;
+    private String title;
+    private String userStoryDescription;
+    private TaskStateType state;
+    private TaskPriorityType priority;
+    private Long projectId;
+    private Long assigneeId;
+    private double rank;
+}
@@ -0,0 +1,18 @@
+package com.example.definex.taskmanagement.dto.response;
+
+import com.example.definex.taskmanagement.entities.TaskStateType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class TaskTransitionsResponse {
+    private Long taskId;
+    private TaskStateType currentState;
+    private Set<TaskStateType> allowedStates;
+    private Set<TaskStateType> reasonRequiredStates;
+}
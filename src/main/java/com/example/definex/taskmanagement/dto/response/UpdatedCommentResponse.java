@@ -9,6 +9,7 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 public class UpdatedCommentResponse {
+    private Long version;
     private String content;
     private LocalDateTime createdAt;
     private String createdBy;
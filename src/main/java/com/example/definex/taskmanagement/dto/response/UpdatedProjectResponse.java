@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 public class UpdatedProjectResponse {
+    private Long version;
     private Long departmentId;
     private String title;
     private String description;
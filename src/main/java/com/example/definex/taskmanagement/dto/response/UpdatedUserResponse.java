@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 public class UpdatedUserResponse {
+    private Long version;
     private String name;
     private String email;
     private Role role;
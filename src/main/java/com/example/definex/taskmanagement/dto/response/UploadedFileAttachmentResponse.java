@@ -1,5 +1,6 @@
 package com.example.definex.taskmanagement.dto.response;
 
+import com.example.definex.taskmanagement.entities.AttachmentProcessingStatus;
 import lombok.Data;
 import lombok.Getter;
 import lombok.Setter;
@@ -12,6 +13,11 @@ import java.time.LocalDateTime;
 public class UploadedFileAttachmentResponse {
     private String filePath;
     private String fileName;
+    private String contentHash;
+    private Long fileSize;
+    private AttachmentProcessingStatus processingStatus;
+    private String mimeType;
+    private String textPreview;
     private Long userId;
     private Long taskId;
     private LocalDateTime createdAt;
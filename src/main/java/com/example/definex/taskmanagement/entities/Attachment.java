@@ -7,6 +7,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @Setter
@@ -14,15 +16,28 @@ import lombok.Setter;
 @AllArgsConstructor
 public class Attachment extends AbstractBaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attachment_seq")
+    @SequenceGenerator(name = "attachment_seq", sequenceName = "attachment_seq", allocationSize = 50)
     private Long id;
     private String filePath;
     private String fileName;
-    @ManyToOne
+    @Column(length = 64)
+    private String contentHash;
+    private Long fileSize;
+    @Column(length = 16)
+    private String contentEncoding;
+    @Enumerated(EnumType.STRING)
+    private AttachmentProcessingStatus processingStatus = AttachmentProcessingStatus.PENDING;
+    private LocalDateTime processingClaimedAt;
+    private String mimeType;
+    private String thumbnailKey;
+    @Column(length = 1000)
+    private String textPreview;
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     @JsonBackReference(value = "user-attachments")
     private User user;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id")
     @JsonBackReference(value = "task-attachments")
     private Task task;
@@ -0,0 +1,26 @@
+package com.example.definex.taskmanagement.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "attachment_blob")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentBlob {
+    @Id
+    @Column(length = 64)
+    private String contentHash;
+    private Long size;
+    private Long referenceCount;
+    private LocalDateTime updatedAt;
+}
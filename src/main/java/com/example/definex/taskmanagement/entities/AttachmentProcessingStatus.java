@@ -0,0 +1,5 @@
+package com.example.definex.taskmanagement.entities;
+
+public enum AttachmentProcessingStatus {
+    PENDING, PROCESSING, READY, QUARANTINED, FAILED
+}
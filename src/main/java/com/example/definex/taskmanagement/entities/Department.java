@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,11 +17,13 @@ import java.util.List;
 @NoArgsConstructor
 public class Department extends AbstractBaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "department_seq")
+    @SequenceGenerator(name = "department_seq", sequenceName = "department_seq", allocationSize = 50)
     private Long id;
     private String name;
 
-    @OneToMany(mappedBy = "department",fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "department")
+    @BatchSize(size = 50)
     @JsonManagedReference(value = "department-projects")
     private List<Project> projects = new ArrayList<>();
 }
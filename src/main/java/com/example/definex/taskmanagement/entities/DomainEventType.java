@@ -0,0 +1,25 @@
+package com.example.definex.taskmanagement.entities;
+
+public enum DomainEventType {
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_STATE_CHANGED,
+    TASK_ASSIGNED,
+    TASK_PRIORITY_CHANGED,
+    TASK_DELETED,
+    COMMENT_ADDED,
+    COMMENT_UPDATED,
+    COMMENT_DELETED,
+    ATTACHMENT_ADDED,
+    ATTACHMENT_DELETED,
+    PROJECT_CREATED,
+    PROJECT_UPDATED,
+    PROJECT_DELETED,
+    USER_CREATED,
+    USER_UPDATED,
+    USER_DELETED;
+
+    public String getAggregateType() {
+        return name().substring(0, name().indexOf('_'));
+    }
+}
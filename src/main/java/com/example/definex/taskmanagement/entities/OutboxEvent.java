@@ -0,0 +1,37 @@
+package com.example.definex.taskmanagement.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Entity
+@Table(name = "outbox_event")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 50)
+    private Long id;
+    @Column(nullable = false)
+    private String aggregateType;
+    @Column(nullable = false)
+    private Long aggregateId;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DomainEventType eventType;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private Map<String, Object> payload;
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+    private LocalDateTime publishedAt;
+}
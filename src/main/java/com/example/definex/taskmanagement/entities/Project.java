@@ -7,30 +7,37 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.BatchSize;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 public class Project extends AbstractBaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", sequenceName = "project_seq", allocationSize = 50)
     private Long id;
+    @Version
+    private Long version;
     private String title;
     private String description;
     @Enumerated(EnumType.STRING)
     private ProjectStatusType type;
 
     @JsonBackReference(value = "department-projects")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id",referencedColumnName = "id")
     private Department department;
 
     @JsonManagedReference(value = "project-users")
-    @ManyToMany(fetch =FetchType.EAGER, cascade=CascadeType.PERSIST)
+    @ManyToMany(cascade=CascadeType.PERSIST)
+    @BatchSize(size = 50)
     @JoinTable(name = "project_partipicant",
     joinColumns = @JoinColumn(name = "project_id",referencedColumnName = "id"),
     inverseJoinColumns = @JoinColumn(name = "user_id",referencedColumnName = "id"))
@@ -3,22 +3,29 @@ package com.example.definex.taskmanagement.entities;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task extends AbstractBaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
+    @Version
+    private Long version;
     private String title;
     private String userStoryDescription;
     private String acceptanceCriteria;
@@ -26,12 +33,17 @@ public class Task extends AbstractBaseEntity {
     private TaskStateType state;
     @Enumerated(EnumType.STRING)
     private TaskPriorityType priority;
+    @Setter(AccessLevel.NONE)
+    private Integer priorityRank;
     private String stateChangeReason;
-    @ManyToOne
+    @Column(insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long commentSequence;
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     @JsonBackReference(value = "project-tasks")
     private Project project;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assignee_id")
     @JsonBackReference(value = "user-tasks")
     private User assignee;
@@ -41,4 +53,16 @@ public class Task extends AbstractBaseEntity {
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL)
     @JsonManagedReference(value = "task-attachments")
     private List<Attachment> attachments = new ArrayList<>();
+    @Transient
+    private TaskStateType recordedState;
+
+    public void setPriority(TaskPriorityType priority) {
+        this.priority = priority;
+        this.priorityRank = priority != null ? priority.getSeverityRank() : null;
+    }
+
+    @PostLoad
+    void rememberRecordedState() {
+        recordedState = state;
+    }
 }
\ No newline at end of file
@@ -1,12 +1,20 @@
 package com.example.definex.taskmanagement.entities;
 
 public enum TaskPriorityType {
-    CRITICAL("CRITICAL"), HIGH("HIGH"), MEDIUM("MEDIUM"), LOW("LOW");
+    CRITICAL("CRITICAL", 0), HIGH("HIGH", 1), MEDIUM("MEDIUM", 2), LOW("LOW", 3);
     private final String taskPriorityType;
-    TaskPriorityType(String type) {
+    private final int severityRank;
+    TaskPriorityType(String type, int severityRank) {
         taskPriorityType = type;
+        this.severityRank = severityRank;
     }
     String getType() {
         return taskPriorityType;
     }
+    /**
+     * Sort key from most to least severe; the names themselves sort alphabetically, which puts LOW before MEDIUM.
+     */
+    public int getSeverityRank() {
+        return severityRank;
+    }
 }
@@ -0,0 +1,35 @@
+package com.example.definex.taskmanagement.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "task_state_transition")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStateTransition {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_state_transition_seq")
+    @SequenceGenerator(name = "task_state_transition_seq", sequenceName = "task_state_transition_seq", allocationSize = 50)
+    private Long id;
+    @Column(nullable = false)
+    private Long taskId;
+    @Column(nullable = false)
+    private Long projectId;
+    private Long departmentId;
+    @Enumerated(EnumType.STRING)
+    private TaskStateType fromState;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStateType toState;
+    private String reason;
+    private String changedBy;
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+}
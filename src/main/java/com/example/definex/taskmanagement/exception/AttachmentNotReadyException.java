@@ -0,0 +1,9 @@
+package com.example.definex.taskmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class AttachmentNotReadyException extends BaseException{
+    public AttachmentNotReadyException(String message) {
+        super(message, HttpStatus.CONFLICT);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.definex.taskmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class AttachmentQuarantinedException extends BaseException{
+    public AttachmentQuarantinedException(String message) {
+        super(message, HttpStatus.FORBIDDEN);
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.definex.taskmanagement.exception;
 
+import com.example.definex.taskmanagement.exception.constants.MessageKey;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -55,6 +57,13 @@ public class GlobalExceptionHandler {
         error.setMessage(ex.getMessage());
         return new ResponseEntity<>(error, HttpStatus.FORBIDDEN);
     }
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        ErrorResponse error = new ErrorResponse();
+        error.setStatus(HttpStatus.CONFLICT.value());
+        error.setMessage(MessageKey.RESOURCE_MODIFIED_CONCURRENTLY.toString());
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleAllUncaughtException() {
         Map<String, Object> body = new HashMap<>();
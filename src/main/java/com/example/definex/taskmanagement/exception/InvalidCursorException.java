@@ -0,0 +1,9 @@
+package com.example.definex.taskmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends BaseException{
+    public InvalidCursorException(String message) {
+        super(message, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.definex.taskmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class PreconditionFailedException extends BaseException{
+    public PreconditionFailedException(String message) {
+        super(message, HttpStatus.PRECONDITION_FAILED);
+    }
+}
@@ -13,6 +13,11 @@ public enum MessageKey {
     PROJECT_TITLE_CANNOT_BE_EMPTY("Project title cannot be empty"),
 
     TASK_NOT_FOUND_WITH_ID("Task not found with given ID"),
+    TASK_TITLE_CANNOT_BE_EMPTY("Task title cannot be empty"),
+    BATCH_SIZE_EXCEEDS_LIMIT("Batch contains more items than allowed"),
+    INVALID_DATE_RANGE("Start of the date range must be before its end"),
+    RESOURCE_MODIFIED_CONCURRENTLY("Resource was modified by another request, reload it and retry"),
+    RESOURCE_REVISION_DOES_NOT_MATCH("Resource has changed since it was read, reload it and retry"),
     USER_CAN_NOT_COMMENT_TO_UNASSIGNED_TASK("User is not assigned to this task"),
     REASON_IS_REQUIRED_FOR_CANCEL_OR_BLOCK_STATE("Reason is required for Cancelled or Blocked state"),
     USER_DOES_NOT_HAVE_ACCESS_TO_TASK("User does not have access to this task"),
@@ -22,6 +27,10 @@ public enum MessageKey {
     USER_DOES_NOT_HAVE_PERMISSION_TO_DELETE_TASK("User does not have permission to delete this task"),
     USER_DOES_NOT_HAVE_PERMISSION_TO_CREATE_TASK("User does not have create a task"),
 
+    INVALID_PAGINATION_CURSOR("Invalid pagination cursor"),
+    SEARCH_QUERY_CANNOT_BE_EMPTY("Search query cannot be empty"),
+    CURSOR_AND_SINCE_CANNOT_BE_COMBINED("Use either cursor or since, not both"),
+
     COMMENT_NOT_FOUND_WITH_ID("Comment not found with given ID"),
 
     ATTACHMENT_NOT_FOUND_WITH_ID("Attachment not found with given ID"),
@@ -30,6 +39,9 @@ public enum MessageKey {
     FILE_UPLOAD_ERROR("File upload error"),
     FILE_CANNOT_BE_EMPTY("File cannot be empty"),
     FILE_SIZE_EXCEEDS_LIMIT("File size cannot exceed 10 MB"),
+    ATTACHMENT_QUARANTINED("Attachment was flagged by the content scanner"),
+    ATTACHMENT_NOT_SCANNED("Attachment has not passed the content scanner yet"),
+    ATTACHMENT_THUMBNAIL_NOT_AVAILABLE("Attachment has no thumbnail"),
     USER_CANNOT_ATTACH_FILES_TO_UNASSIGNED_TASKS("User cannot attach files to tasks not assigned to them"),
     USER_CANNOT_DOWNLOAD_FILES_FROM_UNASSIGNED_TASKS("User cannot download files from tasks not assigned to them"),
     USER_CANNOT_DELETE_FILES_FROM_UNASSIGNED_TASKS("User cannot delete files from tasks not assigned to them"),
@@ -38,6 +50,7 @@ public enum MessageKey {
 
 
     USER_CANNOT_MANAGE_PROJECTS_IN_DEPARTMENT("User cannot manage projects in this department"),
+    USER_CANNOT_SUBSCRIBE_TO_PROJECT_EVENTS("User has no access to this project's events"),
     GROUP_MANAGER_CANNOT_COMMENT_ON_OTHER_DEPARTMENTS("Group manager cannot comment on other departments");
 
     private final String message;
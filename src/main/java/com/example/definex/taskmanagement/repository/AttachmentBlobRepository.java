@@ -0,0 +1,76 @@
+package com.example.definex.taskmanagement.repository;
+
+import com.example.definex.taskmanagement.entities.AttachmentBlob;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlob, String> {
+    @Modifying
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = """
+            INSERT INTO attachment_blob (content_hash, size, reference_count, updated_at)
+            VALUES (:contentHash, :size, 1, now())
+            ON CONFLICT (content_hash) DO UPDATE
+            SET reference_count = attachment_blob.reference_count + 1, updated_at = now()
+            """, nativeQuery = true)
+    void acquire(String contentHash, long size);
+
+    /**
+     * Makes sure a row exists for content about to be uploaded and restarts its grace period, without taking a
+     * reference. Commits on its own, ahead of the upload.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO attachment_blob (content_hash, size, reference_count, updated_at)
+            VALUES (:contentHash, :size, 0, now())
+            ON CONFLICT (content_hash) DO UPDATE
+            SET updated_at = now()
+            """, nativeQuery = true)
+    void register(String contentHash, long size);
+
+    @Modifying
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query("UPDATE AttachmentBlob b SET b.referenceCount = b.referenceCount - 1, b.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE b.contentHash = :contentHash AND b.referenceCount > 0")
+    int release(String contentHash);
+
+    /**
+     * Drops the references held by the live attachments of the given tasks, one decrement per attachment row. Must run
+     * before those attachments are soft-deleted.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE AttachmentBlob b SET b.referenceCount = b.referenceCount - " +
+            "(SELECT COUNT(a) FROM Attachment a WHERE a.contentHash = b.contentHash AND a.isDeleted = false AND a.task.id IN :taskIds), " +
+            "b.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE b.contentHash IN (SELECT a.contentHash FROM Attachment a WHERE a.isDeleted = false AND a.task.id IN :taskIds)")
+    int releaseByTaskIdIn(Collection<Long> taskIds);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE AttachmentBlob b SET b.referenceCount = b.referenceCount - " +
+            "(SELECT COUNT(a) FROM Attachment a WHERE a.contentHash = b.contentHash AND a.isDeleted = false " +
+            "AND a.task.id IN (SELECT t.id FROM Task t WHERE t.project.id IN :projectIds)), " +
+            "b.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE b.contentHash IN (SELECT a.contentHash FROM Attachment a WHERE a.isDeleted = false " +
+            "AND a.task.id IN (SELECT t.id FROM Task t WHERE t.project.id IN :projectIds))")
+    int releaseByProjectIdIn(Collection<Long> projectIds);
+
+    @Query("SELECT b.contentHash FROM AttachmentBlob b WHERE b.referenceCount = 0 AND b.updatedAt < :releasedBefore " +
+            "ORDER BY b.updatedAt")
+    List<String> findUnreferencedHashes(LocalDateTime releasedBefore, Limit limit);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AttachmentBlob b WHERE b.contentHash = :contentHash AND b.referenceCount = 0 " +
+            "AND b.updatedAt < :releasedBefore")
+    int deleteIfUnreferenced(String contentHash, LocalDateTime releasedBefore);
+}
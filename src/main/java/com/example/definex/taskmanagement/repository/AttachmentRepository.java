@@ -1,10 +1,49 @@
 package com.example.definex.taskmanagement.repository;
 
 import com.example.definex.taskmanagement.entities.Attachment;
+import com.example.definex.taskmanagement.entities.AttachmentProcessingStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface AttachmentRepository extends BaseRepository<Attachment,Long> {
+    String WITH_TASK_AND_PROJECT = "task(project)";
     @Query("SELECT a FROM Attachment a WHERE a.isDeleted = false AND a.task.id = :id")
     List<Attachment> findByTask_Id(Long id);
+    @Query("SELECT a.id FROM Attachment a WHERE a.isDeleted = false AND a.processingStatus = :status ORDER BY a.id")
+    List<Long> findIdsByProcessingStatus(AttachmentProcessingStatus status, Limit limit);
+    @Modifying
+    @Transactional
+    @Query("UPDATE Attachment a SET a.processingStatus = com.example.definex.taskmanagement.entities.AttachmentProcessingStatus.PROCESSING, " +
+            "a.processingClaimedAt = :claimedAt WHERE a.id = :id AND a.processingStatus = com.example.definex.taskmanagement.entities.AttachmentProcessingStatus.PENDING")
+    int claimProcessing(Long id, LocalDateTime claimedAt);
+    /**
+     * Applies the result only while the worker's claim is still the current one, so a worker whose lease expired and
+     * was re-queued cannot overwrite the outcome of the run that replaced it.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Attachment a SET a.processingStatus = :status, a.processingClaimedAt = null, a.mimeType = :mimeType, " +
+            "a.thumbnailKey = :thumbnailKey, a.textPreview = :textPreview WHERE a.id = :id AND a.processingClaimedAt = :claimedAt")
+    int completeProcessing(Long id, LocalDateTime claimedAt, AttachmentProcessingStatus status,
+                           String mimeType, String thumbnailKey, String textPreview);
+    @Modifying
+    @Transactional
+    @Query("UPDATE Attachment a SET a.processingStatus = com.example.definex.taskmanagement.entities.AttachmentProcessingStatus.PENDING, a.processingClaimedAt = null " +
+            "WHERE a.processingStatus = com.example.definex.taskmanagement.entities.AttachmentProcessingStatus.PROCESSING AND a.processingClaimedAt < :claimedBefore")
+    int releaseExpiredClaims(LocalDateTime claimedBefore);
+    @Modifying
+    @Transactional
+    @Query("UPDATE Attachment a SET a.isDeleted = true, a.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE a.isDeleted = false AND a.task.id IN :taskIds")
+    int softDeleteByTaskIdIn(Collection<Long> taskIds);
+    @Modifying
+    @Transactional
+    @Query("UPDATE Attachment a SET a.isDeleted = true, a.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE a.isDeleted = false AND a.task.id IN (SELECT t.id FROM Task t WHERE t.project.id IN :projectIds)")
+    int softDeleteByProjectIdIn(Collection<Long> projectIds);
 }
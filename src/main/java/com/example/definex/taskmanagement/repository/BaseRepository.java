@@ -3,6 +3,7 @@ package com.example.definex.taskmanagement.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +15,8 @@ public interface BaseRepository<T, ID> extends JpaRepository<T, ID> {
     Optional<T> findById(ID id);
     @Query("select count(e) > 0 from #{#entityName} e where e.isDeleted = false and e.id = ?1")
     boolean existsById(ID id);
+    List<T> findAllByIdIn(Collection<ID> ids);
+    Optional<T> findById(ID id, String fetchPlan);
+    List<T> findAllById(Collection<ID> ids, String fetchPlan);
+    int softDeleteByIdIn(Collection<ID> ids);
 }
@@ -0,0 +1,77 @@
+package com.example.definex.taskmanagement.repository;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.graph.GraphParser;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public class BaseRepositoryImpl<T, ID> extends SimpleJpaRepository<T, ID> implements BaseRepository<T, ID> {
+    private final JpaEntityInformation<T, ?> entityInformation;
+    private final EntityManager entityManager;
+
+    public BaseRepositoryImpl(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityInformation = entityInformation;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<T> findById(ID id, String fetchPlan) {
+        TypedQuery<T> query = entityManager.createQuery(
+                "select e from " + entityInformation.getEntityName() + " e where e.isDeleted = false and e.id = :id",
+                getDomainClass());
+        query.setParameter("id", id);
+        query.setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, fetchGraph(fetchPlan));
+        return query.getResultStream().findFirst();
+    }
+
+    @Override
+    public List<T> findAllByIdIn(Collection<ID> ids) {
+        return ids.isEmpty() ? List.of() : findAllByIdQuery(ids).getResultList();
+    }
+
+    @Override
+    public List<T> findAllById(Collection<ID> ids, String fetchPlan) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        TypedQuery<T> query = findAllByIdQuery(ids);
+        query.setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, fetchGraph(fetchPlan));
+        return query.getResultList();
+    }
+
+    @Override
+    @Transactional
+    public int softDeleteByIdIn(Collection<ID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return entityManager.createQuery(
+                        "update " + entityInformation.getEntityName() + " e set e.isDeleted = true, e.updatedAt = CURRENT_TIMESTAMP " +
+                                "where e.isDeleted = false and e.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    private TypedQuery<T> findAllByIdQuery(Collection<ID> ids) {
+        TypedQuery<T> query = entityManager.createQuery(
+                "select e from " + entityInformation.getEntityName() + " e where e.isDeleted = false and e.id in :ids",
+                getDomainClass());
+        query.setParameter("ids", ids);
+        return query;
+    }
+
+    private EntityGraph<T> fetchGraph(String fetchPlan) {
+        EntityGraph<T> graph = entityManager.createEntityGraph(getDomainClass());
+        GraphParser.parseInto(graph, fetchPlan, entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class));
+        return graph;
+    }
+}
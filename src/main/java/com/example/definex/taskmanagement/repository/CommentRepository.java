@@ -1,6 +1,51 @@
 package com.example.definex.taskmanagement.repository;
 
+import com.example.definex.taskmanagement.dto.projection.CommentRevisionView;
+import com.example.definex.taskmanagement.dto.projection.CommentView;
 import com.example.definex.taskmanagement.entities.Comment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends BaseRepository<Comment,Long> {
+    String WITH_TASK_AND_PROJECT = "task(project)";
+
+    @Query("SELECT new com.example.definex.taskmanagement.dto.projection.CommentView(" +
+            "c.id, c.feedPosition, c.content, c.task.id, c.user.id, c.createdAt, c.createdBy, c.updatedAt, c.isDeleted) " +
+            "FROM Comment c WHERE c.isDeleted = false AND c.task.id = :taskId ORDER BY c.feedPosition DESC")
+    List<CommentView> findViewsByTaskId(Long taskId, Limit limit);
+
+    @Query("SELECT new com.example.definex.taskmanagement.dto.projection.CommentView(" +
+            "c.id, c.feedPosition, c.content, c.task.id, c.user.id, c.createdAt, c.createdBy, c.updatedAt, c.isDeleted) " +
+            "FROM Comment c WHERE c.isDeleted = false AND c.task.id = :taskId AND c.feedPosition < :beforePosition ORDER BY c.feedPosition DESC")
+    List<CommentView> findViewsByTaskIdBefore(Long taskId, Long beforePosition, Limit limit);
+
+    @Query("SELECT new com.example.definex.taskmanagement.dto.projection.CommentView(" +
+            "c.id, c.feedPosition, c.content, c.task.id, c.user.id, c.createdAt, c.createdBy, c.updatedAt, c.isDeleted) " +
+            "FROM Comment c WHERE c.isDeleted = false AND c.task.id = :taskId AND c.feedPosition > :afterPosition ORDER BY c.feedPosition")
+    List<CommentView> findViewsByTaskIdAfter(Long taskId, Long afterPosition, Limit limit);
+
+    @Query("SELECT new com.example.definex.taskmanagement.dto.projection.CommentRevisionView(" +
+            "c.version, p.department.id, t.assignee.id) " +
+            "FROM Comment c JOIN c.task t JOIN t.project p WHERE c.isDeleted = false AND c.id = :id")
+    Optional<CommentRevisionView> findRevisionById(Long id);
+
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.isDeleted = false AND c.task.id = :taskId")
+    long countByTaskId(Long taskId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Comment c SET c.isDeleted = true, c.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.isDeleted = false AND c.task.id IN :taskIds")
+    int softDeleteByTaskIdIn(Collection<Long> taskIds);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Comment c SET c.isDeleted = true, c.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.isDeleted = false AND c.task.id IN (SELECT t.id FROM Task t WHERE t.project.id IN :projectIds)")
+    int softDeleteByProjectIdIn(Collection<Long> projectIds);
 }
@@ -1,6 +1,45 @@
 package com.example.definex.taskmanagement.repository;
 
+import com.example.definex.taskmanagement.dto.projection.DepartmentRevisionView;
+import com.example.definex.taskmanagement.dto.projection.DepartmentView;
 import com.example.definex.taskmanagement.entities.Department;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import java.util.List;
+import java.util.Optional;
 
 public interface DepartmentRepository extends BaseRepository<Department,Long> {
+    @Query("SELECT new com.example.definex.taskmanagement.dto.projection.DepartmentView(" +
+            "d.id, d.name, d.createdAt, d.createdBy, d.updatedAt, d.isDeleted) " +
+            "FROM Department d WHERE d.isDeleted = false AND d.id = :id")
+    Optional<DepartmentView> findViewById(Long id);
+
+    /**
+     * The response embeds the department's live projects, so their count and latest change are part of its revision.
+     */
+    @Query("SELECT new com.example.definex.taskmanagement.dto.projection.DepartmentRevisionView(" +
+            "COALESCE(d.updatedAt, d.createdAt), " +
+            "(SELECT COUNT(p) FROM Project p WHERE p.isDeleted = false AND p.department.id = d.id), " +
+            "(SELECT MAX(COALESCE(p.updatedAt, p.createdAt)) FROM Project p WHERE p.isDeleted = false AND p.department.id = d.id)) " +
+            "FROM Department d WHERE d.isDeleted = false AND d.id = :id")
+    Optional<DepartmentRevisionView> findRevisionById(Long id);
+
+    @Query("SELECT new com.example.definex.taskmanagement.dto.projection.DepartmentView(" +
+            "d.id, d.name, d.createdAt, d.createdBy, d.updatedAt, d.isDeleted) " +
+            "FROM Department d WHERE d.isDeleted = false ORDER BY d.id")
+    List<DepartmentView> findViews(Limit limit);
+
+    @Query("SELECT new com.example.definex.taskmanagement.dto.projection.DepartmentView(" +
+            "d.id, d.name, d.createdAt, d.createdBy, d.updatedAt, d.isDeleted) " +
+            "FROM Department d WHERE d.isDeleted = false AND d.id > :afterId ORDER BY d.id")
+    List<DepartmentView> findViewsAfter(Long afterId, Limit limit);
+
+    @Query("SELECT new com.example.definex.taskmanagement.dto.projection.DepartmentView(" +
+            "d.id, d.name, d.createdAt, d.createdBy, d.updatedAt, d.isDeleted) " +
+            "FROM Department d WHERE d.isDeleted = false ORDER BY d.id")
+    Slice<DepartmentView> findViews(Pageable pageable);
+
+    long countByIsDeletedFalse();
 }
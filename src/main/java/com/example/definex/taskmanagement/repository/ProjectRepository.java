@@ -1,6 +1,29 @@
 package com.example.definex.taskmanagement.repository;
 
+import com.example.definex.taskmanagement.dto.projection.ProjectRevisionView;
+import com.example.definex.taskmanagement.dto.projection.ProjectSummaryView;
+import com.example.definex.taskmanagement.dto.projection.ProjectView;
 import com.example.definex.taskmanagement.entities.Project;
+import org.springframework.data.jpa.repository.Query;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface ProjectRepository extends BaseRepository<Project,Long> {
+    @Query("SELECT new com.example.definex.taskmanagement.dto.projection.ProjectView(" +
+            "p.id, p.title, p.description, p.department.id, p.createdAt, p.createdBy, p.updatedAt, p.isDeleted) " +
+            "FROM Project p WHERE p.isDeleted = false AND p.id = :id")
+    Optional<ProjectView> findViewById(Long id);
+
+    @Query("SELECT new com.example.definex.taskmanagement.dto.projection.ProjectRevisionView(p.version, p.department.id) " +
+            "FROM Project p WHERE p.isDeleted = false AND p.id = :id")
+    Optional<ProjectRevisionView> findRevisionById(Long id);
+
+    @Query("SELECT new com.example.definex.taskmanagement.dto.projection.ProjectSummaryView(" +
+            "p.department.id, p.id, p.title, p.description) " +
+            "FROM Project p WHERE p.isDeleted = false AND p.department.id IN :departmentIds ORDER BY p.id")
+    List<ProjectSummaryView> findSummariesByDepartmentIds(Collection<Long> departmentIds);
+
+    @Query("SELECT p.id FROM Project p WHERE p.isDeleted = false AND p.department.id IN :departmentIds")
+    List<Long> findIdsByDepartmentIdIn(Collection<Long> departmentIds);
 }
@@ -0,0 +1,6 @@
+package com.example.definex.taskmanagement.repository;
+
+import com.example.definex.taskmanagement.entities.TaskPriorityType;
+
+public record TaskKeyset(Long projectId, TaskPriorityType priority, Long id) {
+}
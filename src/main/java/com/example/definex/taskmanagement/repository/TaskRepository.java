@@ -1,6 +1,52 @@
 package com.example.definex.taskmanagement.repository;
 
+import com.example.definex.taskmanagement.dto.projection.TaskRevisionView;
+import com.example.definex.taskmanagement.dto.projection.TaskView;
 import com.example.definex.taskmanagement.entities.Task;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.Optional;
 
-public interface TaskRepository extends BaseRepository<Task,Long> {
+public interface TaskRepository extends BaseRepository<Task,Long>, TaskRepositoryCustom {
+    String WITH_PROJECT = "project";
+
+    @Query("SELECT new com.example.definex.taskmanagement.dto.projection.TaskView(" +
+            "t.id, t.version, t.title, t.userStoryDescription, t.acceptanceCriteria, t.state, t.priority, " +
+            "p.id, p.department.id, t.assignee.id, t.createdAt, t.createdBy, t.updatedAt, t.isDeleted) " +
+            "FROM Task t JOIN t.project p WHERE t.isDeleted = false AND t.id = :id")
+    Optional<TaskView> findViewById(Long id);
+
+    @Query("SELECT new com.example.definex.taskmanagement.dto.projection.TaskRevisionView(t.version, p.department.id, t.assignee.id) " +
+            "FROM Task t JOIN t.project p WHERE t.isDeleted = false AND t.id = :id")
+    Optional<TaskRevisionView> findRevisionById(Long id);
+
+    @Query("SELECT COUNT(t) > 0 FROM Task t " +
+            "WHERE t.isDeleted = false AND t.project.id = :projectId AND t.assignee.id = :assigneeId")
+    boolean existsAssignedInProject(Long projectId, Long assigneeId);
+
+    /**
+     * Reserves the next comment feed position of a task. The increment keeps the task row locked until the caller's
+     * transaction commits, so positions become visible in the order they were handed out.
+     */
+    default long nextCommentPosition(Long taskId) {
+        incrementCommentSequence(taskId);
+        return findCommentSequence(taskId);
+    }
+
+    @Modifying
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query("UPDATE Task t SET t.commentSequence = t.commentSequence + 1 WHERE t.id = :taskId")
+    int incrementCommentSequence(Long taskId);
+
+    @Query("SELECT t.commentSequence FROM Task t WHERE t.id = :taskId")
+    long findCommentSequence(Long taskId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Task t SET t.isDeleted = true, t.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE t.isDeleted = false AND t.project.id IN :projectIds")
+    int softDeleteByProjectIdIn(Collection<Long> projectIds);
 }
@@ -0,0 +1,12 @@
+package com.example.definex.taskmanagement.repository;
+
+import com.example.definex.taskmanagement.authorization.TaskAccessScope;
+import com.example.definex.taskmanagement.dto.projection.TaskSearchView;
+import com.example.definex.taskmanagement.dto.projection.TaskView;
+import com.example.definex.taskmanagement.dto.request.TaskFilterRequest;
+import java.util.List;
+
+public interface TaskRepositoryCustom {
+    List<TaskView> findViews(TaskFilterRequest filter, TaskAccessScope scope, TaskKeyset after, int limit);
+    List<TaskSearchView> search(String query, TaskAccessScope scope, int limit);
+}
@@ -0,0 +1,145 @@
+package com.example.definex.taskmanagement.repository;
+
+import com.example.definex.taskmanagement.authorization.TaskAccessScope;
+import com.example.definex.taskmanagement.dto.projection.TaskSearchView;
+import com.example.definex.taskmanagement.dto.projection.TaskView;
+import com.example.definex.taskmanagement.dto.request.TaskFilterRequest;
+import com.example.definex.taskmanagement.entities.TaskPriorityType;
+import com.example.definex.taskmanagement.entities.TaskStateType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    /**
+     * Matches on the task's own document and on its comments are ranked separately and the best one wins; a comment hit
+     * counts half as much as a hit on the task itself. The access scope is applied inside both branches so the GIN scans
+     * never rank rows the caller cannot see.
+     */
+    private static final String SEARCH = """
+            WITH q AS (SELECT websearch_to_tsquery('english', :query) AS query),
+            hits AS (
+                SELECT t.id AS task_id, ts_rank_cd(t.search_vector, q.query, 32) AS rank
+                FROM task t JOIN project p ON p.id = t.project_id CROSS JOIN q
+                WHERE t.is_deleted = false AND t.search_vector @@ q.query%1$s
+                UNION ALL
+                SELECT t.id AS task_id, ts_rank_cd(c.search_vector, q.query, 32) * 0.5 AS rank
+                FROM comment c JOIN task t ON t.id = c.task_id JOIN project p ON p.id = t.project_id CROSS JOIN q
+                WHERE c.is_deleted = false AND t.is_deleted = false AND c.search_vector @@ q.query%1$s
+            )
+            SELECT t.id, t.title, t.user_story_description, t.state, t.priority,
+                   t.project_id, p.department_id, t.assignee_id, h.rank
+            FROM (SELECT task_id, MAX(rank) AS rank FROM hits GROUP BY task_id) h
+            JOIN task t ON t.id = h.task_id JOIN project p ON p.id = t.project_id
+            ORDER BY h.rank DESC, t.id
+            LIMIT :limit
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskView> findViews(TaskFilterRequest filter, TaskAccessScope scope, TaskKeyset after, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT new com.example.definex.taskmanagement.dto.projection.TaskView(" +
+                "t.id, t.version, t.title, t.userStoryDescription, t.acceptanceCriteria, t.state, t.priority, " +
+                "t.project.id, p.department.id, t.assignee.id, t.createdAt, t.createdBy, t.updatedAt, t.isDeleted) " +
+                "FROM Task t JOIN t.project p WHERE t.isDeleted = false");
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (filter.getProjectId() != null) {
+            jpql.append(" AND t.project.id = :projectId");
+            parameters.put("projectId", filter.getProjectId());
+        }
+        if (filter.getAssigneeId() != null) {
+            jpql.append(" AND t.assignee.id = :assigneeId");
+            parameters.put("assigneeId", filter.getAssigneeId());
+        }
+        if (filter.getState() != null) {
+            jpql.append(" AND t.state = :state");
+            parameters.put("state", filter.getState());
+        }
+        if (filter.getPriority() != null) {
+            jpql.append(" AND t.priority = :priority");
+            parameters.put("priority", filter.getPriority());
+        }
+        if (!scope.unrestricted()) {
+            List<String> scopePredicates = new ArrayList<>();
+            if (scope.departmentId() != null) {
+                scopePredicates.add("p.department.id = :scopeDepartmentId");
+                parameters.put("scopeDepartmentId", scope.departmentId());
+            }
+            if (scope.assigneeId() != null) {
+                scopePredicates.add("t.assignee.id = :scopeAssigneeId");
+                parameters.put("scopeAssigneeId", scope.assigneeId());
+            }
+            jpql.append(scopePredicates.isEmpty() ? " AND 1 = 0" : " AND (" + String.join(" OR ", scopePredicates) + ")");
+        }
+        if (after != null) {
+            jpql.append(" AND (t.project.id > :afterProjectId OR (t.project.id = :afterProjectId AND ");
+            if (after.priority() != null) {
+                jpql.append("(t.priorityRank > :afterPriorityRank OR t.priorityRank IS NULL " +
+                        "OR (t.priorityRank = :afterPriorityRank AND t.id > :afterId))))");
+                parameters.put("afterPriorityRank", after.priority().getSeverityRank());
+            } else {
+                jpql.append("t.priorityRank IS NULL AND t.id > :afterId))");
+            }
+            parameters.put("afterProjectId", after.projectId());
+            parameters.put("afterId", after.id());
+        }
+        jpql.append(" ORDER BY t.project.id, t.priorityRank NULLS LAST, t.id");
+
+        TypedQuery<TaskView> query = entityManager.createQuery(jpql.toString(), TaskView.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<TaskSearchView> search(String query, TaskAccessScope scope, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        String scopePredicate = "";
+        if (!scope.unrestricted()) {
+            List<String> scopePredicates = new ArrayList<>();
+            if (scope.departmentId() != null) {
+                scopePredicates.add("p.department_id = :scopeDepartmentId");
+                parameters.put("scopeDepartmentId", scope.departmentId());
+            }
+            if (scope.assigneeId() != null) {
+                scopePredicates.add("t.assignee_id = :scopeAssigneeId");
+                parameters.put("scopeAssigneeId", scope.assigneeId());
+            }
+            scopePredicate = scopePredicates.isEmpty() ? " AND 1 = 0" : " AND (" + String.join(" OR ", scopePredicates) + ")";
+        }
+        parameters.put("query", query);
+        parameters.put("limit", limit);
+
+        Query nativeQuery = entityManager.createNativeQuery(SEARCH.formatted(scopePredicate), Tuple.class);
+        parameters.forEach(nativeQuery::setParameter);
+
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = nativeQuery.getResultList();
+        return rows.stream().map(TaskRepositoryCustomImpl::toSearchView).toList();
+    }
+    private static TaskSearchView toSearchView(Tuple row) {
+        String state = row.get(3, String.class);
+        String priority = row.get(4, String.class);
+        return new TaskSearchView(
+                toLong(row.get(0)),
+                row.get(1, String.class),
+                row.get(2, String.class),
+                state != null ? TaskStateType.valueOf(state) : null,
+                priority != null ? TaskPriorityType.valueOf(priority) : null,
+                toLong(row.get(5)),
+                toLong(row.get(6)),
+                toLong(row.get(7)),
+                ((Number) row.get(8)).doubleValue());
+    }
+    private static Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+}
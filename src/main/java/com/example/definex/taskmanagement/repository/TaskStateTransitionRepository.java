@@ -0,0 +1,83 @@
+package com.example.definex.taskmanagement.repository;
+
+import com.example.definex.taskmanagement.dto.projection.DurationStatsView;
+import com.example.definex.taskmanagement.entities.TaskStateTransition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TaskStateTransitionRepository extends JpaRepository<TaskStateTransition, Long> {
+    String DURATION_STATS = """
+            SELECT d.metric AS "metric", COUNT(*) AS "samples", AVG(d.seconds) AS "averageSeconds",
+                   PERCENTILE_CONT(0.5) WITHIN GROUP (ORDER BY d.seconds) AS "p50Seconds",
+                   PERCENTILE_CONT(0.85) WITHIN GROUP (ORDER BY d.seconds) AS "p85Seconds",
+                   PERCENTILE_CONT(0.95) WITHIN GROUP (ORDER BY d.seconds) AS "p95Seconds"
+            FROM (
+            """;
+    /**
+     * Each transition opens a span that the task's next transition closes. Only spans opened inside the window count;
+     * the lower bound lets Postgres skip older monthly partitions while later rows stay visible to LEAD.
+     */
+    String TIME_IN_STATE = DURATION_STATS + """
+                SELECT s.state AS metric, s.seconds
+                FROM (
+                    SELECT t.to_state AS state, t.changed_at,
+                           CAST(EXTRACT(EPOCH FROM LEAD(t.changed_at) OVER (PARTITION BY t.task_id ORDER BY t.changed_at, t.id))
+                                - EXTRACT(EPOCH FROM t.changed_at) AS DOUBLE PRECISION) AS seconds
+                    FROM task_state_transition t
+                    WHERE t.changed_at >= :from AND t.""";
+    String TIME_IN_STATE_END = """
+             = :scopeId
+                ) s
+                WHERE s.seconds IS NOT NULL AND s.changed_at < :to
+            ) d
+            GROUP BY d.metric
+            """;
+    /**
+     * Lead time runs from the recorded creation (the row without a from state) to the last completion, cycle time from
+     * the first move to IN_PROGRESS to the last completion, for tasks completed inside the window. The tasks are picked
+     * from the window's completions first, which prunes to the window's monthly partitions; only their own history is
+     * then read, through the task index.
+     */
+    String FLOW_TIMES = "WITH completed AS (" + """
+                SELECT DISTINCT c.task_id
+                FROM task_state_transition c
+                WHERE c.to_state = 'COMPLETED' AND c.changed_at >= :from AND c.changed_at < :to AND c.""";
+    String FLOW_TIMES_END = """
+             = :scopeId
+            ), task_flow AS (
+                SELECT t.task_id,
+                       MIN(CASE WHEN t.from_state IS NULL THEN t.changed_at END) AS created_at,
+                       MIN(CASE WHEN t.to_state = 'IN_PROGRESS' THEN t.changed_at END) AS started_at,
+                       MAX(CASE WHEN t.to_state = 'COMPLETED' THEN t.changed_at END) AS completed_at
+                FROM task_state_transition t
+                WHERE t.task_id IN (SELECT c.task_id FROM completed c)
+                GROUP BY t.task_id
+            )
+            """ + DURATION_STATS + """
+                SELECT 'LEAD_TIME' AS metric,
+                       CAST(EXTRACT(EPOCH FROM f.completed_at) - EXTRACT(EPOCH FROM f.created_at) AS DOUBLE PRECISION) AS seconds
+                FROM task_flow f
+                WHERE f.completed_at >= :from AND f.completed_at < :to AND f.created_at IS NOT NULL
+                UNION ALL
+                SELECT 'CYCLE_TIME' AS metric,
+                       CAST(EXTRACT(EPOCH FROM f.completed_at) - EXTRACT(EPOCH FROM f.started_at) AS DOUBLE PRECISION) AS seconds
+                FROM task_flow f
+                WHERE f.completed_at >= :from AND f.completed_at < :to AND f.started_at <= f.completed_at
+            ) d
+            GROUP BY d.metric
+            """;
+
+    @Query(value = TIME_IN_STATE + "project_id" + TIME_IN_STATE_END, nativeQuery = true)
+    List<DurationStatsView> findTimeInStateByProject(Long scopeId, LocalDateTime from, LocalDateTime to);
+
+    @Query(value = TIME_IN_STATE + "department_id" + TIME_IN_STATE_END, nativeQuery = true)
+    List<DurationStatsView> findTimeInStateByDepartment(Long scopeId, LocalDateTime from, LocalDateTime to);
+
+    @Query(value = FLOW_TIMES + "project_id" + FLOW_TIMES_END, nativeQuery = true)
+    List<DurationStatsView> findFlowTimesByProject(Long scopeId, LocalDateTime from, LocalDateTime to);
+
+    @Query(value = FLOW_TIMES + "department_id" + FLOW_TIMES_END, nativeQuery = true)
+    List<DurationStatsView> findFlowTimesByDepartment(Long scopeId, LocalDateTime from, LocalDateTime to);
+}
@@ -1,10 +1,13 @@
 package com.example.definex.taskmanagement.repository;
 
+import com.example.definex.taskmanagement.dto.projection.UserView;
 import com.example.definex.taskmanagement.entities.User;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends BaseRepository<User,Long> {
@@ -14,6 +17,28 @@ public interface UserRepository extends BaseRepository<User,Long> {
     @Query("SELECT e FROM User e WHERE e.isDeleted = false AND e.email = :email")
     Optional<User> findByEmail(String email);
 
-    @Query("SELECT u FROM User u WHERE u.isDeleted = false")
-    Page<User> findAll(Pageable pageable);
+    @Query("SELECT new com.example.definex.taskmanagement.dto.projection.UserView(" +
+            "u.id, u.name, u.email, u.createdAt, u.createdBy, u.updatedAt, u.isDeleted) " +
+            "FROM User u WHERE u.isDeleted = false AND u.id = :id")
+    Optional<UserView> findViewById(Long id);
+
+    @Query("SELECT u.version FROM User u WHERE u.isDeleted = false AND u.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    @Query("SELECT new com.example.definex.taskmanagement.dto.projection.UserView(" +
+            "u.id, u.name, u.email, u.createdAt, u.createdBy, u.updatedAt, u.isDeleted) " +
+            "FROM User u WHERE u.isDeleted = false ORDER BY u.id")
+    List<UserView> findViews(Limit limit);
+
+    @Query("SELECT new com.example.definex.taskmanagement.dto.projection.UserView(" +
+            "u.id, u.name, u.email, u.createdAt, u.createdBy, u.updatedAt, u.isDeleted) " +
+            "FROM User u WHERE u.isDeleted = false AND u.id > :afterId ORDER BY u.id")
+    List<UserView> findViewsAfter(Long afterId, Limit limit);
+
+    @Query("SELECT new com.example.definex.taskmanagement.dto.projection.UserView(" +
+            "u.id, u.name, u.email, u.createdAt, u.createdBy, u.updatedAt, u.isDeleted) " +
+            "FROM User u WHERE u.isDeleted = false ORDER BY u.id")
+    Slice<UserView> findViews(Pageable pageable);
+
+    long countByIsDeletedFalse();
 }
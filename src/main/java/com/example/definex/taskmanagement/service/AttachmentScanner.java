@@ -0,0 +1,12 @@
+package com.example.definex.taskmanagement.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Hook for content scanners (antivirus, DLP). Every registered bean is consulted by the post-processing pipeline;
+ * a single {@code false} quarantines the attachment.
+ */
+public interface AttachmentScanner {
+    boolean isClean(String fileName, InputStream content) throws IOException;
+}
@@ -1,16 +1,21 @@
 package com.example.definex.taskmanagement.service;
 
 import com.example.definex.taskmanagement.dto.request.UploadFileAttachmentRequest;
+import com.example.definex.taskmanagement.dto.response.AttachmentDownload;
 import com.example.definex.taskmanagement.dto.response.FileAttachmentResponse;
 import com.example.definex.taskmanagement.dto.response.UploadedFileAttachmentResponse;
-import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.util.List;
 
 public interface AttachmentService {
     UploadedFileAttachmentResponse uploadFile(MultipartFile file, UploadFileAttachmentRequest uploadFileAttachmentRequest);
-    Resource downloadFile(Long attachmentId);
+    UploadedFileAttachmentResponse uploadFile(InputStream content, String fileName, long contentLength, UploadFileAttachmentRequest uploadFileAttachmentRequest);
+    AttachmentDownload downloadFile(Long attachmentId);
+    AttachmentDownload downloadThumbnail(Long attachmentId);
+    InputStream openDownload(AttachmentDownload download, long start, long length);
+    InputStream openDecodedDownload(AttachmentDownload download, long start, long length);
     void deleteAttachment(Long attachmentId);
     List<FileAttachmentResponse> getTaskAttachments(Long taskId);
 }
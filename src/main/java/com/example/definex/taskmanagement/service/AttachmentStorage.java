@@ -0,0 +1,30 @@
+package com.example.definex.taskmanagement.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Backend holding attachment content under opaque keys, the values kept in {@code Attachment.filePath}.
+ * Selected with {@code file.storage.type}: {@code filesystem} (default) or {@code s3}.
+ */
+public interface AttachmentStorage {
+    boolean exists(String key);
+
+    /** Moves or uploads a fully written local file under {@code key}; the staged file may be consumed. */
+    void store(String key, Path stagedFile) throws IOException;
+
+    /** Returns {@code null} when nothing is stored under {@code key}. */
+    ObjectMetadata stat(String key) throws IOException;
+
+    /** Opens a stream positioned at {@code start} that yields at least {@code length} bytes. */
+    InputStream open(String key, long start, long length) throws IOException;
+
+    /** Local file backing {@code key} for zero-copy transfer, or {@code null} for remote backends. */
+    Path localPath(String key);
+
+    void delete(String key) throws IOException;
+
+    record ObjectMetadata(long size, long lastModified) {
+    }
+}
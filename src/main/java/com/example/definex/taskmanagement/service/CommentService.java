@@ -2,13 +2,18 @@ package com.example.definex.taskmanagement.service;
 
 import com.example.definex.taskmanagement.dto.request.CreateCommentRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateCommentRequest;
+import com.example.definex.taskmanagement.dto.response.CommentFeedResponse;
 import com.example.definex.taskmanagement.dto.response.CommentResponse;
 import com.example.definex.taskmanagement.dto.response.CreatedCommentResponse;
 import com.example.definex.taskmanagement.dto.response.UpdatedCommentResponse;
 
+import java.util.List;
+
 public interface CommentService {
     CreatedCommentResponse save(CreateCommentRequest createCommentRequest);
-    UpdatedCommentResponse update(UpdateCommentRequest updateCommentRequest, Long id);
+    UpdatedCommentResponse update(UpdateCommentRequest updateCommentRequest, Long id, List<String> expectedRevisions);
     void delete(Long id);
     CommentResponse findById(Long id);
+    String findRevision(Long id);
+    CommentFeedResponse findByTaskId(Long taskId, String cursor, String since, int size, boolean includeTotal);
 }
@@ -2,15 +2,21 @@ package com.example.definex.taskmanagement.service;
 
 import com.example.definex.taskmanagement.dto.request.CreateDepartmentRequest;
 import com.example.definex.taskmanagement.dto.response.CreatedDepartmentResponse;
+import com.example.definex.taskmanagement.dto.response.CursorPageResponse;
 import com.example.definex.taskmanagement.dto.response.DepartmentResponse;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 public interface DepartmentService {
     CreatedDepartmentResponse save(CreateDepartmentRequest createDepartmentRequest);
     DepartmentResponse findById(Long id);
-    Page<DepartmentResponse> findAll(Pageable pageable);
+    String findRevision(Long id);
+    CursorPageResponse<DepartmentResponse> findAll(String cursor, int size, boolean includeTotal);
+    /**
+     * @deprecated offset paging kept for clients that still send {@code page}; use {@link #findAll(String, int, boolean)}.
+     */
+    @Deprecated
+    CursorPageResponse<DepartmentResponse> findPage(int page, int size, boolean includeTotal);
     void deleteById(Long id);
+    void deleteAllById(List<Long> departmentIds);
 }
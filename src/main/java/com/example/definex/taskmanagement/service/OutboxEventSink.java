@@ -0,0 +1,12 @@
+package com.example.definex.taskmanagement.service;
+
+import com.example.definex.taskmanagement.entities.OutboxEvent;
+import java.util.List;
+
+/**
+ * Destination for relayed domain events. Throwing rolls the batch back so it is offered again on the next run; every
+ * sink therefore has to tolerate seeing an event more than once.
+ */
+public interface OutboxEventSink {
+    void deliver(List<OutboxEvent> events);
+}
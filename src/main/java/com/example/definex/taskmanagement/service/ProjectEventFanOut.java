@@ -0,0 +1,10 @@
+package com.example.definex.taskmanagement.service;
+
+import com.example.definex.taskmanagement.dto.response.ProjectEvent;
+
+/**
+ * Carries committed project events to the subscribers of every replica, including this one.
+ */
+public interface ProjectEventFanOut {
+    void send(ProjectEvent event);
+}
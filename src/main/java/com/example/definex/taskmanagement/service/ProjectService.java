@@ -5,10 +5,16 @@ import com.example.definex.taskmanagement.dto.request.UpdateProjectRequest;
 import com.example.definex.taskmanagement.dto.response.CreatedProjectResponse;
 import com.example.definex.taskmanagement.dto.response.ProjectResponse;
 import com.example.definex.taskmanagement.dto.response.UpdatedProjectResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 public interface ProjectService {
     CreatedProjectResponse save(CreateProjectRequest createProjectRequest,Long departmentId);
-    UpdatedProjectResponse update(UpdateProjectRequest updateProjectRequest, Long projectId);
+    UpdatedProjectResponse update(UpdateProjectRequest updateProjectRequest, Long projectId, List<String> expectedRevisions);
     ProjectResponse findById(Long id);
+    String findRevision(Long id);
     void deleteById(Long id);
+    void deleteAllById(List<Long> projectIds);
+    SseEmitter subscribeToEvents(Long projectId);
 }
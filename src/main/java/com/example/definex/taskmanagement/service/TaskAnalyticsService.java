@@ -0,0 +1,10 @@
+package com.example.definex.taskmanagement.service;
+
+import com.example.definex.taskmanagement.dto.response.FlowMetricsResponse;
+
+import java.time.LocalDateTime;
+
+public interface TaskAnalyticsService {
+    FlowMetricsResponse getProjectFlowMetrics(Long projectId, LocalDateTime from, LocalDateTime to);
+    FlowMetricsResponse getDepartmentFlowMetrics(Long departmentId, LocalDateTime from, LocalDateTime to);
+}
@@ -1,20 +1,38 @@
 package com.example.definex.taskmanagement.service;
 
+import com.example.definex.taskmanagement.dto.request.BatchAssignTaskRequest;
+import com.example.definex.taskmanagement.dto.request.BatchCreateTaskRequest;
+import com.example.definex.taskmanagement.dto.request.BatchUpdateTaskStateRequest;
 import com.example.definex.taskmanagement.dto.request.CreateTaskRequest;
+import com.example.definex.taskmanagement.dto.request.TaskFilterRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateTaskRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateTaskStateRequest;
+import com.example.definex.taskmanagement.dto.response.BatchResponse;
 import com.example.definex.taskmanagement.dto.response.CreatedTaskResponse;
+import com.example.definex.taskmanagement.dto.response.CursorPageResponse;
 import com.example.definex.taskmanagement.dto.response.TaskResponse;
+import com.example.definex.taskmanagement.dto.response.TaskSearchResponse;
+import com.example.definex.taskmanagement.dto.response.TaskTransitionsResponse;
 import com.example.definex.taskmanagement.entities.Task;
 import com.example.definex.taskmanagement.entities.TaskPriorityType;
 import com.example.definex.taskmanagement.entities.TaskStateType;
 
+import java.util.List;
+
 public interface TaskService {
     CreatedTaskResponse save(CreateTaskRequest createTaskRequest,Long projectId);
     TaskResponse findById(Long id);
-    TaskResponse updateTaskState(UpdateTaskStateRequest updateTaskStateRequest, Long taskId);
-    TaskResponse updateTask(Long taskId, UpdateTaskRequest updateTaskRequest);
-    TaskResponse assignTaskToTeamMember(Long taskId, Long userId);
-    TaskResponse changeTaskPriority(Long taskId, TaskPriorityType taskPriorityType);
+    String findRevision(Long id);
+    TaskTransitionsResponse findAllowedTransitions(Long id);
+    CursorPageResponse<TaskResponse> findAll(TaskFilterRequest filter, String cursor, int size);
+    List<TaskSearchResponse> search(String query, int size);
+    TaskResponse updateTaskState(UpdateTaskStateRequest updateTaskStateRequest, Long taskId, List<String> expectedRevisions);
+    TaskResponse updateTask(Long taskId, UpdateTaskRequest updateTaskRequest, List<String> expectedRevisions);
+    TaskResponse assignTaskToTeamMember(Long taskId, Long userId, List<String> expectedRevisions);
+    TaskResponse changeTaskPriority(Long taskId, TaskPriorityType taskPriorityType, List<String> expectedRevisions);
     void deleteById(Long taskId);
+    void deleteAllById(List<Long> taskIds);
+    BatchResponse<TaskResponse> saveAll(List<BatchCreateTaskRequest> batchCreateTaskRequests);
+    BatchResponse<TaskResponse> assignTasks(List<BatchAssignTaskRequest> batchAssignTaskRequests);
+    BatchResponse<TaskResponse> updateTaskStates(List<BatchUpdateTaskStateRequest> batchUpdateTaskStateRequests);
 }
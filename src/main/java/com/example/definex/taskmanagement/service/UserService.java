@@ -3,16 +3,23 @@ package com.example.definex.taskmanagement.service;
 import com.example.definex.taskmanagement.dto.request.CreateUserRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateUserRequest;
 import com.example.definex.taskmanagement.dto.response.CreatedUserResponse;
+import com.example.definex.taskmanagement.dto.response.CursorPageResponse;
 import com.example.definex.taskmanagement.dto.response.UpdatedUserResponse;
 import com.example.definex.taskmanagement.dto.response.UserResponse;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+
+import java.util.List;
 
 public interface UserService {
 
     CreatedUserResponse save(CreateUserRequest createUserRequest);
-    UpdatedUserResponse update(UpdateUserRequest updateUserRequest, Long userId);
+    UpdatedUserResponse update(UpdateUserRequest updateUserRequest, Long userId, List<String> expectedRevisions);
     UserResponse getById(Long id);
+    String findRevision(Long id);
     void deleteById(Long id);
-    Page<UserResponse> findAll(Pageable pageable);
+    CursorPageResponse<UserResponse> findAll(String cursor, int size, boolean includeTotal);
+    /**
+     * @deprecated offset paging kept for clients that still send {@code page}; use {@link #findAll(String, int, boolean)}.
+     */
+    @Deprecated
+    CursorPageResponse<UserResponse> findPage(int page, int size, boolean includeTotal);
 }
@@ -0,0 +1,24 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.entities.OutboxEvent;
+import com.example.definex.taskmanagement.service.OutboxEventSink;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+/**
+ * Hands relayed events to in-process {@code @EventListener}s, which then run inside the relay transaction.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sinks.application.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ApplicationOutboxEventSink implements OutboxEventSink {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        events.forEach(applicationEventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.repository.AttachmentBlobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reclaims blobs whose reference count has stayed at zero for the grace period. The row delete re-checks the grace
+ * period, so content an upload has just registered is skipped, and holds its lock until the file is gone, so a
+ * concurrent registration of the same content waits and then uploads it again.
+ */
+@Component
+@ConditionalOnProperty(name = "file.blob-compactor.enabled", havingValue = "true", matchIfMissing = true)
+public class AttachmentBlobCompactor {
+    private final AttachmentBlobRepository attachmentBlobRepository;
+    private final AttachmentBlobStore attachmentBlobStore;
+    private final TransactionOperations transactionOperations;
+    private final Duration gracePeriod;
+    private final int batchSize;
+
+    public AttachmentBlobCompactor(AttachmentBlobRepository attachmentBlobRepository,
+                                   AttachmentBlobStore attachmentBlobStore,
+                                   TransactionOperations transactionOperations,
+                                   @Value("${file.blob-compactor.grace-period:10m}") Duration gracePeriod,
+                                   @Value("${file.blob-compactor.batch-size:500}") int batchSize) {
+        this.attachmentBlobRepository = attachmentBlobRepository;
+        this.attachmentBlobStore = attachmentBlobStore;
+        this.transactionOperations = transactionOperations;
+        this.gracePeriod = gracePeriod;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${file.blob-compactor.interval:PT1H}", initialDelayString = "${file.blob-compactor.interval:PT1H}")
+    public int compact() {
+        LocalDateTime releasedBefore = LocalDateTime.now().minus(gracePeriod);
+        List<String> contentHashes = attachmentBlobRepository.findUnreferencedHashes(releasedBefore, Limit.of(batchSize));
+
+        int reclaimed = 0;
+        for (String contentHash : contentHashes) {
+            Boolean deleted = transactionOperations.execute(status -> {
+                if (attachmentBlobRepository.deleteIfUnreferenced(contentHash, releasedBefore) == 0) {
+                    return false;
+                }
+                attachmentBlobStore.deleteBlob(contentHash);
+                return true;
+            });
+            if (Boolean.TRUE.equals(deleted)) reclaimed++;
+        }
+        return reclaimed;
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.exception.constants.MessageKey;
+import com.example.definex.taskmanagement.repository.AttachmentBlobRepository;
+import com.example.definex.taskmanagement.service.AttachmentStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores attachment content once per SHA-256 under the key {@code blobs/ab/cd/<hash>} and counts references in
+ * {@code attachment_blob}. Uploads are hashed while being staged locally, then handed to the configured
+ * {@link AttachmentStorage} before any transaction opens; with the filesystem backend the staging directory sits on the
+ * same volume so the hand-off is a rename. Only the reference count joins the caller's transaction.
+ * <p>
+ * Content whose first chunk looks like text is gzip-compressed while it is staged and kept under
+ * {@code blobs/ab/cd/<hash>.gz}. The hash and size always describe the original bytes, so deduplication and ETags do
+ * not depend on whether compression was enabled when a copy was written. Only content up to
+ * {@code file.compression.max-size} is compressed: a range of a compressed blob can only be read by decoding from its
+ * first byte, so only blobs small enough for that to be cheap stay compressed. A declared length above the limit
+ * stages raw from the start; a body of unknown length switches to raw output once it crosses the limit, so at most
+ * {@code max-size} bytes are ever rewritten.
+ */
+@Component
+public class AttachmentBlobStore {
+    public static final String GZIP = "gzip";
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final AttachmentBlobRepository attachmentBlobRepository;
+    private final AttachmentStorage attachmentStorage;
+    private final Path stagingRoot;
+    private final boolean compressionEnabled;
+    private final long compressionMinSize;
+    private final long compressionMaxSize;
+
+    public AttachmentBlobStore(AttachmentBlobRepository attachmentBlobRepository,
+                               AttachmentStorage attachmentStorage,
+                               @Value("${file.storage.staging-dir:${file.upload-dir}/incoming}") String stagingDir,
+                               @Value("${file.compression.enabled:true}") boolean compressionEnabled,
+                               @Value("${file.compression.min-size:1KB}") DataSize compressionMinSize,
+                               @Value("${file.compression.max-size:1MB}") DataSize compressionMaxSize) {
+        this.attachmentBlobRepository = attachmentBlobRepository;
+        this.attachmentStorage = attachmentStorage;
+        this.stagingRoot = Paths.get(stagingDir);
+        this.compressionEnabled = compressionEnabled;
+        this.compressionMinSize = Math.min(compressionMinSize.toBytes(), BUFFER_SIZE);
+        this.compressionMaxSize = compressionMaxSize.toBytes();
+    }
+
+    /**
+     * Hashes the upload into a local staging file without touching the database, so a slow client never holds a
+     * connection. {@code declaredSize} is the length the client announced, or {@code -1} when it is unknown. The
+     * caller must {@link #discard} the result once it has been uploaded or abandoned.
+     */
+    public StagedBlob stage(InputStream content, long declaredSize, long maxSizeBytes) {
+        Path staged = stagingRoot.resolve(UUID.randomUUID().toString());
+        try {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int prefixLength = content.readNBytes(buffer, 0, buffer.length);
+            boolean compress = declaredSize <= compressionMaxSize && isCompressible(buffer, prefixLength);
+            return writeStaged(buffer, prefixLength, content, staged, maxSizeBytes, compress);
+        } catch (IOException e) {
+            deleteQuietly(staged);
+            throw new RuntimeException(MessageKey.FILE_UPLOAD_ERROR.toString(),e);
+        } catch (RuntimeException e) {
+            deleteQuietly(staged);
+            throw e;
+        }
+    }
+    /**
+     * Hands staged content to storage unless a copy already exists, outside any transaction. The blob row is
+     * registered first with a fresh timestamp, which restarts the compactor's grace period for that hash; content
+     * orphaned by a failed attachment insert is then reclaimed like any other unreferenced blob.
+     */
+    public StoredBlob upload(StagedBlob staged) {
+        String storageKey = staged.contentEncoding() != null
+                ? blobKey(staged.contentHash()) + GZIP_SUFFIX
+                : blobKey(staged.contentHash());
+
+        attachmentBlobRepository.register(staged.contentHash(), staged.size());
+        try {
+            if (!attachmentStorage.exists(storageKey)) {
+                attachmentStorage.store(storageKey, staged.file());
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(MessageKey.FILE_UPLOAD_ERROR.toString(),e);
+        }
+        return new StoredBlob(staged.contentHash(), staged.size(), storageKey, staged.contentEncoding());
+    }
+    /**
+     * Counts a reference to uploaded content. Runs in the transaction that saves the attachment holding the
+     * reference, so the count commits or rolls back with that row.
+     */
+    public void acquire(StoredBlob blob) {
+        attachmentBlobRepository.acquire(blob.contentHash(), blob.size());
+    }
+    public void discard(StagedBlob staged) {
+        deleteQuietly(staged.file());
+    }
+    /**
+     * Opens the original bytes of a stored blob from {@code start}. Compressed blobs are inflated while being read,
+     * so the stream is not bounded by {@code length}; callers stop after the bytes they asked for. Skipping to
+     * {@code start} decodes everything before it, which {@code file.compression.max-size} keeps bounded.
+     */
+    public InputStream open(String storageKey, String contentEncoding, long start, long length) throws IOException {
+        if (contentEncoding == null) {
+            return attachmentStorage.open(storageKey, start, length);
+        }
+        AttachmentStorage.ObjectMetadata metadata = attachmentStorage.stat(storageKey);
+        if (metadata == null) {
+            throw new NoSuchFileException(storageKey);
+        }
+        InputStream decoded = new GZIPInputStream(attachmentStorage.open(storageKey, 0, metadata.size()), BUFFER_SIZE);
+        try {
+            decoded.skipNBytes(start);
+        } catch (IOException e) {
+            decoded.close();
+            throw e;
+        }
+        return decoded;
+    }
+    public void release(String contentHash) {
+        attachmentBlobRepository.release(contentHash);
+    }
+    public void deleteBlob(String contentHash) {
+        try {
+            attachmentStorage.delete(blobKey(contentHash));
+            attachmentStorage.delete(blobKey(contentHash) + GZIP_SUFFIX);
+            attachmentStorage.delete(thumbnailKey(contentHash));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    public String blobKey(String contentHash) {
+        return "blobs/" + contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/" + contentHash;
+    }
+    public String thumbnailKey(String contentHash) {
+        return "thumbnails/" + contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/" + contentHash + ".png";
+    }
+    private StagedBlob writeStaged(byte[] buffer, int prefixLength, InputStream content, Path staged,
+                                   long maxSizeBytes, boolean compress) throws IOException {
+        MessageDigest digest = sha256();
+        long size = 0;
+
+        Files.createDirectories(staged.getParent());
+        OutputStream file = Files.newOutputStream(staged, StandardOpenOption.CREATE_NEW);
+        OutputStream out = compress ? new GZIPOutputStream(file, BUFFER_SIZE) : file;
+        try {
+            int read = prefixLength;
+            while (read > 0) {
+                size += read;
+                if (size > maxSizeBytes)
+                    throw new IllegalArgumentException(MessageKey.FILE_SIZE_EXCEEDS_LIMIT.toString());
+                if (compress && size > compressionMaxSize) {
+                    out.close();
+                    inflateStaged(staged);
+                    out = Files.newOutputStream(staged, StandardOpenOption.APPEND);
+                    compress = false;
+                }
+                digest.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+                read = content.read(buffer);
+            }
+        } finally {
+            out.close();
+        }
+        if (size == 0) throw new IllegalArgumentException(MessageKey.FILE_CANNOT_BE_EMPTY.toString());
+        return new StagedBlob(staged, HexFormat.of().formatHex(digest.digest()), size, compress ? GZIP : null);
+    }
+    /** Rewrites the compressed prefix written so far as raw bytes; bounded by {@code file.compression.max-size}. */
+    private void inflateStaged(Path staged) throws IOException {
+        Path inflated = staged.resolveSibling(staged.getFileName() + ".raw");
+        try {
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(staged), BUFFER_SIZE)) {
+                Files.copy(in, inflated);
+            }
+            Files.move(inflated, staged, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            deleteQuietly(inflated);
+        }
+    }
+    private boolean isCompressible(byte[] prefix, int length) {
+        if (!compressionEnabled || length < compressionMinSize) {
+            return false;
+        }
+        int controlBytes = 0;
+        for (int i = 0; i < length; i++) {
+            int b = prefix[i] & 0xFF;
+            if (b == 0) {
+                return false;
+            }
+            if (b < 0x20 && b != '\t' && b != '\n' && b != '\r' && b != '\f' && b != 0x1B) {
+                controlBytes++;
+            }
+        }
+        return controlBytes * 100 <= length;
+    }
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
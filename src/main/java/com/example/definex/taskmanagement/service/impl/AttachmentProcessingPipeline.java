@@ -0,0 +1,85 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.entities.AttachmentProcessingStatus;
+import com.example.definex.taskmanagement.repository.AttachmentRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded worker pool for {@link AttachmentProcessor}. A full queue never blocks the uploading request: the
+ * attachment simply stays {@code PENDING} and the periodic sweep feeds it in once there is room again. Work lost to a
+ * crash or restart is left {@code PROCESSING} with a claim timestamp; the sweep puts it back to {@code PENDING} once
+ * the claim is older than the lease timeout, which therefore has to exceed the longest processing run.
+ */
+@Component
+public class AttachmentProcessingPipeline implements DisposableBean {
+    private final AttachmentProcessor attachmentProcessor;
+    private final AttachmentRepository attachmentRepository;
+    private final ThreadPoolExecutor executor;
+    private final Set<Long> queuedAttachmentIds = ConcurrentHashMap.newKeySet();
+    private final int sweepBatchSize;
+    private final Duration leaseTimeout;
+
+    public AttachmentProcessingPipeline(AttachmentProcessor attachmentProcessor,
+                                        AttachmentRepository attachmentRepository,
+                                        @Value("${file.processing.threads:2}") int threads,
+                                        @Value("${file.processing.queue-capacity:100}") int queueCapacity,
+                                        @Value("${file.processing.sweep-batch-size:100}") int sweepBatchSize,
+                                        @Value("${file.processing.lease-timeout:PT10M}") Duration leaseTimeout) {
+        this.attachmentProcessor = attachmentProcessor;
+        this.attachmentRepository = attachmentRepository;
+        this.sweepBatchSize = sweepBatchSize;
+        this.leaseTimeout = leaseTimeout;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("attachment-processing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public boolean submit(Long attachmentId) {
+        if (!queuedAttachmentIds.add(attachmentId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    attachmentProcessor.process(attachmentId);
+                } finally {
+                    queuedAttachmentIds.remove(attachmentId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            queuedAttachmentIds.remove(attachmentId);
+            return false;
+        }
+    }
+    @Scheduled(fixedDelayString = "${file.processing.sweep-interval:PT1M}")
+    public void sweepPending() {
+        attachmentRepository.releaseExpiredClaims(LocalDateTime.now().minus(leaseTimeout));
+        int capacity = Math.min(executor.getQueue().remainingCapacity(), sweepBatchSize);
+        if (capacity == 0) {
+            return;
+        }
+        for (Long attachmentId : attachmentRepository.findIdsByProcessingStatus(AttachmentProcessingStatus.PENDING, Limit.of(capacity))) {
+            if (!submit(attachmentId)) {
+                return;
+            }
+        }
+    }
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
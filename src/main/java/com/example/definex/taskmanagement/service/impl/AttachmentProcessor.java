@@ -0,0 +1,170 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.entities.Attachment;
+import com.example.definex.taskmanagement.entities.AttachmentProcessingStatus;
+import com.example.definex.taskmanagement.repository.AttachmentRepository;
+import com.example.definex.taskmanagement.service.AttachmentScanner;
+import com.example.definex.taskmanagement.service.AttachmentStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Runs the post-upload steps for one attachment: scanner hooks, MIME detection, image thumbnail and text preview.
+ * The content hash is already recorded in the upload pass, so it is not recomputed here.
+ */
+@Component
+public class AttachmentProcessor {
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentStorage attachmentStorage;
+    private final AttachmentBlobStore attachmentBlobStore;
+    private final List<AttachmentScanner> attachmentScanners;
+    private final Path stagingRoot;
+    private final int thumbnailSize;
+    private final int previewLength;
+
+    public AttachmentProcessor(AttachmentRepository attachmentRepository,
+                               AttachmentStorage attachmentStorage,
+                               AttachmentBlobStore attachmentBlobStore,
+                               List<AttachmentScanner> attachmentScanners,
+                               @Value("${file.storage.staging-dir:${file.upload-dir}/incoming}") String stagingDir,
+                               @Value("${file.processing.thumbnail-size:256}") int thumbnailSize,
+                               @Value("${file.processing.preview-length:1000}") int previewLength) {
+        this.attachmentRepository = attachmentRepository;
+        this.attachmentStorage = attachmentStorage;
+        this.attachmentBlobStore = attachmentBlobStore;
+        this.attachmentScanners = attachmentScanners;
+        this.stagingRoot = Paths.get(stagingDir);
+        this.thumbnailSize = thumbnailSize;
+        this.previewLength = previewLength;
+    }
+
+    public void process(Long attachmentId) {
+        LocalDateTime claimedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (attachmentRepository.claimProcessing(attachmentId, claimedAt) == 0) {
+            return;
+        }
+        try {
+            Attachment attachment = attachmentRepository.findById(attachmentId).orElse(null);
+            if (attachment == null) {
+                attachmentRepository.completeProcessing(attachmentId, claimedAt, AttachmentProcessingStatus.FAILED, null, null, null);
+                return;
+            }
+            for (AttachmentScanner attachmentScanner : attachmentScanners) {
+                try (InputStream content = open(attachment)) {
+                    if (!attachmentScanner.isClean(attachment.getFileName(), content)) {
+                        attachmentRepository.completeProcessing(attachmentId, claimedAt, AttachmentProcessingStatus.QUARANTINED, null, null, null);
+                        return;
+                    }
+                }
+            }
+            String mimeType = detectMimeType(attachment);
+            String thumbnailKey = mimeType.startsWith("image/") ? createThumbnail(attachment) : null;
+            String textPreview = isText(mimeType) ? readPreview(attachment) : null;
+
+            attachmentRepository.completeProcessing(attachmentId, claimedAt, AttachmentProcessingStatus.READY, mimeType, thumbnailKey, textPreview);
+        } catch (IOException | RuntimeException e) {
+            attachmentRepository.completeProcessing(attachmentId, claimedAt, AttachmentProcessingStatus.FAILED, null, null, null);
+        }
+    }
+    private String detectMimeType(Attachment attachment) throws IOException {
+        String sniffed;
+        try (InputStream content = new BufferedInputStream(open(attachment))) {
+            sniffed = URLConnection.guessContentTypeFromStream(content);
+        }
+        if (sniffed != null) {
+            return sniffed;
+        }
+        return MediaTypeFactory.getMediaType(attachment.getFileName())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+    }
+    private String createThumbnail(Attachment attachment) throws IOException {
+        String thumbnailKey = attachment.getContentHash() != null
+                ? attachmentBlobStore.thumbnailKey(attachment.getContentHash())
+                : "thumbnails/attachment-" + attachment.getId() + ".png";
+        if (attachmentStorage.exists(thumbnailKey)) {
+            return thumbnailKey;
+        }
+
+        BufferedImage source = readSubsampled(attachment);
+        if (source == null) {
+            return null;
+        }
+        double scale = Math.min(1.0, (double) thumbnailSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(source, 0, 0, width, height, null);
+        graphics.dispose();
+
+        Path staged = stagingRoot.resolve(UUID.randomUUID() + ".png");
+        try {
+            Files.createDirectories(stagingRoot);
+            ImageIO.write(thumbnail, "png", staged.toFile());
+            attachmentStorage.store(thumbnailKey, staged);
+        } finally {
+            Files.deleteIfExists(staged);
+        }
+        return thumbnailKey;
+    }
+    private BufferedImage readSubsampled(Attachment attachment) throws IOException {
+        try (InputStream content = open(attachment);
+             ImageInputStream imageInput = ImageIO.createImageInputStream(content)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int step = Math.max(1, Math.max(reader.getWidth(0), reader.getHeight(0)) / thumbnailSize);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+    private String readPreview(Attachment attachment) throws IOException {
+        try (InputStream content = open(attachment)) {
+            String preview = new String(content.readNBytes(previewLength), StandardCharsets.UTF_8);
+            return preview.length() > previewLength ? preview.substring(0, previewLength) : preview;
+        }
+    }
+    private boolean isText(String mimeType) {
+        return mimeType.startsWith("text/")
+                || mimeType.equals(MediaType.APPLICATION_JSON_VALUE)
+                || mimeType.equals(MediaType.APPLICATION_XML_VALUE);
+    }
+    private InputStream open(Attachment attachment) throws IOException {
+        long size = attachment.getFileSize() != null
+                ? attachment.getFileSize()
+                : attachmentStorage.stat(attachment.getFilePath()).size();
+        return attachmentBlobStore.open(attachment.getFilePath(), attachment.getContentEncoding(), 0, size);
+    }
+}
@@ -3,12 +3,18 @@ package com.example.definex.taskmanagement.service.impl;
 import com.example.definex.taskmanagement.authorization.AttachmentAuthorization;
 import com.example.definex.taskmanagement.dto.mapper.AttachmentMapper;
 import com.example.definex.taskmanagement.dto.request.UploadFileAttachmentRequest;
+import com.example.definex.taskmanagement.dto.response.AttachmentDownload;
 import com.example.definex.taskmanagement.dto.response.FileAttachmentResponse;
+import com.example.definex.taskmanagement.dto.response.ProjectEvent;
 import com.example.definex.taskmanagement.dto.response.UploadedFileAttachmentResponse;
 import com.example.definex.taskmanagement.entities.Attachment;
+import com.example.definex.taskmanagement.entities.AttachmentProcessingStatus;
+import com.example.definex.taskmanagement.entities.DomainEventType;
 import com.example.definex.taskmanagement.entities.Task;
 import com.example.definex.taskmanagement.entities.User;
 import com.example.definex.taskmanagement.exception.AttachmentNotFoundException;
+import com.example.definex.taskmanagement.exception.AttachmentNotReadyException;
+import com.example.definex.taskmanagement.exception.AttachmentQuarantinedException;
 import com.example.definex.taskmanagement.exception.TaskNotFoundException;
 import com.example.definex.taskmanagement.exception.UserNotFoundException;
 import com.example.definex.taskmanagement.exception.constants.MessageKey;
@@ -16,21 +22,17 @@ import com.example.definex.taskmanagement.repository.AttachmentRepository;
 import com.example.definex.taskmanagement.repository.TaskRepository;
 import com.example.definex.taskmanagement.repository.UserRepository;
 import com.example.definex.taskmanagement.service.AttachmentService;
+import com.example.definex.taskmanagement.service.AttachmentStorage;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.InputStream;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -41,73 +43,90 @@ public class AttachmentServiceImpl implements AttachmentService {
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final AttachmentAuthorization attachmentAuthorization;
-    @Value("${file.upload-dir}")
-    private String uploadDir;
+    private final AttachmentBlobStore attachmentBlobStore;
+    private final AttachmentStorage attachmentStorage;
+    private final AttachmentProcessingPipeline attachmentProcessingPipeline;
+    private final ProjectEventPublisher projectEventPublisher;
+    private final DomainEventOutbox domainEventOutbox;
 
     @Value("${spring.servlet.multipart.max-file-size}")
-    private String maxFileSize;
+    private DataSize maxFileSize;
 
     @Override
     public UploadedFileAttachmentResponse uploadFile(MultipartFile file, UploadFileAttachmentRequest uploadFileAttachmentRequest) {
+        Attachment attachment = newAttachment(uploadFileAttachmentRequest);
+        if (file.isEmpty()) throw new IllegalArgumentException(MessageKey.FILE_CANNOT_BE_EMPTY.toString());
+        validateFileSize(file.getSize());
 
-        Long userId = uploadFileAttachmentRequest.getUserId();
-        Long taskId = uploadFileAttachmentRequest.getTaskId();
-
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.toString()+taskId));
-
-        User user = userRepository.findById(userId)
-                        .orElseThrow(()->new UserNotFoundException(MessageKey.USER_NOT_FOUND_WITH_ID.toString()+userId));
-
-        attachmentAuthorization.userCanAttachFileToTask(task);
-        validateFile(file);
-
-        String storedFileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-        Path filePath = saveToDisk(file, storedFileName);
-
-        Attachment attachment = new Attachment();
-        attachment.setTask(task);
-        attachment.setFileName(storedFileName);
-        attachment.setFilePath(filePath.toString());
-        attachment.setUser(user);
-
-        Attachment savedAttachment = attachmentRepository.save(attachment);
+        try (InputStream content = file.getInputStream()) {
+            return store(attachment, content, file.getSize(), file.getOriginalFilename());
+        } catch (IOException e) {
+            throw new RuntimeException(MessageKey.FILE_UPLOAD_ERROR.toString(),e);
+        }
+    }
+    @Override
+    public UploadedFileAttachmentResponse uploadFile(InputStream content, String fileName, long contentLength, UploadFileAttachmentRequest uploadFileAttachmentRequest) {
+        Attachment attachment = newAttachment(uploadFileAttachmentRequest);
+        validateFileSize(contentLength);
 
-        return attachmentMapper.attachmentToUploadedFileAttachmentResponse(savedAttachment);
+        return store(attachment, content, contentLength, fileName);
     }
     @Override
-    public Resource downloadFile(Long attachmentId) {
-        Attachment attachment = attachmentRepository.findById(attachmentId)
-                .orElseThrow(() -> new AttachmentNotFoundException(MessageKey.ATTACHMENT_NOT_FOUND_WITH_ID.toString()+attachmentId));
+    public AttachmentDownload downloadFile(Long attachmentId) {
+        Attachment attachment = findDownloadableAttachment(attachmentId);
 
-        attachmentAuthorization.userCanDownloadAttachment(attachment);
+        boolean strongETag = attachment.getContentHash() != null;
+        return toDownload(attachment.getFilePath(), attachment.getFileName(),
+                strongETag ? "\"" + attachment.getContentHash() + "\"" : null,
+                attachment.getContentEncoding(), attachment.getFileSize());
+    }
+    @Override
+    public AttachmentDownload downloadThumbnail(Long attachmentId) {
+        Attachment attachment = findDownloadableAttachment(attachmentId);
+        if (attachment.getThumbnailKey() == null) {
+            throw new AttachmentNotFoundException(MessageKey.ATTACHMENT_THUMBNAIL_NOT_AVAILABLE.toString());
+        }
 
+        String thumbnailName = StringUtils.stripFilenameExtension(attachment.getFileName()) + "-thumbnail.png";
+        return toDownload(attachment.getThumbnailKey(), thumbnailName,
+                attachment.getContentHash() != null ? "\"" + attachment.getContentHash() + "-thumbnail\"" : null,
+                null, null);
+    }
+    @Override
+    public InputStream openDownload(AttachmentDownload download, long start, long length) {
         try {
-            Path filePath = Paths.get(attachment.getFilePath());
-            Resource resource = new UrlResource(filePath.toUri());
-
-            if (resource.exists()) {
-                return resource;
-            } else {
-                throw new EntityNotFoundException(MessageKey.ATTACHMENT_NOT_FOUND_WITH_FILE_NAME + attachment.getFileName());
-            }
-        } catch (MalformedURLException ex) {
+            return attachmentStorage.open(download.storageKey(), start, length);
+        } catch (IOException ex) {
+            throw new RuntimeException(MessageKey.FILE_ACCESS_ERROR.toString(),ex);
+        }
+    }
+    @Override
+    public InputStream openDecodedDownload(AttachmentDownload download, long start, long length) {
+        try {
+            return attachmentBlobStore.open(download.storageKey(), download.contentEncoding(), start, length);
+        } catch (IOException ex) {
             throw new RuntimeException(MessageKey.FILE_ACCESS_ERROR.toString(),ex);
         }
     }
     @Override
     public void deleteAttachment(Long attachmentId) {
-        Attachment attachment = attachmentRepository.findById(attachmentId)
+        Attachment attachment = attachmentRepository.findById(attachmentId, AttachmentRepository.WITH_TASK_AND_PROJECT)
                 .orElseThrow(() -> new AttachmentNotFoundException(MessageKey.ATTACHMENT_NOT_FOUND_WITH_ID.toString()+attachmentId));
 
         attachmentAuthorization.userCanDeleteAttachment(attachment);
 
         attachment.setIsDeleted(true);
-        attachmentRepository.save(attachment);
+        domainEventOutbox.record(DomainEventType.ATTACHMENT_DELETED, List.of(attachment), () -> {
+            attachmentRepository.save(attachment);
+            if (attachment.getContentHash() != null) {
+                attachmentBlobStore.release(attachment.getContentHash());
+            }
+        });
+        projectEventPublisher.attachmentChanged(ProjectEvent.Type.ATTACHMENT_DELETED, attachment);
     }
     @Override
     public List<FileAttachmentResponse> getTaskAttachments(Long taskId){
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)
                 .orElseThrow(() -> new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.toString()+taskId));
 
         attachmentAuthorization.userCanViewTaskAttachments(task);
@@ -116,32 +135,82 @@ public class AttachmentServiceImpl implements AttachmentService {
 
         return attachments.stream().map(attachmentMapper::attachmentToFileAttachmentResponse).collect(Collectors.toList());
     }
-    private Path saveToDisk(MultipartFile file, String storedFileName) {
-        Path uploadPath = Paths.get(uploadDir);
-        Path filePath = uploadPath.resolve(storedFileName);
+    private Attachment findDownloadableAttachment(Long attachmentId) {
+        Attachment attachment = attachmentRepository.findById(attachmentId, AttachmentRepository.WITH_TASK_AND_PROJECT)
+                .orElseThrow(() -> new AttachmentNotFoundException(MessageKey.ATTACHMENT_NOT_FOUND_WITH_ID.toString()+attachmentId));
 
+        attachmentAuthorization.userCanDownloadAttachment(attachment);
+
+        if (attachment.getProcessingStatus() == AttachmentProcessingStatus.QUARANTINED) {
+            throw new AttachmentQuarantinedException(MessageKey.ATTACHMENT_QUARANTINED.toString());
+        }
+        if (attachment.getProcessingStatus() != AttachmentProcessingStatus.READY) {
+            throw new AttachmentNotReadyException(MessageKey.ATTACHMENT_NOT_SCANNED.toString());
+        }
+        return attachment;
+    }
+    private AttachmentDownload toDownload(String storageKey, String fileName, String strongETag,
+                                          String contentEncoding, Long decodedLength) {
         try {
-            Files.createDirectories(uploadPath);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-            return filePath;
-        } catch (IOException e) {
-            throw new RuntimeException(MessageKey.FILE_UPLOAD_ERROR.toString(),e);
+            AttachmentStorage.ObjectMetadata metadata = attachmentStorage.stat(storageKey);
+            if (metadata == null) {
+                throw new EntityNotFoundException(MessageKey.ATTACHMENT_NOT_FOUND_WITH_FILE_NAME + fileName);
+            }
+            String eTag = strongETag != null
+                    ? strongETag
+                    : "W/\"" + Long.toHexString(metadata.size()) + "-" + Long.toHexString(metadata.lastModified()) + "\"";
+
+            long contentLength = contentEncoding != null ? decodedLength : metadata.size();
+
+            return new AttachmentDownload(storageKey, attachmentStorage.localPath(storageKey), fileName,
+                    contentLength, metadata.lastModified(), eTag, strongETag != null, contentEncoding, metadata.size());
+        } catch (IOException ex) {
+            throw new RuntimeException(MessageKey.FILE_ACCESS_ERROR.toString(),ex);
         }
     }
-    private void validateFile(MultipartFile file) {
-        if (file.isEmpty()) throw new IllegalArgumentException(MessageKey.FILE_CANNOT_BE_EMPTY.toString());
+    private Attachment newAttachment(UploadFileAttachmentRequest uploadFileAttachmentRequest) {
+        Long userId = uploadFileAttachmentRequest.getUserId();
+        Long taskId = uploadFileAttachmentRequest.getTaskId();
 
-        long maxFileSizeBytes = parseMaxFileSize(maxFileSize);
+        Task task = taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)
+                .orElseThrow(() -> new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.toString()+taskId));
 
-        if (file.getSize() > maxFileSizeBytes)
-            throw new IllegalArgumentException(MessageKey.FILE_SIZE_EXCEEDS_LIMIT.toString());
+        User user = userRepository.findById(userId)
+                        .orElseThrow(()->new UserNotFoundException(MessageKey.USER_NOT_FOUND_WITH_ID.toString()+userId));
+
+        attachmentAuthorization.userCanAttachFileToTask(task);
+
+        Attachment attachment = new Attachment();
+        attachment.setTask(task);
+        attachment.setUser(user);
+        return attachment;
     }
-    private long parseMaxFileSize(String maxFileSize) {
-        if (maxFileSize.endsWith("MB")) {
-            String valueStr = maxFileSize.substring(0, maxFileSize.length() - 2);
-            long mbValue = Long.parseLong(valueStr);
-            return mbValue * (1024L * 1024L);
+    private UploadedFileAttachmentResponse store(Attachment attachment, InputStream content, long declaredSize,
+                                                 String originalFileName) {
+        StagedBlob staged = attachmentBlobStore.stage(content, declaredSize, maxFileSize.toBytes());
+
+        Attachment savedAttachment;
+        try {
+            StoredBlob blob = attachmentBlobStore.upload(staged);
+            savedAttachment = domainEventOutbox.record(DomainEventType.ATTACHMENT_ADDED, () -> {
+                attachmentBlobStore.acquire(blob);
+                attachment.setFileName(StringUtils.getFilename(StringUtils.cleanPath(String.valueOf(originalFileName))));
+                attachment.setFilePath(blob.storageKey());
+                attachment.setContentHash(blob.contentHash());
+                attachment.setFileSize(blob.size());
+                attachment.setContentEncoding(blob.contentEncoding());
+                return attachmentRepository.save(attachment);
+            });
+        } finally {
+            attachmentBlobStore.discard(staged);
         }
-        return 10L * (1024L * 1024L);
+        attachmentProcessingPipeline.submit(savedAttachment.getId());
+        projectEventPublisher.attachmentChanged(ProjectEvent.Type.ATTACHMENT_ADDED, savedAttachment);
+
+        return attachmentMapper.attachmentToUploadedFileAttachmentResponse(savedAttachment);
+    }
+    private void validateFileSize(long size) {
+        if (size > maxFileSize.toBytes())
+            throw new IllegalArgumentException(MessageKey.FILE_SIZE_EXCEEDS_LIMIT.toString());
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,11 @@
 package com.example.definex.taskmanagement.service.impl;
 
 import com.example.definex.taskmanagement.config.security.JwtService;
+import com.example.definex.taskmanagement.config.security.JwtUserPrincipal;
 import com.example.definex.taskmanagement.dto.request.LoginRequest;
 import com.example.definex.taskmanagement.dto.request.RegisterRequest;
 import com.example.definex.taskmanagement.dto.response.AuthResponse;
+import com.example.definex.taskmanagement.entities.DomainEventType;
 import com.example.definex.taskmanagement.entities.User;
 import com.example.definex.taskmanagement.exception.UserEmailAlreadyExistsException;
 import com.example.definex.taskmanagement.exception.constants.MessageKey;
@@ -22,15 +24,18 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final DomainEventOutbox domainEventOutbox;
 
     public AuthServiceImpl(AuthenticationManager authenticationManager,
                        UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
-                       JwtService jwtService) {
+                       JwtService jwtService,
+                       DomainEventOutbox domainEventOutbox) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
+        this.domainEventOutbox = domainEventOutbox;
     }
     public AuthResponse login(LoginRequest request) {
 
@@ -42,11 +47,11 @@ public class AuthServiceImpl implements AuthService {
         );
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        User user = (User) authentication.getPrincipal();
+        JwtUserPrincipal principal = (JwtUserPrincipal) authentication.getPrincipal();
 
-        String jwt = jwtService.generateToken(user);
+        String jwt = jwtService.generateToken(principal);
 
-        return new AuthResponse(jwt, user.getUsername(), user.getRole());
+        return new AuthResponse(jwt, principal.getUsername(), principal.getRole());
     }
     public AuthResponse register(RegisterRequest request) {
 
@@ -60,10 +65,10 @@ public class AuthServiceImpl implements AuthService {
         user.setPassword(passwordEncoder.encode(request.getPassword()));
         user.setRole(request.getRole());
 
-        userRepository.save(user);
+        domainEventOutbox.record(DomainEventType.USER_CREATED, () -> userRepository.save(user));
 
-        String jwt = jwtService.generateToken(user);
+        String jwt = jwtService.generateToken(JwtUserPrincipal.from(user));
 
-        return new AuthResponse(jwt, user.getUsername(), user.getRole());
+        return new AuthResponse(jwt, user.getEmail(), user.getRole());
     }
 }
@@ -2,12 +2,17 @@ package com.example.definex.taskmanagement.service.impl;
 
 import com.example.definex.taskmanagement.authorization.CommentAuthorization;
 import com.example.definex.taskmanagement.dto.mapper.CommentMapper;
+import com.example.definex.taskmanagement.dto.projection.CommentRevisionView;
+import com.example.definex.taskmanagement.dto.projection.CommentView;
 import com.example.definex.taskmanagement.dto.request.CreateCommentRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateCommentRequest;
+import com.example.definex.taskmanagement.dto.response.CommentFeedResponse;
 import com.example.definex.taskmanagement.dto.response.CommentResponse;
 import com.example.definex.taskmanagement.dto.response.CreatedCommentResponse;
+import com.example.definex.taskmanagement.dto.response.ProjectEvent;
 import com.example.definex.taskmanagement.dto.response.UpdatedCommentResponse;
 import com.example.definex.taskmanagement.entities.Comment;
+import com.example.definex.taskmanagement.entities.DomainEventType;
 import com.example.definex.taskmanagement.entities.Task;
 import com.example.definex.taskmanagement.entities.User;
 import com.example.definex.taskmanagement.exception.CommentNotFoundException;
@@ -19,17 +24,22 @@ import com.example.definex.taskmanagement.repository.TaskRepository;
 import com.example.definex.taskmanagement.repository.UserRepository;
 import com.example.definex.taskmanagement.service.CommentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
+    private static final String POSITION_CURSOR = "p";
 
     private final CommentRepository commentRepository;
     private final CommentMapper commentMapper;
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
     private final CommentAuthorization commentAuthorization;
+    private final ProjectEventPublisher projectEventPublisher;
+    private final DomainEventOutbox domainEventOutbox;
 
     @Override
     public CreatedCommentResponse save(CreateCommentRequest createCommentRequest){
@@ -39,7 +49,7 @@ public class CommentServiceImpl implements CommentService {
                 .orElseThrow(()-> new UserNotFoundException(MessageKey.USER_NOT_FOUND_WITH_ID.toString()));
 
         Long taskId = createCommentRequest.getTaskId();
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)
                 .orElseThrow(() -> new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.toString()));
 
         commentAuthorization.userCanReachComment(task);
@@ -47,37 +57,107 @@ public class CommentServiceImpl implements CommentService {
         Comment comment = commentMapper.createCommentRequestToComment(createCommentRequest);
         comment.setUser(user);
         comment.setTask(task);
-        Comment savedComment = commentRepository.save(comment);
+        Comment savedComment = domainEventOutbox.record(DomainEventType.COMMENT_ADDED, () -> {
+            comment.setFeedPosition(taskRepository.nextCommentPosition(taskId));
+            return commentRepository.save(comment);
+        });
+        projectEventPublisher.commentChanged(ProjectEvent.Type.COMMENT_ADDED, savedComment);
 
         return commentMapper.commentToCreatedCommentResponse(savedComment);
     }
     @Override
-    public UpdatedCommentResponse update(UpdateCommentRequest updateCommentRequest,Long id){
+    public UpdatedCommentResponse update(UpdateCommentRequest updateCommentRequest,Long id, List<String> expectedRevisions){
 
-        Comment comment = commentRepository.findById(id).orElseThrow(()-> new CommentNotFoundException(MessageKey.COMMENT_NOT_FOUND_WITH_ID.toString()));
+        Comment comment = commentRepository.findById(id, CommentRepository.WITH_TASK_AND_PROJECT).orElseThrow(()-> new CommentNotFoundException(MessageKey.COMMENT_NOT_FOUND_WITH_ID.toString()));
 
         commentAuthorization.userCanReachComment(comment.getTask());
+        Revisions.requireMatch(expectedRevisions, Revisions.of(comment.getVersion()));
 
         comment.setContent(updateCommentRequest.getContent());
 
-        Comment savedComment = commentRepository.save(comment);
+        Comment savedComment = domainEventOutbox.record(DomainEventType.COMMENT_UPDATED, () -> commentRepository.save(comment));
+        projectEventPublisher.commentChanged(ProjectEvent.Type.COMMENT_UPDATED, savedComment);
         return commentMapper.commentToUpdatedCommentResponse(savedComment);
     }
     @Override
     public void delete(Long id){
-        Comment comment = commentRepository.findById(id).orElseThrow(()-> new CommentNotFoundException(MessageKey.COMMENT_NOT_FOUND_WITH_ID.toString()));
+        Comment comment = commentRepository.findById(id, CommentRepository.WITH_TASK_AND_PROJECT).orElseThrow(()-> new CommentNotFoundException(MessageKey.COMMENT_NOT_FOUND_WITH_ID.toString()));
 
         commentAuthorization.userCanReachComment(comment.getTask());
 
         comment.setIsDeleted(true);
-        commentRepository.save(comment);
+        domainEventOutbox.record(DomainEventType.COMMENT_DELETED, List.of(comment), () -> commentRepository.save(comment));
+        projectEventPublisher.commentChanged(ProjectEvent.Type.COMMENT_DELETED, comment);
     }
     @Override
     public CommentResponse findById(Long id){
-        Comment comment = commentRepository.findById(id).orElseThrow(()-> new CommentNotFoundException(MessageKey.COMMENT_NOT_FOUND_WITH_ID.toString()));
+        Comment comment = commentRepository.findById(id, CommentRepository.WITH_TASK_AND_PROJECT).orElseThrow(()-> new CommentNotFoundException(MessageKey.COMMENT_NOT_FOUND_WITH_ID.toString()));
 
         commentAuthorization.userCanReachComment(comment.getTask());
 
         return commentMapper.commentToCommentResponse(comment);
     }
-}
\ No newline at end of file
+    @Override
+    public String findRevision(Long id){
+        CommentRevisionView comment = commentRepository.findRevisionById(id).orElseThrow(()-> new CommentNotFoundException(MessageKey.COMMENT_NOT_FOUND_WITH_ID.toString()));
+
+        commentAuthorization.userCanReachComment(comment);
+
+        return Revisions.of(comment.version());
+    }
+    @Override
+    public CommentFeedResponse findByTaskId(Long taskId, String cursor, String since, int size, boolean includeTotal){
+        if (cursor != null && since != null) {
+            throw new IllegalArgumentException(MessageKey.CURSOR_AND_SINCE_CANNOT_BE_COMBINED.toString());
+        }
+        Task task = taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)
+                .orElseThrow(() -> new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.toString()));
+
+        commentAuthorization.userCanReachComment(task);
+
+        int pageSize = CursorCodec.pageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        Long totalElements = includeTotal ? commentRepository.countByTaskId(taskId) : null;
+
+        if (since != null) {
+            List<CommentView> newer = commentRepository.findViewsByTaskIdAfter(taskId, decodePosition(since), limit);
+            boolean hasNext = newer.size() > pageSize;
+            List<CommentView> page = hasNext ? newer.subList(0, pageSize) : newer;
+            String latestCursor = page.isEmpty() ? since : encodePosition(page.get(page.size() - 1).feedPosition());
+            return new CommentFeedResponse(toCommentResponses(page), pageSize, null, hasNext, latestCursor, totalElements);
+        }
+
+        List<CommentView> older = cursor == null
+                ? commentRepository.findViewsByTaskId(taskId, limit)
+                : commentRepository.findViewsByTaskIdBefore(taskId, decodePosition(cursor), limit);
+        boolean hasNext = older.size() > pageSize;
+        List<CommentView> page = hasNext ? older.subList(0, pageSize) : older;
+        String nextCursor = hasNext ? encodePosition(page.get(page.size() - 1).feedPosition()) : null;
+        String latestCursor = cursor == null ? encodePosition(latestPosition(task, page)) : null;
+        return new CommentFeedResponse(toCommentResponses(page), pageSize, nextCursor, hasNext, latestCursor, totalElements);
+    }
+    /**
+     * The task's sequence is read before the page, so a comment committed in between can only make the page newer.
+     */
+    private long latestPosition(Task task, List<CommentView> newestFirst) {
+        long sequence = task.getCommentSequence() != null ? task.getCommentSequence() : 0L;
+        return newestFirst.isEmpty() ? sequence : Math.max(sequence, newestFirst.get(0).feedPosition());
+    }
+    private static String encodePosition(long position) {
+        return CursorCodec.encode(POSITION_CURSOR, position);
+    }
+    private static Long decodePosition(String cursor) {
+        String[] parts = CursorCodec.decode(cursor, 2);
+        if (!POSITION_CURSOR.equals(parts[0])) {
+            throw CursorCodec.invalidCursor();
+        }
+        try {
+            return Long.valueOf(parts[1]);
+        } catch (NumberFormatException e) {
+            throw CursorCodec.invalidCursor();
+        }
+    }
+    private List<CommentResponse> toCommentResponses(List<CommentView> comments) {
+        return comments.stream().map(commentMapper::commentViewToCommentResponse).toList();
+    }
+}
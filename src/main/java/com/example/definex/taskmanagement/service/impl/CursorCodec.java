@@ -0,0 +1,78 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.dto.response.CursorPageResponse;
+import com.example.definex.taskmanagement.exception.InvalidCursorException;
+import com.example.definex.taskmanagement.exception.constants.MessageKey;
+import org.springframework.data.domain.Slice;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+final class CursorCodec {
+    static final int MAX_PAGE_SIZE = 100;
+    private static final String SEPARATOR = ":";
+
+    private CursorCodec() {
+    }
+
+    static int pageSize(int requestedSize) {
+        return Math.max(1, Math.min(requestedSize, MAX_PAGE_SIZE));
+    }
+
+    static <V, R> CursorPageResponse<R> toPage(List<V> rows, int pageSize, Function<V, String> cursorOf,
+                                               Function<List<V>, List<R>> mapper, Long totalElements) {
+        boolean hasNext = rows.size() > pageSize;
+        List<V> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorPageResponse<>(mapper.apply(page), pageSize, nextCursor, hasNext, totalElements);
+    }
+
+    /**
+     * Wraps an offset-paged slice in the cursor response shape. The next cursor points past the slice, so a client on
+     * the deprecated {@code page} parameter can switch to cursors from any page.
+     */
+    static <V, R> CursorPageResponse<R> toPage(Slice<V> slice, Function<V, String> cursorOf,
+                                               Function<List<V>, List<R>> mapper, Long totalElements) {
+        List<V> page = slice.getContent();
+        String nextCursor = slice.hasNext() ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorPageResponse<>(mapper.apply(page), slice.getSize(), nextCursor, slice.hasNext(), totalElements);
+    }
+
+    static String encode(Object... parts) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                builder.append(SEPARATOR);
+            }
+            builder.append(parts[i] != null ? parts[i] : "");
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String[] decode(String cursor, int expectedParts) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, -1);
+            if (parts.length != expectedParts) {
+                throw invalidCursor();
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+    }
+
+    static Long decodeId(String cursor) {
+        String[] parts = decode(cursor, 1);
+        try {
+            return Long.valueOf(parts[0]);
+        } catch (NumberFormatException e) {
+            throw invalidCursor();
+        }
+    }
+
+    static InvalidCursorException invalidCursor() {
+        return new InvalidCursorException(MessageKey.INVALID_PAGINATION_CURSOR.toString());
+    }
+}
@@ -1,19 +1,31 @@
 package com.example.definex.taskmanagement.service.impl;
 
 import com.example.definex.taskmanagement.dto.mapper.DepartmentMapper;
+import com.example.definex.taskmanagement.dto.projection.DepartmentRevisionView;
+import com.example.definex.taskmanagement.dto.projection.DepartmentView;
+import com.example.definex.taskmanagement.dto.projection.ProjectSummaryView;
 import com.example.definex.taskmanagement.dto.request.CreateDepartmentRequest;
 import com.example.definex.taskmanagement.dto.response.CreatedDepartmentResponse;
+import com.example.definex.taskmanagement.dto.response.CursorPageResponse;
 import com.example.definex.taskmanagement.dto.response.DepartmentResponse;
+import com.example.definex.taskmanagement.dto.response.ProjectSummaryResponse;
 import com.example.definex.taskmanagement.entities.Department;
 import com.example.definex.taskmanagement.exception.DepartmentNotFoundException;
 import com.example.definex.taskmanagement.exception.DepartmentValidationException;
 import com.example.definex.taskmanagement.exception.constants.MessageKey;
 import com.example.definex.taskmanagement.repository.DepartmentRepository;
+import com.example.definex.taskmanagement.repository.ProjectRepository;
 import com.example.definex.taskmanagement.service.DepartmentService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -21,6 +33,8 @@ import org.springframework.stereotype.Service;
 public class DepartmentServiceImpl implements DepartmentService {
     private final DepartmentRepository departmentRepository;
     private final DepartmentMapper departmentMapper;
+    private final ProjectRepository projectRepository;
+    private final SoftDeleteCascade softDeleteCascade;
 
     @Override
     public CreatedDepartmentResponse save(CreateDepartmentRequest createDepartmentRequest){
@@ -33,19 +47,68 @@ public class DepartmentServiceImpl implements DepartmentService {
     }
     @Override
     public DepartmentResponse findById(Long id) {
-      Department department = departmentRepository.findById(id).orElseThrow(()->new DepartmentNotFoundException(MessageKey.DEPARTMENT_NOT_FOUND_WITH_ID.toString()));
+      DepartmentView department = departmentRepository.findViewById(id).orElseThrow(()->new DepartmentNotFoundException(MessageKey.DEPARTMENT_NOT_FOUND_WITH_ID.toString()));
 
-        return departmentMapper.departmentToDepartmentResponse(department);
+        return toDepartmentResponses(List.of(department)).get(0);
+    }
+    public String findRevision(Long id) {
+        DepartmentRevisionView department = departmentRepository.findRevisionById(id).orElseThrow(()->new DepartmentNotFoundException(MessageKey.DEPARTMENT_NOT_FOUND_WITH_ID.toString()));
+
+        return Revisions.of(department.modifiedAt(), department.projectCount(), department.projectsModifiedAt());
+    }
+    @Override
+    public CursorPageResponse<DepartmentResponse> findAll(String cursor, int size, boolean includeTotal) {
+        int pageSize = CursorCodec.pageSize(size);
+        List<DepartmentView> departments = cursor == null
+                ? departmentRepository.findViews(Limit.of(pageSize + 1))
+                : departmentRepository.findViewsAfter(CursorCodec.decodeId(cursor), Limit.of(pageSize + 1));
+
+        return CursorCodec.toPage(departments, pageSize,
+                department -> CursorCodec.encode(department.id()),
+                this::toDepartmentResponses,
+                includeTotal ? departmentRepository.countByIsDeletedFalse() : null);
     }
     @Override
-    public Page<DepartmentResponse> findAll(Pageable pageable) {
-        return departmentRepository.findAll(pageable)
-                .map(departmentMapper::departmentToDepartmentResponse);
+    @Deprecated
+    public CursorPageResponse<DepartmentResponse> findPage(int page, int size, boolean includeTotal) {
+        Slice<DepartmentView> departments = departmentRepository.findViews(PageRequest.of(page, CursorCodec.pageSize(size)));
+
+        return CursorCodec.toPage(departments,
+                department -> CursorCodec.encode(department.id()),
+                this::toDepartmentResponses,
+                includeTotal ? departmentRepository.countByIsDeletedFalse() : null);
+    }
+    private List<DepartmentResponse> toDepartmentResponses(List<DepartmentView> departments) {
+        if (departments.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<ProjectSummaryResponse>> projectsByDepartment = projectRepository
+                .findSummariesByDepartmentIds(departments.stream().map(DepartmentView::id).toList())
+                .stream()
+                .collect(Collectors.groupingBy(ProjectSummaryView::departmentId,
+                        Collectors.mapping(departmentMapper::projectSummaryViewToProjectSummaryResponse, Collectors.toList())));
+
+        return departments.stream()
+                .map(department -> departmentMapper.departmentViewToDepartmentResponse(
+                        department, projectsByDepartment.getOrDefault(department.id(), List.of())))
+                .toList();
     }
     @Override
     public void deleteById(Long id){
         Department department = departmentRepository.findById(id).orElseThrow(()->new DepartmentNotFoundException(MessageKey.DEPARTMENT_NOT_FOUND_WITH_ID.toString()+id));
-        department.setIsDeleted(true);
-        departmentRepository.save(department);
+        softDeleteCascade.deleteDepartments(List.of(department.getId()));
+    }
+    @Override
+    public void deleteAllById(List<Long> departmentIds){
+        Set<Long> ids = new HashSet<>(departmentIds);
+        Set<Long> existing = departmentRepository.findAllByIdIn(ids).stream()
+                .map(Department::getId)
+                .collect(Collectors.toSet());
+        for (Long id : departmentIds) {
+            if (!existing.contains(id)) {
+                throw new DepartmentNotFoundException(MessageKey.DEPARTMENT_NOT_FOUND_WITH_ID.toString()+id);
+            }
+        }
+        softDeleteCascade.deleteDepartments(ids);
     }
 }
\ No newline at end of file
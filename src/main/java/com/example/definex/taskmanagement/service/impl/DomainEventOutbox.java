@@ -0,0 +1,106 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.entities.*;
+import com.example.definex.taskmanagement.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Runs a mutation and appends one {@link OutboxEvent} per changed entity in the same transaction, so an event exists
+ * exactly when its change was committed. Payloads carry ids and the fields consumers route on, not full entities.
+ * Cascaded soft deletes are reported for the entity the caller deleted only.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventOutbox {
+    private final OutboxEventRepository outboxEventRepository;
+
+    /**
+     * @param mutation returns the saved entity or a collection of saved entities
+     */
+    @Transactional
+    public <T> T record(DomainEventType type, Supplier<T> mutation) {
+        T result = mutation.get();
+        append(type, result instanceof Collection<?> subjects ? subjects : List.of(result));
+        return result;
+    }
+    @Transactional
+    public void record(DomainEventType type, Collection<?> subjects, Runnable mutation) {
+        mutation.run();
+        append(type, subjects);
+    }
+
+    private void append(DomainEventType type, Collection<?> subjects) {
+        if (subjects.isEmpty()) {
+            return;
+        }
+        LocalDateTime occurredAt = LocalDateTime.now();
+        outboxEventRepository.saveAll(subjects.stream()
+                .map(subject -> event(type, payload(subject), occurredAt))
+                .toList());
+    }
+    private OutboxEvent event(DomainEventType type, Map<String, Object> payload, LocalDateTime occurredAt) {
+        OutboxEvent event = new OutboxEvent();
+        event.setAggregateType(type.getAggregateType());
+        event.setAggregateId((Long) payload.get("id"));
+        event.setEventType(type);
+        event.setPayload(payload);
+        event.setOccurredAt(occurredAt);
+        return event;
+    }
+    private Map<String, Object> payload(Object subject) {
+        return switch (subject) {
+            case Task task -> payload(
+                    "id", task.getId(),
+                    "version", task.getVersion(),
+                    "projectId", id(task.getProject()),
+                    "departmentId", task.getProject() != null ? id(task.getProject().getDepartment()) : null,
+                    "assigneeId", id(task.getAssignee()),
+                    "state", task.getState(),
+                    "priority", task.getPriority());
+            case Comment comment -> payload(
+                    "id", comment.getId(),
+                    "taskId", id(comment.getTask()),
+                    "userId", id(comment.getUser()));
+            case Attachment attachment -> payload(
+                    "id", attachment.getId(),
+                    "taskId", id(attachment.getTask()),
+                    "userId", id(attachment.getUser()),
+                    "contentHash", attachment.getContentHash());
+            case Project project -> payload(
+                    "id", project.getId(),
+                    "version", project.getVersion(),
+                    "departmentId", id(project.getDepartment()),
+                    "status", project.getType());
+            case User user -> payload(
+                    "id", user.getId(),
+                    "departmentId", id(user.getDepartment()),
+                    "role", user.getRole());
+            default -> throw new IllegalArgumentException("No domain event payload for " + subject.getClass().getSimpleName());
+        };
+    }
+    private static Map<String, Object> payload(Object... keysAndValues) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            payload.put((String) keysAndValues[i], keysAndValues[i + 1] instanceof Enum<?> value ? value.name() : keysAndValues[i + 1]);
+        }
+        return payload;
+    }
+    private static Long id(Object entity) {
+        return switch (entity) {
+            case null -> null;
+            case Task task -> task.getId();
+            case Project project -> project.getId();
+            case Department department -> department.getId();
+            case User user -> user.getId();
+            default -> throw new IllegalArgumentException(entity.getClass().getSimpleName());
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.service.AttachmentStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "filesystem", matchIfMissing = true)
+public class FileSystemAttachmentStorage implements AttachmentStorage {
+    private final Path root;
+
+    public FileSystemAttachmentStorage(@Value("${file.upload-dir}") String uploadDir) {
+        this.root = Paths.get(uploadDir);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(localPath(key));
+    }
+    @Override
+    public void store(String key, Path stagedFile) throws IOException {
+        Path target = localPath(key);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(stagedFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(stagedFile, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    @Override
+    public ObjectMetadata stat(String key) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(localPath(key), BasicFileAttributes.class);
+            return new ObjectMetadata(attributes.size(), attributes.lastModifiedTime().toMillis());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+    @Override
+    public InputStream open(String key, long start, long length) throws IOException {
+        FileChannel channel = FileChannel.open(localPath(key), StandardOpenOption.READ);
+        return Channels.newInputStream(channel.position(start));
+    }
+    @Override
+    public Path localPath(String key) {
+        return root.resolve(key);
+    }
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(localPath(key));
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.dto.response.ProjectEvent;
+import com.example.definex.taskmanagement.service.ProjectEventFanOut;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "task.events.fan-out", havingValue = "local", matchIfMissing = true)
+public class LocalProjectEventFanOut implements ProjectEventFanOut {
+    private final ProjectEventBroadcaster projectEventBroadcaster;
+
+    @Override
+    public void send(ProjectEvent event) {
+        projectEventBroadcaster.deliver(event);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.entities.OutboxEvent;
+import com.example.definex.taskmanagement.repository.OutboxEventRepository;
+import com.example.definex.taskmanagement.service.OutboxEventSink;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drains the outbox into every {@link OutboxEventSink}. Each batch is locked, delivered and stamped in one
+ * transaction, so delivery is at least once: a sink failure or a crash before commit leaves the batch pending for the
+ * next run on any replica.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventSink> sinks;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration retention;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       List<OutboxEventSink> sinks,
+                       TransactionOperations transactionOperations,
+                       @Value("${outbox.relay.batch-size:200}") int batchSize,
+                       @Value("${outbox.relay.max-batches-per-run:50}") int maxBatchesPerRun,
+                       @Value("${outbox.relay.retention:P7D}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sinks = sinks;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retention = retention;
+    }
+
+    /**
+     * Keeps taking full batches until the outbox runs dry or the per-run cap is reached.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:PT1S}", initialDelayString = "${outbox.relay.interval:PT1S}")
+    public int relay() {
+        if (sinks.isEmpty()) {
+            return 0;
+        }
+        int relayed = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer delivered;
+            try {
+                delivered = transactionOperations.execute(status -> relayBatch());
+            } catch (RuntimeException e) {
+                log.warn("Outbox relay failed, batch stays pending", e);
+                break;
+            }
+            relayed += delivered != null ? delivered : 0;
+            if (delivered == null || delivered < batchSize) {
+                break;
+            }
+        }
+        return relayed;
+    }
+    @Scheduled(cron = "${outbox.relay.purge-cron:0 30 3 * * *}")
+    public int purgePublished() {
+        return outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> events = outboxEventRepository.lockPending(Limit.of(batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        sinks.forEach(sink -> sink.deliver(events));
+
+        LocalDateTime publishedAt = LocalDateTime.now();
+        events.forEach(event -> event.setPublishedAt(publishedAt));
+        return events.size();
+    }
+}
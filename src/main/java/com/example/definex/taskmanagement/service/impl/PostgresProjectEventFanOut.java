@@ -0,0 +1,126 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.dto.response.ProjectEvent;
+import com.example.definex.taskmanagement.service.ProjectEventFanOut;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * Fans project events out through Postgres LISTEN/NOTIFY, so a change made on one replica reaches the streams held by
+ * all of them. The listener keeps one dedicated connection outside the pool on a virtual thread. Notifications sent
+ * while it was disconnected are lost, so after a reconnect every local stream is told to resync.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "task.events.fan-out", havingValue = "postgres")
+public class PostgresProjectEventFanOut implements ProjectEventFanOut, InitializingBean, DisposableBean {
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ProjectEventBroadcaster projectEventBroadcaster;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private volatile boolean running = true;
+    private Thread listener;
+
+    public PostgresProjectEventFanOut(JdbcTemplate jdbcTemplate,
+                                      DataSourceProperties dataSourceProperties,
+                                      ProjectEventBroadcaster projectEventBroadcaster,
+                                      ObjectMapper objectMapper,
+                                      @Value("${task.events.notify-channel:project_events}") String channel,
+                                      @Value("${task.events.poll-timeout:10s}") Duration pollTimeout,
+                                      @Value("${task.events.reconnect-delay:5s}") Duration reconnectDelay) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid notify channel: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.projectEventBroadcaster = projectEventBroadcaster;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @Override
+    public void send(ProjectEvent event) {
+        try {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", resultSet -> null, channel, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Could not publish {} for task {}: {}", event.type(), event.taskId(), e.getMessage());
+        }
+    }
+    @Override
+    public void afterPropertiesSet() {
+        listener = Thread.ofVirtual().name("project-events-listener").start(this::listen);
+    }
+    @Override
+    public void destroy() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (reconnecting) {
+                    projectEventBroadcaster.resyncAll();
+                }
+                reconnecting = true;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            deliver(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Project event listener disconnected, retrying in {}: {}", reconnectDelay, e.toString());
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+    private void deliver(String payload) {
+        try {
+            projectEventBroadcaster.deliver(objectMapper.readValue(payload, ProjectEvent.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed project event: {}", e.getMessage());
+        }
+    }
+}
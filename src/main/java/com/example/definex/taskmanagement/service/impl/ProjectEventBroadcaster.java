@@ -0,0 +1,216 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.authorization.TaskAccessScope;
+import com.example.definex.taskmanagement.dto.response.ProjectEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Project event streams held by this replica. Every connection owns a bounded buffer drained by its own virtual
+ * thread, so an idle stream costs one parked virtual thread and a slow client only delays itself. Repeated events of
+ * the same type for the same task collapse to the latest one, and a buffer that overflows is replaced by a single
+ * {@code RESYNC} telling the client to reload the board instead of replaying a backlog.
+ */
+@Slf4j
+@Component
+public class ProjectEventBroadcaster implements DisposableBean {
+    private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final ThreadFactory senderThreads = Thread.ofVirtual().name("project-events-", 0).factory();
+    private final int bufferSize;
+    private final Duration coalesceWindow;
+    private final Duration heartbeatInterval;
+    private final Duration emitterTimeout;
+
+    public ProjectEventBroadcaster(@Value("${task.events.buffer-size:256}") int bufferSize,
+                                   @Value("${task.events.coalesce-window:250ms}") Duration coalesceWindow,
+                                   @Value("${task.events.heartbeat-interval:25s}") Duration heartbeatInterval,
+                                   @Value("${task.events.emitter-timeout:30m}") Duration emitterTimeout) {
+        this.bufferSize = bufferSize;
+        this.coalesceWindow = coalesceWindow;
+        this.heartbeatInterval = heartbeatInterval;
+        this.emitterTimeout = emitterTimeout;
+    }
+
+    public SseEmitter subscribe(Long projectId, TaskAccessScope scope) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Subscription subscription = new Subscription(projectId, scope, emitter);
+        subscriptions.computeIfAbsent(projectId, id -> ConcurrentHashMap.newKeySet()).add(subscription);
+
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> remove(subscription));
+        senderThreads.newThread(subscription::run).start();
+        return emitter;
+    }
+    public void deliver(ProjectEvent event) {
+        Set<Subscription> projectSubscriptions = subscriptions.get(event.projectId());
+        if (projectSubscriptions == null) {
+            return;
+        }
+        for (Subscription subscription : projectSubscriptions) {
+            if (subscription.canSee(event)) {
+                subscription.offer(event);
+            }
+        }
+    }
+    public void resyncAll() {
+        subscriptions.forEach((projectId, projectSubscriptions) ->
+                projectSubscriptions.forEach(subscription -> subscription.offer(ProjectEvent.resync(projectId))));
+    }
+    int subscriberCount(Long projectId) {
+        Set<Subscription> projectSubscriptions = subscriptions.get(projectId);
+        return projectSubscriptions != null ? projectSubscriptions.size() : 0;
+    }
+    @Override
+    public void destroy() {
+        subscriptions.values().forEach(projectSubscriptions -> projectSubscriptions.forEach(subscription -> {
+            subscription.close();
+            subscription.emitter.complete();
+        }));
+        subscriptions.clear();
+    }
+    private void remove(Subscription subscription) {
+        subscription.close();
+        subscriptions.computeIfPresent(subscription.projectId, (projectId, projectSubscriptions) -> {
+            projectSubscriptions.remove(subscription);
+            return projectSubscriptions.isEmpty() ? null : projectSubscriptions;
+        });
+    }
+
+    final class Subscription {
+        private final Long projectId;
+        private final TaskAccessScope scope;
+        private final SseEmitter emitter;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition pendingChanged = lock.newCondition();
+        private final LinkedHashMap<String, ProjectEvent> pending = new LinkedHashMap<>();
+        private boolean overflowed;
+        private boolean closed;
+
+        Subscription(Long projectId, TaskAccessScope scope, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.scope = scope;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Same rule as {@code TaskAuthorization.canAccessTask}: leaders see everything, group managers their department,
+         * everyone their own assignments.
+         */
+        boolean canSee(ProjectEvent event) {
+            return event.type() == ProjectEvent.Type.RESYNC
+                    || scope.unrestricted()
+                    || (scope.departmentId() != null && scope.departmentId().equals(event.departmentId()))
+                    || (scope.assigneeId() != null && scope.assigneeId().equals(event.assigneeId()));
+        }
+        void offer(ProjectEvent event) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                String key = event.type() + ":" + event.taskId();
+                pending.remove(key);
+                pending.put(key, event);
+                if (pending.size() > bufferSize) {
+                    pending.clear();
+                    overflowed = true;
+                }
+                pendingChanged.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+        /**
+         * Waits up to one heartbeat interval for the first event, then lets the coalescing window pass before taking
+         * everything pending. An empty result means the interval passed quietly or the subscription closed.
+         */
+        List<ProjectEvent> awaitBatch() throws InterruptedException {
+            lock.lock();
+            try {
+                long remainingNanos = heartbeatInterval.toNanos();
+                while (!closed && !overflowed && pending.isEmpty() && remainingNanos > 0) {
+                    remainingNanos = pendingChanged.awaitNanos(remainingNanos);
+                }
+                if (closed || (!overflowed && pending.isEmpty())) {
+                    return List.of();
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (!coalesceWindow.isZero()) {
+                Thread.sleep(coalesceWindow);
+            }
+            lock.lock();
+            try {
+                if (overflowed) {
+                    overflowed = false;
+                    pending.clear();
+                    return List.of(ProjectEvent.resync(projectId));
+                }
+                List<ProjectEvent> batch = new ArrayList<>(pending.values());
+                pending.clear();
+                return batch;
+            } finally {
+                lock.unlock();
+            }
+        }
+        void close() {
+            lock.lock();
+            try {
+                closed = true;
+                pending.clear();
+                pendingChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+        private boolean isClosed() {
+            lock.lock();
+            try {
+                return closed;
+            } finally {
+                lock.unlock();
+            }
+        }
+        private void run() {
+            try {
+                emitter.send(SseEmitter.event().comment("connected"));
+                while (!isClosed()) {
+                    List<ProjectEvent> batch = awaitBatch();
+                    if (isClosed()) {
+                        return;
+                    }
+                    if (batch.isEmpty()) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                    for (ProjectEvent event : batch) {
+                        emitter.send(SseEmitter.event().name(event.type().name()).data(event, MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Project {} event stream closed: {}", projectId, e.getMessage());
+                emitter.completeWithError(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                remove(this);
+            }
+        }
+    }
+}
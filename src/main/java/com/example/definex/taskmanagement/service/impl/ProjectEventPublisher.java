@@ -0,0 +1,50 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.dto.response.ProjectEvent;
+import com.example.definex.taskmanagement.entities.Attachment;
+import com.example.definex.taskmanagement.entities.Comment;
+import com.example.definex.taskmanagement.entities.Task;
+import com.example.definex.taskmanagement.service.ProjectEventFanOut;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Instant;
+
+/**
+ * Entry point for services that change something a project board shows. Events leave the process only after the
+ * surrounding transaction commits, or immediately when there is none, so subscribers never see rolled-back changes.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectEventPublisher {
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ProjectEventFanOut projectEventFanOut;
+
+    public void taskChanged(ProjectEvent.Type type, Task task) {
+        publish(type, task, task.getId());
+    }
+    public void commentChanged(ProjectEvent.Type type, Comment comment) {
+        publish(type, comment.getTask(), comment.getId());
+    }
+    public void attachmentChanged(ProjectEvent.Type type, Attachment attachment) {
+        publish(type, attachment.getTask(), attachment.getId());
+    }
+    public void projectResync(Long projectId) {
+        applicationEventPublisher.publishEvent(ProjectEvent.resync(projectId));
+    }
+    @TransactionalEventListener(fallbackExecution = true)
+    public void relay(ProjectEvent event) {
+        projectEventFanOut.send(event);
+    }
+    private void publish(ProjectEvent.Type type, Task task, Long subjectId) {
+        applicationEventPublisher.publishEvent(new ProjectEvent(
+                type,
+                task.getProject().getId(),
+                task.getProject().getDepartment().getId(),
+                task.getId(),
+                task.getAssignee() != null ? task.getAssignee().getId() : null,
+                subjectId,
+                Instant.now()));
+    }
+}
@@ -1,23 +1,37 @@
 package com.example.definex.taskmanagement.service.impl;
 
 import com.example.definex.taskmanagement.authorization.ProjectAuthorization;
+import com.example.definex.taskmanagement.authorization.TaskAccessScope;
+import com.example.definex.taskmanagement.authorization.TaskAuthorization;
 import com.example.definex.taskmanagement.dto.mapper.ProjectMapper;
+import com.example.definex.taskmanagement.dto.projection.ProjectRevisionView;
+import com.example.definex.taskmanagement.dto.projection.ProjectView;
 import com.example.definex.taskmanagement.dto.request.CreateProjectRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateProjectRequest;
 import com.example.definex.taskmanagement.dto.response.CreatedProjectResponse;
 import com.example.definex.taskmanagement.dto.response.ProjectResponse;
 import com.example.definex.taskmanagement.dto.response.UpdatedProjectResponse;
 import com.example.definex.taskmanagement.entities.Department;
+import com.example.definex.taskmanagement.entities.DomainEventType;
 import com.example.definex.taskmanagement.entities.Project;
 import com.example.definex.taskmanagement.exception.DepartmentNotFoundException;
 import com.example.definex.taskmanagement.exception.ProjectNotFoundException;
 import com.example.definex.taskmanagement.exception.ProjectValidationException;
+import com.example.definex.taskmanagement.exception.UnauthorizedAccessException;
 import com.example.definex.taskmanagement.exception.constants.MessageKey;
 import com.example.definex.taskmanagement.repository.DepartmentRepository;
 import com.example.definex.taskmanagement.repository.ProjectRepository;
+import com.example.definex.taskmanagement.repository.TaskRepository;
 import com.example.definex.taskmanagement.service.ProjectService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -27,6 +41,11 @@ public class ProjectServiceImpl implements ProjectService {
     private final ProjectMapper projectMapper;
     private final ProjectAuthorization projectAuthorization;
     private final DepartmentRepository departmentRepository;
+    private final SoftDeleteCascade softDeleteCascade;
+    private final TaskAuthorization taskAuthorization;
+    private final ProjectEventBroadcaster projectEventBroadcaster;
+    private final DomainEventOutbox domainEventOutbox;
+    private final TaskRepository taskRepository;
 
     @Override
     public CreatedProjectResponse save(CreateProjectRequest createProjectRequest,Long departmentId){
@@ -43,30 +62,40 @@ public class ProjectServiceImpl implements ProjectService {
         project.setDepartment(department);
         projectAuthorization.userHasAuthorization(project);
 
-        projectRepository.save(project);
+        domainEventOutbox.record(DomainEventType.PROJECT_CREATED, () -> projectRepository.save(project));
         return projectMapper.projectToCreatedProjectResponse(project);
     }
     @Override
-    public UpdatedProjectResponse update(UpdateProjectRequest updateProjectRequest,Long projectId){
+    public UpdatedProjectResponse update(UpdateProjectRequest updateProjectRequest,Long projectId, List<String> expectedRevisions){
 
         Project project = projectRepository.findById(projectId).orElseThrow(()->new ProjectNotFoundException(MessageKey.PROJECT_NOT_FOUND_WITH_ID.toString()));
 
         projectAuthorization.userHasAuthorization(project);
+        Revisions.requireMatch(expectedRevisions, Revisions.of(project.getVersion()));
 
         project.setTitle(updateProjectRequest.getTitle());
         project.setDescription(updateProjectRequest.getDescription());
         project.setType(updateProjectRequest.getType());
 
-        return projectMapper.projectToUpdatedProjectResponse(projectRepository.save(project));
+        return projectMapper.projectToUpdatedProjectResponse(
+                domainEventOutbox.record(DomainEventType.PROJECT_UPDATED, () -> projectRepository.save(project)));
     }
     @Override
     public ProjectResponse findById(Long id){
 
-        Project project = projectRepository.findById(id).orElseThrow(()->new ProjectNotFoundException(MessageKey.PROJECT_NOT_FOUND_WITH_ID.toString()));
+        ProjectView project = projectRepository.findViewById(id).orElseThrow(()->new ProjectNotFoundException(MessageKey.PROJECT_NOT_FOUND_WITH_ID.toString()));
 
         projectAuthorization.userHasAuthorization(project);
 
-        return projectMapper.projectToProjectResponse(project);
+        return projectMapper.projectViewToProjectResponse(project);
+    }
+    public String findRevision(Long id){
+
+        ProjectRevisionView project = projectRepository.findRevisionById(id).orElseThrow(()->new ProjectNotFoundException(MessageKey.PROJECT_NOT_FOUND_WITH_ID.toString()));
+
+        projectAuthorization.userHasAuthorizationForDepartment(project.departmentId());
+
+        return Revisions.of(project.version());
     }
     @Override
     public void deleteById(Long id){
@@ -74,7 +103,40 @@ public class ProjectServiceImpl implements ProjectService {
 
         projectAuthorization.userHasAuthorization(project);
 
-        project.setIsDeleted(true);
-        projectRepository.save(project);
+        domainEventOutbox.record(DomainEventType.PROJECT_DELETED, List.of(project),
+                () -> softDeleteCascade.deleteProjects(List.of(project.getId())));
+    }
+    @Override
+    public void deleteAllById(List<Long> projectIds){
+        Set<Long> ids = new HashSet<>(projectIds);
+        Map<Long, Project> projects = projectRepository.findAllByIdIn(ids).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        for (Long projectId : projectIds) {
+            Project project = projects.get(projectId);
+            if (project == null) {
+                throw new ProjectNotFoundException(MessageKey.PROJECT_NOT_FOUND_WITH_ID.toString());
+            }
+            projectAuthorization.userHasAuthorization(project);
+        }
+
+        domainEventOutbox.record(DomainEventType.PROJECT_DELETED, projects.values(), () -> softDeleteCascade.deleteProjects(ids));
+    }
+    /**
+     * The stream is open to unrestricted callers, to callers whose department owns the project and to assignees of
+     * one of its tasks; what it carries is narrowed to the tasks the caller could read through {@code GET /api/tasks},
+     * using the access scope resolved now.
+     */
+    @Override
+    public SseEmitter subscribeToEvents(Long projectId){
+        ProjectView project = projectRepository.findViewById(projectId)
+                .orElseThrow(()->new ProjectNotFoundException(MessageKey.PROJECT_NOT_FOUND_WITH_ID.toString()));
+
+        TaskAccessScope scope = taskAuthorization.getTaskAccessScope();
+        if (!scope.unrestricted() && !project.departmentId().equals(scope.departmentId())
+                && !taskRepository.existsAssignedInProject(projectId, scope.assigneeId())) {
+            throw new UnauthorizedAccessException(MessageKey.USER_CANNOT_SUBSCRIBE_TO_PROJECT_EVENTS.toString());
+        }
+        return projectEventBroadcaster.subscribe(projectId, scope);
     }
 }
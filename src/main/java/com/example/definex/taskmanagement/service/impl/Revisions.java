@@ -0,0 +1,49 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.exception.PreconditionFailedException;
+import com.example.definex.taskmanagement.exception.constants.MessageKey;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Opaque revision strings that change whenever the representation of a row changes: the version column where there
+ * is one, otherwise modification timestamps at the microsecond precision the database keeps.
+ */
+final class Revisions {
+    private static final String SEPARATOR = "-";
+
+    private Revisions() {
+    }
+
+    static String of(Object... parts) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                builder.append(SEPARATOR);
+            }
+            builder.append(part(parts[i]));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @param expectedRevisions revisions the caller accepts, or {@code null} when the update is unconditional; an
+     *                          empty list matches nothing
+     */
+    static void requireMatch(List<String> expectedRevisions, String currentRevision) {
+        if (expectedRevisions != null && !expectedRevisions.contains(currentRevision)) {
+            throw new PreconditionFailedException(MessageKey.RESOURCE_REVISION_DOES_NOT_MATCH.toString());
+        }
+    }
+
+    private static Object part(Object part) {
+        if (part == null) {
+            return 0;
+        }
+        if (part instanceof LocalDateTime timestamp) {
+            return ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), timestamp);
+        }
+        return part;
+    }
+}
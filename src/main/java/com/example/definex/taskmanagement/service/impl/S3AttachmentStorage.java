@@ -0,0 +1,159 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.service.AttachmentStorage;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * S3-API backend, usable against AWS or any compatible endpoint such as MinIO. Files larger than one part are sent
+ * as a multipart upload with parts read straight from the staged file and uploaded in parallel; downloads are
+ * ranged GETs streamed to the caller.
+ */
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+public class S3AttachmentStorage implements AttachmentStorage, DisposableBean {
+    private static final int NOT_FOUND = 404;
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final long partSize;
+    private final ExecutorService partUploadExecutor;
+
+    public S3AttachmentStorage(S3Client s3Client,
+                               @Value("${file.storage.s3.bucket}") String bucket,
+                               @Value("${file.storage.s3.part-size:8MB}") DataSize partSize,
+                               @Value("${file.storage.s3.upload-parallelism:4}") int uploadParallelism) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.partSize = partSize.toBytes();
+        this.partUploadExecutor = Executors.newFixedThreadPool(uploadParallelism);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return head(key) != null;
+    }
+    @Override
+    public void store(String key, Path stagedFile) throws IOException {
+        long size = Files.size(stagedFile);
+        if (size <= partSize) {
+            s3Client.putObject(PutObjectRequest.builder().bucket(bucket).key(key).build(), RequestBody.fromFile(stagedFile));
+            return;
+        }
+
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder().bucket(bucket).key(key).build())
+                .uploadId();
+        try {
+            List<Future<CompletedPart>> pendingParts = new ArrayList<>();
+            int partNumber = 1;
+            for (long offset = 0; offset < size; offset += partSize, partNumber++) {
+                int number = partNumber;
+                long start = offset;
+                long length = Math.min(partSize, size - offset);
+                pendingParts.add(partUploadExecutor.submit(() -> uploadPart(key, uploadId, stagedFile, number, start, length)));
+            }
+            List<CompletedPart> parts = new ArrayList<>(pendingParts.size());
+            for (Future<CompletedPart> pendingPart : pendingParts) {
+                parts.add(pendingPart.get());
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder().bucket(bucket).key(key).uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(key, uploadId);
+            throw new InterruptedIOException("Multipart upload interrupted for " + key);
+        } catch (ExecutionException e) {
+            abort(key, uploadId);
+            throw new IOException("Multipart upload failed for " + key, e.getCause());
+        } catch (RuntimeException e) {
+            abort(key, uploadId);
+            throw e;
+        }
+    }
+    @Override
+    public ObjectMetadata stat(String key) {
+        HeadObjectResponse head = head(key);
+        return head == null ? null : new ObjectMetadata(head.contentLength(), head.lastModified().toEpochMilli());
+    }
+    @Override
+    public InputStream open(String key, long start, long length) {
+        return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(key)
+                .range("bytes=" + start + "-" + (start + length - 1))
+                .build());
+    }
+    @Override
+    public Path localPath(String key) {
+        return null;
+    }
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+    }
+    @Override
+    public void destroy() {
+        partUploadExecutor.shutdown();
+    }
+    private CompletedPart uploadPart(String key, String uploadId, Path stagedFile, int partNumber, long start, long length) {
+        RequestBody body = RequestBody.fromContentProvider(() -> openPart(stagedFile, start), length, "application/octet-stream");
+        UploadPartRequest request = UploadPartRequest.builder().bucket(bucket).key(key).uploadId(uploadId)
+                .partNumber(partNumber).contentLength(length).build();
+        String eTag = s3Client.uploadPart(request, body).eTag();
+        return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+    }
+    private InputStream openPart(Path stagedFile, long start) {
+        try {
+            return Channels.newInputStream(FileChannel.open(stagedFile, StandardOpenOption.READ).position(start));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    private void abort(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder().bucket(bucket).key(key).uploadId(uploadId).build());
+        } catch (RuntimeException ignored) {
+        }
+    }
+    private HeadObjectResponse head(String key) {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (S3Exception e) {
+            if (e.statusCode() == NOT_FOUND) {
+                return null;
+            }
+            throw e;
+        }
+    }
+}
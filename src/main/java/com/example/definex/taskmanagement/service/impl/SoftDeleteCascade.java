@@ -0,0 +1,57 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.dto.response.ProjectEvent;
+import com.example.definex.taskmanagement.repository.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+
+/**
+ * Soft-deletes departments, projects and tasks together with everything below them using one set-based
+ * {@code UPDATE} per table, so the statement count does not grow with the number of rows. Blob references held by the
+ * affected attachments are released first, while those attachments are still live. Every deleted project gets a
+ * {@link ProjectEvent.Type#RESYNC} on its board once the transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class SoftDeleteCascade {
+    private final DepartmentRepository departmentRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentBlobRepository attachmentBlobRepository;
+    private final ProjectEventPublisher projectEventPublisher;
+
+    @Transactional
+    public void deleteTasks(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        attachmentBlobRepository.releaseByTaskIdIn(taskIds);
+        attachmentRepository.softDeleteByTaskIdIn(taskIds);
+        commentRepository.softDeleteByTaskIdIn(taskIds);
+        taskRepository.softDeleteByIdIn(taskIds);
+    }
+    @Transactional
+    public void deleteProjects(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        attachmentBlobRepository.releaseByProjectIdIn(projectIds);
+        attachmentRepository.softDeleteByProjectIdIn(projectIds);
+        commentRepository.softDeleteByProjectIdIn(projectIds);
+        taskRepository.softDeleteByProjectIdIn(projectIds);
+        projectRepository.softDeleteByIdIn(projectIds);
+        projectIds.forEach(projectEventPublisher::projectResync);
+    }
+    @Transactional
+    public void deleteDepartments(Collection<Long> departmentIds) {
+        if (departmentIds.isEmpty()) {
+            return;
+        }
+        deleteProjects(projectRepository.findIdsByDepartmentIdIn(departmentIds));
+        departmentRepository.softDeleteByIdIn(departmentIds);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import java.nio.file.Path;
+
+public record StagedBlob(Path file, String contentHash, long size, String contentEncoding) {
+}
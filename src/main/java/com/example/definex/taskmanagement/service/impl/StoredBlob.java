@@ -0,0 +1,4 @@
+package com.example.definex.taskmanagement.service.impl;
+
+public record StoredBlob(String contentHash, long size, String storageKey, String contentEncoding) {
+}
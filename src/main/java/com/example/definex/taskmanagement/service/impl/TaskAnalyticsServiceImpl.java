@@ -0,0 +1,91 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.authorization.ProjectAuthorization;
+import com.example.definex.taskmanagement.dto.mapper.TaskMapper;
+import com.example.definex.taskmanagement.dto.projection.DurationStatsView;
+import com.example.definex.taskmanagement.dto.projection.ProjectView;
+import com.example.definex.taskmanagement.dto.response.DurationStatsResponse;
+import com.example.definex.taskmanagement.dto.response.FlowMetricsResponse;
+import com.example.definex.taskmanagement.entities.TaskStateType;
+import com.example.definex.taskmanagement.exception.DepartmentNotFoundException;
+import com.example.definex.taskmanagement.exception.ProjectNotFoundException;
+import com.example.definex.taskmanagement.exception.constants.MessageKey;
+import com.example.definex.taskmanagement.repository.DepartmentRepository;
+import com.example.definex.taskmanagement.repository.ProjectRepository;
+import com.example.definex.taskmanagement.repository.TaskStateTransitionRepository;
+import com.example.definex.taskmanagement.service.TaskAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class TaskAnalyticsServiceImpl implements TaskAnalyticsService {
+    private static final String LEAD_TIME = "LEAD_TIME";
+    private static final String CYCLE_TIME = "CYCLE_TIME";
+
+    private final TaskStateTransitionRepository taskStateTransitionRepository;
+    private final ProjectRepository projectRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ProjectAuthorization projectAuthorization;
+    private final TaskMapper taskMapper;
+
+    @Value("${task.analytics.default-window:P90D}")
+    private Duration defaultWindow = Duration.ofDays(90);
+
+    @Override
+    public FlowMetricsResponse getProjectFlowMetrics(Long projectId, LocalDateTime from, LocalDateTime to) {
+        ProjectView project = projectRepository.findViewById(projectId)
+                .orElseThrow(() -> new ProjectNotFoundException(MessageKey.PROJECT_NOT_FOUND_WITH_ID.toString()));
+
+        projectAuthorization.userHasAuthorization(project);
+
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = windowStart(from, end);
+        return flowMetrics(start, end,
+                taskStateTransitionRepository.findFlowTimesByProject(projectId, start, end),
+                taskStateTransitionRepository.findTimeInStateByProject(projectId, start, end));
+    }
+    @Override
+    public FlowMetricsResponse getDepartmentFlowMetrics(Long departmentId, LocalDateTime from, LocalDateTime to) {
+        departmentRepository.findById(departmentId)
+                .orElseThrow(() -> new DepartmentNotFoundException(MessageKey.DEPARTMENT_NOT_FOUND_WITH_ID.toString()+departmentId));
+
+        projectAuthorization.userHasAuthorizationForDepartment(departmentId);
+
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = windowStart(from, end);
+        return flowMetrics(start, end,
+                taskStateTransitionRepository.findFlowTimesByDepartment(departmentId, start, end),
+                taskStateTransitionRepository.findTimeInStateByDepartment(departmentId, start, end));
+    }
+    private LocalDateTime windowStart(LocalDateTime from, LocalDateTime end) {
+        LocalDateTime start = from != null ? from : end.minus(defaultWindow);
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException(MessageKey.INVALID_DATE_RANGE.toString());
+        }
+        return start;
+    }
+    private FlowMetricsResponse flowMetrics(LocalDateTime from, LocalDateTime to,
+                                            List<DurationStatsView> flowTimes, List<DurationStatsView> timesInState) {
+        FlowMetricsResponse response = new FlowMetricsResponse(from, to, null, null, new EnumMap<>(TaskStateType.class));
+        for (DurationStatsView flowTime : flowTimes) {
+            if (LEAD_TIME.equals(flowTime.getMetric())) {
+                response.setLeadTime(taskMapper.durationStatsViewToDurationStatsResponse(flowTime));
+            } else if (CYCLE_TIME.equals(flowTime.getMetric())) {
+                response.setCycleTime(taskMapper.durationStatsViewToDurationStatsResponse(flowTime));
+            }
+        }
+        Map<TaskStateType, DurationStatsResponse> timeInState = response.getTimeInState();
+        for (DurationStatsView timeInOneState : timesInState) {
+            timeInState.put(TaskStateType.valueOf(timeInOneState.getMetric()),
+                    taskMapper.durationStatsViewToDurationStatsResponse(timeInOneState));
+        }
+        return response;
+    }
+}
@@ -1,24 +1,57 @@
 package com.example.definex.taskmanagement.service.impl;
 
+import com.example.definex.taskmanagement.authorization.TaskAccessScope;
 import com.example.definex.taskmanagement.authorization.TaskAuthorization;
+import com.example.definex.taskmanagement.config.TaskProperties;
+import com.example.definex.taskmanagement.dto.projection.TaskRevisionView;
+import com.example.definex.taskmanagement.dto.projection.TaskView;
+import com.example.definex.taskmanagement.dto.request.BatchAssignTaskRequest;
+import com.example.definex.taskmanagement.dto.request.BatchCreateTaskRequest;
+import com.example.definex.taskmanagement.dto.request.BatchUpdateTaskStateRequest;
 import com.example.definex.taskmanagement.dto.request.CreateTaskRequest;
+import com.example.definex.taskmanagement.dto.request.TaskFilterRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateTaskRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateTaskStateRequest;
+import com.example.definex.taskmanagement.dto.response.BatchItemResponse;
+import com.example.definex.taskmanagement.dto.response.BatchResponse;
 import com.example.definex.taskmanagement.dto.response.CreatedTaskResponse;
+import com.example.definex.taskmanagement.dto.response.CursorPageResponse;
+import com.example.definex.taskmanagement.dto.response.ProjectEvent;
 import com.example.definex.taskmanagement.dto.mapper.TaskMapper;
 import com.example.definex.taskmanagement.dto.response.TaskResponse;
+import com.example.definex.taskmanagement.dto.response.TaskSearchResponse;
+import com.example.definex.taskmanagement.dto.response.TaskTransitionsResponse;
 import com.example.definex.taskmanagement.entities.*;
+import com.example.definex.taskmanagement.exception.BaseException;
 import com.example.definex.taskmanagement.exception.ProjectNotFoundException;
+import com.example.definex.taskmanagement.exception.TaskAccessDeniedException;
 import com.example.definex.taskmanagement.exception.TaskNotFoundException;
+import com.example.definex.taskmanagement.exception.TaskStateException;
 import com.example.definex.taskmanagement.exception.TaskValidationException;
 import com.example.definex.taskmanagement.exception.UserNotFoundException;
 import com.example.definex.taskmanagement.exception.constants.MessageKey;
 import com.example.definex.taskmanagement.repository.ProjectRepository;
+import com.example.definex.taskmanagement.repository.TaskKeyset;
 import com.example.definex.taskmanagement.repository.TaskRepository;
 import com.example.definex.taskmanagement.repository.UserRepository;
 import com.example.definex.taskmanagement.service.TaskService;
+import com.example.definex.taskmanagement.workflow.TaskStateMachine;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +61,13 @@ public class TaskServiceImpl implements TaskService {
     private final TaskAuthorization taskAuthorization;
     private final ProjectRepository projectRepository;
     private final TaskMapper taskMapper;
+    private final SoftDeleteCascade softDeleteCascade;
+    private final TaskStateMachine taskStateMachine;
+    private final TaskStateHistory taskStateHistory;
+    private final ProjectEventPublisher projectEventPublisher;
+    private final DomainEventOutbox domainEventOutbox;
+    private final TaskProperties taskProperties;
+    private final Validator validator;
 
     @Override
     public CreatedTaskResponse save(CreateTaskRequest createTaskRequest,Long projectId){
@@ -40,80 +80,304 @@ public class TaskServiceImpl implements TaskService {
         Task task = taskMapper.createdTaskRequestToTask(createTaskRequest);
         task.setProject(project);
 
-        Task savedTask = taskRepository.save(task);
+        Task savedTask = domainEventOutbox.record(DomainEventType.TASK_CREATED, () -> taskStateHistory.save(task));
+        projectEventPublisher.taskChanged(ProjectEvent.Type.TASK_CREATED, savedTask);
 
         return taskMapper.taskToCreatedTaskResponse(savedTask);
     }
     @Override
     public TaskResponse findById(Long id){
-        Task task = taskRepository.findById(id)
+        TaskView task = taskRepository.findViewById(id)
                 .orElseThrow(() -> new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.toString() + id));
 
         taskAuthorization.validateTaskAccess(task);
 
-        return taskMapper.taskToTaskResponse(task);
+        return taskMapper.taskViewToTaskResponse(task);
+    }
+    public String findRevision(Long id){
+        TaskRevisionView task = taskRepository.findRevisionById(id)
+                .orElseThrow(() -> new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.toString() + id));
+
+        taskAuthorization.validateTaskAccess(task);
+
+        return Revisions.of(task.version());
     }
     @Override
-    public TaskResponse updateTaskState(UpdateTaskStateRequest updateTaskStateRequest,Long taskId){
+    public TaskTransitionsResponse findAllowedTransitions(Long id){
+        TaskView task = taskRepository.findViewById(id)
+                .orElseThrow(() -> new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.toString() + id));
 
-        TaskStateType newState = updateTaskStateRequest.getNewState();
-        String reason = updateTaskStateRequest.getReason();
+        taskAuthorization.validateTaskAccess(task);
 
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.toString()+taskId));
+        return new TaskTransitionsResponse(task.id(), task.state(),
+                taskStateMachine.allowedNextStates(task.state(), task.projectId(), task.departmentId()),
+                taskStateMachine.reasonRequiredStates());
+    }
+    @Override
+    public CursorPageResponse<TaskResponse> findAll(TaskFilterRequest filter, String cursor, int size){
+        int pageSize = CursorCodec.pageSize(size);
+        TaskAccessScope scope = taskAuthorization.getTaskAccessScope();
+        TaskKeyset after = cursor != null ? decodeCursor(cursor) : null;
 
-        if ((newState == TaskStateType.CANCELLED || newState == TaskStateType.BLOCKED) &&
-                (reason == null || reason.trim().isEmpty())) {
-            throw new TaskValidationException(MessageKey.REASON_IS_REQUIRED_FOR_CANCEL_OR_BLOCK_STATE.toString());
+        List<TaskView> tasks = taskRepository.findViews(filter, scope, after, pageSize + 1);
+        return CursorCodec.toPage(tasks, pageSize,
+                task -> CursorCodec.encode(task.projectId(), task.priority(), task.id()),
+                page -> page.stream().map(taskMapper::taskViewToTaskResponse).toList(),
+                null);
+    }
+    @Override
+    public List<TaskSearchResponse> search(String query, int size){
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException(MessageKey.SEARCH_QUERY_CANNOT_BE_EMPTY.toString());
         }
+        TaskAccessScope scope = taskAuthorization.getTaskAccessScope();
 
-        taskAuthorization.validateTaskStateChange(task, newState);
+        return taskRepository.search(query.strip(), scope, CursorCodec.pageSize(size)).stream()
+                .map(taskMapper::taskSearchViewToTaskSearchResponse)
+                .toList();
+    }
+    @Override
+    public TaskResponse updateTaskState(UpdateTaskStateRequest updateTaskStateRequest,Long taskId, List<String> expectedRevisions){
 
-        task.setState(newState);
-        task.setStateChangeReason(reason);
-        return taskMapper.taskToTaskResponse(taskRepository.save(task));
+        TaskStateType newState = updateTaskStateRequest.getNewState();
+        String reason = updateTaskStateRequest.getReason();
+
+        Task task = taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)
+                .orElseThrow(() -> new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.toString()+taskId));
+        Revisions.requireMatch(expectedRevisions, Revisions.of(task.getVersion()));
+
+        changeState(task, newState, reason);
+        Task savedTask = domainEventOutbox.record(DomainEventType.TASK_STATE_CHANGED, () -> taskStateHistory.save(task));
+        projectEventPublisher.taskChanged(ProjectEvent.Type.TASK_STATE_CHANGED, savedTask);
+        return taskMapper.taskToTaskResponse(savedTask);
     }
     @Override
-    public TaskResponse updateTask(Long taskId, UpdateTaskRequest updateTaskRequest){
-        Task existingTask  = taskRepository.findById(taskId)
+    public TaskResponse updateTask(Long taskId, UpdateTaskRequest updateTaskRequest, List<String> expectedRevisions){
+        Task existingTask  = taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)
                 .orElseThrow(() -> new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.toString()+taskId));
 
         taskAuthorization.validateTaskManagement(existingTask);
+        Revisions.requireMatch(expectedRevisions, Revisions.of(existingTask.getVersion()));
         existingTask.setTitle(updateTaskRequest.getTitle());
 
-        return taskMapper.taskToTaskResponse(taskRepository.save(existingTask));
+        Task savedTask = domainEventOutbox.record(DomainEventType.TASK_UPDATED, () -> taskRepository.save(existingTask));
+        projectEventPublisher.taskChanged(ProjectEvent.Type.TASK_UPDATED, savedTask);
+        return taskMapper.taskToTaskResponse(savedTask);
     }
     @Override
-    public TaskResponse assignTaskToTeamMember(Long taskId, Long userId){
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.toString()+taskId));
+    public TaskResponse assignTaskToTeamMember(Long taskId, Long userId, List<String> expectedRevisions){
+        return retryOnConflict(() -> {
+            Task task = taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)
+                    .orElseThrow(() -> new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.toString()+taskId));
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(MessageKey.USER_NOT_FOUND_WITH_ID.toString()+userId));
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new UserNotFoundException(MessageKey.USER_NOT_FOUND_WITH_ID.toString()+userId));
 
-        taskAuthorization.validateTaskAssignment(task);
+            taskAuthorization.validateTaskAssignment(task);
+            Revisions.requireMatch(expectedRevisions, Revisions.of(task.getVersion()));
 
-        task.setAssignee(user);
-        return taskMapper.taskToTaskResponse(taskRepository.save(task));
+            task.setAssignee(user);
+            Task savedTask = domainEventOutbox.record(DomainEventType.TASK_ASSIGNED, () -> taskRepository.save(task));
+            projectEventPublisher.taskChanged(ProjectEvent.Type.TASK_ASSIGNED, savedTask);
+            return taskMapper.taskToTaskResponse(savedTask);
+        });
     }
     @Override
-    public TaskResponse changeTaskPriority(Long taskId, TaskPriorityType taskPriorityType){
-        Task task  = taskRepository.findById(taskId)
-                .orElseThrow(() -> new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.toString()+taskId));
+    public TaskResponse changeTaskPriority(Long taskId, TaskPriorityType taskPriorityType, List<String> expectedRevisions){
+        return retryOnConflict(() -> {
+            Task task  = taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)
+                    .orElseThrow(() -> new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.toString()+taskId));
 
-        taskAuthorization.validateTaskPriorityChange(task);
+            taskAuthorization.validateTaskPriorityChange(task);
+            Revisions.requireMatch(expectedRevisions, Revisions.of(task.getVersion()));
 
-        task.setPriority(taskPriorityType);
-        return taskMapper.taskToTaskResponse(taskRepository.save(task));
+            task.setPriority(taskPriorityType);
+            Task savedTask = domainEventOutbox.record(DomainEventType.TASK_PRIORITY_CHANGED, () -> taskRepository.save(task));
+            projectEventPublisher.taskChanged(ProjectEvent.Type.TASK_PRIORITY_CHANGED, savedTask);
+            return taskMapper.taskToTaskResponse(savedTask);
+        });
     }
     @Override
     public void deleteById(Long taskId){
-        Task deletedTask = taskRepository.findById(taskId)
+        Task deletedTask = taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)
                 .orElseThrow(() -> new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.toString()+taskId));
 
         taskAuthorization.validateTaskDeletion(deletedTask);
 
-        deletedTask.setIsDeleted(true);
-        taskRepository.save(deletedTask);
+        domainEventOutbox.record(DomainEventType.TASK_DELETED, List.of(deletedTask),
+                () -> softDeleteCascade.deleteTasks(List.of(deletedTask.getId())));
+        projectEventPublisher.taskChanged(ProjectEvent.Type.TASK_DELETED, deletedTask);
+    }
+    @Override
+    public void deleteAllById(List<Long> taskIds){
+        validateBatchSize(taskIds);
+        Set<Long> ids = ids(taskIds, Function.identity());
+        Map<Long, Task> tasks = byId(taskRepository.findAllById(ids, TaskRepository.WITH_PROJECT), Task::getId);
+
+        taskIds.forEach(taskId -> taskAuthorization.validateTaskDeletion(existingTask(tasks, taskId)));
+
+        domainEventOutbox.record(DomainEventType.TASK_DELETED, tasks.values(), () -> softDeleteCascade.deleteTasks(ids));
+        tasks.values().forEach(task -> projectEventPublisher.taskChanged(ProjectEvent.Type.TASK_DELETED, task));
+    }
+    @Override
+    public BatchResponse<TaskResponse> saveAll(List<BatchCreateTaskRequest> batchCreateTaskRequests) {
+        validateBatchSize(batchCreateTaskRequests);
+        Map<Long, Project> projects = byId(projectRepository.findAllByIdIn(
+                ids(batchCreateTaskRequests, BatchCreateTaskRequest::getProjectId)), Project::getId);
+
+        return applyBatch(batchCreateTaskRequests, HttpStatus.CREATED, DomainEventType.TASK_CREATED, ProjectEvent.Type.TASK_CREATED, request -> {
+            Project project = projects.get(request.getProjectId());
+            if (project == null) {
+                throw new ProjectNotFoundException(MessageKey.PROJECT_NOT_FOUND_WITH_ID.toString()+request.getProjectId());
+            }
+            validate(request);
+            if (request.getTitle().isBlank()) {
+                throw new TaskValidationException(MessageKey.TASK_TITLE_CANNOT_BE_EMPTY.toString());
+            }
+            taskAuthorization.canCreateTask(project);
+
+            Task task = taskMapper.batchCreateTaskRequestToTask(request);
+            task.setProject(project);
+            return task;
+        });
+    }
+    @Override
+    public BatchResponse<TaskResponse> assignTasks(List<BatchAssignTaskRequest> batchAssignTaskRequests) {
+        validateBatchSize(batchAssignTaskRequests);
+        Map<Long, Task> tasks = byId(taskRepository.findAllById(
+                ids(batchAssignTaskRequests, BatchAssignTaskRequest::getTaskId), TaskRepository.WITH_PROJECT), Task::getId);
+        Map<Long, User> users = byId(userRepository.findAllByIdIn(
+                ids(batchAssignTaskRequests, BatchAssignTaskRequest::getUserId)), User::getId);
+
+        return applyBatch(batchAssignTaskRequests, HttpStatus.OK, DomainEventType.TASK_ASSIGNED, ProjectEvent.Type.TASK_ASSIGNED, request -> {
+            Task task = existingTask(tasks, request.getTaskId());
+            User user = users.get(request.getUserId());
+            if (user == null) {
+                throw new UserNotFoundException(MessageKey.USER_NOT_FOUND_WITH_ID.toString()+request.getUserId());
+            }
+            taskAuthorization.validateTaskAssignment(task);
+
+            task.setAssignee(user);
+            return task;
+        });
+    }
+    @Override
+    public BatchResponse<TaskResponse> updateTaskStates(List<BatchUpdateTaskStateRequest> batchUpdateTaskStateRequests) {
+        validateBatchSize(batchUpdateTaskStateRequests);
+        Map<Long, Task> tasks = byId(taskRepository.findAllById(
+                ids(batchUpdateTaskStateRequests, BatchUpdateTaskStateRequest::getTaskId), TaskRepository.WITH_PROJECT), Task::getId);
+
+        return applyBatch(batchUpdateTaskStateRequests, HttpStatus.OK, DomainEventType.TASK_STATE_CHANGED, ProjectEvent.Type.TASK_STATE_CHANGED, request -> {
+            Task task = existingTask(tasks, request.getTaskId());
+            changeState(task, request.getNewState(), request.getReason());
+            return task;
+        });
+    }
+    private void changeState(Task task, TaskStateType newState, String reason) {
+        if (taskStateMachine.requiresReason(newState) && (reason == null || reason.trim().isEmpty())) {
+            throw new TaskValidationException(MessageKey.REASON_IS_REQUIRED_FOR_CANCEL_OR_BLOCK_STATE.toString());
+        }
+
+        taskAuthorization.validateTaskStateChange(task, newState);
+
+        task.setState(newState);
+        task.setStateChangeReason(reason);
+    }
+    /**
+     * Applies {@code operation} to every request against entities loaded up front, then writes all changed tasks in one
+     * {@code saveAll}. A failing item is reported in its slot and does not stop the others.
+     */
+    private <R> BatchResponse<TaskResponse> applyBatch(List<R> requests, HttpStatus successStatus, DomainEventType domainEventType,
+                                                       ProjectEvent.Type eventType, Function<R, Task> operation) {
+        Task[] tasks = new Task[requests.size()];
+        RuntimeException[] failures = new RuntimeException[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                tasks[i] = operation.apply(requests.get(i));
+            } catch (BaseException | TaskStateException e) {
+                failures[i] = e;
+            }
+        }
+
+        List<Task> changedTasks = Arrays.stream(tasks).filter(Objects::nonNull).distinct().toList();
+        if (!changedTasks.isEmpty()) {
+            domainEventOutbox.record(domainEventType, () -> taskStateHistory.saveAll(changedTasks));
+            changedTasks.forEach(task -> projectEventPublisher.taskChanged(eventType, task));
+        }
+
+        List<BatchItemResponse<TaskResponse>> items = new ArrayList<>(requests.size());
+        int failed = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            if (failures[i] != null) {
+                failed++;
+                items.add(new BatchItemResponse<>(i, failureStatus(failures[i]).value(), null, failures[i].getMessage()));
+            } else {
+                items.add(new BatchItemResponse<>(i, successStatus.value(), taskMapper.taskToTaskResponse(tasks[i]), null));
+            }
+        }
+        return new BatchResponse<>(requests.size() - failed, failed, items);
+    }
+    private HttpStatus failureStatus(RuntimeException failure) {
+        if (failure instanceof BaseException baseException) {
+            return baseException.getHttpStatus();
+        }
+        return failure instanceof TaskAccessDeniedException ? HttpStatus.FORBIDDEN : HttpStatus.BAD_REQUEST;
+    }
+    /**
+     * Re-runs a read-modify-write whose outcome does not depend on the state it read (priority, assignee) when the
+     * version check fails. The rolled-back transaction clears the request's persistence context, so each attempt reads
+     * the current row. Non-commutative updates are not retried and surface as 409.
+     */
+    private <T> T retryOnConflict(Supplier<T> update) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return update.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= taskProperties.getConcurrency().getConflictRetries()) {
+                    throw e;
+                }
+            }
+        }
+    }
+    /**
+     * Applies the constraints the single-item endpoints enforce through {@code @Valid}, so one invalid batch item fails
+     * in its own slot instead of rejecting the whole request.
+     */
+    private void validate(Object request) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new TaskValidationException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+    private void validateBatchSize(List<?> requests) {
+        if (requests.size() > taskProperties.getBatch().getMaxSize())
+            throw new IllegalArgumentException(MessageKey.BATCH_SIZE_EXCEEDS_LIMIT.toString());
+    }
+    private Task existingTask(Map<Long, Task> tasks, Long taskId) {
+        Task task = tasks.get(taskId);
+        if (task == null) {
+            throw new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.toString()+taskId);
+        }
+        return task;
+    }
+    private <R> Set<Long> ids(Collection<R> requests, Function<R, Long> id) {
+        return requests.stream().map(id).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+    private <E> Map<Long, E> byId(Collection<E> entities, Function<E, Long> id) {
+        return entities.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+    private TaskKeyset decodeCursor(String cursor) {
+        String[] parts = CursorCodec.decode(cursor, 3);
+        try {
+            return new TaskKeyset(
+                    Long.valueOf(parts[0]),
+                    parts[1].isEmpty() ? null : TaskPriorityType.valueOf(parts[1]),
+                    Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw CursorCodec.invalidCursor();
+        }
     }
 }
\ No newline at end of file
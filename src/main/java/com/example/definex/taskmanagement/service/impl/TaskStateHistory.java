@@ -0,0 +1,68 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.entities.Project;
+import com.example.definex.taskmanagement.entities.Task;
+import com.example.definex.taskmanagement.entities.TaskStateTransition;
+import com.example.definex.taskmanagement.repository.TaskRepository;
+import com.example.definex.taskmanagement.repository.TaskStateTransitionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Saves tasks and appends a {@link TaskStateTransition} for every task whose state differs from the state it was
+ * loaded with, in the same transaction. New tasks get a transition from {@code null}, which marks their creation.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskStateHistory {
+    private final TaskRepository taskRepository;
+    private final TaskStateTransitionRepository taskStateTransitionRepository;
+
+    @Transactional
+    public Task save(Task task) {
+        return saveAll(List.of(task)).get(0);
+    }
+    @Transactional
+    public List<Task> saveAll(Collection<Task> tasks) {
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        LocalDateTime changedAt = LocalDateTime.now();
+        String changedBy = getCurrentUsername();
+
+        List<TaskStateTransition> transitions = savedTasks.stream()
+                .filter(task -> task.getState() != null && task.getState() != task.getRecordedState())
+                .map(task -> transition(task, changedBy, changedAt))
+                .toList();
+        if (!transitions.isEmpty()) {
+            taskStateTransitionRepository.saveAll(transitions);
+        }
+        savedTasks.forEach(task -> task.setRecordedState(task.getState()));
+        return savedTasks;
+    }
+
+    private TaskStateTransition transition(Task task, String changedBy, LocalDateTime changedAt) {
+        Project project = task.getProject();
+        TaskStateTransition transition = new TaskStateTransition();
+        transition.setTaskId(task.getId());
+        transition.setProjectId(project.getId());
+        transition.setDepartmentId(project.getDepartment() != null ? project.getDepartment().getId() : null);
+        transition.setFromState(task.getRecordedState());
+        transition.setToState(task.getState());
+        transition.setReason(task.getStateChangeReason());
+        transition.setChangedBy(changedBy);
+        transition.setChangedAt(changedAt);
+        return transition;
+    }
+    private String getCurrentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()) {
+            return authentication.getName();
+        }
+        return "system";
+    }
+}
@@ -1,12 +1,15 @@
 package com.example.definex.taskmanagement.service.impl;
 
+import com.example.definex.taskmanagement.dto.projection.UserView;
 import com.example.definex.taskmanagement.dto.request.CreateUserRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateUserRequest;
 import com.example.definex.taskmanagement.dto.response.CreatedUserResponse;
+import com.example.definex.taskmanagement.dto.response.CursorPageResponse;
 import com.example.definex.taskmanagement.dto.response.UpdatedUserResponse;
 import com.example.definex.taskmanagement.dto.response.UserResponse;
 import com.example.definex.taskmanagement.dto.mapper.UserMapper;
 import com.example.definex.taskmanagement.entities.Department;
+import com.example.definex.taskmanagement.entities.DomainEventType;
 import com.example.definex.taskmanagement.entities.User;
 import com.example.definex.taskmanagement.exception.DepartmentNotFoundException;
 import com.example.definex.taskmanagement.exception.UserNotFoundException;
@@ -15,9 +18,12 @@ import com.example.definex.taskmanagement.repository.DepartmentRepository;
 import com.example.definex.taskmanagement.repository.UserRepository;
 import com.example.definex.taskmanagement.service.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.stereotype.Service;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -25,39 +31,70 @@ public class UserServiceImpl implements UserService {
    private final UserRepository userRepository;
    private final UserMapper userMapper;
    private final DepartmentRepository departmentRepository;
+   private final UserCache userCache;
+   private final DomainEventOutbox domainEventOutbox;
 
    @Override
   public CreatedUserResponse save(CreateUserRequest createUserRequest){
      User createdUser = userMapper.createUserRequestToUser(createUserRequest);
-     return userMapper.userToCreatedUserResponse(userRepository.save(createdUser));
+     return userMapper.userToCreatedUserResponse(
+             domainEventOutbox.record(DomainEventType.USER_CREATED, () -> userRepository.save(createdUser)));
    }
    @Override
-   public UpdatedUserResponse update(UpdateUserRequest updateUserRequest,Long userId){
+   public UpdatedUserResponse update(UpdateUserRequest updateUserRequest,Long userId, List<String> expectedRevisions){
 
        User user = userRepository.findById(userId).orElseThrow(()->new UserNotFoundException(MessageKey.USER_NOT_FOUND_WITH_ID.toString()+userId));
+       Revisions.requireMatch(expectedRevisions, Revisions.of(user.getVersion()));
        Department department = departmentRepository.findById(updateUserRequest.getDepartmentId()).orElseThrow(()->new DepartmentNotFoundException(MessageKey.DEPARTMENT_NOT_FOUND_WITH_ID.getMessage()));
 
+       userCache.removeUserFromCache(user.getEmail());
        user.setName(updateUserRequest.getName());
        user.setEmail(updateUserRequest.getEmail());
        user.setRole(updateUserRequest.getRole());
        user.setDepartment(department);
 
-       return userMapper.userToUpdatedUserResponse(userRepository.save(user));
+       User savedUser = domainEventOutbox.record(DomainEventType.USER_UPDATED, () -> userRepository.save(user));
+       userCache.removeUserFromCache(savedUser.getEmail());
+       return userMapper.userToUpdatedUserResponse(savedUser);
    }
    @Override
    public UserResponse getById(Long id){
-      User user = userRepository.findById(id).orElseThrow(()->new UserNotFoundException(MessageKey.USER_NOT_FOUND_WITH_ID.toString()+id));
-      return userMapper.userToUserResponse(user);
+      UserView user = userRepository.findViewById(id).orElseThrow(()->new UserNotFoundException(MessageKey.USER_NOT_FOUND_WITH_ID.toString()+id));
+      return userMapper.userViewToUserResponse(user);
+   }
+   @Override
+   public String findRevision(Long id){
+      return userRepository.findVersionById(id)
+              .map(Revisions::of)
+              .orElseThrow(()->new UserNotFoundException(MessageKey.USER_NOT_FOUND_WITH_ID.toString()+id));
    }
    @Override
    public void deleteById(Long id){
       User user = userRepository.findById(id).orElseThrow(()->new UserNotFoundException(MessageKey.USER_NOT_FOUND_WITH_ID.toString()+id));
       user.setIsDeleted(true);
-      userRepository.save(user);
+      domainEventOutbox.record(DomainEventType.USER_DELETED, List.of(user), () -> userRepository.save(user));
+      userCache.removeUserFromCache(user.getEmail());
    }
    @Override
-   public Page<UserResponse> findAll(Pageable pageable){
-       return userRepository.findAll(pageable)
-               .map(userMapper::userToUserResponse);
+   public CursorPageResponse<UserResponse> findAll(String cursor, int size, boolean includeTotal){
+       int pageSize = CursorCodec.pageSize(size);
+       List<UserView> users = cursor == null
+               ? userRepository.findViews(Limit.of(pageSize + 1))
+               : userRepository.findViewsAfter(CursorCodec.decodeId(cursor), Limit.of(pageSize + 1));
+
+       return CursorCodec.toPage(users, pageSize,
+               user -> CursorCodec.encode(user.id()),
+               page -> page.stream().map(userMapper::userViewToUserResponse).toList(),
+               includeTotal ? userRepository.countByIsDeletedFalse() : null);
+   }
+   @Override
+   @Deprecated
+   public CursorPageResponse<UserResponse> findPage(int page, int size, boolean includeTotal){
+       Slice<UserView> users = userRepository.findViews(PageRequest.of(page, CursorCodec.pageSize(size)));
+
+       return CursorCodec.toPage(users,
+               user -> CursorCodec.encode(user.id()),
+               content -> content.stream().map(userMapper::userViewToUserResponse).toList(),
+               includeTotal ? userRepository.countByIsDeletedFalse() : null);
    }
 }
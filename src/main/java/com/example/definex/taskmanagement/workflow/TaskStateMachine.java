@@ -0,0 +1,87 @@
+package com.example.definex.taskmanagement.workflow;
+
+import com.example.definex.taskmanagement.config.TaskWorkflowProperties;
+import com.example.definex.taskmanagement.entities.Project;
+import com.example.definex.taskmanagement.entities.Task;
+import com.example.definex.taskmanagement.entities.TaskStateType;
+import org.springframework.stereotype.Component;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import static com.example.definex.taskmanagement.entities.TaskStateType.*;
+
+/**
+ * Task workflow as precomputed transition tables. Every row is an unmodifiable {@link EnumSet}, a single bit mask for
+ * this enum, so a transition check is an array lookup plus a bit test. Overrides resolve per source state in the
+ * order project, department, default.
+ */
+@Component
+public class TaskStateMachine {
+    private static final Set<TaskStateType> REASON_REQUIRED = Collections.unmodifiableSet(EnumSet.of(CANCELLED, BLOCKED));
+    private static final Map<TaskStateType, Set<TaskStateType>> DEFAULT_TRANSITIONS = table(Map.of(
+            BACKLOG, EnumSet.of(IN_ANALYSIS, IN_PROGRESS, COMPLETED, CANCELLED),
+            IN_ANALYSIS, EnumSet.of(BACKLOG, IN_PROGRESS, BLOCKED, COMPLETED, CANCELLED),
+            IN_PROGRESS, EnumSet.of(IN_ANALYSIS, COMPLETED, BLOCKED, CANCELLED),
+            BLOCKED, EnumSet.of(IN_ANALYSIS, IN_PROGRESS, BACKLOG, CANCELLED),
+            CANCELLED, EnumSet.of(IN_ANALYSIS, IN_PROGRESS, BACKLOG)));
+
+    private final Map<Long, Map<TaskStateType, Set<TaskStateType>>> departmentOverrides;
+    private final Map<Long, Map<TaskStateType, Set<TaskStateType>>> projectOverrides;
+
+    public TaskStateMachine(TaskWorkflowProperties properties) {
+        this.departmentOverrides = overrides(properties.getDepartments());
+        this.projectOverrides = overrides(properties.getProjects());
+    }
+
+    public Set<TaskStateType> allowedNextStates(Task task) {
+        Project project = task.getProject();
+        Long projectId = project != null ? project.getId() : null;
+        Long departmentId = project != null && project.getDepartment() != null ? project.getDepartment().getId() : null;
+        return allowedNextStates(task.getState(), projectId, departmentId);
+    }
+    public Set<TaskStateType> allowedNextStates(TaskStateType currentState, Long projectId, Long departmentId) {
+        Set<TaskStateType> allowed = override(projectOverrides, projectId, currentState);
+        if (allowed == null) {
+            allowed = override(departmentOverrides, departmentId, currentState);
+        }
+        return allowed != null ? allowed : DEFAULT_TRANSITIONS.get(currentState);
+    }
+    public boolean canTransition(Task task, TaskStateType newState) {
+        return allowedNextStates(task).contains(newState);
+    }
+    public boolean requiresReason(TaskStateType newState) {
+        return REASON_REQUIRED.contains(newState);
+    }
+    public Set<TaskStateType> reasonRequiredStates() {
+        return REASON_REQUIRED;
+    }
+
+    private static Set<TaskStateType> override(Map<Long, Map<TaskStateType, Set<TaskStateType>>> overrides,
+                                               Long id, TaskStateType currentState) {
+        Map<TaskStateType, Set<TaskStateType>> workflow = id != null ? overrides.get(id) : null;
+        return workflow != null ? workflow.get(currentState) : null;
+    }
+    private static Map<Long, Map<TaskStateType, Set<TaskStateType>>> overrides(
+            Map<Long, Map<TaskStateType, Set<TaskStateType>>> configured) {
+        Map<Long, Map<TaskStateType, Set<TaskStateType>>> overrides = new HashMap<>();
+        configured.forEach((id, transitions) -> {
+            Map<TaskStateType, Set<TaskStateType>> table = new EnumMap<>(TaskStateType.class);
+            transitions.forEach((from, to) -> table.put(from, immutable(to)));
+            overrides.put(id, Collections.unmodifiableMap(table));
+        });
+        return Map.copyOf(overrides);
+    }
+    private static Map<TaskStateType, Set<TaskStateType>> table(Map<TaskStateType, Set<TaskStateType>> transitions) {
+        Map<TaskStateType, Set<TaskStateType>> table = new EnumMap<>(TaskStateType.class);
+        for (TaskStateType state : TaskStateType.values()) {
+            table.put(state, immutable(transitions.getOrDefault(state, Set.of())));
+        }
+        return Collections.unmodifiableMap(table);
+    }
+    private static Set<TaskStateType> immutable(Set<TaskStateType> states) {
+        return Collections.unmodifiableSet(states.isEmpty() ? EnumSet.noneOf(TaskStateType.class) : EnumSet.copyOf(states));
+    }
+}
@@ -0,0 +1,15 @@
+-- Search documents are maintained by Postgres itself, so no write path has to remember to refresh them.
+-- The 'english' configuration here must match the one TaskRepositoryCustomImpl passes to websearch_to_tsquery.
+
+alter table task add column search_vector tsvector generated always as (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(user_story_description, '')), 'B') ||
+    setweight(to_tsvector('english', coalesce(acceptance_criteria, '')), 'C')
+) stored;
+
+alter table comment add column search_vector tsvector generated always as (
+    to_tsvector('english', coalesce(content, ''))
+) stored;
+
+create index idx_task_search_active on task using gin (search_vector) where is_deleted = false;
+create index idx_comment_search_active on comment using gin (search_vector) where is_deleted = false;
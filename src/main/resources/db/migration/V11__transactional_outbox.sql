@@ -0,0 +1,20 @@
+-- Domain events written in the same transaction as the change they describe. The relay locks pending rows with
+-- FOR UPDATE SKIP LOCKED, so several replicas can drain the table without handing out a row twice, and stamps
+-- published_at once every sink accepted the batch. Published rows are purged after the retention period.
+create sequence outbox_event_seq increment by 50;
+
+create table outbox_event (
+    id bigint not null primary key,
+    aggregate_type varchar(255) not null,
+    aggregate_id bigint not null,
+    event_type varchar(255) not null check (event_type in ('TASK_CREATED', 'TASK_UPDATED', 'TASK_STATE_CHANGED',
+        'TASK_ASSIGNED', 'TASK_PRIORITY_CHANGED', 'TASK_DELETED', 'COMMENT_ADDED', 'COMMENT_UPDATED', 'COMMENT_DELETED',
+        'ATTACHMENT_ADDED', 'ATTACHMENT_DELETED', 'PROJECT_CREATED', 'PROJECT_UPDATED', 'PROJECT_DELETED',
+        'USER_CREATED', 'USER_UPDATED', 'USER_DELETED')),
+    payload jsonb not null,
+    occurred_at timestamp(6) not null,
+    published_at timestamp(6)
+);
+
+create index idx_outbox_event_pending on outbox_event (id) where published_at is null;
+create index idx_outbox_event_published on outbox_event (published_at) where published_at is not null;
@@ -0,0 +1,12 @@
+-- Per-task comment positions handed out under the task row lock, so they follow commit order across replicas.
+alter table task add column comment_sequence bigint not null default 0;
+alter table comment add column feed_position bigint;
+
+update comment c set feed_position = ranked.position
+from (select id, row_number() over (partition by task_id order by created_at, id) as position from comment) ranked
+where ranked.id = c.id;
+
+update task t set comment_sequence = coalesce((select max(c.feed_position) from comment c where c.task_id = t.id), 0);
+
+alter table comment alter column feed_position set not null;
+create unique index idx_comment_task_feed_position on comment (task_id, feed_position);
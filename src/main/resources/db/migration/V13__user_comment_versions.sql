@@ -0,0 +1,3 @@
+-- Version columns so If-Match on users and comments is enforced at write time, as V8 did for tasks and projects.
+alter table users add column version bigint not null default 0;
+alter table comment add column version bigint not null default 0;
@@ -0,0 +1,7 @@
+-- When a worker claimed the attachment; PROCESSING rows whose claim outlives the lease are re-queued by the sweeper.
+alter table attachment add column processing_claimed_at timestamp(6);
+
+-- Rows already stuck in PROCESSING get a claim now, so they expire after one lease instead of never.
+update attachment set processing_claimed_at = current_timestamp where processing_status = 'PROCESSING';
+
+create index idx_attachment_processing_claim on attachment (processing_claimed_at) where processing_status = 'PROCESSING';
@@ -0,0 +1,15 @@
+-- Severity rank of task.priority (CRITICAL = 0 ... LOW = 3). Listings order by it because the enum names sort
+-- alphabetically; the application keeps it in step with priority on every write.
+alter table task add column priority_rank integer;
+
+update task set priority_rank = case priority
+    when 'CRITICAL' then 0
+    when 'HIGH' then 1
+    when 'MEDIUM' then 2
+    when 'LOW' then 3
+end;
+
+drop index idx_task_project_priority_active;
+drop index idx_task_assignee_project_priority_active;
+create index idx_task_project_priority_active on task (project_id, priority_rank nulls last, id) where is_deleted = false;
+create index idx_task_assignee_project_priority_active on task (assignee_id, project_id, priority_rank nulls last, id) where is_deleted = false;
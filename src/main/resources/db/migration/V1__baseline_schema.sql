@@ -0,0 +1,77 @@
+create table department (
+    id bigint generated by default as identity primary key,
+    name varchar(255),
+    created_at timestamp(6),
+    created_by varchar(255),
+    updated_at timestamp(6),
+    is_deleted boolean
+);
+
+create table users (
+    id bigint generated by default as identity primary key,
+    name varchar(255),
+    email varchar(255),
+    password varchar(255),
+    role varchar(255) check (role in ('GROUP_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')),
+    department_id bigint constraint fk_users_department references department,
+    created_at timestamp(6),
+    created_by varchar(255),
+    updated_at timestamp(6),
+    is_deleted boolean
+);
+
+create table project (
+    id bigint generated by default as identity primary key,
+    title varchar(255),
+    description varchar(255),
+    type varchar(255) check (type in ('IN_PROGRESS', 'CANCELLED', 'COMPLETED')),
+    department_id bigint constraint fk_project_department references department,
+    created_at timestamp(6),
+    created_by varchar(255),
+    updated_at timestamp(6),
+    is_deleted boolean
+);
+
+create table project_partipicant (
+    project_id bigint not null constraint fk_project_partipicant_project references project,
+    user_id bigint not null constraint fk_project_partipicant_user references users
+);
+
+create table task (
+    id bigint generated by default as identity primary key,
+    title varchar(255),
+    user_story_description varchar(255),
+    acceptance_criteria varchar(255),
+    state varchar(255) check (state in ('BACKLOG', 'IN_ANALYSIS', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED', 'BLOCKED')),
+    priority varchar(255) check (priority in ('CRITICAL', 'HIGH', 'MEDIUM', 'LOW')),
+    state_change_reason varchar(255),
+    project_id bigint not null constraint fk_task_project references project,
+    assignee_id bigint constraint fk_task_assignee references users,
+    created_at timestamp(6),
+    created_by varchar(255),
+    updated_at timestamp(6),
+    is_deleted boolean
+);
+
+create table comment (
+    id bigint generated by default as identity primary key,
+    content varchar(255),
+    task_id bigint constraint fk_comment_task references task,
+    user_id bigint not null constraint fk_comment_user references users,
+    created_at timestamp(6),
+    created_by varchar(255),
+    updated_at timestamp(6),
+    is_deleted boolean
+);
+
+create table attachment (
+    id bigint generated by default as identity primary key,
+    file_path varchar(255),
+    file_name varchar(255),
+    user_id bigint constraint fk_attachment_user references users,
+    task_id bigint constraint fk_attachment_task references task,
+    created_at timestamp(6),
+    created_by varchar(255),
+    updated_at timestamp(6),
+    is_deleted boolean
+);
@@ -0,0 +1,13 @@
+-- Every repository query filters on is_deleted = false, so the indexes only cover live rows.
+
+create index idx_users_email_active on users (email) where is_deleted = false;
+
+create index idx_project_department_active on project (department_id, id) where is_deleted = false;
+create index idx_project_partipicant_project on project_partipicant (project_id);
+
+-- Keyset order of GET /api/tasks; the leading project_id also serves task(project_id) lookups.
+create index idx_task_project_priority_active on task (project_id, priority nulls last, id) where is_deleted = false;
+create index idx_task_assignee_project_priority_active on task (assignee_id, project_id, priority nulls last, id) where is_deleted = false;
+
+create index idx_comment_task_active on comment (task_id, id) where is_deleted = false;
+create index idx_attachment_task_active on attachment (task_id) where is_deleted = false;
@@ -0,0 +1,4 @@
+-- Content hash and size recorded at upload time, used for strong ETags and Content-Length on download.
+-- Rows uploaded before this migration keep nulls and are served with a weak ETag derived from file metadata.
+alter table attachment add column content_hash varchar(64);
+alter table attachment add column file_size bigint;
@@ -0,0 +1,10 @@
+-- Content-addressed blob store: one row per distinct SHA-256, counted by live attachment rows.
+create table attachment_blob (
+    content_hash varchar(64) primary key,
+    size bigint not null,
+    reference_count bigint not null,
+    updated_at timestamp(6) not null
+);
+
+-- Compactor scans only released blobs, oldest release first.
+create index idx_attachment_blob_unreferenced on attachment_blob (updated_at) where reference_count = 0;
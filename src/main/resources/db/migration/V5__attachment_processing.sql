@@ -0,0 +1,11 @@
+-- Results of the asynchronous post-processing pipeline.
+alter table attachment add column processing_status varchar(255)
+    check (processing_status in ('PENDING', 'PROCESSING', 'READY', 'QUARANTINED', 'FAILED'));
+alter table attachment add column mime_type varchar(255);
+alter table attachment add column thumbnail_key varchar(255);
+alter table attachment add column text_preview varchar(1000);
+
+-- Existing attachments are queued so the sweeper backfills their metadata.
+update attachment set processing_status = 'PENDING';
+
+create index idx_attachment_pending on attachment (id) where processing_status = 'PENDING' and is_deleted = false;
@@ -0,0 +1,2 @@
+-- Encoding of the stored blob; null means the bytes are stored as uploaded.
+alter table attachment add column content_encoding varchar(16);
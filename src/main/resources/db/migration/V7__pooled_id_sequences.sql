@@ -0,0 +1,27 @@
+-- Ids now come from sequences that hand out blocks of 50 (Hibernate pooled optimizer), so the ORM knows an id before
+-- the INSERT and can send inserts as JDBC batches. Each sequence resumes 50 past the current maximum because the
+-- pooled optimizer treats the value it reads as the top of the block it may use.
+
+alter table department alter column id drop identity;
+create sequence department_seq increment by 50;
+select setval('department_seq', coalesce(max(id), 0) + 50, false) from department;
+
+alter table users alter column id drop identity;
+create sequence users_seq increment by 50;
+select setval('users_seq', coalesce(max(id), 0) + 50, false) from users;
+
+alter table project alter column id drop identity;
+create sequence project_seq increment by 50;
+select setval('project_seq', coalesce(max(id), 0) + 50, false) from project;
+
+alter table task alter column id drop identity;
+create sequence task_seq increment by 50;
+select setval('task_seq', coalesce(max(id), 0) + 50, false) from task;
+
+alter table comment alter column id drop identity;
+create sequence comment_seq increment by 50;
+select setval('comment_seq', coalesce(max(id), 0) + 50, false) from comment;
+
+alter table attachment alter column id drop identity;
+create sequence attachment_seq increment by 50;
+select setval('attachment_seq', coalesce(max(id), 0) + 50, false) from attachment;
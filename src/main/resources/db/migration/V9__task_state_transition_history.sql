@@ -0,0 +1,43 @@
+-- Append-only log of task state changes, range-partitioned by month on changed_at so analytics over recent windows
+-- only touch recent partitions. The primary key must contain the partition key. Monthly partitions are created ahead
+-- of time by ensure_task_state_transition_partitions, which the application also calls at startup and daily; rows
+-- that fall outside every monthly partition land in the default partition. Existing tasks are not backfilled: history
+-- starts with the first change recorded after this migration, and a row with a null from_state marks a creation.
+create sequence task_state_transition_seq increment by 50;
+
+create table task_state_transition (
+    id bigint not null,
+    task_id bigint not null,
+    project_id bigint not null,
+    department_id bigint,
+    from_state varchar(255) check (from_state in ('BACKLOG', 'IN_ANALYSIS', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED', 'BLOCKED')),
+    to_state varchar(255) not null check (to_state in ('BACKLOG', 'IN_ANALYSIS', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED', 'BLOCKED')),
+    reason varchar(255),
+    changed_by varchar(255),
+    changed_at timestamp(6) not null,
+    primary key (id, changed_at)
+) partition by range (changed_at);
+
+create table task_state_transition_default partition of task_state_transition default;
+
+create index idx_task_state_transition_task on task_state_transition (task_id, changed_at);
+create index idx_task_state_transition_project on task_state_transition (project_id, changed_at);
+create index idx_task_state_transition_department on task_state_transition (department_id, changed_at);
+
+create function ensure_task_state_transition_partitions(months_ahead integer) returns void
+language plpgsql as $$
+declare
+    month_start date;
+begin
+    for i in 0..months_ahead loop
+        month_start := (date_trunc('month', now()) + make_interval(months => i))::date;
+        execute format(
+                'create table if not exists %I partition of task_state_transition for values from (%L) to (%L)',
+                'task_state_transition_' || to_char(month_start, 'YYYY_MM'),
+                month_start,
+                (month_start + interval '1 month')::date);
+    end loop;
+end;
+$$;
+
+select ensure_task_state_transition_partitions(2);
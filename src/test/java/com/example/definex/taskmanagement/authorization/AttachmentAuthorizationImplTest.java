@@ -1,6 +1,7 @@
 package com.example.definex.taskmanagement.authorization;
 
 import com.example.definex.taskmanagement.authorization.impl.AttachmentAuthorizationImpl;
+import com.example.definex.taskmanagement.config.security.JwtUserPrincipal;
 import com.example.definex.taskmanagement.entities.*;
 import com.example.definex.taskmanagement.exception.UnauthorizedAccessException;
 import org.junit.jupiter.api.BeforeEach;
@@ -92,7 +93,7 @@ import static org.mockito.Mockito.when;
 
     @Test
     void teamLeaderCanAttachFileToTask() {
-        when(authentication.getPrincipal()).thenReturn(teamLeader);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamLeader));
 
         boolean result = attachmentAuthorizationImpl.userCanAttachFileToTask(task);
 
@@ -101,7 +102,7 @@ import static org.mockito.Mockito.when;
 
     @Test
     void groupManagerCanAttachFileToTaskInSameDepartment() {
-        when(authentication.getPrincipal()).thenReturn(groupManager);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(groupManager));
 
         boolean result = attachmentAuthorizationImpl.userCanAttachFileToTask(task);
 
@@ -110,7 +111,7 @@ import static org.mockito.Mockito.when;
 
     @Test
     void groupManagerCannotAttachFileToTaskInDifferentDepartment() {
-        when(authentication.getPrincipal()).thenReturn(groupManager);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(groupManager));
 
         Project differentProject = new Project();
         differentProject.setId(2L);
@@ -124,7 +125,7 @@ import static org.mockito.Mockito.when;
 
     @Test
     void teamMemberCanAttachFileToAssignedTask() {
-        when(authentication.getPrincipal()).thenReturn(teamMember);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamMember));
 
         boolean result = attachmentAuthorizationImpl.userCanAttachFileToTask(task);
 
@@ -133,7 +134,7 @@ import static org.mockito.Mockito.when;
 
     @Test
     void teamMemberCannotAttachFileToUnassignedTask() {
-        when(authentication.getPrincipal()).thenReturn(otherTeamMember);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(otherTeamMember));
 
         Exception exception = assertThrows(UnauthorizedAccessException.class, () -> {
             attachmentAuthorizationImpl.userCanAttachFileToTask(task);
@@ -144,7 +145,7 @@ import static org.mockito.Mockito.when;
 
     @Test
     void teamLeaderCanDownloadAttachment() {
-        when(authentication.getPrincipal()).thenReturn(teamLeader);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamLeader));
 
         boolean result = attachmentAuthorizationImpl.userCanDownloadAttachment(attachment);
 
@@ -153,7 +154,7 @@ import static org.mockito.Mockito.when;
 
     @Test
     void groupManagerCanDownloadAttachmentInSameDepartment() {
-        when(authentication.getPrincipal()).thenReturn(groupManager);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(groupManager));
 
         boolean result = attachmentAuthorizationImpl.userCanDownloadAttachment(attachment);
 
@@ -162,7 +163,7 @@ import static org.mockito.Mockito.when;
 
     @Test
     void groupManagerCannotDownloadAttachmentInDifferentDepartment() {
-        when(authentication.getPrincipal()).thenReturn(groupManager);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(groupManager));
 
         // Görevin departmanını değiştir
         Project differentProject = new Project();
@@ -177,7 +178,7 @@ import static org.mockito.Mockito.when;
 
     @Test
     void teamMemberCanDownloadAttachmentFromAssignedTask() {
-        when(authentication.getPrincipal()).thenReturn(teamMember);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamMember));
 
         boolean result = attachmentAuthorizationImpl.userCanDownloadAttachment(attachment);
 
@@ -187,7 +188,7 @@ import static org.mockito.Mockito.when;
 
     @Test
     void teamLeaderCanDeleteAttachment() {
-        when(authentication.getPrincipal()).thenReturn(teamLeader);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamLeader));
 
         boolean result = attachmentAuthorizationImpl.userCanDeleteAttachment(attachment);
 
@@ -196,7 +197,7 @@ import static org.mockito.Mockito.when;
 
     @Test
     void groupManagerCanDeleteAttachmentInSameDepartment() {
-        when(authentication.getPrincipal()).thenReturn(groupManager);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(groupManager));
 
         boolean result = attachmentAuthorizationImpl.userCanDeleteAttachment(attachment);
 
@@ -205,7 +206,7 @@ import static org.mockito.Mockito.when;
 
     @Test
     void teamMemberCanDeleteOwnAttachmentFromAssignedTask() {
-        when(authentication.getPrincipal()).thenReturn(teamMember);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamMember));
 
         boolean result = attachmentAuthorizationImpl.userCanDeleteAttachment(attachment);
 
@@ -214,7 +215,7 @@ import static org.mockito.Mockito.when;
 
     @Test
     void teamMemberCannotDeleteAttachmentFromUnassignedTask() {
-        when(authentication.getPrincipal()).thenReturn(otherTeamMember);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(otherTeamMember));
 
         Exception exception = assertThrows(UnauthorizedAccessException.class, () -> {
             attachmentAuthorizationImpl.userCanDeleteAttachment(attachment);
@@ -227,7 +228,7 @@ import static org.mockito.Mockito.when;
 
     @Test
     void teamLeaderCanViewTaskAttachments() {
-        when(authentication.getPrincipal()).thenReturn(teamLeader);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamLeader));
 
         boolean result = attachmentAuthorizationImpl.userCanViewTaskAttachments(task);
 
@@ -236,7 +237,7 @@ import static org.mockito.Mockito.when;
 
     @Test
     void groupManagerCanViewTaskAttachmentsInSameDepartment() {
-        when(authentication.getPrincipal()).thenReturn(groupManager);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(groupManager));
 
         boolean result = attachmentAuthorizationImpl.userCanViewTaskAttachments(task);
 
@@ -245,7 +246,7 @@ import static org.mockito.Mockito.when;
 
     @Test
     void groupManagerCannotViewTaskAttachmentsInDifferentDepartment() {
-        when(authentication.getPrincipal()).thenReturn(groupManager);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(groupManager));
 
         // Görevin departmanını değiştir
         Project differentProject = new Project();
@@ -260,7 +261,7 @@ import static org.mockito.Mockito.when;
 
     @Test
     void teamMemberCanViewAttachmentsFromAssignedTask() {
-        when(authentication.getPrincipal()).thenReturn(teamMember);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamMember));
 
         boolean result = attachmentAuthorizationImpl.userCanViewTaskAttachments(task);
 
@@ -269,7 +270,7 @@ import static org.mockito.Mockito.when;
 
     @Test
     void teamMemberCannotViewAttachmentsFromUnassignedTask() {
-        when(authentication.getPrincipal()).thenReturn(otherTeamMember);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(otherTeamMember));
 
         Exception exception = assertThrows(UnauthorizedAccessException.class, () -> {
             attachmentAuthorizationImpl.userCanViewTaskAttachments(task);
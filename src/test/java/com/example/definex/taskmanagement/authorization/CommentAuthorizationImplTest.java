@@ -1,6 +1,7 @@
 package com.example.definex.taskmanagement.authorization;
 
 import com.example.definex.taskmanagement.authorization.impl.CommentAuthorizationImpl;
+import com.example.definex.taskmanagement.config.security.JwtUserPrincipal;
 import com.example.definex.taskmanagement.entities.Department;
 import com.example.definex.taskmanagement.entities.Project;
 import com.example.definex.taskmanagement.entities.Role;
@@ -79,7 +80,7 @@ import static org.mockito.Mockito.when;
 
     @Test
      void testRegularUserCannotCommentOnUnassignedTask() {
-        when(authentication.getPrincipal()).thenReturn(regularUser);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(regularUser));
         task.setAssignee(null);
 
         assertThrows(UnauthorizedAccessException.class, () -> commentAuthorizationImpl.userCanReachComment(task));
@@ -87,7 +88,7 @@ import static org.mockito.Mockito.when;
 
     @Test
      void testRegularUserCanCommentOnAssignedTask() {
-        when(authentication.getPrincipal()).thenReturn(regularUser);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(regularUser));
         task.setAssignee(regularUser);
 
         assertDoesNotThrow(() -> commentAuthorizationImpl.userCanReachComment(task));
@@ -95,7 +96,7 @@ import static org.mockito.Mockito.when;
 
     @Test
      void testGroupManagerCanCommentOnOwnDepartmentTask() {
-        when(authentication.getPrincipal()).thenReturn(groupManager);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(groupManager));
         task.setAssignee(groupManager);
 
         task.getProject().setDepartment(department1);
@@ -106,7 +107,7 @@ import static org.mockito.Mockito.when;
 
     @Test
      void testGroupManagerCannotCommentOnOtherDepartmentTask() {
-        when(authentication.getPrincipal()).thenReturn(groupManager);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(groupManager));
         task.setAssignee(groupManager);
 
         task.getProject().setDepartment(department2);
@@ -117,7 +118,7 @@ import static org.mockito.Mockito.when;
 
     @Test
      void testUserCannotCommentOnTaskAssignedToOtherUser() {
-        when(authentication.getPrincipal()).thenReturn(regularUser);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(regularUser));
 
         User otherUser = new User();
         otherUser.setId(4L);
@@ -1,10 +1,10 @@
 package com.example.definex.taskmanagement.authorization;
 
 import com.example.definex.taskmanagement.authorization.impl.ProjectAuthorizationImpl;
+import com.example.definex.taskmanagement.config.security.AuthenticatedUser;
 import com.example.definex.taskmanagement.entities.Department;
 import com.example.definex.taskmanagement.entities.Project;
 import com.example.definex.taskmanagement.entities.Role;
-import com.example.definex.taskmanagement.entities.User;
 import com.example.definex.taskmanagement.exception.UnauthorizedAccessException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,7 +29,7 @@ import static org.mockito.Mockito.when;
 
     private Authentication authentication;
     private SecurityContext securityContext;
-    private User user;
+    private AuthenticatedUser user;
     private Department department;
     private Project project;
 
@@ -37,7 +37,7 @@ import static org.mockito.Mockito.when;
      void setup() {
         authentication = mock(Authentication.class);
         securityContext = mock(SecurityContext.class);
-        user = mock(User.class);
+        user = mock(AuthenticatedUser.class);
         department = mock(Department.class);
         project = mock(Project.class);
 
@@ -61,9 +61,7 @@ import static org.mockito.Mockito.when;
         when(user.getRole()).thenReturn(Role.GROUP_MANAGER);
         when(department.getId()).thenReturn(1L);
 
-        Department userDepartment = mock(Department.class);
-        when(userDepartment.getId()).thenReturn(1L);
-        when(user.getDepartment()).thenReturn(userDepartment);
+        when(user.getDepartmentId()).thenReturn(1L);
 
         try (MockedStatic<SecurityContextHolder> securityContextHolder = mockStatic(SecurityContextHolder.class)) {
             securityContextHolder.when(SecurityContextHolder::getContext).thenReturn(securityContext);
@@ -76,9 +74,7 @@ import static org.mockito.Mockito.when;
         when(user.getRole()).thenReturn(Role.GROUP_MANAGER);
         when(department.getId()).thenReturn(1L);
 
-        Department userDepartment = mock(Department.class);
-        when(userDepartment.getId()).thenReturn(2L);
-        when(user.getDepartment()).thenReturn(userDepartment);
+        when(user.getDepartmentId()).thenReturn(2L);
 
         try (MockedStatic<SecurityContextHolder> securityContextHolder = mockStatic(SecurityContextHolder.class)) {
             securityContextHolder.when(SecurityContextHolder::getContext).thenReturn(securityContext);
@@ -96,4 +92,31 @@ import static org.mockito.Mockito.when;
             assertThrows(UnauthorizedAccessException.class, () -> projectAuthorizationImpl.userHasAuthorization(project));
         }
     }
+    @Test
+     void shouldAuthorizeGroupManagerForOwnDepartmentId() {
+        when(user.getRole()).thenReturn(Role.GROUP_MANAGER);
+        when(department.getId()).thenReturn(1L);
+
+        when(user.getDepartmentId()).thenReturn(1L);
+
+        try (MockedStatic<SecurityContextHolder> securityContextHolder = mockStatic(SecurityContextHolder.class)) {
+            securityContextHolder.when(SecurityContextHolder::getContext).thenReturn(securityContext);
+
+            assertDoesNotThrow(() -> projectAuthorizationImpl.userHasAuthorizationForDepartment(project.getDepartment().getId()));
+        }
+    }
+    @Test
+     void shouldNotAuthorizeGroupManagerForOtherDepartmentId() {
+        when(user.getRole()).thenReturn(Role.GROUP_MANAGER);
+        when(department.getId()).thenReturn(1L);
+
+        when(user.getDepartmentId()).thenReturn(2L);
+
+        try (MockedStatic<SecurityContextHolder> securityContextHolder = mockStatic(SecurityContextHolder.class)) {
+            securityContextHolder.when(SecurityContextHolder::getContext).thenReturn(securityContext);
+
+            assertThrows(UnauthorizedAccessException.class,
+                    () -> projectAuthorizationImpl.userHasAuthorizationForDepartment(project.getDepartment().getId()));
+        }
+    }
 }
\ No newline at end of file
@@ -1,11 +1,15 @@
 package com.example.definex.taskmanagement.authorization;
 
 import com.example.definex.taskmanagement.authorization.impl.TaskAuthorizationImpl;
+import com.example.definex.taskmanagement.config.TaskWorkflowProperties;
+import com.example.definex.taskmanagement.config.security.JwtUserPrincipal;
+import com.example.definex.taskmanagement.dto.projection.TaskView;
 import com.example.definex.taskmanagement.entities.*;
 import com.example.definex.taskmanagement.exception.InvalidTaskStateTransitionException;
 import com.example.definex.taskmanagement.exception.TaskCompletedException;
 import com.example.definex.taskmanagement.exception.UnauthorizedAccessException;
 import com.example.definex.taskmanagement.exception.constants.MessageKey;
+import com.example.definex.taskmanagement.workflow.TaskStateMachine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -23,6 +28,9 @@ import static org.mockito.Mockito.*;
     @InjectMocks
     private TaskAuthorizationImpl taskAuthorizationImpl;
 
+    @Spy
+    private TaskStateMachine taskStateMachine = new TaskStateMachine(new TaskWorkflowProperties());
+
     @Mock
     private Authentication authentication;
 
@@ -91,7 +99,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void canCreateTask_RegularUser_ThrowsException() {
-        when(authentication.getPrincipal()).thenReturn(regularUser);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(regularUser));
 
         Exception exception = assertThrows(UnauthorizedAccessException.class,
                 () -> taskAuthorizationImpl.canCreateTask(project));
@@ -102,7 +110,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void canAccessTask_TeamLeader_ReturnsTrue() {
-        when(authentication.getPrincipal()).thenReturn(teamLeader);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamLeader));
 
         boolean result = taskAuthorizationImpl.canAccessTask(task);
 
@@ -111,7 +119,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void canAccessTask_GroupManager_ReturnsTrue() {
-        when(authentication.getPrincipal()).thenReturn(groupManager);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(groupManager));
 
         boolean result = taskAuthorizationImpl.canAccessTask(task);
 
@@ -120,7 +128,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void canAccessTask_AssignedUser_ReturnsTrue() {
-        when(authentication.getPrincipal()).thenReturn(assignedUser);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(assignedUser));
 
         boolean result = taskAuthorizationImpl.canAccessTask(task);
 
@@ -129,7 +137,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void canAccessTask_RegularUser_ReturnsFalse() {
-        when(authentication.getPrincipal()).thenReturn(regularUser);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(regularUser));
 
         boolean result = taskAuthorizationImpl.canAccessTask(task);
 
@@ -138,14 +146,14 @@ import static org.mockito.Mockito.*;
 
     @Test
     void validateTaskAccess_AuthorizedUser_NoException() {
-        when(authentication.getPrincipal()).thenReturn(teamLeader);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamLeader));
 
         assertDoesNotThrow(() -> taskAuthorizationImpl.validateTaskAccess(task));
     }
 
     @Test
     void validateTaskAccess_UnauthorizedUser_ThrowsException() {
-        when(authentication.getPrincipal()).thenReturn(regularUser);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(regularUser));
 
         Exception exception = assertThrows(UnauthorizedAccessException.class,
                 () -> taskAuthorizationImpl.validateTaskAccess(task));
@@ -156,7 +164,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void canManageTask_TeamLeader_ReturnsTrue() {
-        when(authentication.getPrincipal()).thenReturn(teamLeader);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamLeader));
 
         boolean result = taskAuthorizationImpl.canManageTask(task);
 
@@ -165,7 +173,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void canManageTask_GroupManager_ReturnsTrue() {
-        when(authentication.getPrincipal()).thenReturn(groupManager);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(groupManager));
 
         boolean result = taskAuthorizationImpl.canManageTask(task);
 
@@ -174,7 +182,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void canManageTask_RegularUser_ReturnsFalse() {
-        when(authentication.getPrincipal()).thenReturn(regularUser);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(regularUser));
 
         boolean result = taskAuthorizationImpl.canManageTask(task);
 
@@ -183,14 +191,14 @@ import static org.mockito.Mockito.*;
 
     @Test
     void validateTaskManagement_AuthorizedUser_NoException() {
-        when(authentication.getPrincipal()).thenReturn(teamLeader);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamLeader));
 
         assertDoesNotThrow(() -> taskAuthorizationImpl.validateTaskManagement(task));
     }
 
     @Test
     void validateTaskManagement_UnauthorizedUser_ThrowsException() {
-        when(authentication.getPrincipal()).thenReturn(regularUser);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(regularUser));
 
         Exception exception = assertThrows(UnauthorizedAccessException.class,
                 () -> taskAuthorizationImpl.validateTaskManagement(task));
@@ -202,7 +210,7 @@ import static org.mockito.Mockito.*;
     @Test
     void validateTaskStateChange_ValidTransition_NoException() {
         task.setState(TaskStateType.BACKLOG);
-        when(authentication.getPrincipal()).thenReturn(teamLeader);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamLeader));
 
         assertDoesNotThrow(() ->
                 taskAuthorizationImpl.validateTaskStateChange(task, TaskStateType.IN_PROGRESS));
@@ -211,7 +219,7 @@ import static org.mockito.Mockito.*;
     @Test
     void validateTaskStateChange_CompletedTask_ThrowsException() {
         task.setState(TaskStateType.COMPLETED);
-        when(authentication.getPrincipal()).thenReturn(teamLeader);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamLeader));
 
           assertThrows(TaskCompletedException.class, () ->
                 taskAuthorizationImpl.validateTaskStateChange(task, TaskStateType.IN_PROGRESS));
@@ -220,7 +228,7 @@ import static org.mockito.Mockito.*;
     @Test
     void validateTaskStateChange_InvalidTransition_ThrowsException() {
         task.setState(TaskStateType.BACKLOG);
-        when(authentication.getPrincipal()).thenReturn(teamLeader);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamLeader));
 
              assertThrows(InvalidTaskStateTransitionException.class, () ->
                 taskAuthorizationImpl.validateTaskStateChange(task, TaskStateType.BLOCKED));
@@ -228,7 +236,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void canAssignTask_TeamLeader_ReturnsTrue() {
-        when(authentication.getPrincipal()).thenReturn(teamLeader);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamLeader));
 
         boolean result = taskAuthorizationImpl.canAssignTask(task);
 
@@ -237,7 +245,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void canAssignTask_GroupManager_ReturnsTrue() {
-        when(authentication.getPrincipal()).thenReturn(groupManager);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(groupManager));
 
         boolean result = taskAuthorizationImpl.canAssignTask(task);
 
@@ -246,7 +254,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void canAssignTask_RegularUser_ReturnsFalse() {
-        when(authentication.getPrincipal()).thenReturn(regularUser);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(regularUser));
 
         boolean result = taskAuthorizationImpl.canAssignTask(task);
 
@@ -255,14 +263,14 @@ import static org.mockito.Mockito.*;
 
     @Test
     void validateTaskAssignment_AuthorizedUser_NoException() {
-        when(authentication.getPrincipal()).thenReturn(teamLeader);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamLeader));
 
         assertDoesNotThrow(() -> taskAuthorizationImpl.validateTaskAssignment(task));
     }
 
     @Test
     void validateTaskAssignment_UnauthorizedUser_ThrowsException() {
-        when(authentication.getPrincipal()).thenReturn(regularUser);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(regularUser));
 
         Exception exception = assertThrows(UnauthorizedAccessException.class,
                 () -> taskAuthorizationImpl.validateTaskAssignment(task));
@@ -273,7 +281,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void canChangeTaskPriority_TeamLeader_ReturnsTrue() {
-        when(authentication.getPrincipal()).thenReturn(teamLeader);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamLeader));
 
         boolean result = taskAuthorizationImpl.canChangeTaskPriority(task);
 
@@ -282,7 +290,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void canChangeTaskPriority_GroupManager_ReturnsTrue() {
-        when(authentication.getPrincipal()).thenReturn(groupManager);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(groupManager));
 
         boolean result = taskAuthorizationImpl.canChangeTaskPriority(task);
 
@@ -291,7 +299,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void canChangeTaskPriority_RegularUser_ReturnsFalse() {
-        when(authentication.getPrincipal()).thenReturn(regularUser);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(regularUser));
 
         boolean result = taskAuthorizationImpl.canChangeTaskPriority(task);
 
@@ -300,14 +308,14 @@ import static org.mockito.Mockito.*;
 
     @Test
     void validateTaskPriorityChange_AuthorizedUser_NoException() {
-        when(authentication.getPrincipal()).thenReturn(teamLeader);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamLeader));
 
         assertDoesNotThrow(() -> taskAuthorizationImpl.validateTaskPriorityChange(task));
     }
 
     @Test
     void validateTaskPriorityChange_UnauthorizedUser_ThrowsException() {
-        when(authentication.getPrincipal()).thenReturn(regularUser);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(regularUser));
 
         Exception exception = assertThrows(UnauthorizedAccessException.class,
                 () -> taskAuthorizationImpl.validateTaskPriorityChange(task));
@@ -318,7 +326,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void canDeleteTask_TeamLeader_ReturnsTrue() {
-        when(authentication.getPrincipal()).thenReturn(teamLeader);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamLeader));
 
         boolean result = taskAuthorizationImpl.canDeleteTask(task);
 
@@ -327,7 +335,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void canDeleteTask_GroupManager_ReturnsTrue() {
-        when(authentication.getPrincipal()).thenReturn(groupManager);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(groupManager));
 
         boolean result = taskAuthorizationImpl.canDeleteTask(task);
 
@@ -336,7 +344,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void canDeleteTask_RegularUser_ReturnsFalse() {
-        when(authentication.getPrincipal()).thenReturn(regularUser);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(regularUser));
 
         boolean result = taskAuthorizationImpl.canDeleteTask(task);
 
@@ -345,14 +353,14 @@ import static org.mockito.Mockito.*;
 
     @Test
     void validateTaskDeletion_AuthorizedUser_NoException() {
-        when(authentication.getPrincipal()).thenReturn(teamLeader);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(teamLeader));
 
         assertDoesNotThrow(() -> taskAuthorizationImpl.validateTaskDeletion(task));
     }
 
     @Test
     void validateTaskDeletion_UnauthorizedUser_ThrowsException() {
-        when(authentication.getPrincipal()).thenReturn(regularUser);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(regularUser));
 
         Exception exception = assertThrows(UnauthorizedAccessException.class,
                 () -> taskAuthorizationImpl.validateTaskDeletion(task));
@@ -363,7 +371,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void validateTaskStateChange_UnauthorizedUser_ThrowsException() {
-        when(authentication.getPrincipal()).thenReturn(regularUser);
+        when(authentication.getPrincipal()).thenReturn(JwtUserPrincipal.from(regularUser));
 
         Exception exception = assertThrows(UnauthorizedAccessException.class,
                 () -> taskAuthorizationImpl.validateTaskStateChange(task, TaskStateType.IN_PROGRESS));
@@ -371,4 +379,71 @@ import static org.mockito.Mockito.*;
         assertEquals(MessageKey.USER_DOES_NOT_HAVE_ACCESS_TO_TASK.getMessage(),
                 exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void canAccessTask_JwtPrincipalGroupManagerOfDepartment_ReturnsTrue() {
+        when(authentication.getPrincipal()).thenReturn(new JwtUserPrincipal(2L, "manager@test.com", Role.GROUP_MANAGER, 1L));
+
+        assertTrue(taskAuthorizationImpl.canAccessTask(task));
+    }
+
+    @Test
+    void canAccessTask_JwtPrincipalAssignee_ReturnsTrue() {
+        when(authentication.getPrincipal()).thenReturn(new JwtUserPrincipal(4L, "assigned@test.com", Role.TEAM_MEMBER, null));
+
+        assertTrue(taskAuthorizationImpl.canAccessTask(task));
+    }
+
+    @Test
+    void canManageTask_JwtPrincipalGroupManagerOfOtherDepartment_ReturnsFalse() {
+        when(authentication.getPrincipal()).thenReturn(new JwtUserPrincipal(2L, "manager@test.com", Role.GROUP_MANAGER, 2L));
+
+        assertFalse(taskAuthorizationImpl.canManageTask(task));
+    }
+
+    @Test
+    void canAccessTask_TaskViewOfOwnDepartment_ReturnsTrueForGroupManager() {
+        when(authentication.getPrincipal()).thenReturn(new JwtUserPrincipal(2L, "manager@test.com", Role.GROUP_MANAGER, 1L));
+
+        assertTrue(taskAuthorizationImpl.canAccessTask(taskView(1L, null)));
+    }
+
+    @Test
+    void validateTaskAccess_TaskViewOfOtherUser_ThrowsUnauthorizedAccessException() {
+        when(authentication.getPrincipal()).thenReturn(new JwtUserPrincipal(3L, "user@test.com", Role.TEAM_MEMBER, 1L));
+
+        assertThrows(UnauthorizedAccessException.class, () -> taskAuthorizationImpl.validateTaskAccess(taskView(1L, 4L)));
+    }
+
+    @Test
+    void canAccessTask_TaskViewAssignee_ReturnsTrue() {
+        when(authentication.getPrincipal()).thenReturn(new JwtUserPrincipal(4L, "assigned@test.com", Role.TEAM_MEMBER, 2L));
+
+        assertTrue(taskAuthorizationImpl.canAccessTask(taskView(1L, 4L)));
+    }
+
+    @Test
+    void getTaskAccessScope_TeamLeader_ReturnsUnrestrictedScope() {
+        when(authentication.getPrincipal()).thenReturn(new JwtUserPrincipal(1L, "leader@test.com", Role.TEAM_LEADER, 1L));
+
+        assertTrue(taskAuthorizationImpl.getTaskAccessScope().unrestricted());
+    }
+
+    @Test
+    void getTaskAccessScope_GroupManager_ReturnsDepartmentAndAssigneeScope() {
+        when(authentication.getPrincipal()).thenReturn(new JwtUserPrincipal(2L, "manager@test.com", Role.GROUP_MANAGER, 1L));
+
+        assertEquals(new TaskAccessScope(false, 1L, 2L), taskAuthorizationImpl.getTaskAccessScope());
+    }
+
+    @Test
+    void getTaskAccessScope_TeamMember_ReturnsAssigneeScope() {
+        when(authentication.getPrincipal()).thenReturn(new JwtUserPrincipal(3L, "user@test.com", Role.TEAM_MEMBER, 1L));
+
+        assertEquals(new TaskAccessScope(false, null, 3L), taskAuthorizationImpl.getTaskAccessScope());
+    }
+
+    private TaskView taskView(Long departmentId, Long assigneeId) {
+        return new TaskView(1L, 0L, "Task", null, null, TaskStateType.BACKLOG, null, 1L, departmentId, assigneeId, null, null, null, false);
+    }
+}
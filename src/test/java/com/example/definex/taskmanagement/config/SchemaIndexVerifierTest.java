@@ -0,0 +1,44 @@
+package com.example.definex.taskmanagement.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+ class SchemaIndexVerifierTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void run_AllIndexesPresent_ShouldPass() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(SchemaIndexVerifier.REQUIRED_INDEXES);
+
+        assertDoesNotThrow(() -> new SchemaIndexVerifier(jdbcTemplate, true).run(null));
+    }
+
+    @Test
+    void run_MissingIndexWithFailOnMissing_ShouldFailStartup() {
+        List<String> indexes = new ArrayList<>(SchemaIndexVerifier.REQUIRED_INDEXES);
+        indexes.remove("idx_users_email_active");
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(indexes);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> new SchemaIndexVerifier(jdbcTemplate, true).run(null));
+        assertTrue(exception.getMessage().contains("idx_users_email_active"));
+    }
+
+    @Test
+    void run_MissingIndexWithoutFailOnMissing_ShouldOnlyWarn() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of());
+
+        assertDoesNotThrow(() -> new SchemaIndexVerifier(jdbcTemplate, false).run(null));
+    }
+}
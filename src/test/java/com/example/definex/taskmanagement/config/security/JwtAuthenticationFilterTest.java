@@ -0,0 +1,42 @@
+package com.example.definex.taskmanagement.config.security;
+
+import com.example.definex.taskmanagement.entities.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import java.time.Duration;
+import static org.junit.jupiter.api.Assertions.*;
+
+ class JwtAuthenticationFilterTest {
+    private static final String SECRET = "E3F2B87DF10D3A43257E4D68D50D97E810556C1D24C852E174875CE3194E1C16";
+    private static final String EMAIL = "user@test.com";
+
+    private final JwtService jwtService = new JwtService(SECRET, 60000, true, Duration.ofSeconds(30), 100);
+    private final CaffeineUserCache userCache = new CaffeineUserCache(Duration.ofMinutes(5), 100);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService,
+            email -> new JwtUserPrincipal(1L, email, Role.TEAM_MEMBER, 7L, "$2a$10$hash"), userCache);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilterInternal_ShouldCacheAndAuthenticatePrincipalWithoutPasswordHash() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + jwtService.generateToken(new JwtUserPrincipal(1L, EMAIL, Role.TEAM_MEMBER, 7L)));
+
+        filter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        UserDetails cached = userCache.getUserFromCache(EMAIL);
+        assertNotNull(cached);
+        assertNull(cached.getPassword());
+        UserDetails authenticated = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertEquals(EMAIL, authenticated.getUsername());
+        assertNull(authenticated.getPassword());
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.definex.taskmanagement.config.security;
+
+import com.example.definex.taskmanagement.entities.Department;
+import com.example.definex.taskmanagement.entities.Role;
+import com.example.definex.taskmanagement.entities.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import java.time.Duration;
+import static org.junit.jupiter.api.Assertions.*;
+
+ class JwtServiceTest {
+    private static final String SECRET = "E3F2B87DF10D3A43257E4D68D50D97E810556C1D24C852E174875CE3194E1C16";
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(1L);
+        user.setEmail("user@test.com");
+        user.setRole(Role.TEAM_MEMBER);
+    }
+
+    @Test
+    void verifyToken_WithCacheEnabled_ShouldReturnCachedClaimsForSameToken() {
+        JwtService jwtService = new JwtService(SECRET, 60000, true, Duration.ofSeconds(30), 100);
+        String token = jwtService.generateToken(JwtUserPrincipal.from(user));
+
+        Claims first = jwtService.verifyToken(token);
+        Claims second = jwtService.verifyToken(token);
+
+        assertEquals("user@test.com", first.getSubject());
+        assertSame(first, second);
+        assertTrue(jwtService.isTokenValid(first, JwtUserPrincipal.from(user)));
+    }
+
+    @Test
+    void verifyToken_WithCacheDisabled_ShouldParseEveryTime() {
+        JwtService jwtService = new JwtService(SECRET, 60000, false, Duration.ofSeconds(30), 100);
+        String token = jwtService.generateToken(JwtUserPrincipal.from(user));
+
+        assertNotSame(jwtService.verifyToken(token), jwtService.verifyToken(token));
+        assertEquals("user@test.com", jwtService.extractUsername(token));
+        assertTrue(jwtService.isTokenValid(token, JwtUserPrincipal.from(user)));
+    }
+
+    @Test
+    void verifyToken_WithTamperedSignature_ShouldThrowException() {
+        JwtService jwtService = new JwtService(SECRET, 60000, true, Duration.ofSeconds(30), 100);
+        String token = jwtService.generateToken(JwtUserPrincipal.from(user));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtService.verifyToken(tampered));
+    }
+
+    @Test
+    void verifyToken_WithExpiredToken_ShouldThrowException() {
+        JwtService jwtService = new JwtService(SECRET, -1000, true, Duration.ofSeconds(30), 100);
+        String token = jwtService.generateToken(JwtUserPrincipal.from(user));
+
+        assertThrows(JwtException.class, () -> jwtService.verifyToken(token));
+    }
+
+    @Test
+    void extractPrincipal_ShouldBuildPrincipalFromTokenClaims() {
+        Department department = new Department();
+        department.setId(7L);
+        user.setDepartment(department);
+        JwtService jwtService = new JwtService(SECRET, 60000, true, Duration.ofSeconds(30), 100);
+
+        JwtUserPrincipal principal = jwtService.extractPrincipal(jwtService.verifyToken(jwtService.generateToken(JwtUserPrincipal.from(user))));
+
+        assertEquals(1L, principal.getId());
+        assertEquals("user@test.com", principal.getUsername());
+        assertEquals(Role.TEAM_MEMBER, principal.getRole());
+        assertEquals(7L, principal.getDepartmentId());
+    }
+
+    @Test
+    void extractPrincipal_WithoutPrincipalClaims_ShouldReturnNull() {
+        JwtService jwtService = new JwtService(SECRET, 60000, true, Duration.ofSeconds(30), 100);
+        UserDetails plainUser = org.springframework.security.core.userdetails.User
+                .withUsername("plain@test.com").password("x").authorities("TEAM_MEMBER").build();
+
+        assertNull(jwtService.extractPrincipal(jwtService.verifyToken(jwtService.generateToken(plainUser))));
+    }
+}
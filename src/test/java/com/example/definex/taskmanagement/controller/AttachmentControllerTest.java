@@ -1,5 +1,6 @@
 package com.example.definex.taskmanagement.controller;
 
+import com.example.definex.taskmanagement.dto.response.AttachmentDownload;
 import com.example.definex.taskmanagement.dto.response.FileAttachmentResponse;
 import com.example.definex.taskmanagement.dto.response.UploadedFileAttachmentResponse;
 import com.example.definex.taskmanagement.exception.AttachmentNotFoundException;
@@ -9,19 +10,25 @@ import com.example.definex.taskmanagement.service.AttachmentService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -35,6 +42,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
     @Mock
     private AttachmentService attachmentService;
 
+    @TempDir
+    private Path tempDir;
+
     private MockMvc mockMvc;
     private ObjectMapper objectMapper = new ObjectMapper();
 
@@ -66,17 +76,153 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
                 .andExpect(status().isOk());
     }
     @Test
+    void uploadFileStream_Success() throws Exception {
+        UploadedFileAttachmentResponse mockResponse = new UploadedFileAttachmentResponse();
+        when(attachmentService.uploadFile(any(InputStream.class), eq("test.txt"), eq(12L), any())).thenReturn(mockResponse);
+
+        mockMvc.perform(post(API_BASE_PATH + "/upload/stream")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content("Test Content".getBytes())
+                        .param("fileName", "test.txt")
+                        .param("userId", "1")
+                        .param("taskId", "1"))
+                .andExpect(status().isOk());
+    }
+    @Test
     void downloadFile_Success() throws Exception {
         Long attachmentId = 1L;
-        Resource mockResource = new ByteArrayResource("File Content".getBytes());
-        when(attachmentService.downloadFile(attachmentId)).thenReturn(mockResource);
+        when(attachmentService.downloadFile(attachmentId)).thenReturn(download("File Content"));
 
         mockMvc.perform(get(API_BASE_PATH + "/download/{attachmentId}", attachmentId))
                 .andExpect(status().isOk())
-                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"null\""))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"report.txt\""))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 12))
+                .andExpect(content().bytes("File Content".getBytes()));
+    }
+    @Test
+    void downloadFile_WithRange_ReturnsPartialContent() throws Exception {
+        Long attachmentId = 1L;
+        when(attachmentService.downloadFile(attachmentId)).thenReturn(download("File Content"));
+
+        mockMvc.perform(get(API_BASE_PATH + "/download/{attachmentId}", attachmentId)
+                        .header(HttpHeaders.RANGE, "bytes=5-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-11/12"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 7))
+                .andExpect(content().bytes("Content".getBytes()));
+    }
+    @Test
+    void downloadFile_WithStaleIfRange_ReturnsWholeFile() throws Exception {
+        Long attachmentId = 1L;
+        when(attachmentService.downloadFile(attachmentId)).thenReturn(download("File Content"));
+
+        mockMvc.perform(get(API_BASE_PATH + "/download/{attachmentId}", attachmentId)
+                        .header(HttpHeaders.RANGE, "bytes=5-")
+                        .header(HttpHeaders.IF_RANGE, "\"old\""))
+                .andExpect(status().isOk())
                 .andExpect(content().bytes("File Content".getBytes()));
     }
     @Test
+    void downloadFile_FromRemoteStorage_StreamsRequestedRange() throws Exception {
+        Long attachmentId = 1L;
+        AttachmentDownload download = new AttachmentDownload("blobs/ab/cd/abc123", null, "report.txt", 12L, 0L, "\"abc123\"", true, null, 12L);
+        when(attachmentService.downloadFile(attachmentId)).thenReturn(download);
+        when(attachmentService.openDownload(download, 5L, 7L)).thenReturn(new ByteArrayInputStream("Content".getBytes()));
+
+        mockMvc.perform(get(API_BASE_PATH + "/download/{attachmentId}", attachmentId)
+                        .header(HttpHeaders.RANGE, "bytes=5-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes("Content".getBytes()));
+    }
+    @Test
+    void downloadFile_CompressedWhenClientAcceptsGzip_ServesStoredBytes() throws Exception {
+        Long attachmentId = 1L;
+        byte[] gzipped = gzip("File Content");
+        Path file = Files.write(tempDir.resolve("report.txt.gz"), gzipped);
+        when(attachmentService.downloadFile(attachmentId)).thenReturn(new AttachmentDownload("report.txt.gz", file,
+                "report.txt", 12L, 0L, "\"abc123\"", true, "gzip", gzipped.length));
+
+        mockMvc.perform(get(API_BASE_PATH + "/download/{attachmentId}", attachmentId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123-gzip\""))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, gzipped.length))
+                .andExpect(content().bytes(gzipped));
+    }
+    @Test
+    void downloadFile_CompressedWhenClientRejectsGzip_StreamsDecodedBytes() throws Exception {
+        Long attachmentId = 1L;
+        AttachmentDownload download = new AttachmentDownload("report.txt.gz", null,
+                "report.txt", 12L, 0L, "\"abc123\"", true, "gzip", 32L);
+        when(attachmentService.downloadFile(attachmentId)).thenReturn(download);
+        when(attachmentService.openDecodedDownload(download, 0L, 12L)).thenReturn(new ByteArrayInputStream("File Content".getBytes()));
+
+        mockMvc.perform(get(API_BASE_PATH + "/download/{attachmentId}", attachmentId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 12))
+                .andExpect(content().bytes("File Content".getBytes()));
+    }
+    @Test
+    void downloadFile_CompressedWithRangeWhenClientAcceptsGzip_ServesWholeEncodedBody() throws Exception {
+        Long attachmentId = 1L;
+        byte[] gzipped = gzip("File Content");
+        Path file = Files.write(tempDir.resolve("report.txt.gz"), gzipped);
+        when(attachmentService.downloadFile(attachmentId)).thenReturn(new AttachmentDownload("report.txt.gz", file,
+                "report.txt", 12L, 0L, "\"abc123\"", true, "gzip", gzipped.length));
+
+        mockMvc.perform(get(API_BASE_PATH + "/download/{attachmentId}", attachmentId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.RANGE, "bytes=5-"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "none"))
+                .andExpect(content().bytes(gzipped));
+        verify(attachmentService, never()).openDecodedDownload(any(), anyLong(), anyLong());
+    }
+    @Test
+    void downloadFile_CompressedWithRangeWhenClientRejectsGzip_ServesDecodedRange() throws Exception {
+        Long attachmentId = 1L;
+        AttachmentDownload download = new AttachmentDownload("report.txt.gz", null,
+                "report.txt", 12L, 0L, "\"abc123\"", true, "gzip", 32L);
+        when(attachmentService.downloadFile(attachmentId)).thenReturn(download);
+        when(attachmentService.openDecodedDownload(download, 5L, 7L)).thenReturn(new ByteArrayInputStream("Content".getBytes()));
+
+        mockMvc.perform(get(API_BASE_PATH + "/download/{attachmentId}", attachmentId)
+                        .header(HttpHeaders.RANGE, "bytes=5-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-11/12"))
+                .andExpect(content().bytes("Content".getBytes()));
+    }
+    @Test
+    void downloadFile_WithUnsatisfiableRange_ReturnsRangeNotSatisfiable() throws Exception {
+        Long attachmentId = 1L;
+        when(attachmentService.downloadFile(attachmentId)).thenReturn(download("File Content"));
+
+        mockMvc.perform(get(API_BASE_PATH + "/download/{attachmentId}", attachmentId)
+                        .header(HttpHeaders.RANGE, "bytes=50-60"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */12"));
+    }
+    @Test
+    void downloadFile_WithMatchingIfNoneMatch_ReturnsNotModified() throws Exception {
+        Long attachmentId = 1L;
+        when(attachmentService.downloadFile(attachmentId)).thenReturn(download("File Content"));
+
+        mockMvc.perform(get(API_BASE_PATH + "/download/{attachmentId}", attachmentId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+    @Test
     void downloadFile_NotFound_ReturnsNotFound() throws Exception {
         Long attachmentId = 999L;
         when(attachmentService.downloadFile(attachmentId))
@@ -86,6 +232,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
                 .andExpect(status().isNotFound());
     }
     @Test
+    void downloadThumbnail_Success() throws Exception {
+        Long attachmentId = 1L;
+        when(attachmentService.downloadThumbnail(attachmentId)).thenReturn(download("PNG bytes"));
+
+        mockMvc.perform(get(API_BASE_PATH + "/{attachmentId}/thumbnail", attachmentId))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes("PNG bytes".getBytes()));
+    }
+    @Test
     void deleteAttachment_Success() throws Exception {
         Long attachmentId = 1L;
         doNothing().when(attachmentService).deleteAttachment(attachmentId);
@@ -123,4 +278,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         mockMvc.perform(get(API_BASE_PATH + "/task/{taskId}", taskId))
                 .andExpect(status().isOk());
     }
+    private byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(content.getBytes());
+        }
+        return bytes.toByteArray();
+    }
+    private AttachmentDownload download(String content) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("report.txt"), content);
+        return new AttachmentDownload("report.txt", file, "report.txt", Files.size(file), 0L, "\"abc123\"", true, null, Files.size(file));
+    }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.example.definex.taskmanagement.controller;
 
 import com.example.definex.taskmanagement.dto.request.CreateDepartmentRequest;
 import com.example.definex.taskmanagement.dto.response.CreatedDepartmentResponse;
+import com.example.definex.taskmanagement.dto.response.CursorPageResponse;
 import com.example.definex.taskmanagement.dto.response.DepartmentResponse;
 import com.example.definex.taskmanagement.exception.DepartmentNotFoundException;
 import com.example.definex.taskmanagement.exception.GlobalExceptionHandler;
@@ -13,16 +14,16 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.util.Collections;
+import java.util.List;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
  class DepartmentControllerTest {
     private static final String API_BASE_PATH = "/api/departments";
@@ -71,34 +72,58 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
     @Test
     void getDepartmentById_NonExistingId_ReturnsNotFound() throws Exception {
         Long id = 99L;
-        when(departmentService.findById(id)).thenThrow(new DepartmentNotFoundException(MessageKey.DEPARTMENT_NOT_FOUND_WITH_ID.getMessage()));
+        when(departmentService.findRevision(id)).thenThrow(new DepartmentNotFoundException(MessageKey.DEPARTMENT_NOT_FOUND_WITH_ID.getMessage()));
 
         mockMvc.perform(get(API_BASE_PATH + "/{id}", id))
                 .andExpect(status().isNotFound());
 
-        verify(departmentService).findById(id);
+        verify(departmentService, never()).findById(id);
     }
     @Test
-    void getAllDepartments_DefaultPagination_ReturnsPage() throws Exception {
-        int page = 0;
-        int size = 10;
-        Pageable pageable = PageRequest.of(page, size);
+    void getDepartmentById_WhenIfNoneMatchMatches_ReturnsNotModified() throws Exception {
+        Long id = 1L;
+        when(departmentService.findRevision(id)).thenReturn("1700000000000000-2-1700000000000001");
 
+        mockMvc.perform(get(API_BASE_PATH + "/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1700000000000000-2-1700000000000001\""))
+                .andExpect(status().isNotModified());
+
+        verify(departmentService, never()).findById(id);
+    }
+    @Test
+    void getAllDepartments_DefaultPagination_ReturnsPage() throws Exception {
         DepartmentResponse departmentResponse = new DepartmentResponse();
+        CursorPageResponse<DepartmentResponse> pagedResponse = new CursorPageResponse<>(
+                Collections.singletonList(departmentResponse), 10, "next", true, null);
+
+        when(departmentService.findAll("abc", 10, false)).thenReturn(pagedResponse);
 
-        Page<DepartmentResponse> pagedResponse = new PageImpl<>(
-                Collections.singletonList(departmentResponse),
-                pageable,
-                1L
-        );
+        mockMvc.perform(get(API_BASE_PATH)
+                        .param("cursor", "abc")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+        verify(departmentService, times(1)).findAll("abc", 10, false);
+    }
+    @Test
+    void getAllDepartments_WithIncludeTotal_ShouldRequestCount() throws Exception {
+        when(departmentService.findAll(null, 10, true)).thenReturn(new CursorPageResponse<>(Collections.emptyList(), 10, null, false, 0L));
 
-        when(departmentService.findAll(eq(pageable))).thenReturn(pagedResponse);
+        mockMvc.perform(get(API_BASE_PATH)
+                        .param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+        verify(departmentService, times(1)).findAll(null, 10, true);
+    }
+    @Test
+    void getAllDepartments_WithDeprecatedPage_ShouldUseOffsetPagingAndFlagDeprecation() throws Exception {
+        when(departmentService.findPage(1, 10, false)).thenReturn(new CursorPageResponse<>(Collections.emptyList(), 10, null, false, null));
 
         mockMvc.perform(get(API_BASE_PATH)
-                        .param("page", String.valueOf(page))
-                        .param("size", String.valueOf(size)))
-                .andExpect(status().isOk());
-        verify(departmentService, times(1)).findAll(eq(pageable));
+                        .param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Deprecation", "true"));
+        verify(departmentService, times(1)).findPage(1, 10, false);
     }
     @Test
     void deleteDepartment_ExistingId_ReturnsNoContent() throws Exception {
@@ -120,4 +145,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
         verify(departmentService).deleteById(id);
     }
+    @Test
+    void deleteDepartments_ExistingIds_ReturnsNoContent() throws Exception {
+        mockMvc.perform(post(API_BASE_PATH + "/batch/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1,2]"))
+                .andExpect(status().isNoContent());
+
+        verify(departmentService).deleteAllById(List.of(1L, 2L));
+    }
 }
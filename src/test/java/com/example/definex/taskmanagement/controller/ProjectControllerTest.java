@@ -15,11 +15,16 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.List;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
  class ProjectControllerTest {
@@ -62,13 +67,39 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
                 .andExpect(status().isOk());
     }
     @Test
+    void streamProjectEvents_ExistingId_StartsEventStream() throws Exception {
+        when(projectService.subscribeToEvents(1L)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get(API_BASE_PATH + "/1/events").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void streamProjectEvents_NonExistingId_ReturnsNotFound() throws Exception {
+        when(projectService.subscribeToEvents(1L))
+                .thenThrow(new ProjectNotFoundException(MessageKey.PROJECT_NOT_FOUND_WITH_ID.getMessage()));
+
+        mockMvc.perform(get(API_BASE_PATH + "/1/events"))
+                .andExpect(status().isNotFound());
+    }
+    @Test
 
     void getProjectById_NonExistingId_ReturnsNotFound() throws Exception {
-        when(projectService.findById(1L))
+        when(projectService.findRevision(1L))
                 .thenThrow(new ProjectNotFoundException(MessageKey.PROJECT_NOT_FOUND_WITH_ID.getMessage()));
 
         mockMvc.perform(get(API_BASE_PATH + "/1"))
                 .andExpect(status().isNotFound());
+        verify(projectService, never()).findById(1L);
+    }
+    @Test
+    void getProjectById_WhenIfNoneMatchMatches_ReturnsNotModified() throws Exception {
+        when(projectService.findRevision(1L)).thenReturn("4");
+
+        mockMvc.perform(get(API_BASE_PATH + "/1").header(HttpHeaders.IF_NONE_MATCH, "\"4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+        verify(projectService, never()).findById(1L);
     }
     @Test
     void deleteProject_ExistingId_ReturnsNoContent() throws Exception {
@@ -80,6 +111,25 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         verify(projectService, times(1)).deleteById(1L);
     }
     @Test
+    void deleteProjects_ExistingIds_ReturnsNoContent() throws Exception {
+        mockMvc.perform(post(API_BASE_PATH + "/batch/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1,2]"))
+                .andExpect(status().isNoContent());
+
+        verify(projectService, times(1)).deleteAllById(List.of(1L, 2L));
+    }
+    @Test
+    void deleteProjects_NonExistingId_ReturnsNotFound() throws Exception {
+        doThrow(new ProjectNotFoundException(MessageKey.PROJECT_NOT_FOUND_WITH_ID.getMessage()))
+                .when(projectService).deleteAllById(List.of(1L, 2L));
+
+        mockMvc.perform(post(API_BASE_PATH + "/batch/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1,2]"))
+                .andExpect(status().isNotFound());
+    }
+    @Test
     void deleteProject_NonExistingId_ReturnsNotFound() throws Exception {
         doThrow(new ProjectNotFoundException(MessageKey.PROJECT_NOT_FOUND_WITH_ID.getMessage()))
                 .when(projectService).deleteById(1L);
@@ -97,7 +147,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
          mockResponse.setTitle("Updated Title");
          mockResponse.setDescription("Updated description");
 
-         when(projectService.update(any(UpdateProjectRequest.class), eq(1L)))
+         when(projectService.update(any(UpdateProjectRequest.class), eq(1L), isNull()))
                  .thenReturn(mockResponse);
 
          mockMvc.perform(post(API_BASE_PATH + "/update/1")
@@ -110,7 +160,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
          UpdateProjectRequest request = new UpdateProjectRequest();
          request.setTitle("Updated Title");
 
-         when(projectService.update(any(UpdateProjectRequest.class), eq(1L)))
+         when(projectService.update(any(UpdateProjectRequest.class), eq(1L), isNull()))
                  .thenThrow(new ProjectNotFoundException(MessageKey.PROJECT_NOT_FOUND_WITH_ID.getMessage()));
 
          mockMvc.perform(post(API_BASE_PATH + "/update/1")
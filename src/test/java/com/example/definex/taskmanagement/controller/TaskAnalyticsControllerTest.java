@@ -0,0 +1,76 @@
+package com.example.definex.taskmanagement.controller;
+
+import com.example.definex.taskmanagement.dto.response.DurationStatsResponse;
+import com.example.definex.taskmanagement.dto.response.FlowMetricsResponse;
+import com.example.definex.taskmanagement.entities.TaskStateType;
+import com.example.definex.taskmanagement.exception.GlobalExceptionHandler;
+import com.example.definex.taskmanagement.exception.ProjectNotFoundException;
+import com.example.definex.taskmanagement.exception.constants.MessageKey;
+import com.example.definex.taskmanagement.service.TaskAnalyticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import java.time.LocalDateTime;
+import java.util.Map;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+ class TaskAnalyticsControllerTest {
+    private static final String API_BASE_PATH = "/api/analytics";
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2026, 4, 1, 0, 0);
+
+    @InjectMocks
+    private TaskAnalyticsController taskAnalyticsController;
+
+    @Mock
+    private TaskAnalyticsService taskAnalyticsService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(taskAnalyticsController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+    @Test
+    void getProjectFlowMetrics_WithWindow_ReturnsMetrics() throws Exception {
+        DurationStatsResponse stats = new DurationStatsResponse(3L, 60.0, 50.0, 80.0, 90.0);
+        FlowMetricsResponse response = new FlowMetricsResponse(FROM, TO, stats, stats, Map.of(TaskStateType.IN_PROGRESS, stats));
+        when(taskAnalyticsService.getProjectFlowMetrics(1L, FROM, TO)).thenReturn(response);
+
+        mockMvc.perform(get(API_BASE_PATH + "/projects/{projectId}/flow", 1L)
+                        .param("from", "2026-01-01T00:00:00")
+                        .param("to", "2026-04-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.leadTime.samples").value(3))
+                .andExpect(jsonPath("$.timeInState.IN_PROGRESS.p85Seconds").value(80.0));
+
+        verify(taskAnalyticsService).getProjectFlowMetrics(1L, FROM, TO);
+    }
+    @Test
+    void getProjectFlowMetrics_NonExistingProject_ReturnsNotFound() throws Exception {
+        when(taskAnalyticsService.getProjectFlowMetrics(99L, null, null))
+                .thenThrow(new ProjectNotFoundException(MessageKey.PROJECT_NOT_FOUND_WITH_ID.toString()));
+
+        mockMvc.perform(get(API_BASE_PATH + "/projects/{projectId}/flow", 99L))
+                .andExpect(status().isNotFound());
+    }
+    @Test
+    void getDepartmentFlowMetrics_InvalidRange_ReturnsBadRequest() throws Exception {
+        when(taskAnalyticsService.getDepartmentFlowMetrics(2L, TO, FROM))
+                .thenThrow(new IllegalArgumentException(MessageKey.INVALID_DATE_RANGE.toString()));
+
+        mockMvc.perform(get(API_BASE_PATH + "/departments/{departmentId}/flow", 2L)
+                        .param("from", "2026-04-01T00:00:00")
+                        .param("to", "2026-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+}
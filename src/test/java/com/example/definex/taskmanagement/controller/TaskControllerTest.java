@@ -1,15 +1,29 @@
 package com.example.definex.taskmanagement.controller;
 
+import com.example.definex.taskmanagement.dto.request.BatchAssignTaskRequest;
+import com.example.definex.taskmanagement.dto.request.BatchCreateTaskRequest;
+import com.example.definex.taskmanagement.dto.request.BatchUpdateTaskStateRequest;
 import com.example.definex.taskmanagement.dto.request.CreateTaskRequest;
+import com.example.definex.taskmanagement.dto.request.TaskFilterRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateTaskRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateTaskStateRequest;
+import com.example.definex.taskmanagement.dto.response.BatchItemResponse;
+import com.example.definex.taskmanagement.dto.response.BatchResponse;
+import com.example.definex.taskmanagement.dto.response.CommentFeedResponse;
+import com.example.definex.taskmanagement.dto.response.CommentResponse;
 import com.example.definex.taskmanagement.dto.response.CreatedTaskResponse;
+import com.example.definex.taskmanagement.dto.response.CursorPageResponse;
 import com.example.definex.taskmanagement.dto.response.TaskResponse;
+import com.example.definex.taskmanagement.dto.response.TaskSearchResponse;
+import com.example.definex.taskmanagement.dto.response.TaskTransitionsResponse;
+import com.example.definex.taskmanagement.entities.Task;
 import com.example.definex.taskmanagement.entities.TaskPriorityType;
 import com.example.definex.taskmanagement.entities.TaskStateType;
 import com.example.definex.taskmanagement.exception.GlobalExceptionHandler;
+import com.example.definex.taskmanagement.exception.PreconditionFailedException;
 import com.example.definex.taskmanagement.exception.TaskNotFoundException;
 import com.example.definex.taskmanagement.exception.constants.MessageKey;
+import com.example.definex.taskmanagement.service.CommentService;
 import com.example.definex.taskmanagement.service.TaskService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,11 +31,17 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import java.util.List;
+import java.util.Set;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -31,6 +51,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
     private TaskController taskController;
     @Mock
     private TaskService taskService;
+    @Mock
+    private CommentService commentService;
     private MockMvc mockMvc;
     private ObjectMapper objectMapper = new ObjectMapper();
 
@@ -59,21 +81,109 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
     @Test
     void getTaskById_WhenTaskExists_ReturnsTaskResponse() throws Exception {
         TaskResponse mockResponse = new TaskResponse();
+        when(taskService.findRevision(1L)).thenReturn("3");
         when(taskService.findById(1L)).thenReturn(mockResponse);
 
         mockMvc.perform(get(API_BASE_PATH + "/1"))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
 
         verify(taskService, times(1)).findById(1L);
     }
     @Test
+    void getAllowedTransitions_WhenTaskExists_ReturnsNextStates() throws Exception {
+        when(taskService.findAllowedTransitions(1L)).thenReturn(new TaskTransitionsResponse(1L, TaskStateType.IN_PROGRESS,
+                Set.of(TaskStateType.COMPLETED), Set.of(TaskStateType.BLOCKED)));
+
+        mockMvc.perform(get(API_BASE_PATH + "/1/transitions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currentState").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.allowedStates[0]").value("COMPLETED"))
+                .andExpect(jsonPath("$.reasonRequiredStates[0]").value("BLOCKED"));
+    }
+    @Test
     void getTaskById_WhenTaskNotFound_ReturnsNotFound() throws Exception {
-        when(taskService.findById(1L)).thenThrow(new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.getMessage()));
+        when(taskService.findRevision(1L)).thenThrow(new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.getMessage()));
 
         mockMvc.perform(get(API_BASE_PATH + "/1"))
                 .andExpect(status().isNotFound());
 
-        verify(taskService, times(1)).findById(1L);
+        verify(taskService, never()).findById(1L);
+    }
+    @Test
+    void getTaskById_WhenIfNoneMatchMatches_ReturnsNotModifiedWithoutLoadingTask() throws Exception {
+        when(taskService.findRevision(1L)).thenReturn("3");
+
+        mockMvc.perform(get(API_BASE_PATH + "/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"2\", W/\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(content().string(""));
+
+        verify(taskService, never()).findById(1L);
+    }
+    @Test
+    void updateTask_WithIfMatch_PassesRevisionToServiceAndTagsCommittedVersion() throws Exception {
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setTitle("Updated Task");
+        TaskResponse response = new TaskResponse();
+        response.setVersion(4L);
+        when(taskService.updateTask(eq(1L), any(UpdateTaskRequest.class), eq(List.of("3")))).thenReturn(response);
+
+        mockMvc.perform(put(API_BASE_PATH + "/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+    @Test
+    void updateTask_WithIfMatchList_PassesStrongCandidatesToService() throws Exception {
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setTitle("Updated Task");
+        TaskResponse response = new TaskResponse();
+        response.setVersion(4L);
+        when(taskService.updateTask(eq(1L), any(UpdateTaskRequest.class), eq(List.of("2", "3")))).thenReturn(response);
+
+        mockMvc.perform(put(API_BASE_PATH + "/1")
+                        .header(HttpHeaders.IF_MATCH, "W/\"1\", \"2\",\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+    @Test
+    void updateTask_WhenRevisionDoesNotMatch_ReturnsPreconditionFailed() throws Exception {
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setTitle("Updated Task");
+        when(taskService.updateTask(eq(1L), any(UpdateTaskRequest.class), eq(List.of("2"))))
+                .thenThrow(new PreconditionFailedException(MessageKey.RESOURCE_REVISION_DOES_NOT_MATCH.toString()));
+
+        mockMvc.perform(put(API_BASE_PATH + "/1")
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+    }
+    @Test
+    void changeTaskPriority_WithOnlyWeakIfMatch_PassesNoCandidatesToService() throws Exception {
+        when(taskService.changeTaskPriority(1L, TaskPriorityType.HIGH, List.of()))
+                .thenThrow(new PreconditionFailedException(MessageKey.RESOURCE_REVISION_DOES_NOT_MATCH.toString()));
+
+        mockMvc.perform(put(API_BASE_PATH + "/1/priority")
+                        .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                        .param("priority", "HIGH"))
+                .andExpect(status().isPreconditionFailed());
+    }
+    @Test
+    void changeTaskPriority_WithMalformedIfMatch_ReturnsPreconditionFailedWithoutCallingService() throws Exception {
+        mockMvc.perform(put(API_BASE_PATH + "/1/priority")
+                        .header(HttpHeaders.IF_MATCH, "\"3")
+                        .param("priority", "HIGH"))
+                .andExpect(status().isPreconditionFailed());
+
+        verifyNoInteractions(taskService);
     }
     @Test
     void updateTaskState_ValidRequest_ReturnsUpdatedTask() throws Exception {
@@ -84,7 +194,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         TaskResponse mockResponse = new TaskResponse();
         mockResponse.setState(TaskStateType.IN_PROGRESS);
 
-        when(taskService.updateTaskState(any(UpdateTaskStateRequest.class), eq(1L))).thenReturn(mockResponse);
+        when(taskService.updateTaskState(any(UpdateTaskStateRequest.class), eq(1L), isNull())).thenReturn(mockResponse);
 
         mockMvc.perform(put(API_BASE_PATH + "/1/state")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -92,7 +202,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.state").value("IN_PROGRESS"));
 
-        verify(taskService, times(1)).updateTaskState(any(), eq(1L));
+        verify(taskService, times(1)).updateTaskState(any(), eq(1L), isNull());
     }
     @Test
     void updateTask_ValidRequest_ReturnsUpdatedTask() throws Exception {
@@ -102,7 +212,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         TaskResponse mockResponse = new TaskResponse();
         mockResponse.setTitle("test");
 
-        when(taskService.updateTask(eq(1L), any(UpdateTaskRequest.class))).thenReturn(mockResponse);
+        when(taskService.updateTask(eq(1L), any(UpdateTaskRequest.class), isNull())).thenReturn(mockResponse);
 
         mockMvc.perform(put(API_BASE_PATH + "/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -110,31 +220,44 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title").value("test"));
 
-        verify(taskService, times(1)).updateTask(eq(1L), any());
+        verify(taskService, times(1)).updateTask(eq(1L), any(), isNull());
+    }
+    @Test
+    void updateTask_ConcurrentModification_ReturnsConflict() throws Exception {
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setTitle("test");
+        when(taskService.updateTask(eq(1L), any(UpdateTaskRequest.class), isNull()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+        mockMvc.perform(put(API_BASE_PATH + "/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value(MessageKey.RESOURCE_MODIFIED_CONCURRENTLY.toString()));
     }
     @Test
     void assignTaskToUser_ValidIds_ReturnsUpdatedTask() throws Exception {
         TaskResponse mockResponse = new TaskResponse();
 
-        when(taskService.assignTaskToTeamMember(1L, 2L)).thenReturn(mockResponse);
+        when(taskService.assignTaskToTeamMember(1L, 2L, null)).thenReturn(mockResponse);
 
         mockMvc.perform(patch(API_BASE_PATH + "/1/assign/2"))
                 .andExpect(status().isOk());
 
-        verify(taskService, times(1)).assignTaskToTeamMember(1L, 2L);
+        verify(taskService, times(1)).assignTaskToTeamMember(1L, 2L, null);
     }
     @Test
     void changeTaskPriority_ValidRequest_ReturnsUpdatedTask() throws Exception {
         TaskResponse mockResponse = new TaskResponse();
         mockResponse.setPriority(TaskPriorityType.HIGH);
-        when(taskService.changeTaskPriority(1L, TaskPriorityType.HIGH)).thenReturn(mockResponse);
+        when(taskService.changeTaskPriority(1L, TaskPriorityType.HIGH, null)).thenReturn(mockResponse);
 
         mockMvc.perform(put(API_BASE_PATH + "/1/priority")
                         .param("priority", "HIGH"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.priority").value("HIGH"));
 
-        verify(taskService, times(1)).changeTaskPriority(1L, TaskPriorityType.HIGH);
+        verify(taskService, times(1)).changeTaskPriority(1L, TaskPriorityType.HIGH, null);
     }
     @Test
     void deleteTask_ValidId_ReturnsNoContent() throws Exception {
@@ -146,6 +269,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         verify(taskService, times(1)).deleteById(1L);
     }
     @Test
+    void deleteTasks_ValidIds_ReturnsNoContent() throws Exception {
+        mockMvc.perform(post(API_BASE_PATH + "/batch/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1,2,3]"))
+                .andExpect(status().isNoContent());
+
+        verify(taskService, times(1)).deleteAllById(List.of(1L, 2L, 3L));
+    }
+    @Test
     void deleteTask_NonExistingId_ReturnsNotFound() throws Exception {
         doThrow(new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.getMessage())).when(taskService).deleteById(1L);
 
@@ -154,4 +286,116 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
         verify(taskService, times(1)).deleteById(1L);
     }
-}
\ No newline at end of file
+    @Test
+    void getTasks_WithFilters_ReturnsCursorPage() throws Exception {
+        TaskFilterRequest filter = new TaskFilterRequest(1L, 2L, TaskStateType.IN_PROGRESS, TaskPriorityType.HIGH);
+        CursorPageResponse<TaskResponse> mockResponse = new CursorPageResponse<>(List.of(new TaskResponse()), 10, "next", true, null);
+        when(taskService.findAll(filter, "abc", 10)).thenReturn(mockResponse);
+
+        mockMvc.perform(get(API_BASE_PATH)
+                        .param("projectId", "1")
+                        .param("assigneeId", "2")
+                        .param("state", "IN_PROGRESS")
+                        .param("priority", "HIGH")
+                        .param("cursor", "abc")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        verify(taskService, times(1)).findAll(filter, "abc", 10);
+    }
+    @Test
+    void createTasks_ReturnsPerItemResults() throws Exception {
+        List<BatchCreateTaskRequest> requests = List.of(
+                new BatchCreateTaskRequest(1L, "first", null, null, null, null),
+                new BatchCreateTaskRequest(2L, "second", null, null, null, null));
+        BatchResponse<TaskResponse> mockResponse = new BatchResponse<>(1, 1, List.of(
+                new BatchItemResponse<>(0, 201, new TaskResponse(), null),
+                new BatchItemResponse<>(1, 404, null, MessageKey.PROJECT_NOT_FOUND_WITH_ID.getMessage())));
+        when(taskService.saveAll(requests)).thenReturn(mockResponse);
+
+        mockMvc.perform(post(API_BASE_PATH + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.items[1].status").value(404));
+
+        verify(taskService, times(1)).saveAll(requests);
+    }
+    @Test
+    void assignTasks_ReturnsPerItemResults() throws Exception {
+        List<BatchAssignTaskRequest> requests = List.of(new BatchAssignTaskRequest(1L, 2L));
+        when(taskService.assignTasks(requests)).thenReturn(new BatchResponse<>(1, 0,
+                List.of(new BatchItemResponse<>(0, 200, new TaskResponse(), null))));
+
+        mockMvc.perform(patch(API_BASE_PATH + "/batch/assign")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].status").value(200));
+
+        verify(taskService, times(1)).assignTasks(requests);
+    }
+    @Test
+    void updateTaskStates_ReturnsPerItemResults() throws Exception {
+        List<BatchUpdateTaskStateRequest> requests = List.of(new BatchUpdateTaskStateRequest(1L, TaskStateType.IN_PROGRESS, null));
+        when(taskService.updateTaskStates(requests)).thenReturn(new BatchResponse<>(1, 0,
+                List.of(new BatchItemResponse<>(0, 200, new TaskResponse(), null))));
+
+        mockMvc.perform(put(API_BASE_PATH + "/batch/state")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.failed").value(0));
+
+        verify(taskService, times(1)).updateTaskStates(requests);
+    }
+    @Test
+    void getComments_WithSince_ReturnsFeed() throws Exception {
+        CommentResponse comment = new CommentResponse();
+        comment.setId(31L);
+        when(commentService.findByTaskId(1L, null, "MzA", 20, false))
+                .thenReturn(new CommentFeedResponse(List.of(comment), 20, null, false, "MzE", null));
+
+        mockMvc.perform(get(API_BASE_PATH + "/{id}/comments", 1L)
+                        .param("since", "MzA"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(31))
+                .andExpect(jsonPath("$.latestCursor").value("MzE"));
+
+        verify(commentService).findByTaskId(1L, null, "MzA", 20, false);
+    }
+    @Test
+    void getComments_WhenTaskNotFound_ReturnsNotFound() throws Exception {
+        when(commentService.findByTaskId(99L, null, null, 20, true))
+                .thenThrow(new TaskNotFoundException(MessageKey.TASK_NOT_FOUND_WITH_ID.toString()));
+
+        mockMvc.perform(get(API_BASE_PATH + "/{id}/comments", 99L)
+                        .param("includeTotal", "true"))
+                .andExpect(status().isNotFound());
+    }
+    @Test
+    void searchTasks_WithQuery_ReturnsRankedResults() throws Exception {
+        TaskSearchResponse hit = new TaskSearchResponse(1L, "Fix login", null, TaskStateType.IN_PROGRESS, null, 1L, 2L, 0.42);
+        when(taskService.search("login", 10)).thenReturn(List.of(hit));
+
+        mockMvc.perform(get(API_BASE_PATH + "/search")
+                        .param("q", "login")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].rank").value(0.42));
+
+        verify(taskService).search("login", 10);
+    }
+    @Test
+    void searchTasks_WithBlankQuery_ReturnsBadRequest() throws Exception {
+        when(taskService.search(" ", 20)).thenThrow(new IllegalArgumentException(MessageKey.SEARCH_QUERY_CANNOT_BE_EMPTY.toString()));
+
+        mockMvc.perform(get(API_BASE_PATH + "/search")
+                        .param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+}
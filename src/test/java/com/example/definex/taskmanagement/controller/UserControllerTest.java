@@ -1,6 +1,7 @@
 package com.example.definex.taskmanagement.controller;
 import com.example.definex.taskmanagement.dto.request.CreateUserRequest;
 import com.example.definex.taskmanagement.dto.response.CreatedUserResponse;
+import com.example.definex.taskmanagement.dto.response.CursorPageResponse;
 import com.example.definex.taskmanagement.dto.response.UserResponse;
 import com.example.definex.taskmanagement.exception.GlobalExceptionHandler;
 import com.example.definex.taskmanagement.exception.UserNotFoundException;
@@ -12,18 +13,19 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.util.Collections;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
  class UserControllerTest {
 
@@ -70,14 +72,27 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         Long userId = 1L;
         UserResponse userResponse = new UserResponse();
 
+        when(userService.findRevision(userId)).thenReturn("1700000000000000");
         when(userService.getById(userId)).thenReturn(userResponse);
 
         mockMvc.perform(get(API_BASE_PATH + "/{id}", userId))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1700000000000000\""));
 
         verify(userService, times(1)).getById(eq(userId));
     }
     @Test
+    void getUserById_WhenIfNoneMatchMatches_ShouldReturnNotModified() throws Exception {
+        Long userId = 1L;
+        when(userService.findRevision(userId)).thenReturn("1700000000000000");
+
+        mockMvc.perform(get(API_BASE_PATH + "/{id}", userId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1700000000000000\""))
+                .andExpect(status().isNotModified());
+
+        verify(userService, never()).getById(userId);
+    }
+    @Test
     void deleteUser_ShouldReturnNoContent() throws Exception {
         Long userId = 1L;
         doNothing().when(userService).deleteById(userId);
@@ -89,30 +104,44 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
     }
     @Test
     void getAllUsers_ShouldReturnPagedUsers() throws Exception {
-        int page = 0;
-        int size = 10;
-        Pageable pageable = PageRequest.of(page, size);
-
         UserResponse userResponse = new UserResponse();
+        CursorPageResponse<UserResponse> pagedResponse = new CursorPageResponse<>(
+                Collections.singletonList(userResponse), 10, "next", true, null);
 
-        Page<UserResponse> pagedResponse = new PageImpl<>(
-                Collections.singletonList(userResponse),
-                pageable,
-                1L
-        );
+        when(userService.findAll("abc", 10, false)).thenReturn(pagedResponse);
 
-        when(userService.findAll(eq(pageable))).thenReturn(pagedResponse);
+        mockMvc.perform(get(API_BASE_PATH)
+                        .param("cursor", "abc")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+        verify(userService, times(1)).findAll("abc", 10, false);
+    }
+    @Test
+    void getAllUsers_WithIncludeTotal_ShouldRequestCount() throws Exception {
+        when(userService.findAll(null, 10, true)).thenReturn(new CursorPageResponse<>(Collections.emptyList(), 10, null, false, 0L));
 
         mockMvc.perform(get(API_BASE_PATH)
-                        .param("page", String.valueOf(page))
-                        .param("size", String.valueOf(size)))
-                .andExpect(status().isOk());
-        verify(userService, times(1)).findAll(eq(pageable));
+                        .param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+        verify(userService, times(1)).findAll(null, 10, true);
+    }
+    @Test
+    void getAllUsers_WithDeprecatedPage_ShouldUseOffsetPagingAndFlagDeprecation() throws Exception {
+        when(userService.findPage(2, 10, false)).thenReturn(new CursorPageResponse<>(Collections.emptyList(), 10, null, false, null));
+
+        mockMvc.perform(get(API_BASE_PATH)
+                        .param("page", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Deprecation", "true"));
+        verify(userService, times(1)).findPage(2, 10, false);
+        verify(userService, never()).findAll(any(), anyInt(), anyBoolean());
     }
     @Test
     void getUserById_WhenNotExists_ShouldReturn_UserNotFoundException() throws Exception {
         Long invalidId = 999L;
-        when(userService.getById(invalidId)).thenThrow(new UserNotFoundException(MessageKey.USER_NOT_FOUND_WITH_ID.getMessage()));
+        when(userService.findRevision(invalidId)).thenThrow(new UserNotFoundException(MessageKey.USER_NOT_FOUND_WITH_ID.getMessage()));
 
         mockMvc.perform(get(API_BASE_PATH + "/{id}", invalidId))
                 .andExpect(status().isNotFound());
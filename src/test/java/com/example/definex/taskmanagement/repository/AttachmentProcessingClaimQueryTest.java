@@ -0,0 +1,82 @@
+package com.example.definex.taskmanagement.repository;
+
+import com.example.definex.taskmanagement.entities.Attachment;
+import com.example.definex.taskmanagement.entities.AttachmentProcessingStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+ class AttachmentProcessingClaimQueryTest {
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    private Attachment attachment;
+
+    @BeforeEach
+    void setUp() {
+        attachment = new Attachment();
+        attachment.setFileName("notes.txt");
+        entityManager.persist(attachment);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void claimProcessing_ShouldOnlySucceedOnce() {
+        LocalDateTime claimedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        assertEquals(1, attachmentRepository.claimProcessing(attachment.getId(), claimedAt));
+        assertEquals(0, attachmentRepository.claimProcessing(attachment.getId(), claimedAt.plusSeconds(1)));
+        assertEquals(AttachmentProcessingStatus.PROCESSING, reload().getProcessingStatus());
+    }
+
+    @Test
+    void releaseExpiredClaims_ShouldRequeueOnlyClaimsOlderThanCutoff() {
+        LocalDateTime claimedAt = LocalDateTime.now().minusMinutes(30).truncatedTo(ChronoUnit.MICROS);
+        attachmentRepository.claimProcessing(attachment.getId(), claimedAt);
+
+        assertEquals(0, attachmentRepository.releaseExpiredClaims(claimedAt.minusMinutes(1)));
+        assertEquals(1, attachmentRepository.releaseExpiredClaims(claimedAt.plusMinutes(1)));
+
+        Attachment released = reload();
+        assertEquals(AttachmentProcessingStatus.PENDING, released.getProcessingStatus());
+        assertNull(released.getProcessingClaimedAt());
+    }
+
+    @Test
+    void completeProcessing_WhenClaimWasReplaced_ShouldNotOverwriteResult() {
+        LocalDateTime staleClaim = LocalDateTime.now().minusMinutes(30).truncatedTo(ChronoUnit.MICROS);
+        attachmentRepository.claimProcessing(attachment.getId(), staleClaim);
+        attachmentRepository.releaseExpiredClaims(staleClaim.plusMinutes(1));
+        LocalDateTime currentClaim = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        attachmentRepository.claimProcessing(attachment.getId(), currentClaim);
+
+        assertEquals(0, attachmentRepository.completeProcessing(attachment.getId(), staleClaim,
+                AttachmentProcessingStatus.FAILED, null, null, null));
+        assertEquals(1, attachmentRepository.completeProcessing(attachment.getId(), currentClaim,
+                AttachmentProcessingStatus.READY, "text/plain", null, "preview"));
+
+        Attachment completed = reload();
+        assertEquals(AttachmentProcessingStatus.READY, completed.getProcessingStatus());
+        assertNull(completed.getProcessingClaimedAt());
+    }
+
+    private Attachment reload() {
+        entityManager.clear();
+        return entityManager.find(Attachment.class, attachment.getId());
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.definex.taskmanagement.repository;
+
+import com.example.definex.taskmanagement.dto.projection.CommentView;
+import com.example.definex.taskmanagement.entities.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.TestPropertySource;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+ class CommentFeedQueryTest {
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Statistics statistics;
+    private Task task;
+    private final List<Long> commentIds = new ArrayList<>();
+    private final List<Long> positions = new ArrayList<>();
+    private long position;
+
+    @BeforeEach
+    void setUp() {
+        Department department = new Department();
+        department.setName("IT");
+        entityManager.persist(department);
+
+        User user = new User();
+        user.setName("user");
+        user.setEmail("user@test.com");
+        user.setRole(Role.TEAM_MEMBER);
+        user.setDepartment(department);
+        entityManager.persist(user);
+
+        Project project = new Project();
+        project.setTitle("Project");
+        project.setDepartment(department);
+        entityManager.persist(project);
+
+        task = persistTask(project, "Busy task");
+        Task otherTask = persistTask(project, "Other task");
+
+        for (int i = 0; i < 5; i++) {
+            Comment comment = persistComment(task, user, "Comment " + i, false);
+            commentIds.add(comment.getId());
+            positions.add(comment.getFeedPosition());
+        }
+        persistComment(task, user, "Deleted", true);
+        persistComment(otherTask, user, "Elsewhere", false);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findViewsByTaskId_ShouldReturnNewestLiveCommentsOfTaskInOneQuery() {
+        List<CommentView> page = commentRepository.findViewsByTaskId(task.getId(), Limit.of(3));
+
+        assertEquals(List.of(commentIds.get(4), commentIds.get(3), commentIds.get(2)),
+                page.stream().map(CommentView::id).toList());
+        assertEquals(task.getId(), page.get(0).taskId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findViewsByTaskIdBefore_ShouldContinueWithOlderComments() {
+        List<CommentView> page = commentRepository.findViewsByTaskIdBefore(task.getId(), positions.get(2), Limit.of(3));
+
+        assertEquals(List.of(commentIds.get(1), commentIds.get(0)), page.stream().map(CommentView::id).toList());
+    }
+
+    @Test
+    void findViewsByTaskIdAfter_ShouldReturnOnlyNewerCommentsOldestFirst() {
+        List<CommentView> page = commentRepository.findViewsByTaskIdAfter(task.getId(), positions.get(1), Limit.of(10));
+
+        assertEquals(List.of(commentIds.get(2), commentIds.get(3), commentIds.get(4)),
+                page.stream().map(CommentView::id).toList());
+        assertTrue(commentRepository.findViewsByTaskIdAfter(task.getId(), positions.get(4), Limit.of(10)).isEmpty());
+    }
+
+    @Test
+    void findViewsByTaskId_ShouldOrderByFeedPositionRatherThanId() {
+        Comment lowerIdCommittedLater = entityManager.find(Comment.class, commentIds.get(0));
+        lowerIdCommittedLater.setFeedPosition(++position);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<CommentView> newer = commentRepository.findViewsByTaskIdAfter(task.getId(), positions.get(4), Limit.of(10));
+
+        assertEquals(List.of(commentIds.get(0)), newer.stream().map(CommentView::id).toList());
+        assertEquals(commentIds.get(0), commentRepository.findViewsByTaskId(task.getId(), Limit.of(1)).get(0).id());
+    }
+
+    @Test
+    void nextCommentPosition_ShouldHandOutIncreasingPositionsPerTask() {
+        assertEquals(1L, taskRepository.nextCommentPosition(task.getId()));
+        assertEquals(2L, taskRepository.nextCommentPosition(task.getId()));
+        entityManager.clear();
+        assertEquals(2L, taskRepository.findById(task.getId()).orElseThrow().getCommentSequence());
+    }
+
+    @Test
+    void countByTaskId_ShouldCountLiveCommentsWithoutLoadingThem() {
+        assertEquals(5L, commentRepository.countByTaskId(task.getId()));
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private Task persistTask(Project project, String title) {
+        Task newTask = new Task();
+        newTask.setTitle(title);
+        newTask.setState(TaskStateType.BACKLOG);
+        newTask.setProject(project);
+        entityManager.persist(newTask);
+        return newTask;
+    }
+
+    private Comment persistComment(Task commentTask, User user, String content, boolean deleted) {
+        Comment comment = new Comment();
+        comment.setFeedPosition(++position);
+        comment.setContent(content);
+        comment.setTask(commentTask);
+        comment.setUser(user);
+        comment.setIsDeleted(deleted);
+        entityManager.persist(comment);
+        return comment;
+    }
+}
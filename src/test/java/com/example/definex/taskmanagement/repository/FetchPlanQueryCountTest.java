@@ -0,0 +1,129 @@
+package com.example.definex.taskmanagement.repository;
+
+import com.example.definex.taskmanagement.entities.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+ class FetchPlanQueryCountTest {
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Statistics statistics;
+    private Task task;
+    private Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        for (int d = 0; d < 3; d++) {
+            Department department = new Department();
+            department.setName("Department " + d);
+            entityManager.persist(department);
+
+            for (int p = 0; p < 2; p++) {
+                User user = new User();
+                user.setName("user " + d + p);
+                user.setEmail("user" + d + p + "@test.com");
+                user.setRole(Role.TEAM_MEMBER);
+                user.setDepartment(department);
+                entityManager.persist(user);
+
+                Project project = new Project();
+                project.setTitle("Project " + d + p);
+                project.setDepartment(department);
+                project.getUsers().add(user);
+                entityManager.persist(project);
+
+                task = new Task();
+                task.setTitle("Task " + d + p);
+                task.setState(TaskStateType.BACKLOG);
+                task.setProject(project);
+                task.setAssignee(user);
+                entityManager.persist(task);
+
+                comment = new Comment();
+                comment.setContent("Comment " + d + p);
+                comment.setTask(task);
+                comment.setUser(user);
+                entityManager.persist(comment);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void taskFindByIdWithProject_ShouldResolveAuthorizationIdsInOneQuery() {
+        Task found = taskRepository.findById(task.getId(), TaskRepository.WITH_PROJECT).orElseThrow();
+
+        assertNotNull(found.getProject().getDepartment().getId());
+        assertNotNull(found.getAssignee().getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void taskFindAllByIdWithProject_ShouldResolveAuthorizationIdsForBatchInOneQuery() {
+        List<Long> ids = taskRepository.findAll().stream().map(Task::getId).toList();
+        statistics.clear();
+
+        List<Task> found = taskRepository.findAllById(ids, TaskRepository.WITH_PROJECT);
+
+        assertEquals(6, found.size());
+        found.forEach(t -> assertNotNull(t.getProject().getDepartment().getId()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void commentFindByIdWithTaskAndProject_ShouldResolveAuthorizationIdsInOneQuery() {
+        Comment found = commentRepository.findById(comment.getId(), CommentRepository.WITH_TASK_AND_PROJECT).orElseThrow();
+
+        assertNotNull(found.getTask().getProject().getDepartment().getId());
+        assertNotNull(found.getTask().getAssignee().getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void departmentFindAll_ShouldLoadProjectSummariesInOneBatchedQuery() {
+        Page<Department> departments = departmentRepository.findAll(PageRequest.of(0, 10));
+
+        departments.forEach(department -> assertEquals(2, department.getProjects().size()));
+        assertEquals(3, departments.getNumberOfElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void userFindByEmail_ShouldNotLoadDepartmentGraph() {
+        User found = userRepository.findByEmail("user00@test.com").orElseThrow();
+
+        assertNotNull(found.getDepartment().getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.definex.taskmanagement.repository;
+
+import com.example.definex.taskmanagement.entities.*;
+import org.hibernate.SessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session.events.auto=com.example.definex.taskmanagement.repository.InsertBatchingQueryCountTest$BatchCountingListener",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+ class InsertBatchingQueryCountTest {
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Statistics statistics;
+    private Project project;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        Department department = new Department();
+        department.setName("Department");
+        entityManager.persist(department);
+
+        user = new User();
+        user.setName("user");
+        user.setEmail("user@test.com");
+        user.setRole(Role.TEAM_MEMBER);
+        user.setDepartment(department);
+        entityManager.persist(user);
+
+        project = new Project();
+        project.setTitle("Project");
+        project.setDepartment(department);
+        entityManager.persist(project);
+        entityManager.flush();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        BatchCountingListener.BATCHES.set(0);
+    }
+
+    @Test
+    void saveAllTasks_ShouldInsertInBatchesOfFifty() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setState(TaskStateType.BACKLOG);
+            task.setProject(project);
+            tasks.add(task);
+        }
+
+        taskRepository.saveAll(tasks);
+        entityManager.flush();
+
+        assertEquals(100, statistics.getEntityInsertCount());
+        assertEquals(2, BatchCountingListener.BATCHES.get());
+    }
+
+    @Test
+    void saveAllComments_ShouldInsertInBatchesOfFifty() {
+        Task task = new Task();
+        task.setTitle("Task");
+        task.setState(TaskStateType.BACKLOG);
+        task.setProject(project);
+        entityManager.persist(task);
+        entityManager.flush();
+        statistics.clear();
+        BatchCountingListener.BATCHES.set(0);
+
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Comment comment = new Comment();
+            comment.setContent("Comment " + i);
+            comment.setTask(task);
+            comment.setUser(user);
+            comments.add(comment);
+        }
+
+        commentRepository.saveAll(comments);
+        entityManager.flush();
+
+        assertEquals(50, statistics.getEntityInsertCount());
+        assertEquals(1, BatchCountingListener.BATCHES.get());
+    }
+
+    public static class BatchCountingListener implements SessionEventListener {
+        static final AtomicInteger BATCHES = new AtomicInteger();
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            BATCHES.incrementAndGet();
+        }
+    }
+}
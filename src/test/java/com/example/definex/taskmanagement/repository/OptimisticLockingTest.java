@@ -0,0 +1,99 @@
+package com.example.definex.taskmanagement.repository;
+
+import com.example.definex.taskmanagement.entities.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+ class OptimisticLockingTest {
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        taskId = transactionTemplate.execute(status -> {
+            Department department = new Department();
+            department.setName("Engineering");
+            entityManager.persist(department);
+
+            Project project = new Project();
+            project.setTitle("Project");
+            project.setDepartment(department);
+            entityManager.persist(project);
+
+            Task task = new Task();
+            task.setTitle("Task");
+            task.setState(TaskStateType.BACKLOG);
+            task.setPriority(TaskPriorityType.LOW);
+            task.setProject(project);
+            entityManager.persist(task);
+            return task.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("delete from Task").executeUpdate();
+            entityManager.createQuery("delete from Project").executeUpdate();
+            entityManager.createQuery("delete from Department").executeUpdate();
+        });
+    }
+
+    @Test
+    void save_WithStaleVersion_ShouldFailInsteadOfOverwriting() {
+        Task first = taskRepository.findById(taskId).orElseThrow();
+        Task second = taskRepository.findById(taskId).orElseThrow();
+
+        first.setPriority(TaskPriorityType.HIGH);
+        taskRepository.save(first);
+        second.setTitle("Renamed");
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> taskRepository.save(second));
+        Task stored = taskRepository.findById(taskId).orElseThrow();
+        assertEquals(TaskPriorityType.HIGH, stored.getPriority());
+        assertEquals("Task", stored.getTitle());
+        assertEquals(1L, stored.getVersion());
+    }
+
+    @Test
+    void save_WithCurrentVersion_ShouldIncrementVersion() {
+        Task task = taskRepository.findById(taskId).orElseThrow();
+        task.setPriority(TaskPriorityType.MEDIUM);
+        taskRepository.save(task);
+
+        Task reloaded = taskRepository.findById(taskId).orElseThrow();
+        reloaded.setTitle("Renamed");
+        taskRepository.save(reloaded);
+
+        Task stored = taskRepository.findById(taskId).orElseThrow();
+        assertEquals(TaskPriorityType.MEDIUM, stored.getPriority());
+        assertEquals("Renamed", stored.getTitle());
+        assertEquals(2L, stored.getVersion());
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.definex.taskmanagement.repository;
+
+import com.example.definex.taskmanagement.entities.DomainEventType;
+import com.example.definex.taskmanagement.entities.OutboxEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.TestPropertySource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+ class OutboxEventQueryTest {
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private OutboxEvent published;
+    private OutboxEvent firstPending;
+    private OutboxEvent secondPending;
+
+    @BeforeEach
+    void setUp() {
+        published = persist(1L, LocalDateTime.now().minusDays(10));
+        firstPending = persist(2L, null);
+        secondPending = persist(3L, null);
+        persist(4L, null);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void lockPending_ShouldReturnOldestUnpublishedEventsUpToLimit() {
+        List<OutboxEvent> events = outboxEventRepository.lockPending(Limit.of(2));
+
+        assertEquals(List.of(firstPending.getId(), secondPending.getId()), events.stream().map(OutboxEvent::getId).toList());
+        assertEquals(Map.of("id", 2, "state", "BACKLOG"), events.get(0).getPayload());
+    }
+
+    @Test
+    void deletePublishedBefore_ShouldOnlyRemovePublishedRowsOlderThanCutoff() {
+        assertEquals(1, outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusDays(7)));
+
+        entityManager.clear();
+        assertNull(entityManager.find(OutboxEvent.class, published.getId()));
+        assertEquals(3, outboxEventRepository.count());
+    }
+
+    private OutboxEvent persist(Long aggregateId, LocalDateTime publishedAt) {
+        OutboxEvent event = new OutboxEvent(null, "TASK", aggregateId, DomainEventType.TASK_CREATED,
+                Map.of("id", aggregateId, "state", "BACKLOG"), LocalDateTime.now(), publishedAt);
+        return entityManager.persist(event);
+    }
+}
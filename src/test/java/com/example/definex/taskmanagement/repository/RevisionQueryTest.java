@@ -0,0 +1,146 @@
+package com.example.definex.taskmanagement.repository;
+
+import com.example.definex.taskmanagement.dto.projection.CommentRevisionView;
+import com.example.definex.taskmanagement.dto.projection.DepartmentRevisionView;
+import com.example.definex.taskmanagement.dto.projection.TaskRevisionView;
+import com.example.definex.taskmanagement.entities.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+ class RevisionQueryTest {
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Department department;
+    private User user;
+    private Project project;
+    private Project deletedProject;
+    private Task task;
+    private Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        department = new Department();
+        department.setName("Engineering");
+        entityManager.persist(department);
+
+        user = new User();
+        user.setName("user");
+        user.setEmail("user@test.com");
+        user.setRole(Role.TEAM_MEMBER);
+        user.setDepartment(department);
+        entityManager.persist(user);
+
+        project = persistProject("Active");
+        deletedProject = persistProject("Deleted");
+        deletedProject.setIsDeleted(true);
+
+        task = new Task();
+        task.setTitle("Task");
+        task.setState(TaskStateType.BACKLOG);
+        task.setProject(project);
+        task.setAssignee(user);
+        entityManager.persist(task);
+
+        comment = new Comment();
+        comment.setContent("Comment");
+        comment.setTask(task);
+        comment.setUser(user);
+        entityManager.persist(comment);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void taskRevision_ShouldFollowVersionColumnAndCarryAuthorizationIds() {
+        TaskRevisionView before = taskRepository.findRevisionById(task.getId()).orElseThrow();
+
+        Task loaded = taskRepository.findById(task.getId()).orElseThrow();
+        loaded.setTitle("Renamed");
+        entityManager.flush();
+        entityManager.clear();
+
+        TaskRevisionView after = taskRepository.findRevisionById(task.getId()).orElseThrow();
+        assertEquals(before.version() + 1, after.version());
+        assertEquals(department.getId(), after.departmentId());
+        assertEquals(user.getId(), after.assigneeId());
+    }
+
+    @Test
+    void projectRevision_ShouldSkipSoftDeletedProjects() {
+        assertEquals(department.getId(), projectRepository.findRevisionById(project.getId()).orElseThrow().departmentId());
+        assertTrue(projectRepository.findRevisionById(deletedProject.getId()).isEmpty());
+    }
+
+    @Test
+    void commentRevision_ShouldFollowVersionColumnAndCarryAuthorizationIds() {
+        CommentRevisionView before = commentRepository.findRevisionById(comment.getId()).orElseThrow();
+
+        Comment loaded = commentRepository.findById(comment.getId()).orElseThrow();
+        loaded.setContent("Edited");
+        entityManager.flush();
+        entityManager.clear();
+
+        CommentRevisionView after = commentRepository.findRevisionById(comment.getId()).orElseThrow();
+        assertEquals(before.version() + 1, after.version());
+        assertEquals(department.getId(), after.departmentId());
+        assertEquals(user.getId(), after.assigneeId());
+    }
+
+    @Test
+    void userRevision_ShouldFollowVersionColumn() {
+        long before = userRepository.findVersionById(user.getId()).orElseThrow();
+
+        User loaded = userRepository.findById(user.getId()).orElseThrow();
+        loaded.setName("renamed");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(before + 1, userRepository.findVersionById(user.getId()).orElseThrow());
+    }
+
+    @Test
+    void departmentRevision_ShouldCountOnlyActiveProjects() {
+        DepartmentRevisionView revision = departmentRepository.findRevisionById(department.getId()).orElseThrow();
+        assertEquals(1L, revision.projectCount());
+        assertNotNull(revision.projectsModifiedAt());
+
+        Project loaded = projectRepository.findById(project.getId()).orElseThrow();
+        loaded.setIsDeleted(true);
+        entityManager.flush();
+        entityManager.clear();
+
+        DepartmentRevisionView afterDelete = departmentRepository.findRevisionById(department.getId()).orElseThrow();
+        assertEquals(0L, afterDelete.projectCount());
+        assertNull(afterDelete.projectsModifiedAt());
+    }
+
+    private Project persistProject(String title) {
+        Project persisted = new Project();
+        persisted.setTitle(title);
+        persisted.setDepartment(department);
+        entityManager.persist(persisted);
+        return persisted;
+    }
+}
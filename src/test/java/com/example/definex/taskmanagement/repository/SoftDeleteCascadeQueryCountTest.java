@@ -0,0 +1,165 @@
+package com.example.definex.taskmanagement.repository;
+
+import com.example.definex.taskmanagement.entities.*;
+import com.example.definex.taskmanagement.service.impl.ProjectEventPublisher;
+import com.example.definex.taskmanagement.service.impl.SoftDeleteCascade;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import(SoftDeleteCascade.class)
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+ class SoftDeleteCascadeQueryCountTest {
+    private static final String SHARED_HASH = "a".repeat(64);
+    private static final int TASKS_PER_PROJECT = 50;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private SoftDeleteCascade softDeleteCascade;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @MockitoBean
+    private ProjectEventPublisher projectEventPublisher;
+
+    private Statistics statistics;
+    private Department department;
+    private final List<Project> projects = new ArrayList<>();
+    private final List<Task> tasks = new ArrayList<>();
+    private Task survivingTask;
+
+    @BeforeEach
+    void setUp() {
+        department = new Department();
+        department.setName("Engineering");
+        entityManager.persist(department);
+        Department otherDepartment = new Department();
+        otherDepartment.setName("Sales");
+        entityManager.persist(otherDepartment);
+
+        User user = new User();
+        user.setName("user");
+        user.setEmail("user@test.com");
+        user.setRole(Role.TEAM_MEMBER);
+        user.setDepartment(department);
+        entityManager.persist(user);
+
+        for (int p = 0; p < 2; p++) {
+            Project project = persistProject("Project " + p, department);
+            projects.add(project);
+            for (int t = 0; t < TASKS_PER_PROJECT; t++) {
+                tasks.add(persistTaskWithChildren(project, user, "Task " + p + t));
+            }
+        }
+        survivingTask = persistTaskWithChildren(persistProject("Other", otherDepartment), user, "Other task");
+
+        entityManager.persist(new AttachmentBlob(SHARED_HASH, 10L, (long) tasks.size() + 1, LocalDateTime.now()));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void deleteTasks_ShouldCascadeInFourStatementsRegardlessOfBatchSize() {
+        List<Long> taskIds = tasks.stream().map(Task::getId).toList();
+
+        softDeleteCascade.deleteTasks(taskIds);
+
+        assertEquals(4, statistics.getPrepareStatementCount());
+        entityManager.clear();
+        assertTrue(taskRepository.findAllByIdIn(taskIds).isEmpty());
+        assertEquals(tasks.size(), countDeleted("Comment"));
+        assertEquals(tasks.size(), countDeleted("Attachment"));
+        assertEquals(1L, entityManager.find(AttachmentBlob.class, SHARED_HASH).getReferenceCount());
+        verify(projectEventPublisher, never()).projectResync(anyLong());
+    }
+
+    @Test
+    void deleteDepartments_ShouldCascadeToProjectsTasksAndChildrenInSevenStatements() {
+        softDeleteCascade.deleteDepartments(List.of(department.getId()));
+
+        assertEquals(7, statistics.getPrepareStatementCount());
+        entityManager.clear();
+        assertTrue(projectRepository.findAllByIdIn(projects.stream().map(Project::getId).toList()).isEmpty());
+        assertEquals(tasks.size(), countDeleted("Task"));
+        assertEquals(tasks.size(), countDeleted("Comment"));
+        assertEquals(tasks.size(), countDeleted("Attachment"));
+        assertTrue(taskRepository.findById(survivingTask.getId()).isPresent());
+        assertEquals(1L, entityManager.find(AttachmentBlob.class, SHARED_HASH).getReferenceCount());
+        projects.forEach(project -> verify(projectEventPublisher).projectResync(project.getId()));
+        verify(projectEventPublisher, never()).projectResync(survivingTask.getProject().getId());
+    }
+
+    @Test
+    void deleteTasks_ShouldNotReleaseBlobReferencesTwice() {
+        List<Long> taskIds = tasks.stream().map(Task::getId).toList();
+
+        softDeleteCascade.deleteTasks(taskIds);
+        softDeleteCascade.deleteTasks(taskIds);
+
+        entityManager.clear();
+        assertEquals(1L, entityManager.find(AttachmentBlob.class, SHARED_HASH).getReferenceCount());
+    }
+
+    private Project persistProject(String title, Department department) {
+        Project project = new Project();
+        project.setTitle(title);
+        project.setDepartment(department);
+        entityManager.persist(project);
+        return project;
+    }
+
+    private Task persistTaskWithChildren(Project project, User user, String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setState(TaskStateType.BACKLOG);
+        task.setProject(project);
+        task.setAssignee(user);
+        entityManager.persist(task);
+
+        Comment comment = new Comment();
+        comment.setContent("Comment on " + title);
+        comment.setTask(task);
+        comment.setUser(user);
+        entityManager.persist(comment);
+
+        Attachment attachment = new Attachment();
+        attachment.setFileName("file.txt");
+        attachment.setContentHash(SHARED_HASH);
+        attachment.setTask(task);
+        attachment.setUser(user);
+        entityManager.persist(attachment);
+        return task;
+    }
+
+    private long countDeleted(String entityName) {
+        return entityManager.getEntityManager()
+                .createQuery("select count(e) from " + entityName + " e where e.isDeleted = true", Long.class)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.definex.taskmanagement.repository;
+
+import com.example.definex.taskmanagement.authorization.TaskAccessScope;
+import com.example.definex.taskmanagement.dto.projection.TaskView;
+import com.example.definex.taskmanagement.dto.request.TaskFilterRequest;
+import com.example.definex.taskmanagement.entities.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+ class TaskKeysetQueryTest {
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Department department;
+    private Department otherDepartment;
+    private User assignee;
+    private int taskCount;
+
+    @BeforeEach
+    void setUp() {
+        department = persistDepartment("IT");
+        otherDepartment = persistDepartment("HR");
+
+        assignee = new User();
+        assignee.setName("assignee");
+        assignee.setEmail("assignee@test.com");
+        assignee.setRole(Role.TEAM_MEMBER);
+        assignee.setDepartment(department);
+        entityManager.persist(assignee);
+
+        Project first = persistProject("First", department);
+        Project second = persistProject("Second", otherDepartment);
+        TaskPriorityType[] priorities = {TaskPriorityType.HIGH, null, TaskPriorityType.LOW, TaskPriorityType.CRITICAL, TaskPriorityType.MEDIUM};
+        for (Project project : List.of(first, second)) {
+            for (int i = 0; i < 6; i++) {
+                persistTask(project, priorities[i % priorities.length], i % 2 == 0 ? assignee : null, false);
+            }
+        }
+        persistTask(first, TaskPriorityType.HIGH, assignee, true);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findViews_PagingWithKeyset_ShouldVisitEveryTaskOnceInIndexOrder() {
+        List<TaskView> visited = new ArrayList<>();
+        TaskKeyset after = null;
+        List<TaskView> page;
+        do {
+            page = taskRepository.findViews(new TaskFilterRequest(), TaskAccessScope.unrestrictedScope(), after, 5);
+            visited.addAll(page);
+            if (!page.isEmpty()) {
+                TaskView last = page.get(page.size() - 1);
+                after = new TaskKeyset(last.projectId(), last.priority(), last.id());
+            }
+        } while (page.size() == 5);
+
+        assertEquals(taskCount - 1, visited.size());
+        assertEquals(visited.size(), visited.stream().map(TaskView::id).distinct().count());
+        assertEquals(taskRepository.findViews(new TaskFilterRequest(), TaskAccessScope.unrestrictedScope(), null, 100), visited);
+    }
+
+    @Test
+    void findViews_ShouldOrderPrioritiesBySeverityWithinProject() {
+        List<TaskView> tasks = taskRepository.findViews(new TaskFilterRequest(), TaskAccessScope.unrestrictedScope(), null, 100);
+
+        Long firstProjectId = tasks.get(0).projectId();
+        assertEquals(List.of(TaskPriorityType.CRITICAL, TaskPriorityType.HIGH, TaskPriorityType.HIGH,
+                        TaskPriorityType.MEDIUM, TaskPriorityType.LOW),
+                tasks.stream().filter(task -> firstProjectId.equals(task.projectId()) && task.priority() != null)
+                        .map(TaskView::priority).toList());
+    }
+
+    @Test
+    void findViews_WithFilters_ShouldReturnMatchingTasksOnly() {
+        TaskFilterRequest filter = new TaskFilterRequest(null, assignee.getId(), null, TaskPriorityType.HIGH);
+
+        List<TaskView> tasks = taskRepository.findViews(filter, TaskAccessScope.unrestrictedScope(), null, 100);
+
+        assertFalse(tasks.isEmpty());
+        assertTrue(tasks.stream().allMatch(task -> assignee.getId().equals(task.assigneeId())
+                && task.priority() == TaskPriorityType.HIGH));
+    }
+
+    @Test
+    void findViews_WithGroupManagerScope_ShouldReturnDepartmentOrAssignedTasks() {
+        TaskAccessScope scope = new TaskAccessScope(false, otherDepartment.getId(), assignee.getId());
+
+        List<TaskView> tasks = taskRepository.findViews(new TaskFilterRequest(), scope, null, 100);
+
+        assertEquals(9, tasks.size());
+        assertTrue(tasks.stream().allMatch(task -> otherDepartment.getId().equals(task.departmentId())
+                || assignee.getId().equals(task.assigneeId())));
+    }
+
+    @Test
+    void findViews_WithAssigneeOnlyScope_ShouldReturnAssignedTasks() {
+        TaskAccessScope scope = new TaskAccessScope(false, null, assignee.getId());
+
+        List<TaskView> tasks = taskRepository.findViews(new TaskFilterRequest(), scope, null, 100);
+
+        assertEquals(6, tasks.size());
+    }
+
+    private Department persistDepartment(String name) {
+        Department department = new Department();
+        department.setName(name);
+        return entityManager.persist(department);
+    }
+
+    private Project persistProject(String title, Department department) {
+        Project project = new Project();
+        project.setTitle(title);
+        project.setDepartment(department);
+        return entityManager.persist(project);
+    }
+
+    private void persistTask(Project project, TaskPriorityType priority, User assignee, boolean deleted) {
+        Task task = new Task();
+        task.setTitle("Task " + taskCount++);
+        task.setState(TaskStateType.BACKLOG);
+        task.setPriority(priority);
+        task.setProject(project);
+        task.setAssignee(assignee);
+        task.setIsDeleted(deleted);
+        entityManager.persist(task);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.definex.taskmanagement.repository;
+
+import com.example.definex.taskmanagement.authorization.TaskAccessScope;
+import com.example.definex.taskmanagement.dto.projection.TaskSearchView;
+import com.example.definex.taskmanagement.entities.TaskStateType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * The search SQL relies on tsvector columns that only exist in Postgres, so this checks the statement that is built
+ * rather than running it on H2.
+ */
+@ExtendWith(MockitoExtension.class)
+ class TaskSearchQueryTest {
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private Query query;
+
+    @InjectMocks
+    private TaskRepositoryCustomImpl taskRepositoryCustom;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManager.createNativeQuery(anyString(), eq(Tuple.class))).thenReturn(query);
+    }
+
+    @Test
+    void search_ForGroupManager_ShouldFilterBothBranchesByDepartmentOrAssignee() {
+        when(query.getResultList()).thenReturn(List.of());
+
+        taskRepositoryCustom.search("login", new TaskAccessScope(false, 3L, 7L), 20);
+
+        String sql = capturedSql();
+        assertEquals(2, occurrences(sql, "AND (p.department_id = :scopeDepartmentId OR t.assignee_id = :scopeAssigneeId)"));
+        verify(query).setParameter("scopeDepartmentId", 3L);
+        verify(query).setParameter("scopeAssigneeId", 7L);
+        verify(query).setParameter("query", "login");
+        verify(query).setParameter("limit", 20);
+    }
+
+    @Test
+    void search_ForTeamLeader_ShouldNotRestrictScope() {
+        when(query.getResultList()).thenReturn(List.of());
+
+        taskRepositoryCustom.search("login", TaskAccessScope.unrestrictedScope(), 20);
+
+        String sql = capturedSql();
+        assertFalse(sql.contains(":scope"));
+        assertEquals(2, occurrences(sql, "search_vector @@ q.query"));
+    }
+
+    @Test
+    void search_ShouldMapRowsToRankedViews() {
+        Tuple row = mock(Tuple.class);
+        when(row.get(0)).thenReturn(1L);
+        when(row.get(1, String.class)).thenReturn("Fix login");
+        when(row.get(2, String.class)).thenReturn(null);
+        when(row.get(3, String.class)).thenReturn("IN_PROGRESS");
+        when(row.get(4, String.class)).thenReturn(null);
+        when(row.get(5)).thenReturn(4L);
+        when(row.get(6)).thenReturn(3L);
+        when(row.get(7)).thenReturn(null);
+        when(row.get(8)).thenReturn(0.25f);
+        when(query.getResultList()).thenReturn(List.of(row));
+
+        List<TaskSearchView> result = taskRepositoryCustom.search("login", new TaskAccessScope(false, null, 7L), 20);
+
+        assertEquals(new TaskSearchView(1L, "Fix login", null, TaskStateType.IN_PROGRESS, null, 4L, 3L, null, 0.25), result.get(0));
+    }
+
+    private String capturedSql() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(entityManager).createNativeQuery(sql.capture(), eq(Tuple.class));
+        return sql.getValue();
+    }
+
+    private int occurrences(String text, String fragment) {
+        return text.split(java.util.regex.Pattern.quote(fragment), -1).length - 1;
+    }
+}
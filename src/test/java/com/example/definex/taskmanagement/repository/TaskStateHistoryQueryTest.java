@@ -0,0 +1,130 @@
+package com.example.definex.taskmanagement.repository;
+
+import com.example.definex.taskmanagement.dto.projection.DurationStatsView;
+import com.example.definex.taskmanagement.entities.*;
+import com.example.definex.taskmanagement.service.impl.TaskStateHistory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(TaskStateHistory.class)
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+ class TaskStateHistoryQueryTest {
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private TaskStateHistory taskStateHistory;
+    @Autowired
+    private TaskStateTransitionRepository taskStateTransitionRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Department department;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        department = new Department();
+        department.setName("Engineering");
+        entityManager.persist(department);
+
+        project = new Project();
+        project.setTitle("Project");
+        project.setDepartment(department);
+        entityManager.persist(project);
+        entityManager.flush();
+    }
+
+    @Test
+    void save_ShouldAppendTransitionForCreationAndEachStateChangeOnly() {
+        Task task = new Task();
+        task.setTitle("Task");
+        task.setState(TaskStateType.BACKLOG);
+        task.setProject(project);
+        taskStateHistory.save(task);
+        entityManager.flush();
+        entityManager.clear();
+
+        Task loaded = taskRepository.findById(task.getId(), TaskRepository.WITH_PROJECT).orElseThrow();
+        loaded.setTitle("Renamed");
+        taskStateHistory.save(loaded);
+        loaded.setState(TaskStateType.BLOCKED);
+        loaded.setStateChangeReason("Waiting on vendor");
+        taskStateHistory.save(loaded);
+        entityManager.flush();
+
+        List<TaskStateTransition> transitions = taskStateTransitionRepository.findAll().stream()
+                .sorted((a, b) -> a.getId().compareTo(b.getId()))
+                .toList();
+        assertEquals(2, transitions.size());
+        assertNull(transitions.get(0).getFromState());
+        assertEquals(TaskStateType.BACKLOG, transitions.get(0).getToState());
+        assertEquals(TaskStateType.BACKLOG, transitions.get(1).getFromState());
+        assertEquals(TaskStateType.BLOCKED, transitions.get(1).getToState());
+        assertEquals("Waiting on vendor", transitions.get(1).getReason());
+        assertEquals(project.getId(), transitions.get(1).getProjectId());
+        assertEquals(department.getId(), transitions.get(1).getDepartmentId());
+    }
+
+    @Test
+    void findTimeInState_ShouldMeasureEachSpanUntilTheNextTransition() {
+        recordFlow(1L, 1, 3);
+        recordFlow(2L, 2, 6);
+
+        Map<String, DurationStatsView> byState = byMetric(taskStateTransitionRepository.findTimeInStateByProject(
+                project.getId(), START.minusDays(1), START.plusDays(1)));
+
+        assertEquals(2, byState.size());
+        assertEquals(2L, byState.get("BACKLOG").getSamples());
+        assertEquals(5400.0, byState.get("BACKLOG").getAverageSeconds(), 0.001);
+        assertEquals(5400.0, byState.get("BACKLOG").getP50Seconds(), 0.001);
+        assertEquals(10800.0, byState.get("IN_PROGRESS").getP50Seconds(), 0.001);
+        assertEquals(14400.0 - 0.05 * 7200, byState.get("IN_PROGRESS").getP95Seconds(), 0.001);
+        assertFalse(byState.containsKey("COMPLETED"));
+    }
+
+    @Test
+    void findFlowTimes_ShouldComputeLeadAndCycleTimeForTasksCompletedInWindow() {
+        recordFlow(1L, 1, 3);
+        recordFlow(2L, 2, 6);
+
+        Map<String, DurationStatsView> byMetric = byMetric(taskStateTransitionRepository.findFlowTimesByDepartment(
+                department.getId(), START.minusDays(1), START.plusDays(1)));
+
+        assertEquals(16200.0, byMetric.get("LEAD_TIME").getP50Seconds(), 0.001);
+        assertEquals(10800.0, byMetric.get("CYCLE_TIME").getP50Seconds(), 0.001);
+        assertEquals(2L, byMetric.get("CYCLE_TIME").getSamples());
+        assertTrue(taskStateTransitionRepository.findFlowTimesByDepartment(
+                department.getId(), START.plusDays(1), START.plusDays(2)).isEmpty());
+    }
+
+    private void recordFlow(Long taskId, int startedAfterHours, int completedAfterHours) {
+        record(taskId, null, TaskStateType.BACKLOG, START);
+        record(taskId, TaskStateType.BACKLOG, TaskStateType.IN_PROGRESS, START.plusHours(startedAfterHours));
+        record(taskId, TaskStateType.IN_PROGRESS, TaskStateType.COMPLETED, START.plusHours(completedAfterHours));
+        entityManager.flush();
+    }
+    private void record(Long taskId, TaskStateType from, TaskStateType to, LocalDateTime changedAt) {
+        entityManager.persist(new TaskStateTransition(null, taskId, project.getId(), department.getId(),
+                from, to, null, "user@test.com", changedAt));
+    }
+    private Map<String, DurationStatsView> byMetric(List<DurationStatsView> stats) {
+        return stats.stream().collect(Collectors.toMap(DurationStatsView::getMetric, view -> view));
+    }
+}
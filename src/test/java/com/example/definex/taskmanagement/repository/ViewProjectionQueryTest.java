@@ -0,0 +1,137 @@
+package com.example.definex.taskmanagement.repository;
+
+import com.example.definex.taskmanagement.dto.projection.DepartmentView;
+import com.example.definex.taskmanagement.dto.projection.ProjectSummaryView;
+import com.example.definex.taskmanagement.dto.projection.ProjectView;
+import com.example.definex.taskmanagement.dto.projection.TaskView;
+import com.example.definex.taskmanagement.dto.projection.UserView;
+import com.example.definex.taskmanagement.entities.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.TestPropertySource;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+ class ViewProjectionQueryTest {
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    private Statistics statistics;
+    private Department department;
+    private Project project;
+    private User user;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        department = new Department();
+        department.setName("IT");
+        entityManager.persist(department);
+
+        user = new User();
+        user.setName("user");
+        user.setEmail("user@test.com");
+        user.setRole(Role.TEAM_MEMBER);
+        user.setDepartment(department);
+        entityManager.persist(user);
+
+        project = new Project();
+        project.setTitle("Project");
+        project.setDepartment(department);
+        entityManager.persist(project);
+
+        Project deletedProject = new Project();
+        deletedProject.setTitle("Deleted");
+        deletedProject.setDepartment(department);
+        deletedProject.setIsDeleted(true);
+        entityManager.persist(deletedProject);
+
+        task = new Task();
+        task.setTitle("Task");
+        task.setState(TaskStateType.IN_PROGRESS);
+        task.setPriority(TaskPriorityType.HIGH);
+        task.setProject(project);
+        task.setAssignee(user);
+        entityManager.persist(task);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findTaskViewById_ShouldSelectAuthorizationIdsWithoutLoadingEntities() {
+        TaskView view = taskRepository.findViewById(task.getId()).orElseThrow();
+
+        assertEquals("Task", view.title());
+        assertEquals(TaskPriorityType.HIGH, view.priority());
+        assertEquals(project.getId(), view.projectId());
+        assertEquals(department.getId(), view.departmentId());
+        assertEquals(user.getId(), view.assigneeId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findProjectViewById_ShouldReturnDepartmentId() {
+        ProjectView view = projectRepository.findViewById(project.getId()).orElseThrow();
+
+        assertEquals("Project", view.title());
+        assertEquals(department.getId(), view.departmentId());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findSummariesByDepartmentIds_ShouldSkipDeletedProjects() {
+        List<ProjectSummaryView> summaries = projectRepository.findSummariesByDepartmentIds(List.of(department.getId()));
+
+        assertEquals(1, summaries.size());
+        assertEquals(project.getId(), summaries.get(0).id());
+        assertEquals(department.getId(), summaries.get(0).departmentId());
+    }
+
+    @Test
+    void findViews_ShouldSeekUsersAndDepartmentsByIdWithoutLoadingEntities() {
+        User second = new User();
+        second.setName("second");
+        second.setEmail("second@test.com");
+        second.setRole(Role.TEAM_MEMBER);
+        entityManager.persistAndFlush(second);
+        statistics.clear();
+
+        List<UserView> firstPage = userRepository.findViews(Limit.of(1));
+        List<UserView> secondPage = userRepository.findViewsAfter(firstPage.get(0).id(), Limit.of(1));
+        List<DepartmentView> departments = departmentRepository.findViews(Limit.of(10));
+
+        assertEquals("user@test.com", firstPage.get(0).email());
+        assertEquals("second@test.com", secondPage.get(0).email());
+        assertEquals("IT", departments.get(0).name());
+        assertTrue(departmentRepository.findViewsAfter(department.getId(), Limit.of(10)).isEmpty());
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
@@ -3,17 +3,28 @@ package com.example.definex.taskmanagement.service;
 import com.example.definex.taskmanagement.authorization.impl.AttachmentAuthorizationImpl;
 import com.example.definex.taskmanagement.dto.mapper.AttachmentMapper;
 import com.example.definex.taskmanagement.dto.request.UploadFileAttachmentRequest;
+import com.example.definex.taskmanagement.dto.response.AttachmentDownload;
 import com.example.definex.taskmanagement.dto.response.FileAttachmentResponse;
 import com.example.definex.taskmanagement.dto.response.UploadedFileAttachmentResponse;
 import com.example.definex.taskmanagement.entities.*;
 import com.example.definex.taskmanagement.exception.AttachmentNotFoundException;
+import com.example.definex.taskmanagement.exception.AttachmentNotReadyException;
+import com.example.definex.taskmanagement.exception.AttachmentQuarantinedException;
 import com.example.definex.taskmanagement.exception.TaskNotFoundException;
 import com.example.definex.taskmanagement.exception.UnauthorizedAccessException;
 import com.example.definex.taskmanagement.exception.UserNotFoundException;
 import com.example.definex.taskmanagement.repository.AttachmentRepository;
+import com.example.definex.taskmanagement.repository.OutboxEventRepository;
 import com.example.definex.taskmanagement.repository.TaskRepository;
 import com.example.definex.taskmanagement.repository.UserRepository;
+import com.example.definex.taskmanagement.service.impl.AttachmentBlobStore;
+import com.example.definex.taskmanagement.service.impl.AttachmentProcessingPipeline;
 import com.example.definex.taskmanagement.service.impl.AttachmentServiceImpl;
+import com.example.definex.taskmanagement.service.impl.DomainEventOutbox;
+import com.example.definex.taskmanagement.service.impl.ProjectEventPublisher;
+import com.example.definex.taskmanagement.service.impl.StagedBlob;
+import com.example.definex.taskmanagement.service.impl.StoredBlob;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,18 +32,17 @@ import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.net.URI;
+import java.io.InputStream;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -40,6 +50,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
  class AttachmentServiceImplTest {
+    private static final String CONTENT_HASH = "6ae8a75555209fd6c44157c0aed8016e763ff435a19cf186f76863140143ff72";
+
     @Mock
     private AttachmentRepository attachmentRepository;
 
@@ -55,9 +67,24 @@ import static org.mockito.Mockito.*;
     @Mock
     private AttachmentAuthorizationImpl attachmentAuthorizationImpl;
 
+    @Mock
+    private AttachmentBlobStore attachmentBlobStore;
+
+    @Mock
+    private AttachmentStorage attachmentStorage;
+
+    @Mock
+    private AttachmentProcessingPipeline attachmentProcessingPipeline;
+
+    @Mock
+    private ProjectEventPublisher projectEventPublisher;
+
     @Mock
     private MultipartFile multipartFile;
 
+    @Spy
+    private DomainEventOutbox domainEventOutbox = new DomainEventOutbox(mock(OutboxEventRepository.class));
+
     @InjectMocks
     private AttachmentServiceImpl attachmentService;
 
@@ -70,13 +97,14 @@ import static org.mockito.Mockito.*;
     private UploadFileAttachmentRequest uploadRequest;
     private UploadedFileAttachmentResponse uploadResponse;
     private FileAttachmentResponse fileAttachmentResponse;
+    private StagedBlob stagedBlob;
+    private StoredBlob storedBlob;
     private Department department;
     private Project project;
 
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(attachmentService, "uploadDir", "uploads");
-        ReflectionTestUtils.setField(attachmentService, "maxFileSize", "10MB");
+        ReflectionTestUtils.setField(attachmentService, "maxFileSize", DataSize.ofMegabytes(10));
 
         department = new Department();
         department.setId(1L);
@@ -121,6 +149,7 @@ import static org.mockito.Mockito.*;
         attachment.setTask(task);
         attachment.setUser(teamMember);
         attachment.setIsDeleted(false);
+        attachment.setProcessingStatus(AttachmentProcessingStatus.READY);
 
         uploadRequest = new UploadFileAttachmentRequest();
         uploadRequest.setTaskId(1L);
@@ -135,11 +164,15 @@ import static org.mockito.Mockito.*;
         when(multipartFile.getOriginalFilename()).thenReturn("test_file.txt");
         when(multipartFile.isEmpty()).thenReturn(false);
         when(multipartFile.getSize()).thenReturn(1024L);
+        stagedBlob = new StagedBlob(Path.of("incoming", "upload"), CONTENT_HASH, 12L, null);
+        when(attachmentBlobStore.stage(any(InputStream.class), anyLong(), anyLong())).thenReturn(stagedBlob);
+        storedBlob = new StoredBlob(CONTENT_HASH, 12L, "blobs/6a/e8/" + CONTENT_HASH, null);
+        when(attachmentBlobStore.upload(stagedBlob)).thenReturn(storedBlob);
     }
 
     @Test
     void uploadFile_WhenUserIsAuthorized_ShouldUploadAndReturnResponse() throws IOException {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
         when(userRepository.findById(3L)).thenReturn(Optional.of(teamMember));
         when(attachmentAuthorizationImpl.userCanAttachFileToTask(task)).thenReturn(true);
         when(multipartFile.getInputStream()).thenReturn(new ByteArrayInputStream("test content".getBytes()));
@@ -148,52 +181,59 @@ import static org.mockito.Mockito.*;
 
         UploadedFileAttachmentResponse result = attachmentService.uploadFile(multipartFile, uploadRequest);
 
+        ArgumentCaptor<Attachment> savedAttachment = ArgumentCaptor.forClass(Attachment.class);
         assertNotNull(result);
         assertEquals("test_file.txt", result.getFileName());
         verify(attachmentAuthorizationImpl).userCanAttachFileToTask(task);
-        verify(attachmentRepository).save(any(Attachment.class));
+        verify(attachmentRepository).save(savedAttachment.capture());
+        assertEquals(CONTENT_HASH, savedAttachment.getValue().getContentHash());
+        assertEquals(12L, savedAttachment.getValue().getFileSize());
+        assertEquals("blobs/6a/e8/" + CONTENT_HASH, savedAttachment.getValue().getFilePath());
+        verify(attachmentBlobStore).stage(any(InputStream.class), eq(1024L), eq(10L * 1024 * 1024));
+        verify(attachmentBlobStore).discard(stagedBlob);
+        verify(attachmentProcessingPipeline).submit(1L);
     }
 
     @Test
     void uploadFile_WhenTaskNotFound_ShouldThrowException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.empty());
 
         assertThrows(TaskNotFoundException.class, () ->
                 attachmentService.uploadFile(multipartFile, uploadRequest)
         );
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verifyNoInteractions(attachmentAuthorizationImpl);
     }
     @Test
     void uploadFile_WhenUserNotFound_ShouldThrowException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
         when(userRepository.findById(3L)).thenReturn(Optional.empty());
 
         assertThrows(UserNotFoundException.class, () ->
                 attachmentService.uploadFile(multipartFile, uploadRequest)
         );
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verify(userRepository).findById(3L);
         verifyNoInteractions(attachmentAuthorizationImpl);
     }
 
     @Test
     void uploadFile_WhenUnauthorized_ShouldThrowException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
         when(userRepository.findById(3L)).thenReturn(Optional.of(teamMember));
         doThrow(new UnauthorizedAccessException("Unauthorized")).when(attachmentAuthorizationImpl).userCanAttachFileToTask(task);
 
         assertThrows(UnauthorizedAccessException.class, () ->
                 attachmentService.uploadFile(multipartFile, uploadRequest)
         );
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verify(userRepository).findById(3L);
         verify(attachmentAuthorizationImpl).userCanAttachFileToTask(task);
     }
 
     @Test
     void uploadFile_WhenFileEmpty_ShouldThrowException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
         when(userRepository.findById(3L)).thenReturn(Optional.of(teamMember));
         when(attachmentAuthorizationImpl.userCanAttachFileToTask(task)).thenReturn(true);
         when(multipartFile.isEmpty()).thenReturn(true);
@@ -205,7 +245,7 @@ import static org.mockito.Mockito.*;
 
     @Test
     void uploadFile_WhenFileSizeExceedsLimit_ShouldThrowException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
         when(userRepository.findById(3L)).thenReturn(Optional.of(teamMember));
         when(attachmentAuthorizationImpl.userCanAttachFileToTask(task)).thenReturn(true);
         when(multipartFile.getSize()).thenReturn(20 * 1024 * 1024L); // 20MB
@@ -216,55 +256,114 @@ import static org.mockito.Mockito.*;
     }
 
     @Test
-    void downloadFile_WhenUserIsAuthorized_ShouldReturnResource() {
-        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+    void downloadFile_WhenUserIsAuthorized_ShouldReturnFileWithStrongETag() throws IOException {
+        attachment.setFilePath("blobs/6a/e8/" + CONTENT_HASH);
+        attachment.setContentHash(CONTENT_HASH);
+        Path localPath = Path.of("uploads", "blobs", "6a", "e8", CONTENT_HASH);
+        when(attachmentRepository.findById(1L, AttachmentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(attachment));
         when(attachmentAuthorizationImpl.userCanDownloadAttachment(attachment)).thenReturn(true);
+        when(attachmentStorage.stat(attachment.getFilePath())).thenReturn(new AttachmentStorage.ObjectMetadata(12L, 1000L));
+        when(attachmentStorage.localPath(attachment.getFilePath())).thenReturn(localPath);
+
+        AttachmentDownload result = attachmentService.downloadFile(1L);
+
+        assertEquals(localPath, result.localPath());
+        assertEquals(12L, result.contentLength());
+        assertEquals("\"" + CONTENT_HASH + "\"", result.eTag());
+        assertTrue(result.strongETag());
+        verify(attachmentAuthorizationImpl).userCanDownloadAttachment(attachment);
+    }
+    @Test
+    void downloadFile_WhenStoredCompressed_ShouldReportOriginalAndEncodedLengths() throws IOException {
+        attachment.setFilePath("blobs/6a/e8/" + CONTENT_HASH + ".gz");
+        attachment.setContentHash(CONTENT_HASH);
+        attachment.setContentEncoding("gzip");
+        attachment.setFileSize(4096L);
+        when(attachmentRepository.findById(1L, AttachmentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(attachment));
+        when(attachmentStorage.stat(attachment.getFilePath())).thenReturn(new AttachmentStorage.ObjectMetadata(512L, 1000L));
+
+        AttachmentDownload result = attachmentService.downloadFile(1L);
+
+        assertEquals(4096L, result.contentLength());
+        assertEquals(512L, result.encodedLength());
+        assertEquals("gzip", result.contentEncoding());
+    }
+    @Test
+    void downloadFile_WithoutContentHash_ShouldReturnWeakETag() throws IOException {
+        when(attachmentRepository.findById(1L, AttachmentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(attachment));
+        when(attachmentStorage.stat(attachment.getFilePath())).thenReturn(new AttachmentStorage.ObjectMetadata(12L, 1000L));
+
+        AttachmentDownload result = attachmentService.downloadFile(1L);
+
+        assertEquals("W/\"c-3e8\"", result.eTag());
+        assertFalse(result.strongETag());
+    }
+    @Test
+    void downloadFile_WhenContentMissingFromStorage_ShouldThrowException() throws IOException {
+        when(attachmentRepository.findById(1L, AttachmentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(attachment));
+        when(attachmentStorage.stat(attachment.getFilePath())).thenReturn(null);
+
+        assertThrows(EntityNotFoundException.class, () -> attachmentService.downloadFile(1L));
+    }
+    @Test
+    void downloadFile_WhenQuarantined_ShouldThrowException() {
+        attachment.setProcessingStatus(AttachmentProcessingStatus.QUARANTINED);
+        when(attachmentRepository.findById(1L, AttachmentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(attachment));
+
+        assertThrows(AttachmentQuarantinedException.class, () -> attachmentService.downloadFile(1L));
+        verifyNoInteractions(attachmentStorage);
+    }
+    @Test
+    void downloadFile_WhenScanNotFinished_ShouldThrowException() {
+        attachment.setProcessingStatus(AttachmentProcessingStatus.PROCESSING);
+        when(attachmentRepository.findById(1L, AttachmentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(attachment));
 
-        URI mockUri = URI.create("file:///uploads/test_file.txt");
-
-        try (MockedStatic<Paths> pathsMock = mockStatic(Paths.class)) {
-            Path path = mock(Path.class);
-            pathsMock.when(() -> Paths.get(attachment.getFilePath())).thenReturn(path);
-            when(path.toUri()).thenReturn(mockUri);
-
-            UrlResource mockUrlResource = mock(UrlResource.class);
-            when(mockUrlResource.exists()).thenReturn(true);
-
-            try (MockedConstruction<UrlResource> mockedConstruction = mockConstruction(UrlResource.class,
-                    (mock, context) -> {
-                        when(mock.exists()).thenReturn(true);
-                    })) {
-                Resource result = attachmentService.downloadFile(1L);
-                assertNotNull(result);
-                verify(attachmentAuthorizationImpl).userCanDownloadAttachment(attachment);
-            }
-        }
+        assertThrows(AttachmentNotReadyException.class, () -> attachmentService.downloadFile(1L));
+        verifyNoInteractions(attachmentStorage);
     }
+    @Test
+    void downloadThumbnail_WhenGenerated_ShouldReturnThumbnailWithOwnETag() throws IOException {
+        attachment.setContentHash(CONTENT_HASH);
+        attachment.setThumbnailKey("thumbnails/6a/e8/" + CONTENT_HASH + ".png");
+        when(attachmentRepository.findById(1L, AttachmentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(attachment));
+        when(attachmentStorage.stat(attachment.getThumbnailKey())).thenReturn(new AttachmentStorage.ObjectMetadata(300L, 1000L));
+
+        AttachmentDownload result = attachmentService.downloadThumbnail(1L);
 
+        assertEquals(attachment.getThumbnailKey(), result.storageKey());
+        assertEquals("test_file-thumbnail.png", result.fileName());
+        assertEquals("\"" + CONTENT_HASH + "-thumbnail\"", result.eTag());
+    }
+    @Test
+    void downloadThumbnail_WhenNotGenerated_ShouldThrowException() {
+        when(attachmentRepository.findById(1L, AttachmentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(attachment));
+
+        assertThrows(AttachmentNotFoundException.class, () -> attachmentService.downloadThumbnail(1L));
+    }
     @Test
     void downloadFile_WhenAttachmentNotFound_ShouldThrowException() {
-        when(attachmentRepository.findById(1L)).thenReturn(Optional.empty());
+        when(attachmentRepository.findById(1L, AttachmentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.empty());
 
         assertThrows(AttachmentNotFoundException.class, () ->
                 attachmentService.downloadFile(1L)
         );
-        verify(attachmentRepository).findById(1L);
+        verify(attachmentRepository).findById(1L, AttachmentRepository.WITH_TASK_AND_PROJECT);
         verifyNoInteractions(attachmentAuthorizationImpl);
     }
     @Test
     void downloadFile_WhenUnauthorized_ShouldThrowException() {
-        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+        when(attachmentRepository.findById(1L, AttachmentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(attachment));
         doThrow(new UnauthorizedAccessException("Unauthorized")).when(attachmentAuthorizationImpl).userCanDownloadAttachment(attachment);
 
         assertThrows(UnauthorizedAccessException.class, () ->
                 attachmentService.downloadFile(1L)
         );
-        verify(attachmentRepository).findById(1L);
+        verify(attachmentRepository).findById(1L, AttachmentRepository.WITH_TASK_AND_PROJECT);
         verify(attachmentAuthorizationImpl).userCanDownloadAttachment(attachment);
     }
     @Test
     void deleteAttachment_WhenUserIsAuthorized_ShouldSetIsDeletedTrue() {
-        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+        when(attachmentRepository.findById(1L, AttachmentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(attachment));
         when(attachmentAuthorizationImpl.userCanDeleteAttachment(attachment)).thenReturn(true);
 
         attachmentService.deleteAttachment(1L);
@@ -272,34 +371,44 @@ import static org.mockito.Mockito.*;
         assertTrue(attachment.getIsDeleted());
         verify(attachmentRepository).save(attachment);
         verify(attachmentAuthorizationImpl).userCanDeleteAttachment(attachment);
+        verifyNoInteractions(attachmentBlobStore);
+    }
+    @Test
+    void deleteAttachment_WithStoredBlob_ShouldReleaseBlobReference() {
+        attachment.setContentHash(CONTENT_HASH);
+        when(attachmentRepository.findById(1L, AttachmentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(attachment));
+
+        attachmentService.deleteAttachment(1L);
+
+        verify(attachmentBlobStore).release(CONTENT_HASH);
     }
 
     @Test
     void deleteAttachment_WhenAttachmentNotFound_ShouldThrowException() {
-        when(attachmentRepository.findById(1L)).thenReturn(Optional.empty());
+        when(attachmentRepository.findById(1L, AttachmentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.empty());
 
         assertThrows(AttachmentNotFoundException.class, () ->
                 attachmentService.deleteAttachment(1L)
         );
-        verify(attachmentRepository).findById(1L);
+        verify(attachmentRepository).findById(1L, AttachmentRepository.WITH_TASK_AND_PROJECT);
         verifyNoInteractions(attachmentAuthorizationImpl);
     }
 
     @Test
     void deleteAttachment_WhenUnauthorized_ShouldThrowException() {
-        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+        when(attachmentRepository.findById(1L, AttachmentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(attachment));
         doThrow(new UnauthorizedAccessException("Unauthorized")).when(attachmentAuthorizationImpl).userCanDeleteAttachment(attachment);
 
         assertThrows(UnauthorizedAccessException.class, () ->
                 attachmentService.deleteAttachment(1L)
         );
-        verify(attachmentRepository).findById(1L);
+        verify(attachmentRepository).findById(1L, AttachmentRepository.WITH_TASK_AND_PROJECT);
         verify(attachmentAuthorizationImpl).userCanDeleteAttachment(attachment);
     }
 
     @Test
     void getTaskAttachments_WhenUserIsAuthorized_ShouldReturnAttachments() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
         when(attachmentAuthorizationImpl.userCanViewTaskAttachments(task)).thenReturn(true);
         when(attachmentRepository.findByTask_Id(1L)).thenReturn(Arrays.asList(attachment));
         when(attachmentMapper.attachmentToFileAttachmentResponse(attachment)).thenReturn(fileAttachmentResponse);
@@ -308,42 +417,73 @@ import static org.mockito.Mockito.*;
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verify(attachmentAuthorizationImpl).userCanViewTaskAttachments(task);
         verify(attachmentRepository).findByTask_Id(1L);
     }
 
     @Test
     void getTaskAttachments_WhenTaskNotFound_ShouldThrowException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.empty());
 
         assertThrows(TaskNotFoundException.class, () ->
                 attachmentService.getTaskAttachments(1L)
         );
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verifyNoInteractions(attachmentAuthorizationImpl);
     }
 
     @Test
     void getTaskAttachments_WhenUnauthorized_ShouldThrowException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
         doThrow(new UnauthorizedAccessException("Unauthorized")).when(attachmentAuthorizationImpl).userCanViewTaskAttachments(task);
 
         assertThrows(UnauthorizedAccessException.class, () ->
                 attachmentService.getTaskAttachments(1L)
         );
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verify(attachmentAuthorizationImpl).userCanViewTaskAttachments(task);
     }
 
     @Test
-    void parseMaxFileSize_WithMBUnit_ShouldReturnCorrectByteSize() {
-        long result = (long) ReflectionTestUtils.invokeMethod(attachmentService, "parseMaxFileSize", "5MB");
-        assertEquals(5 * 1024 * 1024, result);
+    void uploadFileStream_WhenUserIsAuthorized_ShouldStoreBlobUnderSanitizedName() {
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
+        when(userRepository.findById(3L)).thenReturn(Optional.of(teamMember));
+        when(attachmentRepository.save(any(Attachment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(attachmentMapper.attachmentToUploadedFileAttachmentResponse(any(Attachment.class))).thenReturn(uploadResponse);
+
+        attachmentService.uploadFile(new ByteArrayInputStream("test content".getBytes()), "../../etc/test_file.txt", -1, uploadRequest);
+
+        ArgumentCaptor<Attachment> savedAttachment = ArgumentCaptor.forClass(Attachment.class);
+        verify(attachmentRepository).save(savedAttachment.capture());
+        assertEquals("test_file.txt", savedAttachment.getValue().getFileName());
+        assertEquals(CONTENT_HASH, savedAttachment.getValue().getContentHash());
+    }
+    @Test
+    void uploadFileStream_WhenDeclaredLengthExceedsLimit_ShouldRejectBeforeReading() {
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
+        when(userRepository.findById(3L)).thenReturn(Optional.of(teamMember));
+        ByteArrayInputStream content = new ByteArrayInputStream("test content".getBytes());
+
+        assertThrows(IllegalArgumentException.class, () ->
+                attachmentService.uploadFile(content, "test_file.txt", 20 * 1024 * 1024L, uploadRequest)
+        );
+        verifyNoInteractions(attachmentBlobStore, attachmentRepository);
     }
     @Test
-    void parseMaxFileSize_WithInvalidFormat_ShouldReturnDefaultSize() {
-        long result = (long) ReflectionTestUtils.invokeMethod(attachmentService, "parseMaxFileSize", "invalid");
-        assertEquals(10 * 1024 * 1024, result);
+    void uploadFileStream_WhenSaveFails_ShouldUploadBeforeTheTransactionAndOnlyCountInsideIt() {
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
+        when(userRepository.findById(3L)).thenReturn(Optional.of(teamMember));
+        when(attachmentRepository.save(any(Attachment.class))).thenThrow(new IllegalStateException("db down"));
+
+        assertThrows(IllegalStateException.class, () ->
+                attachmentService.uploadFile(new ByteArrayInputStream("test content".getBytes()), "test_file.txt", -1, uploadRequest)
+        );
+        InOrder inOrder = inOrder(domainEventOutbox, attachmentBlobStore);
+        inOrder.verify(attachmentBlobStore).upload(stagedBlob);
+        inOrder.verify(domainEventOutbox).record(eq(DomainEventType.ATTACHMENT_ADDED), any(Supplier.class));
+        inOrder.verify(attachmentBlobStore).acquire(storedBlob);
+        inOrder.verify(attachmentBlobStore).discard(stagedBlob);
+        verify(attachmentBlobStore, never()).release(anyString());
     }
-}
\ No newline at end of file
+}
@@ -2,28 +2,43 @@ package com.example.definex.taskmanagement.service;
 
 import com.example.definex.taskmanagement.authorization.impl.CommentAuthorizationImpl;
 import com.example.definex.taskmanagement.dto.mapper.CommentMapper;
+import com.example.definex.taskmanagement.dto.projection.CommentRevisionView;
+import com.example.definex.taskmanagement.dto.projection.CommentView;
 import com.example.definex.taskmanagement.dto.request.CreateCommentRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateCommentRequest;
+import com.example.definex.taskmanagement.dto.response.CommentFeedResponse;
 import com.example.definex.taskmanagement.dto.response.CommentResponse;
 import com.example.definex.taskmanagement.dto.response.CreatedCommentResponse;
+import com.example.definex.taskmanagement.dto.response.ProjectEvent;
 import com.example.definex.taskmanagement.dto.response.UpdatedCommentResponse;
 import com.example.definex.taskmanagement.entities.*;
 import com.example.definex.taskmanagement.exception.CommentNotFoundException;
+import com.example.definex.taskmanagement.exception.InvalidCursorException;
+import com.example.definex.taskmanagement.exception.PreconditionFailedException;
 import com.example.definex.taskmanagement.exception.TaskNotFoundException;
 import com.example.definex.taskmanagement.exception.UnauthorizedAccessException;
 import com.example.definex.taskmanagement.exception.UserNotFoundException;
 import com.example.definex.taskmanagement.exception.constants.MessageKey;
 import com.example.definex.taskmanagement.repository.CommentRepository;
+import com.example.definex.taskmanagement.repository.OutboxEventRepository;
 import com.example.definex.taskmanagement.repository.TaskRepository;
 import com.example.definex.taskmanagement.repository.UserRepository;
 import com.example.definex.taskmanagement.service.impl.CommentServiceImpl;
+import com.example.definex.taskmanagement.service.impl.DomainEventOutbox;
+import com.example.definex.taskmanagement.service.impl.ProjectEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
+import org.mockito.Spy;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.when;
@@ -46,6 +61,12 @@ import static org.assertj.core.api.Assertions.assertThat;
     @Mock
     private CommentAuthorizationImpl commentAuthorizationImpl;
 
+    @Mock
+    private ProjectEventPublisher projectEventPublisher;
+
+    @Spy
+    private DomainEventOutbox domainEventOutbox = new DomainEventOutbox(mock(OutboxEventRepository.class));
+
     @InjectMocks
     private CommentServiceImpl commentService;
 
@@ -103,19 +124,22 @@ import static org.assertj.core.api.Assertions.assertThat;
         expected.setContent("Test Comment");
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(loggedInUser));
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
         when(commentMapper.createCommentRequestToComment(request)).thenReturn(comment);
+        when(taskRepository.nextCommentPosition(taskId)).thenReturn(7L);
         when(commentRepository.save(comment)).thenReturn(comment);
         when(commentMapper.commentToCreatedCommentResponse(comment)).thenReturn(expected);
 
         CreatedCommentResponse result = commentService.save(request);
 
         assertThat(result).isEqualTo(expected);
+        assertThat(comment.getFeedPosition()).isEqualTo(7L);
         verify(userRepository).findById(userId);
-        verify(taskRepository).findById(taskId);
+        verify(taskRepository).findById(taskId, TaskRepository.WITH_PROJECT);
         verify(commentAuthorizationImpl).userCanReachComment(task);
         verify(commentMapper).createCommentRequestToComment(request);
         verify(commentRepository).save(comment);
+        verify(projectEventPublisher).commentChanged(ProjectEvent.Type.COMMENT_ADDED, comment);
         verify(commentMapper).commentToCreatedCommentResponse(comment);
     }
 
@@ -145,14 +169,14 @@ import static org.assertj.core.api.Assertions.assertThat;
         request.setTaskId(taskId);
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(loggedInUser));
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> commentService.save(request))
                 .isInstanceOf(TaskNotFoundException.class)
                 .hasMessageContaining(MessageKey.TASK_NOT_FOUND_WITH_ID.toString());
 
         verify(userRepository).findById(userId);
-        verify(taskRepository).findById(taskId);
+        verify(taskRepository).findById(taskId, TaskRepository.WITH_PROJECT);
         verifyNoInteractions(commentAuthorizationImpl);
         verifyNoInteractions(commentMapper);
         verifyNoInteractions(commentRepository);
@@ -166,7 +190,7 @@ import static org.assertj.core.api.Assertions.assertThat;
         request.setTaskId(taskId);
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(loggedInUser));
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
         doThrow(new UnauthorizedAccessException(MessageKey.USER_CAN_NOT_COMMENT_TO_UNASSIGNED_TASK.toString()))
                 .when(commentAuthorizationImpl).userCanReachComment(task);
 
@@ -175,7 +199,7 @@ import static org.assertj.core.api.Assertions.assertThat;
                 .hasMessageContaining(MessageKey.USER_CAN_NOT_COMMENT_TO_UNASSIGNED_TASK.toString());
 
         verify(userRepository).findById(userId);
-        verify(taskRepository).findById(taskId);
+        verify(taskRepository).findById(taskId, TaskRepository.WITH_PROJECT);
         verify(commentAuthorizationImpl).userCanReachComment(task);
         verifyNoInteractions(commentMapper);
         verifyNoInteractions(commentRepository);
@@ -195,32 +219,59 @@ import static org.assertj.core.api.Assertions.assertThat;
         UpdatedCommentResponse expected = new UpdatedCommentResponse();
         expected.setContent("Updated Comment");
 
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
+        when(commentRepository.findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(comment));
         doNothing().when(commentAuthorizationImpl).userCanReachComment(task);
         when(commentRepository.save(any(Comment.class))).thenReturn(updatedComment);
         when(commentMapper.commentToUpdatedCommentResponse(updatedComment)).thenReturn(expected);
 
-        UpdatedCommentResponse result = commentService.update(request, commentId);
+        UpdatedCommentResponse result = commentService.update(request, commentId, null);
 
         assertThat(result).isEqualTo(expected);
-        verify(commentRepository).findById(commentId);
+        verify(commentRepository).findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT);
         verify(commentAuthorizationImpl).userCanReachComment(task);
         verify(commentRepository).save(any(Comment.class));
         verify(commentMapper).commentToUpdatedCommentResponse(any(Comment.class));
     }
 
+    @Test
+    void update_WhenRevisionDoesNotMatch_ShouldThrowPreconditionFailedWithoutSaving() {
+        UpdateCommentRequest request = new UpdateCommentRequest();
+        request.setContent("Updated Comment");
+        comment.setVersion(2L);
+
+        when(commentRepository.findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(comment));
+
+        assertThatThrownBy(() -> commentService.update(request, commentId, List.of("1")))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessage(MessageKey.RESOURCE_REVISION_DOES_NOT_MATCH.toString());
+
+        verify(commentRepository, never()).save(any(Comment.class));
+        verifyNoInteractions(commentMapper);
+    }
+
+    @Test
+    void findRevision_WhenUserCanReachComment_ShouldReturnVersion() {
+        CommentRevisionView revision = new CommentRevisionView(5L, 1L, 1L);
+        when(commentRepository.findRevisionById(commentId)).thenReturn(Optional.of(revision));
+
+        assertThat(commentService.findRevision(commentId)).isEqualTo("5");
+
+        verify(commentAuthorizationImpl).userCanReachComment(revision);
+        verify(commentRepository, never()).findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT);
+    }
+
     @Test
     void update_WhenCommentNotFound_ShouldThrowCommentNotFoundException() {
         UpdateCommentRequest request = new UpdateCommentRequest();
         request.setContent("Updated Comment");
 
-        when(commentRepository.findById(commentId)).thenReturn(Optional.empty());
+        when(commentRepository.findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> commentService.update(request, commentId))
+        assertThatThrownBy(() -> commentService.update(request, commentId, null))
                 .isInstanceOf(CommentNotFoundException.class)
                 .hasMessageContaining(MessageKey.COMMENT_NOT_FOUND_WITH_ID.toString());
 
-        verify(commentRepository).findById(commentId);
+        verify(commentRepository).findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT);
         verifyNoInteractions(commentAuthorizationImpl);
         verify(commentRepository, never()).save(any(Comment.class));
         verifyNoInteractions(commentMapper);
@@ -231,15 +282,15 @@ import static org.assertj.core.api.Assertions.assertThat;
         UpdateCommentRequest request = new UpdateCommentRequest();
         request.setContent("Updated Comment");
 
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
+        when(commentRepository.findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(comment));
         doThrow(new UnauthorizedAccessException(MessageKey.USER_CAN_NOT_COMMENT_TO_UNASSIGNED_TASK.toString()))
                 .when(commentAuthorizationImpl).userCanReachComment(task);
 
-        assertThatThrownBy(() -> commentService.update(request, commentId))
+        assertThatThrownBy(() -> commentService.update(request, commentId, null))
                 .isInstanceOf(UnauthorizedAccessException.class)
                 .hasMessageContaining(MessageKey.USER_CAN_NOT_COMMENT_TO_UNASSIGNED_TASK.toString());
 
-        verify(commentRepository).findById(commentId);
+        verify(commentRepository).findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT);
         verify(commentAuthorizationImpl).userCanReachComment(task);
         verify(commentRepository, never()).save(any(Comment.class));
         verifyNoInteractions(commentMapper);
@@ -248,33 +299,35 @@ import static org.assertj.core.api.Assertions.assertThat;
 
     @Test
     void delete_WhenCommentExistsAndUserAuthorized_ShouldMarkAsDeleted() {
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
+        when(commentRepository.findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(comment));
         doNothing().when(commentAuthorizationImpl).userCanReachComment(task);
 
         commentService.delete(commentId);
 
         assertThat(comment.getIsDeleted()).isTrue();
-        verify(commentRepository).findById(commentId);
+        verify(commentRepository).findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT);
         verify(commentAuthorizationImpl).userCanReachComment(task);
         verify(commentRepository).save(comment);
+        verify(projectEventPublisher).commentChanged(ProjectEvent.Type.COMMENT_DELETED, comment);
+        verify(domainEventOutbox).record(eq(DomainEventType.COMMENT_DELETED), eq(List.of(comment)), any(Runnable.class));
     }
 
     @Test
     void delete_WhenCommentNotFound_ShouldThrowCommentNotFoundException() {
-        when(commentRepository.findById(commentId)).thenReturn(Optional.empty());
+        when(commentRepository.findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> commentService.delete(commentId))
                 .isInstanceOf(CommentNotFoundException.class)
                 .hasMessageContaining(MessageKey.COMMENT_NOT_FOUND_WITH_ID.toString());
 
-        verify(commentRepository).findById(commentId);
+        verify(commentRepository).findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT);
         verifyNoInteractions(commentAuthorizationImpl);
         verify(commentRepository, never()).save(any(Comment.class));
     }
 
     @Test
     void delete_WhenUserUnauthorized_ShouldThrowUnauthorizedAccessException() {
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
+        when(commentRepository.findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(comment));
         doThrow(new UnauthorizedAccessException(MessageKey.USER_CAN_NOT_COMMENT_TO_UNASSIGNED_TASK.toString()))
                 .when(commentAuthorizationImpl).userCanReachComment(task);
 
@@ -282,7 +335,7 @@ import static org.assertj.core.api.Assertions.assertThat;
                 .isInstanceOf(UnauthorizedAccessException.class)
                 .hasMessageContaining(MessageKey.USER_CAN_NOT_COMMENT_TO_UNASSIGNED_TASK.toString());
 
-        verify(commentRepository).findById(commentId);
+        verify(commentRepository).findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT);
         verify(commentAuthorizationImpl).userCanReachComment(task);
         verify(commentRepository, never()).save(any(Comment.class));
     }
@@ -293,34 +346,34 @@ import static org.assertj.core.api.Assertions.assertThat;
         CommentResponse expected = new CommentResponse();
         expected.setContent("Test Comment");
 
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
+        when(commentRepository.findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(comment));
         doNothing().when(commentAuthorizationImpl).userCanReachComment(task);
         when(commentMapper.commentToCommentResponse(comment)).thenReturn(expected);
 
         CommentResponse result = commentService.findById(commentId);
 
         assertThat(result).isEqualTo(expected);
-        verify(commentRepository).findById(commentId);
+        verify(commentRepository).findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT);
         verify(commentAuthorizationImpl).userCanReachComment(task);
         verify(commentMapper).commentToCommentResponse(comment);
     }
 
     @Test
     void findById_WhenCommentNotFound_ShouldThrowCommentNotFoundException() {
-        when(commentRepository.findById(commentId)).thenReturn(Optional.empty());
+        when(commentRepository.findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> commentService.findById(commentId))
                 .isInstanceOf(CommentNotFoundException.class)
                 .hasMessageContaining(MessageKey.COMMENT_NOT_FOUND_WITH_ID.toString());
 
-        verify(commentRepository).findById(commentId);
+        verify(commentRepository).findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT);
         verifyNoInteractions(commentAuthorizationImpl);
         verifyNoInteractions(commentMapper);
     }
 
     @Test
     void findById_WhenUserUnauthorized_ShouldThrowUnauthorizedAccessException() {
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
+        when(commentRepository.findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT)).thenReturn(Optional.of(comment));
         doThrow(new UnauthorizedAccessException(MessageKey.USER_CAN_NOT_COMMENT_TO_UNASSIGNED_TASK.toString()))
                 .when(commentAuthorizationImpl).userCanReachComment(task);
 
@@ -328,7 +381,7 @@ import static org.assertj.core.api.Assertions.assertThat;
                 .isInstanceOf(UnauthorizedAccessException.class)
                 .hasMessageContaining(MessageKey.USER_CAN_NOT_COMMENT_TO_UNASSIGNED_TASK.toString());
 
-        verify(commentRepository).findById(commentId);
+        verify(commentRepository).findById(commentId, CommentRepository.WITH_TASK_AND_PROJECT);
         verify(commentAuthorizationImpl).userCanReachComment(task);
         verifyNoInteractions(commentMapper);
     }
@@ -356,7 +409,7 @@ import static org.assertj.core.api.Assertions.assertThat;
         request.setContent("Test Comment");
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(loggedInUser));
-        when(taskRepository.findById(2L)).thenReturn(Optional.of(otherDepartmentTask));
+        when(taskRepository.findById(2L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(otherDepartmentTask));
         doThrow(new UnauthorizedAccessException(MessageKey.GROUP_MANAGER_CANNOT_COMMENT_ON_OTHER_DEPARTMENTS.toString()))
                 .when(commentAuthorizationImpl).userCanReachComment(otherDepartmentTask);
 
@@ -365,9 +418,147 @@ import static org.assertj.core.api.Assertions.assertThat;
                 .hasMessageContaining(MessageKey.GROUP_MANAGER_CANNOT_COMMENT_ON_OTHER_DEPARTMENTS.toString());
 
         verify(userRepository).findById(userId);
-        verify(taskRepository).findById(2L);
+        verify(taskRepository).findById(2L, TaskRepository.WITH_PROJECT);
         verify(commentAuthorizationImpl).userCanReachComment(otherDepartmentTask);
         verifyNoInteractions(commentMapper);
         verifyNoInteractions(commentRepository);
     }
+
+    @Test
+    void findByTaskId_FirstPage_ShouldReturnNewestCommentsWithOlderAndLatestCursors() {
+        CommentView newest = commentView(30L);
+        CommentView middle = commentView(20L);
+        CommentView oldest = commentView(10L);
+
+        when(taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
+        when(commentRepository.findViewsByTaskId(taskId, Limit.of(3))).thenReturn(List.of(newest, middle, oldest));
+        when(commentRepository.countByTaskId(taskId)).thenReturn(3L);
+        when(commentMapper.commentViewToCommentResponse(any(CommentView.class))).thenReturn(new CommentResponse());
+
+        CommentFeedResponse result = commentService.findByTaskId(taskId, null, null, 2, true);
+
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo(cursorOf(20L));
+        assertThat(result.getLatestCursor()).isEqualTo(cursorOf(30L));
+        assertThat(result.getTotalElements()).isEqualTo(3L);
+        verify(commentAuthorizationImpl).userCanReachComment(task);
+        verify(commentMapper, never()).commentViewToCommentResponse(oldest);
+    }
+
+    @Test
+    void findByTaskId_WithCursor_ShouldPageBackwardsWithoutLatestCursor() {
+        when(taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
+        when(commentRepository.findViewsByTaskIdBefore(taskId, 20L, Limit.of(3))).thenReturn(List.of(commentView(10L)));
+        when(commentMapper.commentViewToCommentResponse(any(CommentView.class))).thenReturn(new CommentResponse());
+
+        CommentFeedResponse result = commentService.findByTaskId(taskId, cursorOf(20L), null, 2, false);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getLatestCursor()).isNull();
+        assertThat(result.getTotalElements()).isNull();
+        verify(commentRepository, never()).countByTaskId(any());
+    }
+
+    @Test
+    void findByTaskId_FirstPageOfTaskWithoutComments_ShouldReturnTaskSequenceAsLatestCursor() {
+        task.setCommentSequence(4L);
+        when(taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
+        when(commentRepository.findViewsByTaskId(taskId, Limit.of(21))).thenReturn(List.of());
+
+        CommentFeedResponse result = commentService.findByTaskId(taskId, null, null, 20, false);
+
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getLatestCursor()).isEqualTo(cursorOf(4L));
+    }
+
+    @Test
+    void findByTaskId_WithIdBasedSince_ShouldThrowInvalidCursorException() {
+        when(taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
+        String idCursor = Base64.getUrlEncoder().withoutPadding().encodeToString("30".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> commentService.findByTaskId(taskId, null, idCursor, 20, false))
+                .isInstanceOf(InvalidCursorException.class);
+
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void findByTaskId_WithSince_ShouldReturnNewerCommentsOldestFirst() {
+        when(taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
+        when(commentRepository.findViewsByTaskIdAfter(taskId, 30L, Limit.of(3)))
+                .thenReturn(List.of(commentView(31L), commentView(32L), commentView(33L)));
+        when(commentMapper.commentViewToCommentResponse(any(CommentView.class))).thenReturn(new CommentResponse());
+
+        CommentFeedResponse result = commentService.findByTaskId(taskId, null, cursorOf(30L), 2, false);
+
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getLatestCursor()).isEqualTo(cursorOf(32L));
+    }
+
+    @Test
+    void findByTaskId_WithSinceAndNothingNew_ShouldKeepSinceAsLatestCursor() {
+        when(taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
+        when(commentRepository.findViewsByTaskIdAfter(taskId, 30L, Limit.of(21))).thenReturn(List.of());
+
+        CommentFeedResponse result = commentService.findByTaskId(taskId, null, cursorOf(30L), 20, false);
+
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getLatestCursor()).isEqualTo(cursorOf(30L));
+        verifyNoInteractions(commentMapper);
+    }
+
+    @Test
+    void findByTaskId_WithCursorAndSince_ShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> commentService.findByTaskId(taskId, cursorOf(1L), cursorOf(2L), 20, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(MessageKey.CURSOR_AND_SINCE_CANNOT_BE_COMBINED.toString());
+
+        verifyNoInteractions(taskRepository, commentRepository);
+    }
+
+    @Test
+    void findByTaskId_WithMalformedSince_ShouldThrowInvalidCursorException() {
+        when(taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
+
+        assertThatThrownBy(() -> commentService.findByTaskId(taskId, null, "not-a-cursor", 20, false))
+                .isInstanceOf(InvalidCursorException.class);
+
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void findByTaskId_WhenUserCannotReachTask_ShouldNotQueryComments() {
+        when(taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(task));
+        doThrow(new UnauthorizedAccessException(MessageKey.USER_CAN_NOT_COMMENT_TO_UNASSIGNED_TASK.toString()))
+                .when(commentAuthorizationImpl).userCanReachComment(task);
+
+        assertThatThrownBy(() -> commentService.findByTaskId(taskId, null, null, 20, true))
+                .isInstanceOf(UnauthorizedAccessException.class);
+
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void findByTaskId_WhenTaskNotFound_ShouldThrowTaskNotFoundException() {
+        when(taskRepository.findById(taskId, TaskRepository.WITH_PROJECT)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> commentService.findByTaskId(taskId, null, null, 20, false))
+                .isInstanceOf(TaskNotFoundException.class);
+
+        verifyNoInteractions(commentAuthorizationImpl, commentRepository);
+    }
+
+    private CommentView commentView(Long position) {
+        return new CommentView(position * 100, position, "Comment " + position, taskId, userId, null, null, null, false);
+    }
+
+    private String cursorOf(Long position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(("p:" + position).getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -1,27 +1,33 @@
 package com.example.definex.taskmanagement.service;
 
 import com.example.definex.taskmanagement.dto.mapper.DepartmentMapper;
+import com.example.definex.taskmanagement.dto.projection.DepartmentRevisionView;
+import com.example.definex.taskmanagement.dto.projection.DepartmentView;
+import com.example.definex.taskmanagement.dto.projection.ProjectSummaryView;
 import com.example.definex.taskmanagement.dto.request.CreateDepartmentRequest;
 import com.example.definex.taskmanagement.dto.response.CreatedDepartmentResponse;
+import com.example.definex.taskmanagement.dto.response.CursorPageResponse;
 import com.example.definex.taskmanagement.dto.response.DepartmentResponse;
+import com.example.definex.taskmanagement.dto.response.ProjectSummaryResponse;
 import com.example.definex.taskmanagement.entities.Department;
 import com.example.definex.taskmanagement.exception.DepartmentNotFoundException;
 import com.example.definex.taskmanagement.exception.DepartmentValidationException;
 import com.example.definex.taskmanagement.exception.constants.MessageKey;
 import com.example.definex.taskmanagement.repository.DepartmentRepository;
+import com.example.definex.taskmanagement.repository.ProjectRepository;
 import com.example.definex.taskmanagement.service.impl.DepartmentServiceImpl;
+import com.example.definex.taskmanagement.service.impl.SoftDeleteCascade;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -32,12 +38,19 @@ import static org.mockito.Mockito.*;
     private DepartmentRepository departmentRepository;
     @Mock
     private DepartmentMapper departmentMapper;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private SoftDeleteCascade softDeleteCascade;
     @InjectMocks
     private DepartmentServiceImpl departmentService;
     private Department department;
     private CreateDepartmentRequest createDepartmentRequest;
     private CreatedDepartmentResponse createdDepartmentResponse;
     private DepartmentResponse departmentResponse;
+    private DepartmentView departmentView;
+    private ProjectSummaryView projectSummaryView;
+    private ProjectSummaryResponse projectSummaryResponse;
 
     @BeforeEach
     void setUp() {
@@ -54,6 +67,10 @@ import static org.mockito.Mockito.*;
 
         departmentResponse = new DepartmentResponse();
         departmentResponse.setName("IT");
+
+        departmentView = new DepartmentView(1L, "IT", null, null, null, false);
+        projectSummaryView = new ProjectSummaryView(1L, 10L, "Project", "Description");
+        projectSummaryResponse = new ProjectSummaryResponse(10L, "Project", "Description");
     }
 
     @Test
@@ -98,21 +115,43 @@ import static org.mockito.Mockito.*;
     @Test
     void findById_ExistingId_ShouldReturnDepartmentResponse() {
         Long id = 1L;
-        when(departmentRepository.findById(id)).thenReturn(Optional.of(department));
-        when(departmentMapper.departmentToDepartmentResponse(any(Department.class))).thenReturn(departmentResponse);
+        when(departmentRepository.findViewById(id)).thenReturn(Optional.of(departmentView));
+        when(projectRepository.findSummariesByDepartmentIds(List.of(id))).thenReturn(List.of(projectSummaryView));
+        when(departmentMapper.projectSummaryViewToProjectSummaryResponse(projectSummaryView)).thenReturn(projectSummaryResponse);
+        when(departmentMapper.departmentViewToDepartmentResponse(departmentView, List.of(projectSummaryResponse))).thenReturn(departmentResponse);
 
         DepartmentResponse result = departmentService.findById(id);
 
         assertNotNull(result);
         assertEquals("IT", result.getName());
-        verify(departmentRepository).findById(id);
-        verify(departmentMapper).departmentToDepartmentResponse(department);
+        verify(departmentRepository).findViewById(id);
+        verify(departmentRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void findRevision_ShouldCombineDepartmentAndProjectChanges() {
+        Long id = 1L;
+        when(departmentRepository.findRevisionById(id)).thenReturn(Optional.of(new DepartmentRevisionView(
+                LocalDateTime.of(2024, 1, 1, 0, 0), 2L, LocalDateTime.of(2024, 1, 1, 0, 0, 1))));
+
+        assertEquals("1704067200000000-2-1704067201000000", departmentService.findRevision(id));
+        verify(departmentRepository, never()).findViewById(anyLong());
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void findRevision_WithoutProjects_ShouldUseZeroForMissingTimestamp() {
+        Long id = 1L;
+        when(departmentRepository.findRevisionById(id)).thenReturn(Optional.of(new DepartmentRevisionView(
+                LocalDateTime.of(2024, 1, 1, 0, 0), 0L, null)));
+
+        assertEquals("1704067200000000-0-0", departmentService.findRevision(id));
     }
 
     @Test
     void findById_NonExistingId_ShouldThrowDepartmentNotFoundException() {
         Long id = 999L;
-        when(departmentRepository.findById(id)).thenReturn(Optional.empty());
+        when(departmentRepository.findViewById(id)).thenReturn(Optional.empty());
 
         DepartmentNotFoundException exception = assertThrows(DepartmentNotFoundException.class, () -> {
             departmentService.findById(id);
@@ -122,32 +161,69 @@ import static org.mockito.Mockito.*;
 
     @Test
     void findAll_ShouldReturnPageOfDepartmentResponses() {
-        Pageable pageable = PageRequest.of(0, 10);
-        Page<Department> departmentPage = new PageImpl<>(List.of(department));
+        DepartmentView emptyDepartmentView = new DepartmentView(2L, "HR", null, null, null, false);
+        DepartmentResponse emptyDepartmentResponse = new DepartmentResponse();
 
-        when(departmentRepository.findAll(pageable)).thenReturn(departmentPage);
-        when(departmentMapper.departmentToDepartmentResponse(department)).thenReturn(departmentResponse);
+        when(departmentRepository.findViews(Limit.of(11))).thenReturn(List.of(departmentView, emptyDepartmentView));
+        when(projectRepository.findSummariesByDepartmentIds(List.of(1L, 2L))).thenReturn(List.of(projectSummaryView));
+        when(departmentMapper.projectSummaryViewToProjectSummaryResponse(projectSummaryView)).thenReturn(projectSummaryResponse);
+        when(departmentMapper.departmentViewToDepartmentResponse(departmentView, List.of(projectSummaryResponse))).thenReturn(departmentResponse);
+        when(departmentMapper.departmentViewToDepartmentResponse(emptyDepartmentView, List.of())).thenReturn(emptyDepartmentResponse);
 
-        Page<DepartmentResponse> result = departmentService.findAll(pageable);
+        CursorPageResponse<DepartmentResponse> result = departmentService.findAll(null, 10, false);
 
         assertNotNull(result);
-        assertEquals(1, result.getTotalElements());
-        assertEquals(departmentResponse, result.getContent().get(0));
-        verify(departmentRepository).findAll(pageable);
-        verify(departmentMapper).departmentToDepartmentResponse(department);
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        assertEquals(List.of(departmentResponse, emptyDepartmentResponse), result.getContent());
+        verify(projectRepository, times(1)).findSummariesByDepartmentIds(anyCollection());
+        verify(departmentRepository, never()).countByIsDeletedFalse();
     }
 
     @Test
-    void deleteById_ExistingId_ShouldMarkAsDeleted() {
+    void findAll_WithCursor_ShouldSeekPastLastDepartment() {
+        DepartmentView nextDepartmentView = new DepartmentView(3L, "Ops", null, null, null, false);
+        when(departmentRepository.findViewsAfter(1L, Limit.of(2))).thenReturn(List.of(departmentView, nextDepartmentView));
+        when(projectRepository.findSummariesByDepartmentIds(List.of(1L))).thenReturn(List.of());
+        when(departmentMapper.departmentViewToDepartmentResponse(departmentView, List.of())).thenReturn(departmentResponse);
+        when(departmentRepository.countByIsDeletedFalse()).thenReturn(3L);
+
+        CursorPageResponse<DepartmentResponse> result = departmentService.findAll("MQ", 1, true);
+
+        assertTrue(result.isHasNext());
+        assertEquals("MQ", result.getNextCursor());
+        assertEquals(3L, result.getTotalElements());
+    }
+
+    @Test
+    void deleteById_ExistingId_ShouldCascadeSoftDelete() {
         Long id = 1L;
         when(departmentRepository.findById(id)).thenReturn(Optional.of(department));
-        when(departmentRepository.save(any(Department.class))).thenReturn(department);
 
         departmentService.deleteById(id);
 
-        assertTrue(department.getIsDeleted());
         verify(departmentRepository).findById(id);
-        verify(departmentRepository).save(department);
+        verify(softDeleteCascade).deleteDepartments(List.of(id));
+        verify(departmentRepository, never()).save(any());
+    }
+
+    @Test
+    void deleteAllById_AllExisting_ShouldCascadeSoftDeleteOnce() {
+        when(departmentRepository.findAllByIdIn(Set.of(1L))).thenReturn(List.of(department));
+
+        departmentService.deleteAllById(List.of(1L));
+
+        verify(softDeleteCascade).deleteDepartments(Set.of(1L));
+    }
+
+    @Test
+    void deleteAllById_AnyMissing_ShouldThrowDepartmentNotFoundException() {
+        when(departmentRepository.findAllByIdIn(Set.of(1L, 999L))).thenReturn(List.of(department));
+
+        DepartmentNotFoundException exception = assertThrows(DepartmentNotFoundException.class,
+                () -> departmentService.deleteAllById(List.of(1L, 999L)));
+        assertEquals(MessageKey.DEPARTMENT_NOT_FOUND_WITH_ID.toString() + 999L, exception.getMessage());
+        verifyNoInteractions(softDeleteCascade);
     }
 
     @Test
@@ -1,7 +1,11 @@
 package com.example.definex.taskmanagement.service;
 
+import com.example.definex.taskmanagement.authorization.TaskAccessScope;
 import com.example.definex.taskmanagement.authorization.impl.ProjectAuthorizationImpl;
+import com.example.definex.taskmanagement.authorization.impl.TaskAuthorizationImpl;
 import com.example.definex.taskmanagement.dto.mapper.ProjectMapper;
+import com.example.definex.taskmanagement.dto.projection.ProjectRevisionView;
+import com.example.definex.taskmanagement.dto.projection.ProjectView;
 import com.example.definex.taskmanagement.dto.request.CreateProjectRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateProjectRequest;
 import com.example.definex.taskmanagement.dto.response.CreatedProjectResponse;
@@ -15,15 +19,24 @@ import com.example.definex.taskmanagement.exception.ProjectValidationException;
 import com.example.definex.taskmanagement.exception.UnauthorizedAccessException;
 import com.example.definex.taskmanagement.exception.constants.MessageKey;
 import com.example.definex.taskmanagement.repository.DepartmentRepository;
+import com.example.definex.taskmanagement.repository.OutboxEventRepository;
 import com.example.definex.taskmanagement.repository.ProjectRepository;
+import com.example.definex.taskmanagement.repository.TaskRepository;
+import com.example.definex.taskmanagement.service.impl.DomainEventOutbox;
+import com.example.definex.taskmanagement.service.impl.ProjectEventBroadcaster;
 import com.example.definex.taskmanagement.service.impl.ProjectServiceImpl;
+import com.example.definex.taskmanagement.service.impl.SoftDeleteCascade;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import org.mockito.Spy;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -42,6 +55,21 @@ import static org.mockito.Mockito.*;
     @Mock
     private DepartmentRepository departmentRepository;
 
+    @Mock
+    private SoftDeleteCascade softDeleteCascade;
+
+    @Mock
+    private TaskAuthorizationImpl taskAuthorizationImpl;
+
+    @Mock
+    private ProjectEventBroadcaster projectEventBroadcaster;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Spy
+    private DomainEventOutbox domainEventOutbox = new DomainEventOutbox(mock(OutboxEventRepository.class));
+
     @InjectMocks
     private ProjectServiceImpl projectService;
 
@@ -50,6 +78,7 @@ import static org.mockito.Mockito.*;
     private Department department;
     private CreatedProjectResponse createdProjectResponse;
     private ProjectResponse projectResponse;
+    private ProjectView projectView;
     private final Long PROJECT_ID = 1L;
     private final Long DEPARTMENT_ID = 1L;
 
@@ -71,6 +100,8 @@ import static org.mockito.Mockito.*;
 
         projectResponse = new ProjectResponse();
         projectResponse.setTitle("Test Project");
+
+        projectView = new ProjectView(PROJECT_ID, "Test Project", null, DEPARTMENT_ID, null, null, null, false);
     }
 
     @Test
@@ -142,53 +173,121 @@ import static org.mockito.Mockito.*;
 
     @Test
     void findById_ShouldReturnProject_WhenProjectExists() {
-        when(projectRepository.findById(PROJECT_ID)).thenReturn(Optional.of(project));
-        doNothing().when(projectAuthorizationImpl).userHasAuthorization(project);
-        when(projectMapper.projectToProjectResponse(project)).thenReturn(projectResponse);
+        when(projectRepository.findViewById(PROJECT_ID)).thenReturn(Optional.of(projectView));
+        doNothing().when(projectAuthorizationImpl).userHasAuthorization(projectView);
+        when(projectMapper.projectViewToProjectResponse(projectView)).thenReturn(projectResponse);
 
         ProjectResponse result = projectService.findById(PROJECT_ID);
 
         assertNotNull(result);
         assertEquals("Test Project", result.getTitle());
-        verify(projectAuthorizationImpl, times(1)).userHasAuthorization(project);
+        verify(projectAuthorizationImpl, times(1)).userHasAuthorization(projectView);
+    }
+
+    @Test
+    void subscribeToEvents_ShouldSubscribeWithCallersTaskScope() {
+        TaskAccessScope scope = new TaskAccessScope(false, DEPARTMENT_ID, null);
+        SseEmitter emitter = new SseEmitter();
+        when(projectRepository.findViewById(PROJECT_ID)).thenReturn(Optional.of(projectView));
+        when(taskAuthorizationImpl.getTaskAccessScope()).thenReturn(scope);
+        when(projectEventBroadcaster.subscribe(PROJECT_ID, scope)).thenReturn(emitter);
+
+        assertSame(emitter, projectService.subscribeToEvents(PROJECT_ID));
+    }
+
+    @Test
+    void subscribeToEvents_ShouldSubscribeAssigneeOfATaskInTheProject() {
+        TaskAccessScope scope = new TaskAccessScope(false, null, 5L);
+        SseEmitter emitter = new SseEmitter();
+        when(projectRepository.findViewById(PROJECT_ID)).thenReturn(Optional.of(projectView));
+        when(taskAuthorizationImpl.getTaskAccessScope()).thenReturn(scope);
+        when(taskRepository.existsAssignedInProject(PROJECT_ID, 5L)).thenReturn(true);
+        when(projectEventBroadcaster.subscribe(PROJECT_ID, scope)).thenReturn(emitter);
+
+        assertSame(emitter, projectService.subscribeToEvents(PROJECT_ID));
+    }
+
+    @Test
+    void subscribeToEvents_ShouldThrowUnauthorizedAccessException_WhenCallerHasNoAccessToProject() {
+        when(projectRepository.findViewById(PROJECT_ID)).thenReturn(Optional.of(projectView));
+        when(taskAuthorizationImpl.getTaskAccessScope()).thenReturn(new TaskAccessScope(false, 2L, 5L));
+        when(taskRepository.existsAssignedInProject(PROJECT_ID, 5L)).thenReturn(false);
+
+        assertThrows(UnauthorizedAccessException.class, () -> projectService.subscribeToEvents(PROJECT_ID));
+        verifyNoInteractions(projectEventBroadcaster);
+    }
+
+    @Test
+    void subscribeToEvents_ShouldThrowProjectNotFoundException_WhenProjectNotFound() {
+        when(projectRepository.findViewById(PROJECT_ID)).thenReturn(Optional.empty());
+
+        assertThrows(ProjectNotFoundException.class, () -> projectService.subscribeToEvents(PROJECT_ID));
+        verifyNoInteractions(projectEventBroadcaster);
     }
 
     @Test
     void findById_ShouldThrowProjectNotFoundException_WhenProjectNotFound() {
-        when(projectRepository.findById(PROJECT_ID)).thenReturn(Optional.empty());
+        when(projectRepository.findViewById(PROJECT_ID)).thenReturn(Optional.empty());
 
         ProjectNotFoundException exception = assertThrows(
                 ProjectNotFoundException.class,
                 () -> projectService.findById(PROJECT_ID)
         );
         assertEquals(MessageKey.PROJECT_NOT_FOUND_WITH_ID.toString(), exception.getMessage());
-        verify(projectAuthorizationImpl, never()).userHasAuthorization(any());
+        verify(projectAuthorizationImpl, never()).userHasAuthorization(any(ProjectView.class));
+    }
+
+    @Test
+    void findRevision_ShouldAuthorizeByDepartmentAndReturnVersion() {
+        when(projectRepository.findRevisionById(PROJECT_ID)).thenReturn(Optional.of(new ProjectRevisionView(5L, DEPARTMENT_ID)));
+
+        assertEquals("5", projectService.findRevision(PROJECT_ID));
+        verify(projectAuthorizationImpl).userHasAuthorizationForDepartment(DEPARTMENT_ID);
+        verify(projectRepository, never()).findViewById(any());
     }
 
     @Test
     void findById_ShouldThrowUnauthorizedAccessException_WhenUserNotAuthorized() {
-        when(projectRepository.findById(PROJECT_ID)).thenReturn(Optional.of(project));
+        when(projectRepository.findViewById(PROJECT_ID)).thenReturn(Optional.of(projectView));
         doThrow(new UnauthorizedAccessException(MessageKey.USER_CANNOT_MANAGE_PROJECTS_IN_DEPARTMENT.toString() + DEPARTMENT_ID))
-                .when(projectAuthorizationImpl).userHasAuthorization(project);
+                .when(projectAuthorizationImpl).userHasAuthorization(projectView);
 
         UnauthorizedAccessException exception = assertThrows(
                 UnauthorizedAccessException.class,
                 () -> projectService.findById(PROJECT_ID)
         );
         assertEquals(MessageKey.USER_CANNOT_MANAGE_PROJECTS_IN_DEPARTMENT.toString() + DEPARTMENT_ID, exception.getMessage());
-        verify(projectMapper, never()).projectToProjectResponse(any());
+        verify(projectMapper, never()).projectViewToProjectResponse(any());
     }
 
     @Test
-    void deleteById_ShouldMarkProjectAsDeleted_WhenProjectExists() {
+    void deleteById_ShouldCascadeSoftDelete_WhenProjectExists() {
         when(projectRepository.findById(PROJECT_ID)).thenReturn(Optional.of(project));
         doNothing().when(projectAuthorizationImpl).userHasAuthorization(project);
 
         projectService.deleteById(PROJECT_ID);
 
-        assertTrue(project.getIsDeleted());
         verify(projectAuthorizationImpl, times(1)).userHasAuthorization(project);
-        verify(projectRepository, times(1)).save(project);
+        verify(softDeleteCascade, times(1)).deleteProjects(List.of(PROJECT_ID));
+        verify(projectRepository, never()).save(any());
+    }
+
+    @Test
+    void deleteAllById_ShouldCascadeSoftDeleteOnce_WhenAllProjectsAuthorized() {
+        when(projectRepository.findAllByIdIn(Set.of(PROJECT_ID))).thenReturn(List.of(project));
+
+        projectService.deleteAllById(List.of(PROJECT_ID, PROJECT_ID));
+
+        verify(projectAuthorizationImpl, times(2)).userHasAuthorization(project);
+        verify(softDeleteCascade, times(1)).deleteProjects(Set.of(PROJECT_ID));
+    }
+
+    @Test
+    void deleteAllById_ShouldThrowProjectNotFoundException_WhenAnyProjectMissing() {
+        when(projectRepository.findAllByIdIn(Set.of(PROJECT_ID, 99L))).thenReturn(List.of(project));
+
+        assertThrows(ProjectNotFoundException.class, () -> projectService.deleteAllById(List.of(PROJECT_ID, 99L)));
+        verifyNoInteractions(softDeleteCascade);
     }
 
     @Test
@@ -200,7 +299,7 @@ import static org.mockito.Mockito.*;
                 () -> projectService.deleteById(PROJECT_ID)
         );
         assertEquals(MessageKey.PROJECT_NOT_FOUND_WITH_ID.toString(), exception.getMessage());
-        verify(projectAuthorizationImpl, never()).userHasAuthorization(any());
+        verify(projectAuthorizationImpl, never()).userHasAuthorization(any(Project.class));
         verify(projectRepository, never()).save(any());
     }
 
@@ -215,7 +314,7 @@ import static org.mockito.Mockito.*;
                 () -> projectService.deleteById(PROJECT_ID)
         );
         assertEquals(MessageKey.USER_CANNOT_MANAGE_PROJECTS_IN_DEPARTMENT.toString() + DEPARTMENT_ID, exception.getMessage());
-        verify(projectRepository, never()).save(any());
+        verifyNoInteractions(softDeleteCascade);
     }
     @Test
     void update_ShouldUpdateProject_WhenValidRequest() {
@@ -242,7 +341,7 @@ import static org.mockito.Mockito.*;
         when(projectRepository.save(any(Project.class))).thenReturn(updatedProject);
         when(projectMapper.projectToUpdatedProjectResponse(updatedProject)).thenReturn(updatedProjectResponse);
 
-        UpdatedProjectResponse result = projectService.update(updateProjectRequest, PROJECT_ID);
+        UpdatedProjectResponse result = projectService.update(updateProjectRequest, PROJECT_ID, null);
 
         assertNotNull(result);
         assertEquals("Updated Project Title", result.getTitle());
@@ -262,7 +361,7 @@ import static org.mockito.Mockito.*;
         when(projectRepository.findById(PROJECT_ID)).thenReturn(Optional.empty());
 
         assertThrows(ProjectNotFoundException.class, () ->
-                projectService.update(updateProjectRequest, PROJECT_ID));
+                projectService.update(updateProjectRequest, PROJECT_ID, null));
 
         verify(projectRepository, times(1)).findById(PROJECT_ID);
         verify(projectAuthorizationImpl, never()).userHasAuthorization(any(Project.class));
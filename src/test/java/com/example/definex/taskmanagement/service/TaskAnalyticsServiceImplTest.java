@@ -0,0 +1,160 @@
+package com.example.definex.taskmanagement.service;
+
+import com.example.definex.taskmanagement.authorization.ProjectAuthorization;
+import com.example.definex.taskmanagement.dto.mapper.TaskMapper;
+import com.example.definex.taskmanagement.dto.projection.DurationStatsView;
+import com.example.definex.taskmanagement.dto.projection.ProjectView;
+import com.example.definex.taskmanagement.dto.response.DurationStatsResponse;
+import com.example.definex.taskmanagement.dto.response.FlowMetricsResponse;
+import com.example.definex.taskmanagement.entities.Department;
+import com.example.definex.taskmanagement.entities.TaskStateType;
+import com.example.definex.taskmanagement.exception.DepartmentNotFoundException;
+import com.example.definex.taskmanagement.exception.ProjectNotFoundException;
+import com.example.definex.taskmanagement.exception.UnauthorizedAccessException;
+import com.example.definex.taskmanagement.exception.constants.MessageKey;
+import com.example.definex.taskmanagement.repository.DepartmentRepository;
+import com.example.definex.taskmanagement.repository.ProjectRepository;
+import com.example.definex.taskmanagement.repository.TaskStateTransitionRepository;
+import com.example.definex.taskmanagement.service.impl.TaskAnalyticsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+ class TaskAnalyticsServiceImplTest {
+
+    @Mock
+    private TaskStateTransitionRepository taskStateTransitionRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private ProjectAuthorization projectAuthorization;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @InjectMocks
+    private TaskAnalyticsServiceImpl taskAnalyticsService;
+
+    private ProjectView projectView;
+    private final Long PROJECT_ID = 1L;
+    private final Long DEPARTMENT_ID = 2L;
+    private final LocalDateTime FROM = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private final LocalDateTime TO = LocalDateTime.of(2026, 4, 1, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        projectView = new ProjectView(PROJECT_ID, "Project", null, DEPARTMENT_ID, null, null, null, false);
+    }
+
+    @Test
+    void getProjectFlowMetrics_ShouldSplitLeadCycleAndTimeInState() {
+        DurationStatsView leadTime = statsView("LEAD_TIME");
+        DurationStatsView cycleTime = statsView("CYCLE_TIME");
+        DurationStatsView inProgress = statsView("IN_PROGRESS");
+        DurationStatsResponse leadResponse = new DurationStatsResponse(4L, 100.0, 90.0, 120.0, 150.0);
+        DurationStatsResponse cycleResponse = new DurationStatsResponse(4L, 60.0, 50.0, 70.0, 80.0);
+        DurationStatsResponse inProgressResponse = new DurationStatsResponse(5L, 40.0, 30.0, 50.0, 55.0);
+
+        when(projectRepository.findViewById(PROJECT_ID)).thenReturn(Optional.of(projectView));
+        when(taskStateTransitionRepository.findFlowTimesByProject(PROJECT_ID, FROM, TO)).thenReturn(List.of(leadTime, cycleTime));
+        when(taskStateTransitionRepository.findTimeInStateByProject(PROJECT_ID, FROM, TO)).thenReturn(List.of(inProgress));
+        when(taskMapper.durationStatsViewToDurationStatsResponse(leadTime)).thenReturn(leadResponse);
+        when(taskMapper.durationStatsViewToDurationStatsResponse(cycleTime)).thenReturn(cycleResponse);
+        when(taskMapper.durationStatsViewToDurationStatsResponse(inProgress)).thenReturn(inProgressResponse);
+
+        FlowMetricsResponse result = taskAnalyticsService.getProjectFlowMetrics(PROJECT_ID, FROM, TO);
+
+        assertEquals(FROM, result.getFrom());
+        assertEquals(TO, result.getTo());
+        assertEquals(leadResponse, result.getLeadTime());
+        assertEquals(cycleResponse, result.getCycleTime());
+        assertEquals(1, result.getTimeInState().size());
+        assertEquals(inProgressResponse, result.getTimeInState().get(TaskStateType.IN_PROGRESS));
+        verify(projectAuthorization).userHasAuthorization(projectView);
+    }
+
+    @Test
+    void getProjectFlowMetrics_WithoutFrom_ShouldUseDefaultWindow() {
+        when(projectRepository.findViewById(PROJECT_ID)).thenReturn(Optional.of(projectView));
+
+        FlowMetricsResponse result = taskAnalyticsService.getProjectFlowMetrics(PROJECT_ID, null, TO);
+
+        assertEquals(TO.minusDays(90), result.getFrom());
+        assertNull(result.getLeadTime());
+        assertTrue(result.getTimeInState().isEmpty());
+        verify(taskStateTransitionRepository).findFlowTimesByProject(PROJECT_ID, TO.minusDays(90), TO);
+    }
+
+    @Test
+    void getProjectFlowMetrics_WithFromAfterTo_ShouldThrowException() {
+        when(projectRepository.findViewById(PROJECT_ID)).thenReturn(Optional.of(projectView));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> taskAnalyticsService.getProjectFlowMetrics(PROJECT_ID, TO, FROM));
+
+        assertEquals(MessageKey.INVALID_DATE_RANGE.toString(), exception.getMessage());
+        verifyNoInteractions(taskStateTransitionRepository);
+    }
+
+    @Test
+    void getProjectFlowMetrics_WithNonExistingProject_ShouldThrowException() {
+        when(projectRepository.findViewById(PROJECT_ID)).thenReturn(Optional.empty());
+
+        assertThrows(ProjectNotFoundException.class,
+                () -> taskAnalyticsService.getProjectFlowMetrics(PROJECT_ID, FROM, TO));
+        verifyNoInteractions(taskStateTransitionRepository);
+    }
+
+    @Test
+    void getProjectFlowMetrics_WithoutAuthorization_ShouldThrowException() {
+        when(projectRepository.findViewById(PROJECT_ID)).thenReturn(Optional.of(projectView));
+        doThrow(new UnauthorizedAccessException(MessageKey.USER_CANNOT_MANAGE_PROJECTS_IN_DEPARTMENT.toString()))
+                .when(projectAuthorization).userHasAuthorization(projectView);
+
+        assertThrows(UnauthorizedAccessException.class,
+                () -> taskAnalyticsService.getProjectFlowMetrics(PROJECT_ID, FROM, TO));
+        verifyNoInteractions(taskStateTransitionRepository);
+    }
+
+    @Test
+    void getDepartmentFlowMetrics_ShouldQueryDepartmentScope() {
+        when(departmentRepository.findById(DEPARTMENT_ID)).thenReturn(Optional.of(new Department()));
+
+        taskAnalyticsService.getDepartmentFlowMetrics(DEPARTMENT_ID, FROM, TO);
+
+        verify(projectAuthorization).userHasAuthorizationForDepartment(DEPARTMENT_ID);
+        verify(taskStateTransitionRepository).findFlowTimesByDepartment(DEPARTMENT_ID, FROM, TO);
+        verify(taskStateTransitionRepository).findTimeInStateByDepartment(DEPARTMENT_ID, FROM, TO);
+        verify(taskMapper, never()).durationStatsViewToDurationStatsResponse(any());
+    }
+
+    @Test
+    void getDepartmentFlowMetrics_WithNonExistingDepartment_ShouldThrowException() {
+        when(departmentRepository.findById(DEPARTMENT_ID)).thenReturn(Optional.empty());
+
+        assertThrows(DepartmentNotFoundException.class,
+                () -> taskAnalyticsService.getDepartmentFlowMetrics(DEPARTMENT_ID, FROM, TO));
+        verifyNoInteractions(projectAuthorization, taskStateTransitionRepository);
+    }
+
+    private DurationStatsView statsView(String metric) {
+        DurationStatsView view = mock(DurationStatsView.class);
+        when(view.getMetric()).thenReturn(metric);
+        return view;
+    }
+}
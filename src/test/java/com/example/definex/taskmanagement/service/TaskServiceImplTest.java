@@ -1,28 +1,58 @@
 package com.example.definex.taskmanagement.service;
 
+import com.example.definex.taskmanagement.authorization.TaskAccessScope;
 import com.example.definex.taskmanagement.authorization.impl.TaskAuthorizationImpl;
+import com.example.definex.taskmanagement.config.TaskProperties;
+import com.example.definex.taskmanagement.config.TaskWorkflowProperties;
 import com.example.definex.taskmanagement.dto.mapper.TaskMapper;
+import com.example.definex.taskmanagement.dto.projection.TaskRevisionView;
+import com.example.definex.taskmanagement.dto.projection.TaskSearchView;
+import com.example.definex.taskmanagement.dto.projection.TaskView;
+import com.example.definex.taskmanagement.dto.request.BatchAssignTaskRequest;
+import com.example.definex.taskmanagement.dto.request.BatchCreateTaskRequest;
+import com.example.definex.taskmanagement.dto.request.BatchUpdateTaskStateRequest;
 import com.example.definex.taskmanagement.dto.request.CreateTaskRequest;
+import com.example.definex.taskmanagement.dto.request.TaskFilterRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateTaskRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateTaskStateRequest;
+import com.example.definex.taskmanagement.dto.response.BatchResponse;
 import com.example.definex.taskmanagement.dto.response.CreatedTaskResponse;
+import com.example.definex.taskmanagement.dto.response.CursorPageResponse;
+import com.example.definex.taskmanagement.dto.response.ProjectEvent;
 import com.example.definex.taskmanagement.dto.response.TaskResponse;
+import com.example.definex.taskmanagement.dto.response.TaskSearchResponse;
+import com.example.definex.taskmanagement.dto.response.TaskTransitionsResponse;
 import com.example.definex.taskmanagement.entities.*;
 import com.example.definex.taskmanagement.exception.*;
 import com.example.definex.taskmanagement.exception.constants.MessageKey;
+import com.example.definex.taskmanagement.repository.OutboxEventRepository;
 import com.example.definex.taskmanagement.repository.ProjectRepository;
+import com.example.definex.taskmanagement.repository.TaskKeyset;
 import com.example.definex.taskmanagement.repository.TaskRepository;
 import com.example.definex.taskmanagement.repository.UserRepository;
+import com.example.definex.taskmanagement.service.impl.DomainEventOutbox;
+import com.example.definex.taskmanagement.service.impl.ProjectEventPublisher;
+import com.example.definex.taskmanagement.service.impl.SoftDeleteCascade;
 import com.example.definex.taskmanagement.service.impl.TaskServiceImpl;
+import com.example.definex.taskmanagement.service.impl.TaskStateHistory;
+import com.example.definex.taskmanagement.workflow.TaskStateMachine;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +72,27 @@ import static org.mockito.Mockito.*;
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private SoftDeleteCascade softDeleteCascade;
+
+    @Mock
+    private TaskStateHistory taskStateHistory;
+
+    @Mock
+    private ProjectEventPublisher projectEventPublisher;
+
+    @Spy
+    private TaskStateMachine taskStateMachine = new TaskStateMachine(new TaskWorkflowProperties());
+
+    @Spy
+    private DomainEventOutbox domainEventOutbox = new DomainEventOutbox(mock(OutboxEventRepository.class));
+
+    @Spy
+    private TaskProperties taskProperties = new TaskProperties();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -53,6 +104,7 @@ import static org.mockito.Mockito.*;
     private UpdateTaskRequest updateTaskRequest;
     private UpdateTaskStateRequest updateTaskStateRequest;
     private TaskResponse taskResponse;
+    private TaskView testTaskView;
     private CreatedTaskResponse createdTaskResponse;
 
     @BeforeEach
@@ -91,6 +143,8 @@ import static org.mockito.Mockito.*;
         updateTaskStateRequest.setReason("Starting work");
 
         taskResponse = new TaskResponse();
+
+        testTaskView = new TaskView(1L, 0L, "Test Task", null, null, TaskStateType.BACKLOG, null, 1L, 1L, null, null, null, null, false);
         taskResponse.setTitle("Test Task");
 
         createdTaskResponse = new CreatedTaskResponse();
@@ -103,7 +157,7 @@ import static org.mockito.Mockito.*;
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
         doNothing().when(taskAuthorizationImpl).canCreateTask(testProject);
         when(taskMapper.createdTaskRequestToTask(createTaskRequest)).thenReturn(testTask);
-        when(taskRepository.save(testTask)).thenReturn(testTask);
+        when(taskStateHistory.save(testTask)).thenReturn(testTask);
         when(taskMapper.taskToCreatedTaskResponse(testTask)).thenReturn(createdTaskResponse);
 
         CreatedTaskResponse result = taskService.save(createTaskRequest, 1L);
@@ -113,7 +167,9 @@ import static org.mockito.Mockito.*;
         verify(projectRepository).findById(1L);
         verify(taskAuthorizationImpl).canCreateTask(testProject);
         verify(taskMapper).createdTaskRequestToTask(createTaskRequest);
-        verify(taskRepository).save(testTask);
+        verify(taskStateHistory).save(testTask);
+        verify(projectEventPublisher).taskChanged(ProjectEvent.Type.TASK_CREATED, testTask);
+        verify(domainEventOutbox).record(eq(DomainEventType.TASK_CREATED), any(Supplier.class));
         verify(taskMapper).taskToCreatedTaskResponse(testTask);
     }
 
@@ -127,7 +183,7 @@ import static org.mockito.Mockito.*;
         );
         assertTrue(exception.getMessage().contains(MessageKey.PROJECT_NOT_FOUND_WITH_ID.toString()));
         verify(projectRepository).findById(1L);
-        verifyNoInteractions(taskMapper, taskRepository);
+        verifyNoInteractions(taskMapper, taskRepository, projectEventPublisher);
     }
 
     @Test
@@ -148,110 +204,142 @@ import static org.mockito.Mockito.*;
 
     @Test
      void findById_WhenAuthorized_ShouldReturnTaskResponse() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
-        doNothing().when(taskAuthorizationImpl).validateTaskAccess(testTask);
-        when(taskMapper.taskToTaskResponse(testTask)).thenReturn(taskResponse);
+        when(taskRepository.findViewById(1L)).thenReturn(Optional.of(testTaskView));
+        doNothing().when(taskAuthorizationImpl).validateTaskAccess(testTaskView);
+        when(taskMapper.taskViewToTaskResponse(testTaskView)).thenReturn(taskResponse);
 
         TaskResponse result = taskService.findById(1L);
 
         assertNotNull(result);
         assertEquals(taskResponse, result);
-        verify(taskRepository).findById(1L);
-        verify(taskAuthorizationImpl).validateTaskAccess(testTask);
-        verify(taskMapper).taskToTaskResponse(testTask);
+        verify(taskRepository).findViewById(1L);
+        verify(taskAuthorizationImpl).validateTaskAccess(testTaskView);
+        verify(taskMapper).taskViewToTaskResponse(testTaskView);
+    }
+
+    @Test
+     void findRevision_WhenAuthorized_ShouldReturnVersionWithoutLoadingView() {
+        TaskRevisionView revision = new TaskRevisionView(7L, 1L, 1L);
+        when(taskRepository.findRevisionById(1L)).thenReturn(Optional.of(revision));
+
+        assertEquals("7", taskService.findRevision(1L));
+        verify(taskAuthorizationImpl).validateTaskAccess(revision);
+        verify(taskRepository, never()).findViewById(any());
+        verifyNoInteractions(taskMapper);
+    }
+
+    @Test
+     void findRevision_WhenTaskNotFound_ShouldThrowTaskNotFoundException() {
+        when(taskRepository.findRevisionById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.findRevision(1L));
+    }
+
+    @Test
+     void findAllowedTransitions_WhenAuthorized_ShouldReturnNextStatesForCurrentState() {
+        when(taskRepository.findViewById(1L)).thenReturn(Optional.of(testTaskView));
+
+        TaskTransitionsResponse result = taskService.findAllowedTransitions(1L);
+
+        assertEquals(testTaskView.state(), result.getCurrentState());
+        assertEquals(taskStateMachine.allowedNextStates(testTaskView.state(), testTaskView.projectId(), testTaskView.departmentId()),
+                result.getAllowedStates());
+        assertEquals(Set.of(TaskStateType.CANCELLED, TaskStateType.BLOCKED), result.getReasonRequiredStates());
+        verify(taskAuthorizationImpl).validateTaskAccess(testTaskView);
     }
 
     @Test
      void findById_WhenTaskNotFound_ShouldThrowTaskNotFoundException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(taskRepository.findViewById(1L)).thenReturn(Optional.empty());
 
         TaskNotFoundException exception = assertThrows(
                 TaskNotFoundException.class,
                 () -> taskService.findById(1L)
         );
         assertTrue(exception.getMessage().contains(MessageKey.TASK_NOT_FOUND_WITH_ID.toString()));
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findViewById(1L);
         verifyNoInteractions(taskMapper);
     }
 
     @Test
      void findById_WhenUnauthorized_ShouldThrowUnauthorizedAccessException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findViewById(1L)).thenReturn(Optional.of(testTaskView));
         doThrow(new UnauthorizedAccessException(MessageKey.USER_DOES_NOT_HAVE_ACCESS_TO_TASK.toString()))
-                .when(taskAuthorizationImpl).validateTaskAccess(testTask);
+                .when(taskAuthorizationImpl).validateTaskAccess(testTaskView);
 
         UnauthorizedAccessException exception = assertThrows(
                 UnauthorizedAccessException.class,
                 () -> taskService.findById(1L)
         );
         assertEquals(MessageKey.USER_DOES_NOT_HAVE_ACCESS_TO_TASK.toString(), exception.getMessage());
-        verify(taskRepository).findById(1L);
-        verify(taskAuthorizationImpl).validateTaskAccess(testTask);
+        verify(taskRepository).findViewById(1L);
+        verify(taskAuthorizationImpl).validateTaskAccess(testTaskView);
         verifyNoInteractions(taskMapper);
     }
 
     @Test
      void updateTaskState_WhenValidStateTransition_ShouldReturnUpdatedTaskResponse() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
         doNothing().when(taskAuthorizationImpl).validateTaskStateChange(eq(testTask), any(TaskStateType.class));
-        when(taskRepository.save(testTask)).thenReturn(testTask);
+        when(taskStateHistory.save(testTask)).thenReturn(testTask);
         when(taskMapper.taskToTaskResponse(testTask)).thenReturn(taskResponse);
 
-        TaskResponse result = taskService.updateTaskState(updateTaskStateRequest, 1L);
+        TaskResponse result = taskService.updateTaskState(updateTaskStateRequest, 1L, null);
 
         assertNotNull(result);
         assertEquals(taskResponse, result);
         assertEquals(TaskStateType.IN_PROGRESS, testTask.getState());
         assertEquals("Starting work", testTask.getStateChangeReason());
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verify(taskAuthorizationImpl).validateTaskStateChange(testTask, TaskStateType.IN_PROGRESS);
-        verify(taskRepository).save(testTask);
+        verify(taskStateHistory).save(testTask);
+        verify(projectEventPublisher).taskChanged(ProjectEvent.Type.TASK_STATE_CHANGED, testTask);
         verify(taskMapper).taskToTaskResponse(testTask);
     }
 
     @Test
      void updateTaskState_WhenCancelledWithoutReason_ShouldThrowTaskValidationException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
         updateTaskStateRequest.setNewState(TaskStateType.CANCELLED);
         updateTaskStateRequest.setReason("");
 
         TaskValidationException exception = assertThrows(
                 TaskValidationException.class,
-                () -> taskService.updateTaskState(updateTaskStateRequest, 1L)
+                () -> taskService.updateTaskState(updateTaskStateRequest, 1L, null)
         );
         assertEquals(MessageKey.REASON_IS_REQUIRED_FOR_CANCEL_OR_BLOCK_STATE.toString(), exception.getMessage());
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verifyNoMoreInteractions(taskRepository);
         verifyNoInteractions(taskMapper);
     }
 
     @Test
      void updateTaskState_WhenBlockedWithoutReason_ShouldThrowTaskValidationException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
         updateTaskStateRequest.setNewState(TaskStateType.BLOCKED);
         updateTaskStateRequest.setReason(null);
 
         TaskValidationException exception = assertThrows(
                 TaskValidationException.class,
-                () -> taskService.updateTaskState(updateTaskStateRequest, 1L)
+                () -> taskService.updateTaskState(updateTaskStateRequest, 1L, null)
         );
         assertEquals(MessageKey.REASON_IS_REQUIRED_FOR_CANCEL_OR_BLOCK_STATE.toString(), exception.getMessage());
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verifyNoMoreInteractions(taskRepository);
         verifyNoInteractions(taskMapper);
     }
 
     @Test
      void updateTaskState_WhenInvalidStateTransition_ShouldThrowInvalidTaskStateTransitionException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
         doThrow(new InvalidTaskStateTransitionException(testTask.getState(), updateTaskStateRequest.getNewState()))
                 .when(taskAuthorizationImpl).validateTaskStateChange(eq(testTask), any(TaskStateType.class));
 
         assertThrows(
                 InvalidTaskStateTransitionException.class,
-                () -> taskService.updateTaskState(updateTaskStateRequest, 1L)
+                () -> taskService.updateTaskState(updateTaskStateRequest, 1L, null)
         );
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verify(taskAuthorizationImpl).validateTaskStateChange(testTask, TaskStateType.IN_PROGRESS);
         verifyNoMoreInteractions(taskRepository);
         verifyNoInteractions(taskMapper);
@@ -259,17 +347,17 @@ import static org.mockito.Mockito.*;
 
     @Test
      void updateTask_WhenAuthorized_ShouldReturnUpdatedTaskResponse() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
         doNothing().when(taskAuthorizationImpl).validateTaskManagement(testTask);
         when(taskRepository.save(testTask)).thenReturn(testTask);
         when(taskMapper.taskToTaskResponse(testTask)).thenReturn(taskResponse);
 
-        TaskResponse result = taskService.updateTask(1L, updateTaskRequest);
+        TaskResponse result = taskService.updateTask(1L, updateTaskRequest, null);
 
         assertNotNull(result);
         assertEquals(taskResponse, result);
         assertEquals("Updated Task", testTask.getTitle());
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verify(taskAuthorizationImpl).validateTaskManagement(testTask);
         verify(taskRepository).save(testTask);
         verify(taskMapper).taskToTaskResponse(testTask);
@@ -277,16 +365,16 @@ import static org.mockito.Mockito.*;
 
     @Test
      void updateTask_WhenUnauthorized_ShouldThrowUnauthorizedAccessException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
         doThrow(new UnauthorizedAccessException(MessageKey.USER_DOES_NOT_HAVE_PERMISSION_TO_MANAGE_TASK.toString()))
                 .when(taskAuthorizationImpl).validateTaskManagement(testTask);
 
         UnauthorizedAccessException exception = assertThrows(
                 UnauthorizedAccessException.class,
-                () -> taskService.updateTask(1L, updateTaskRequest)
+                () -> taskService.updateTask(1L, updateTaskRequest, null)
         );
         assertEquals(MessageKey.USER_DOES_NOT_HAVE_PERMISSION_TO_MANAGE_TASK.toString(), exception.getMessage());
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verify(taskAuthorizationImpl).validateTaskManagement(testTask);
         verifyNoMoreInteractions(taskRepository);
         verifyNoInteractions(taskMapper);
@@ -297,18 +385,18 @@ import static org.mockito.Mockito.*;
         User newAssignee = new User();
         newAssignee.setId(2L);
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
         when(userRepository.findById(2L)).thenReturn(Optional.of(newAssignee));
         doNothing().when(taskAuthorizationImpl).validateTaskAssignment(testTask);
         when(taskRepository.save(testTask)).thenReturn(testTask);
         when(taskMapper.taskToTaskResponse(testTask)).thenReturn(taskResponse);
 
-        TaskResponse result = taskService.assignTaskToTeamMember(1L, 2L);
+        TaskResponse result = taskService.assignTaskToTeamMember(1L, 2L, null);
 
         assertNotNull(result);
         assertEquals(taskResponse, result);
         assertEquals(newAssignee, testTask.getAssignee());
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verify(userRepository).findById(2L);
         verify(taskAuthorizationImpl).validateTaskAssignment(testTask);
         verify(taskRepository).save(testTask);
@@ -317,15 +405,15 @@ import static org.mockito.Mockito.*;
 
     @Test
      void assignTaskToTeamMember_WhenUserNotFound_ShouldThrowUserNotFoundException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
         when(userRepository.findById(2L)).thenReturn(Optional.empty());
 
         UserNotFoundException exception = assertThrows(
                 UserNotFoundException.class,
-                () -> taskService.assignTaskToTeamMember(1L, 2L)
+                () -> taskService.assignTaskToTeamMember(1L, 2L, null)
         );
         assertTrue(exception.getMessage().contains(MessageKey.USER_NOT_FOUND_WITH_ID.toString()));
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verify(userRepository).findById(2L);
         verifyNoMoreInteractions(taskRepository);
         verifyNoInteractions(taskMapper);
@@ -336,17 +424,17 @@ import static org.mockito.Mockito.*;
         User newAssignee = new User();
         newAssignee.setId(2L);
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
         when(userRepository.findById(2L)).thenReturn(Optional.of(newAssignee));
         doThrow(new UnauthorizedAccessException(MessageKey.USER_DOES_NOT_HAVE_PERMISSION_TO_ASSIGN_TASK.toString()))
                 .when(taskAuthorizationImpl).validateTaskAssignment(testTask);
 
         UnauthorizedAccessException exception = assertThrows(
                 UnauthorizedAccessException.class,
-                () -> taskService.assignTaskToTeamMember(1L, 2L)
+                () -> taskService.assignTaskToTeamMember(1L, 2L, null)
         );
         assertEquals(MessageKey.USER_DOES_NOT_HAVE_PERMISSION_TO_ASSIGN_TASK.toString(), exception.getMessage());
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verify(userRepository).findById(2L);
         verify(taskAuthorizationImpl).validateTaskAssignment(testTask);
         verifyNoMoreInteractions(taskRepository);
@@ -355,56 +443,187 @@ import static org.mockito.Mockito.*;
 
     @Test
      void changeTaskPriority_WhenAuthorized_ShouldReturnUpdatedTaskResponse() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
         doNothing().when(taskAuthorizationImpl).validateTaskPriorityChange(testTask);
         when(taskRepository.save(testTask)).thenReturn(testTask);
         when(taskMapper.taskToTaskResponse(testTask)).thenReturn(taskResponse);
 
-        TaskResponse result = taskService.changeTaskPriority(1L, TaskPriorityType.HIGH);
+        TaskResponse result = taskService.changeTaskPriority(1L, TaskPriorityType.HIGH, null);
 
         assertNotNull(result);
         assertEquals(taskResponse, result);
         assertEquals(TaskPriorityType.HIGH, testTask.getPriority());
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verify(taskAuthorizationImpl).validateTaskPriorityChange(testTask);
         verify(taskRepository).save(testTask);
         verify(taskMapper).taskToTaskResponse(testTask);
     }
 
+    @Test
+     void changeTaskPriority_WhenVersionConflict_ShouldRetryWithFreshRead() {
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(testTask))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L))
+                .thenReturn(testTask);
+        when(taskMapper.taskToTaskResponse(testTask)).thenReturn(taskResponse);
+
+        TaskResponse result = taskService.changeTaskPriority(1L, TaskPriorityType.HIGH, null);
+
+        assertEquals(taskResponse, result);
+        verify(taskRepository, times(2)).findById(1L, TaskRepository.WITH_PROJECT);
+        verify(taskAuthorizationImpl, times(2)).validateTaskPriorityChange(testTask);
+        verify(taskRepository, times(2)).save(testTask);
+    }
+
+    @Test
+     void changeTaskPriority_WhenConflictPersists_ShouldGiveUpAfterConfiguredRetries() {
+        taskProperties.getConcurrency().setConflictRetries(2);
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(testTask)).thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> taskService.changeTaskPriority(1L, TaskPriorityType.HIGH, null));
+        verify(taskRepository, times(3)).save(testTask);
+        verifyNoInteractions(taskMapper);
+    }
+
+    @Test
+     void assignTaskToTeamMember_WhenVersionConflict_ShouldRetryWithFreshRead() {
+        User newAssignee = new User();
+        newAssignee.setId(2L);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(newAssignee));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(testTask))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L))
+                .thenReturn(testTask);
+        when(taskMapper.taskToTaskResponse(testTask)).thenReturn(taskResponse);
+
+        taskService.assignTaskToTeamMember(1L, 2L, null);
+
+        assertEquals(newAssignee, testTask.getAssignee());
+        verify(userRepository, times(2)).findById(2L);
+        verify(taskRepository, times(2)).save(testTask);
+    }
+
+    @Test
+     void assignTaskToTeamMember_WhenRetryReadsNewerVersion_ShouldThrowPreconditionFailed() {
+        User newAssignee = new User();
+        newAssignee.setId(2L);
+        testTask.setVersion(3L);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(newAssignee));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(testTask)).thenAnswer(invocation -> {
+            testTask.setVersion(4L);
+            throw new ObjectOptimisticLockingFailureException(Task.class, 1L);
+        });
+
+        assertThrows(PreconditionFailedException.class, () -> taskService.assignTaskToTeamMember(1L, 2L, List.of("3")));
+        verify(taskRepository, times(1)).save(testTask);
+    }
+
+    @Test
+     void updateTask_WhenRevisionDoesNotMatch_ShouldThrowPreconditionFailedWithoutSaving() {
+        testTask.setVersion(3L);
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
+
+        PreconditionFailedException exception = assertThrows(
+                PreconditionFailedException.class,
+                () -> taskService.updateTask(1L, updateTaskRequest, List.of("2"))
+        );
+        assertEquals(MessageKey.RESOURCE_REVISION_DOES_NOT_MATCH.toString(), exception.getMessage());
+        verify(taskRepository, never()).save(any());
+        verifyNoInteractions(taskMapper);
+    }
+
+    @Test
+     void updateTask_WhenAnyListedRevisionMatches_ShouldSave() {
+        testTask.setVersion(3L);
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(testTask)).thenReturn(testTask);
+        when(taskMapper.taskToTaskResponse(testTask)).thenReturn(taskResponse);
+
+        assertEquals(taskResponse, taskService.updateTask(1L, updateTaskRequest, List.of("2", "3")));
+        verify(taskRepository).save(testTask);
+    }
+
+    @Test
+     void updateTask_WhenVersionConflict_ShouldNotRetry() {
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(testTask)).thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> taskService.updateTask(1L, updateTaskRequest, null));
+        verify(taskRepository, times(1)).save(testTask);
+    }
+
     @Test
      void changeTaskPriority_WhenUnauthorized_ShouldThrowUnauthorizedAccessException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
         doThrow(new UnauthorizedAccessException(MessageKey.USER_DOES_NOT_HAVE_PERMISSION_TO_CHANGE_TASK_PRIORITY.toString()))
                 .when(taskAuthorizationImpl).validateTaskPriorityChange(testTask);
 
         UnauthorizedAccessException exception = assertThrows(
                 UnauthorizedAccessException.class,
-                () -> taskService.changeTaskPriority(1L, TaskPriorityType.HIGH)
+                () -> taskService.changeTaskPriority(1L, TaskPriorityType.HIGH, null)
         );
         assertEquals(MessageKey.USER_DOES_NOT_HAVE_PERMISSION_TO_CHANGE_TASK_PRIORITY.toString(), exception.getMessage());
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verify(taskAuthorizationImpl).validateTaskPriorityChange(testTask);
         verifyNoMoreInteractions(taskRepository);
         verifyNoInteractions(taskMapper);
     }
 
     @Test
-     void deleteById_WhenAuthorized_ShouldMarkTaskAsDeleted() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+     void deleteById_WhenAuthorized_ShouldCascadeSoftDelete() {
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
         doNothing().when(taskAuthorizationImpl).validateTaskDeletion(testTask);
-        when(taskRepository.save(testTask)).thenReturn(testTask);
 
         taskService.deleteById(1L);
 
-        assertTrue(testTask.getIsDeleted());
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verify(taskAuthorizationImpl).validateTaskDeletion(testTask);
-        verify(taskRepository).save(testTask);
+        verify(softDeleteCascade).deleteTasks(List.of(1L));
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+     void deleteAllById_WhenAllAuthorized_ShouldCascadeSoftDeleteOnce() {
+        Task otherTask = new Task();
+        otherTask.setId(3L);
+        otherTask.setProject(testProject);
+        when(taskRepository.findAllById(Set.of(1L, 3L), TaskRepository.WITH_PROJECT)).thenReturn(List.of(testTask, otherTask));
+
+        taskService.deleteAllById(List.of(1L, 3L));
+
+        verify(taskAuthorizationImpl).validateTaskDeletion(testTask);
+        verify(taskAuthorizationImpl).validateTaskDeletion(otherTask);
+        verify(softDeleteCascade).deleteTasks(Set.of(1L, 3L));
+    }
+
+    @Test
+     void deleteAllById_WhenTaskMissing_ShouldThrowWithoutDeletingAnything() {
+        when(taskRepository.findAllById(Set.of(1L, 3L), TaskRepository.WITH_PROJECT)).thenReturn(List.of(testTask));
+
+        TaskNotFoundException exception = assertThrows(
+                TaskNotFoundException.class,
+                () -> taskService.deleteAllById(List.of(1L, 3L))
+        );
+        assertEquals(MessageKey.TASK_NOT_FOUND_WITH_ID.toString() + 3L, exception.getMessage());
+        verifyNoInteractions(softDeleteCascade);
+    }
+
+    @Test
+     void deleteAllById_WhenOneUnauthorized_ShouldThrowWithoutDeletingAnything() {
+        when(taskRepository.findAllById(Set.of(1L), TaskRepository.WITH_PROJECT)).thenReturn(List.of(testTask));
+        doThrow(new UnauthorizedAccessException(MessageKey.USER_DOES_NOT_HAVE_PERMISSION_TO_DELETE_TASK.toString()))
+                .when(taskAuthorizationImpl).validateTaskDeletion(testTask);
+
+        assertThrows(UnauthorizedAccessException.class, () -> taskService.deleteAllById(List.of(1L)));
+        verifyNoInteractions(softDeleteCascade);
     }
 
     @Test
      void deleteById_WhenUnauthorized_ShouldThrowUnauthorizedAccessException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findById(1L, TaskRepository.WITH_PROJECT)).thenReturn(Optional.of(testTask));
         doThrow(new UnauthorizedAccessException(MessageKey.USER_DOES_NOT_HAVE_PERMISSION_TO_DELETE_TASK.toString()))
                 .when(taskAuthorizationImpl).validateTaskDeletion(testTask);
 
@@ -413,8 +632,167 @@ import static org.mockito.Mockito.*;
                 () -> taskService.deleteById(1L)
         );
         assertEquals(MessageKey.USER_DOES_NOT_HAVE_PERMISSION_TO_DELETE_TASK.toString(), exception.getMessage());
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findById(1L, TaskRepository.WITH_PROJECT);
         verify(taskAuthorizationImpl).validateTaskDeletion(testTask);
         verifyNoMoreInteractions(taskRepository);
+        verifyNoInteractions(softDeleteCascade);
+    }
+
+    @Test
+     void findAll_WhenMoreTasksThanPageSize_ShouldReturnNextCursor() {
+        TaskFilterRequest filter = new TaskFilterRequest();
+        TaskAccessScope scope = TaskAccessScope.unrestrictedScope();
+        TaskView secondTaskView = new TaskView(2L, 0L, "Second", null, null, TaskStateType.BACKLOG, TaskPriorityType.HIGH, 1L, 1L, null, null, null, null, false);
+        when(taskAuthorizationImpl.getTaskAccessScope()).thenReturn(scope);
+        when(taskRepository.findViews(filter, scope, null, 2)).thenReturn(List.of(testTaskView, secondTaskView));
+        when(taskMapper.taskViewToTaskResponse(testTaskView)).thenReturn(taskResponse);
+
+        CursorPageResponse<TaskResponse> firstPage = taskService.findAll(filter, null, 1);
+
+        assertEquals(List.of(taskResponse), firstPage.getContent());
+        assertTrue(firstPage.isHasNext());
+        assertNotNull(firstPage.getNextCursor());
+
+        when(taskRepository.findViews(filter, scope, new TaskKeyset(1L, null, 1L), 2)).thenReturn(List.of(secondTaskView));
+        when(taskMapper.taskViewToTaskResponse(secondTaskView)).thenReturn(taskResponse);
+
+        CursorPageResponse<TaskResponse> secondPage = taskService.findAll(filter, firstPage.getNextCursor(), 1);
+
+        assertFalse(secondPage.isHasNext());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+     void findAll_WithMalformedCursor_ShouldThrowInvalidCursorException() {
+        when(taskAuthorizationImpl.getTaskAccessScope()).thenReturn(TaskAccessScope.unrestrictedScope());
+
+        assertThrows(InvalidCursorException.class, () -> taskService.findAll(new TaskFilterRequest(), "not-a-cursor", 20));
+        assertThrows(InvalidCursorException.class, () -> taskService.findAll(new TaskFilterRequest(), "eDp5Ono", 20));
+        verify(taskRepository, never()).findViews(any(), any(), any(), anyInt());
+    }
+
+    @Test
+     void search_ShouldRunInsideCallersAccessScopeAndMapRankedResults() {
+        TaskAccessScope scope = new TaskAccessScope(false, 1L, 2L);
+        TaskSearchView hit = new TaskSearchView(1L, "Fix login", null, TaskStateType.IN_PROGRESS, null, 1L, 1L, 2L, 0.42);
+        TaskSearchResponse response = new TaskSearchResponse();
+        when(taskAuthorizationImpl.getTaskAccessScope()).thenReturn(scope);
+        when(taskRepository.search("login bug", scope, 20)).thenReturn(List.of(hit));
+        when(taskMapper.taskSearchViewToTaskSearchResponse(hit)).thenReturn(response);
+
+        List<TaskSearchResponse> result = taskService.search("  login bug ", 20);
+
+        assertEquals(List.of(response), result);
+    }
+
+    @Test
+     void search_WithBlankQuery_ShouldThrowIllegalArgumentException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> taskService.search("  ", 20));
+
+        assertEquals(MessageKey.SEARCH_QUERY_CANNOT_BE_EMPTY.toString(), exception.getMessage());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+     void saveAll_ShouldLoadProjectsOnceAndReportEachItem() {
+        BatchCreateTaskRequest valid = new BatchCreateTaskRequest(1L, "Imported Task", null, null, TaskStateType.BACKLOG, null);
+        BatchCreateTaskRequest missingProject = new BatchCreateTaskRequest(9L, "Orphan Task", null, null, null, null);
+        BatchCreateTaskRequest missingTitle = new BatchCreateTaskRequest(1L, " ", null, null, null, null);
+        Task mapped = new Task();
+
+        when(projectRepository.findAllByIdIn(Set.of(1L, 9L))).thenReturn(List.of(testProject));
+        when(taskMapper.batchCreateTaskRequestToTask(valid)).thenReturn(mapped);
+        when(taskMapper.taskToTaskResponse(mapped)).thenReturn(taskResponse);
+
+        BatchResponse<TaskResponse> result = taskService.saveAll(List.of(valid, missingProject, missingTitle));
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(2, result.getFailed());
+        assertEquals(201, result.getItems().get(0).getStatus());
+        assertEquals(taskResponse, result.getItems().get(0).getResult());
+        assertEquals(404, result.getItems().get(1).getStatus());
+        assertEquals(400, result.getItems().get(2).getStatus());
+        assertEquals(testProject, mapped.getProject());
+        verify(projectRepository).findAllByIdIn(Set.of(1L, 9L));
+        verify(taskAuthorizationImpl).canCreateTask(testProject);
+        verify(taskStateHistory).saveAll(List.of(mapped));
+    }
+
+    @Test
+     void saveAll_WhenItemViolatesConstraints_ShouldReportViolationInItsSlot() {
+        BatchCreateTaskRequest valid = new BatchCreateTaskRequest(1L, "Imported Task", null, null, null, null);
+        BatchCreateTaskRequest nullTitle = new BatchCreateTaskRequest(1L, null, null, null, null, null);
+        Task mapped = new Task();
+
+        when(projectRepository.findAllByIdIn(Set.of(1L))).thenReturn(List.of(testProject));
+        when(taskMapper.batchCreateTaskRequestToTask(valid)).thenReturn(mapped);
+
+        BatchResponse<TaskResponse> result = taskService.saveAll(List.of(valid, nullTitle));
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(201, result.getItems().get(0).getStatus());
+        assertEquals(400, result.getItems().get(1).getStatus());
+        assertTrue(result.getItems().get(1).getMessage().startsWith("title "));
+        verify(taskMapper, never()).batchCreateTaskRequestToTask(nullTitle);
+        verify(taskStateHistory).saveAll(List.of(mapped));
+    }
+
+    @Test
+     void assignTasks_ShouldLoadTasksAndUsersInOneQueryEach() {
+        User newAssignee = new User();
+        newAssignee.setId(2L);
+        Task otherTask = new Task();
+        otherTask.setId(3L);
+        otherTask.setProject(testProject);
+
+        when(taskRepository.findAllById(Set.of(1L, 3L), TaskRepository.WITH_PROJECT)).thenReturn(List.of(testTask, otherTask));
+        when(userRepository.findAllByIdIn(Set.of(2L))).thenReturn(List.of(newAssignee));
+        doNothing().when(taskAuthorizationImpl).validateTaskAssignment(testTask);
+        doThrow(new UnauthorizedAccessException(MessageKey.USER_DOES_NOT_HAVE_PERMISSION_TO_ASSIGN_TASK.toString()))
+                .when(taskAuthorizationImpl).validateTaskAssignment(otherTask);
+        when(taskMapper.taskToTaskResponse(testTask)).thenReturn(taskResponse);
+
+        BatchResponse<TaskResponse> result = taskService.assignTasks(List.of(
+                new BatchAssignTaskRequest(1L, 2L), new BatchAssignTaskRequest(3L, 2L)));
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(200, result.getItems().get(0).getStatus());
+        assertEquals(403, result.getItems().get(1).getStatus());
+        assertEquals(MessageKey.USER_DOES_NOT_HAVE_PERMISSION_TO_ASSIGN_TASK.toString(), result.getItems().get(1).getMessage());
+        assertEquals(newAssignee, testTask.getAssignee());
+        assertNull(otherTask.getAssignee());
+        verify(taskStateHistory).saveAll(List.of(testTask));
+        verify(taskRepository, never()).findById(any(), anyString());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+     void updateTaskStates_ShouldReportInvalidTransitionsPerItem() {
+        when(taskRepository.findAllById(Set.of(1L, 5L), TaskRepository.WITH_PROJECT)).thenReturn(List.of(testTask));
+        when(taskMapper.taskToTaskResponse(testTask)).thenReturn(taskResponse);
+
+        BatchResponse<TaskResponse> result = taskService.updateTaskStates(List.of(
+                new BatchUpdateTaskStateRequest(1L, TaskStateType.IN_PROGRESS, null),
+                new BatchUpdateTaskStateRequest(1L, TaskStateType.BLOCKED, null),
+                new BatchUpdateTaskStateRequest(5L, TaskStateType.IN_PROGRESS, null)));
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(2, result.getFailed());
+        assertEquals(MessageKey.REASON_IS_REQUIRED_FOR_CANCEL_OR_BLOCK_STATE.toString(), result.getItems().get(1).getMessage());
+        assertEquals(404, result.getItems().get(2).getStatus());
+        assertEquals(TaskStateType.IN_PROGRESS, testTask.getState());
+        verify(taskAuthorizationImpl).validateTaskStateChange(testTask, TaskStateType.IN_PROGRESS);
+        verify(taskStateHistory).saveAll(List.of(testTask));
+    }
+
+    @Test
+     void updateTaskStates_WhenBatchTooLarge_ShouldThrowIllegalArgumentException() {
+        taskProperties.getBatch().setMaxSize(1);
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.updateTaskStates(List.of(
+                new BatchUpdateTaskStateRequest(1L, TaskStateType.IN_PROGRESS, null),
+                new BatchUpdateTaskStateRequest(2L, TaskStateType.IN_PROGRESS, null))));
+
+        verifyNoInteractions(taskRepository);
     }
-}
\ No newline at end of file
+}
@@ -1,17 +1,23 @@
 package com.example.definex.taskmanagement.service;
 
 import com.example.definex.taskmanagement.dto.mapper.UserMapper;
+import com.example.definex.taskmanagement.dto.projection.UserView;
 import com.example.definex.taskmanagement.dto.request.CreateUserRequest;
 import com.example.definex.taskmanagement.dto.request.UpdateUserRequest;
 import com.example.definex.taskmanagement.dto.response.CreatedUserResponse;
+import com.example.definex.taskmanagement.dto.response.CursorPageResponse;
 import com.example.definex.taskmanagement.dto.response.UpdatedUserResponse;
 import com.example.definex.taskmanagement.dto.response.UserResponse;
 import com.example.definex.taskmanagement.entities.Department;
 import com.example.definex.taskmanagement.entities.User;
 import com.example.definex.taskmanagement.exception.DepartmentNotFoundException;
+import com.example.definex.taskmanagement.exception.InvalidCursorException;
+import com.example.definex.taskmanagement.exception.PreconditionFailedException;
 import com.example.definex.taskmanagement.exception.UserNotFoundException;
 import com.example.definex.taskmanagement.repository.DepartmentRepository;
+import com.example.definex.taskmanagement.repository.OutboxEventRepository;
 import com.example.definex.taskmanagement.repository.UserRepository;
+import com.example.definex.taskmanagement.service.impl.DomainEventOutbox;
 import com.example.definex.taskmanagement.service.impl.UserServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,11 +25,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.security.core.userdetails.UserCache;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import org.mockito.Spy;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -38,10 +48,17 @@ import static org.mockito.Mockito.*;
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private UserCache userCache;
+
+    @Spy
+    private DomainEventOutbox domainEventOutbox = new DomainEventOutbox(mock(OutboxEventRepository.class));
+
     @InjectMocks
     private UserServiceImpl userService;
 
     private User user;
+    private UserView userView;
     private final Long userId = 1L;
 
     @BeforeEach
@@ -49,6 +66,8 @@ import static org.mockito.Mockito.*;
         user = new User();
         user.setId(userId);
         user.setIsDeleted(false);
+
+        userView = new UserView(userId, null, null, null, null, null, false);
     }
 
     @Test
@@ -72,22 +91,22 @@ import static org.mockito.Mockito.*;
     void getById_WhenUserExists_ShouldReturnUserResponse() {
         UserResponse expectedResponse = new UserResponse();
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(userMapper.userToUserResponse(any(User.class))).thenReturn(expectedResponse);
+        when(userRepository.findViewById(userId)).thenReturn(Optional.of(userView));
+        when(userMapper.userViewToUserResponse(any(UserView.class))).thenReturn(expectedResponse);
 
         UserResponse actualResponse = userService.getById(userId);
 
         assertSame(expectedResponse, actualResponse);
-        verify(userRepository).findById(userId);
-        verify(userMapper).userToUserResponse(user);
+        verify(userRepository).findViewById(userId);
+        verify(userMapper).userViewToUserResponse(userView);
     }
 
     @Test
     void getById_WhenUserNotExists_ShouldThrowException() {
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.findViewById(userId)).thenReturn(Optional.empty());
 
         assertThrows(UserNotFoundException.class, () -> userService.getById(userId));
-        verify(userRepository).findById(userId);
+        verify(userRepository).findViewById(userId);
     }
 
     @Test
@@ -99,6 +118,7 @@ import static org.mockito.Mockito.*;
         assertTrue(user.getIsDeleted());
         verify(userRepository).findById(userId);
         verify(userRepository).save(user);
+        verify(userCache).removeUserFromCache(user.getEmail());
     }
 
     @Test
@@ -108,25 +128,59 @@ import static org.mockito.Mockito.*;
         assertThrows(UserNotFoundException.class, () -> userService.deleteById(userId));
         verify(userRepository).findById(userId);
         verify(userRepository, never()).save(any());
+        verify(userCache, never()).removeUserFromCache(any());
     }
 
     @Test
     void findAll_ShouldReturnPageOfUserResponses() {
-        Page<User> userPage = new PageImpl<>(Collections.singletonList(user));
+        UserView nextUserView = new UserView(2L, null, null, null, null, null, false);
         UserResponse userResponse = new UserResponse();
 
-        when(userRepository.findAll(any(Pageable.class))).thenReturn(userPage);
-        when(userMapper.userToUserResponse(any(User.class))).thenReturn(userResponse);
+        when(userRepository.findViews(Limit.of(2))).thenReturn(List.of(userView, nextUserView));
+        when(userMapper.userViewToUserResponse(any(UserView.class))).thenReturn(userResponse);
 
-        Page<UserResponse> resultPage = userService.findAll(Pageable.unpaged());
+        CursorPageResponse<UserResponse> resultPage = userService.findAll(null, 1, false);
 
-        assertEquals(1, resultPage.getTotalElements());
+        assertEquals(1, resultPage.getContent().size());
         assertSame(userResponse, resultPage.getContent().get(0));
-        verify(userRepository).findAll(Pageable.unpaged());
-        verify(userMapper).userToUserResponse(user);
+        assertTrue(resultPage.isHasNext());
+        assertNull(resultPage.getTotalElements());
+        verify(userMapper).userViewToUserResponse(userView);
+        verify(userRepository, never()).countByIsDeletedFalse();
+
+        when(userRepository.findViewsAfter(userId, Limit.of(2))).thenReturn(List.of(nextUserView));
+        when(userRepository.countByIsDeletedFalse()).thenReturn(2L);
+
+        CursorPageResponse<UserResponse> nextPage = userService.findAll(resultPage.getNextCursor(), 1, true);
+
+        assertFalse(nextPage.isHasNext());
+        assertNull(nextPage.getNextCursor());
+        assertEquals(2L, nextPage.getTotalElements());
+    }
+    @Test
+    void findPage_ShouldReadOffsetSliceAndPointCursorPastIt() {
+        UserResponse userResponse = new UserResponse();
+
+        when(userRepository.findViews(PageRequest.of(3, 1)))
+                .thenReturn(new SliceImpl<>(List.of(userView), PageRequest.of(3, 1), true));
+        when(userMapper.userViewToUserResponse(userView)).thenReturn(userResponse);
+
+        CursorPageResponse<UserResponse> resultPage = userService.findPage(3, 1, false);
+
+        assertEquals(List.of(userResponse), resultPage.getContent());
+        assertTrue(resultPage.isHasNext());
+        when(userRepository.findViewsAfter(userId, Limit.of(2))).thenReturn(List.of());
+        userService.findAll(resultPage.getNextCursor(), 1, false);
+        verify(userRepository).findViewsAfter(userId, Limit.of(2));
+    }
+    @Test
+    void findAll_WithMalformedCursor_ShouldThrowInvalidCursorException() {
+        assertThrows(InvalidCursorException.class, () -> userService.findAll("bm90LWFuLWlk", 10, false));
+        verify(userRepository, never()).findViewsAfter(anyLong(), any());
     }
     @Test
     void update_ShouldReturnUpdatedUserResponse() {
+        user.setEmail("old@email.com");
         UpdateUserRequest request = new UpdateUserRequest();
         request.setName("Updated Name");
         request.setEmail("updated@email.com");
@@ -142,7 +196,7 @@ import static org.mockito.Mockito.*;
         when(userRepository.save(any(User.class))).thenReturn(user);
         when(userMapper.userToUpdatedUserResponse(any(User.class))).thenReturn(expectedResponse);
 
-        UpdatedUserResponse actualResponse = userService.update(request, userId);
+        UpdatedUserResponse actualResponse = userService.update(request, userId, null);
 
         assertSame(expectedResponse, actualResponse);
         verify(userRepository).findById(userId);
@@ -153,6 +207,33 @@ import static org.mockito.Mockito.*;
         assertEquals("Updated Name", user.getName());
         assertEquals("updated@email.com", user.getEmail());
         assertEquals(department, user.getDepartment());
+        verify(userCache).removeUserFromCache("old@email.com");
+        verify(userCache).removeUserFromCache("updated@email.com");
+    }
+    @Test
+    void update_WhenRevisionDoesNotMatch_ShouldThrowPreconditionFailedWithoutSaving() {
+        user.setVersion(2L);
+        UpdateUserRequest request = new UpdateUserRequest();
+        request.setDepartmentId(2L);
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        assertThrows(PreconditionFailedException.class, () -> userService.update(request, userId, List.of("1")));
+        verify(userRepository, never()).save(any());
+        verifyNoInteractions(departmentRepository, userCache);
+    }
+    @Test
+    void findRevision_ShouldReturnVersion() {
+        when(userRepository.findVersionById(userId)).thenReturn(Optional.of(4L));
+
+        assertEquals("4", userService.findRevision(userId));
+        verify(userRepository, never()).findViewById(any());
+    }
+    @Test
+    void findRevision_WhenUserNotExists_ShouldThrowException() {
+        when(userRepository.findVersionById(userId)).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> userService.findRevision(userId));
     }
     @Test
     void update_WithNonExistingUser_ShouldThrowUserNotFoundException() {
@@ -160,7 +241,7 @@ import static org.mockito.Mockito.*;
 
         when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
-        assertThrows(UserNotFoundException.class, () -> userService.update(request, userId));
+        assertThrows(UserNotFoundException.class, () -> userService.update(request, userId, null));
         verify(userRepository).findById(userId);
         verify(departmentRepository, never()).findById(anyLong());
         verify(userRepository, never()).save(any(User.class));
@@ -173,7 +254,7 @@ import static org.mockito.Mockito.*;
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(departmentRepository.findById(request.getDepartmentId())).thenReturn(Optional.empty());
 
-        assertThrows(DepartmentNotFoundException.class, () -> userService.update(request, userId));
+        assertThrows(DepartmentNotFoundException.class, () -> userService.update(request, userId, null));
         verify(userRepository).findById(userId);
         verify(departmentRepository).findById(request.getDepartmentId());
         verify(userRepository, never()).save(any(User.class));
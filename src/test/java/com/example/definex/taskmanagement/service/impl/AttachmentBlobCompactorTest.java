@@ -0,0 +1,64 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.repository.AttachmentBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+ class AttachmentBlobCompactorTest {
+    @Mock
+    private AttachmentBlobRepository attachmentBlobRepository;
+
+    @Mock
+    private AttachmentBlobStore attachmentBlobStore;
+
+    private AttachmentBlobCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        compactor = new AttachmentBlobCompactor(attachmentBlobRepository, attachmentBlobStore,
+                TransactionOperations.withoutTransaction(), Duration.ofMinutes(10), 100);
+    }
+
+    @Test
+    void compact_ShouldDeleteOnlyBlobsStillUnreferenced() {
+        when(attachmentBlobRepository.findUnreferencedHashes(any(LocalDateTime.class), eq(Limit.of(100))))
+                .thenReturn(List.of("aaaa", "bbbb"));
+        when(attachmentBlobRepository.deleteIfUnreferenced(eq("aaaa"), any(LocalDateTime.class))).thenReturn(1);
+        when(attachmentBlobRepository.deleteIfUnreferenced(eq("bbbb"), any(LocalDateTime.class))).thenReturn(0);
+
+        int reclaimed = compactor.compact();
+
+        assertEquals(1, reclaimed);
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(attachmentBlobRepository).findUnreferencedHashes(cutoff.capture(), eq(Limit.of(100)));
+        verify(attachmentBlobRepository).deleteIfUnreferenced("aaaa", cutoff.getValue());
+        verify(attachmentBlobStore).deleteBlob("aaaa");
+        verify(attachmentBlobStore, never()).deleteBlob("bbbb");
+    }
+
+    @Test
+    void compact_WhenFileDeleteFails_ShouldPropagateSoRowDeleteRollsBack() {
+        when(attachmentBlobRepository.findUnreferencedHashes(any(LocalDateTime.class), eq(Limit.of(100))))
+                .thenReturn(List.of("aaaa"));
+        when(attachmentBlobRepository.deleteIfUnreferenced(eq("aaaa"), any(LocalDateTime.class))).thenReturn(1);
+        doThrow(new UncheckedIOException(new IOException("busy"))).when(attachmentBlobStore).deleteBlob("aaaa");
+
+        assertThrows(UncheckedIOException.class, () -> compactor.compact());
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.repository.AttachmentBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+ class AttachmentBlobStoreTest {
+    private static final String CONTENT_HASH = "6ae8a75555209fd6c44157c0aed8016e763ff435a19cf186f76863140143ff72";
+
+    @Mock
+    private AttachmentBlobRepository attachmentBlobRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    private AttachmentBlobStore attachmentBlobStore;
+
+    @BeforeEach
+    void setUp() {
+        attachmentBlobStore = new AttachmentBlobStore(attachmentBlobRepository,
+                new FileSystemAttachmentStorage(tempDir.toString()), tempDir.resolve("incoming").toString(),
+                true, DataSize.ofKilobytes(1), DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    void store_ShouldWriteBlobUnderShardedHashPath() throws IOException {
+        StoredBlob blob = store(content("test content"), 1024);
+
+        assertEquals(CONTENT_HASH, blob.contentHash());
+        assertEquals(12L, blob.size());
+        assertEquals("blobs/6a/e8/" + CONTENT_HASH, blob.storageKey());
+        assertEquals("test content", Files.readString(tempDir.resolve(blob.storageKey())));
+        assertEquals(0, countFiles(tempDir.resolve("incoming")));
+        InOrder inOrder = inOrder(attachmentBlobRepository);
+        inOrder.verify(attachmentBlobRepository).register(CONTENT_HASH, 12L);
+        inOrder.verify(attachmentBlobRepository).acquire(CONTENT_HASH, 12L);
+    }
+
+    @Test
+    void store_SameContentTwice_ShouldKeepOneCopyAndCountBothReferences() throws IOException {
+        StoredBlob first = store(content("test content"), 1024);
+        StoredBlob second = store(content("test content"), 1024);
+
+        assertEquals(first.storageKey(), second.storageKey());
+        assertEquals(1, countFiles(tempDir.resolve("blobs")));
+        assertEquals(0, countFiles(tempDir.resolve("incoming")));
+        verify(attachmentBlobRepository, times(2)).acquire(CONTENT_HASH, 12L);
+    }
+
+    @Test
+    void store_TextContent_ShouldCompressAndKeepOriginalHashAndSize() throws IOException {
+        String csv = csv(2000);
+
+        StoredBlob blob = store(content(csv), 1024 * 1024);
+
+        assertEquals("gzip", blob.contentEncoding());
+        assertTrue(blob.storageKey().endsWith(blob.contentHash() + ".gz"));
+        assertEquals(csv.length(), blob.size());
+        assertTrue(Files.size(tempDir.resolve(blob.storageKey())) * 5 < csv.length());
+        try (InputStream in = attachmentBlobStore.open(blob.storageKey(), blob.contentEncoding(), 0, blob.size())) {
+            assertEquals(csv, new String(in.readAllBytes()));
+        }
+    }
+
+    @Test
+    void open_CompressedBlobFromOffset_ShouldReturnDecodedBytes() throws IOException {
+        String csv = csv(2000);
+        StoredBlob blob = store(content(csv), 1024 * 1024);
+
+        try (InputStream in = attachmentBlobStore.open(blob.storageKey(), blob.contentEncoding(), 100, 50)) {
+            assertEquals(csv.substring(100, 150), new String(in.readNBytes(50)));
+        }
+    }
+
+    @Test
+    void store_BinaryContent_ShouldStoreUncompressed() throws IOException {
+        byte[] binary = new byte[4096];
+        new Random(42).nextBytes(binary);
+        binary[0] = 0;
+
+        StoredBlob blob = store(new ByteArrayInputStream(binary), 1024 * 1024);
+
+        assertNull(blob.contentEncoding());
+        assertArrayEquals(binary, Files.readAllBytes(tempDir.resolve(blob.storageKey())));
+    }
+
+    @Test
+    void store_WhenCompressionDisabled_ShouldStoreUncompressed() {
+        attachmentBlobStore = new AttachmentBlobStore(attachmentBlobRepository,
+                new FileSystemAttachmentStorage(tempDir.toString()), tempDir.resolve("incoming").toString(),
+                false, DataSize.ofKilobytes(1), DataSize.ofMegabytes(1));
+
+        StoredBlob blob = store(content(csv(2000)), 1024 * 1024);
+
+        assertNull(blob.contentEncoding());
+        assertFalse(blob.storageKey().endsWith(".gz"));
+    }
+
+    @Test
+    void store_ChunkedTextCrossingCompressionMaxSize_ShouldSwitchToRawOutput() throws IOException {
+        attachmentBlobStore = new AttachmentBlobStore(attachmentBlobRepository,
+                new FileSystemAttachmentStorage(tempDir.toString()), tempDir.resolve("incoming").toString(),
+                true, DataSize.ofKilobytes(1), DataSize.ofKilobytes(16));
+        String csv = csv(2000);
+
+        StoredBlob blob = store(content(csv), 1024 * 1024);
+
+        assertNull(blob.contentEncoding());
+        assertEquals(csv.length(), blob.size());
+        assertEquals(csv, Files.readString(tempDir.resolve(blob.storageKey())));
+        assertEquals(0, countFiles(tempDir.resolve("incoming")));
+    }
+
+    @Test
+    void stage_WhenDeclaredSizeExceedsCompressionMaxSize_ShouldStageRawFromTheStart() throws IOException {
+        String csv = csv(2000);
+
+        StagedBlob staged = attachmentBlobStore.stage(content(csv), 2L * 1024 * 1024, 4L * 1024 * 1024);
+        try {
+            assertNull(staged.contentEncoding());
+            assertEquals(csv, Files.readString(staged.file()));
+        } finally {
+            attachmentBlobStore.discard(staged);
+        }
+    }
+
+    @Test
+    void stage_WhenDeclaredSizeFits_ShouldCompress() {
+        String csv = csv(2000);
+
+        StagedBlob staged = attachmentBlobStore.stage(content(csv), csv.length(), 1024 * 1024);
+        try {
+            assertEquals("gzip", staged.contentEncoding());
+            assertEquals(csv.length(), staged.size());
+        } finally {
+            attachmentBlobStore.discard(staged);
+        }
+    }
+
+    @Test
+    void store_WhenBodyExceedsLimit_ShouldAbortAndRemoveStagedFile() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> store(content("test content"), 5));
+
+        assertEquals(0, countFiles(tempDir));
+        verifyNoInteractions(attachmentBlobRepository);
+    }
+
+    @Test
+    void store_WhenBodyEmpty_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> store(content(""), 1024));
+
+        verify(attachmentBlobRepository, never()).acquire(anyString(), anyLong());
+    }
+
+    @Test
+    void stage_ShouldHashContentWithoutCountingAReference() throws IOException {
+        StagedBlob staged = attachmentBlobStore.stage(content("test content"), -1, 1024);
+
+        assertEquals(CONTENT_HASH, staged.contentHash());
+        assertEquals(1, countFiles(tempDir.resolve("incoming")));
+        verifyNoInteractions(attachmentBlobRepository);
+
+        attachmentBlobStore.discard(staged);
+        assertEquals(0, countFiles(tempDir.resolve("incoming")));
+    }
+
+    @Test
+    void upload_WhenHandOffFails_ShouldNotTakeAReference() throws IOException {
+        StagedBlob staged = attachmentBlobStore.stage(content("test content"), -1, 1024);
+        Files.delete(staged.file());
+
+        assertThrows(RuntimeException.class, () -> attachmentBlobStore.upload(staged));
+
+        verify(attachmentBlobRepository).register(CONTENT_HASH, 12L);
+        verify(attachmentBlobRepository, never()).acquire(anyString(), anyLong());
+    }
+
+    @Test
+    void deleteBlob_ShouldRemoveStoredContent() {
+        StoredBlob blob = store(content("test content"), 1024);
+
+        attachmentBlobStore.deleteBlob(CONTENT_HASH);
+
+        assertFalse(Files.exists(tempDir.resolve(blob.storageKey())));
+    }
+
+    private StoredBlob store(InputStream content, long maxSizeBytes) {
+        StagedBlob staged = attachmentBlobStore.stage(content, -1, maxSizeBytes);
+        try {
+            StoredBlob blob = attachmentBlobStore.upload(staged);
+            attachmentBlobStore.acquire(blob);
+            return blob;
+        } finally {
+            attachmentBlobStore.discard(staged);
+        }
+    }
+    private ByteArrayInputStream content(String value) {
+        return new ByteArrayInputStream(value.getBytes());
+    }
+    private String csv(int rows) {
+        StringBuilder csv = new StringBuilder("id,title,state,assignee\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append(i).append(",Task ").append(i).append(",IN_PROGRESS,user").append(i % 10).append("@test.com\n");
+        }
+        return csv.toString();
+    }
+    private long countFiles(Path root) throws IOException {
+        if (Files.notExists(root)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
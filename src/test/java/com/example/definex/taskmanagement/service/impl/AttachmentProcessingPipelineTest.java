@@ -0,0 +1,97 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.entities.AttachmentProcessingStatus;
+import com.example.definex.taskmanagement.repository.AttachmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+ class AttachmentProcessingPipelineTest {
+    private static final Duration LEASE_TIMEOUT = Duration.ofMinutes(10);
+
+    @Mock
+    private AttachmentProcessor attachmentProcessor;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    private AttachmentProcessingPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        pipeline.destroy();
+    }
+
+    @Test
+    void submit_ShouldProcessAttachmentInBackground() throws InterruptedException {
+        pipeline = new AttachmentProcessingPipeline(attachmentProcessor, attachmentRepository, 1, 10, 10, LEASE_TIMEOUT);
+        CountDownLatch processed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            processed.countDown();
+            return null;
+        }).when(attachmentProcessor).process(1L);
+
+        assertTrue(pipeline.submit(1L));
+
+        assertTrue(processed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void submit_WhenQueueFull_ShouldRejectWithoutBlocking() throws InterruptedException {
+        pipeline = new AttachmentProcessingPipeline(attachmentProcessor, attachmentRepository, 1, 1, 10, LEASE_TIMEOUT);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return null;
+        }).when(attachmentProcessor).process(1L);
+
+        assertTrue(pipeline.submit(1L));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(pipeline.submit(2L));
+        assertFalse(pipeline.submit(3L));
+        release.countDown();
+    }
+
+    @Test
+    void sweepPending_ShouldRequestOnlyAsManyAsTheQueueCanTake() {
+        pipeline = new AttachmentProcessingPipeline(attachmentProcessor, attachmentRepository, 1, 5, 3, LEASE_TIMEOUT);
+        when(attachmentRepository.findIdsByProcessingStatus(AttachmentProcessingStatus.PENDING, Limit.of(3)))
+                .thenReturn(List.of());
+
+        pipeline.sweepPending();
+
+        verify(attachmentRepository).findIdsByProcessingStatus(AttachmentProcessingStatus.PENDING, Limit.of(3));
+    }
+
+    @Test
+    void sweepPending_ShouldRequeueExpiredClaimsBeforeSelectingPendingWork() {
+        pipeline = new AttachmentProcessingPipeline(attachmentProcessor, attachmentRepository, 1, 5, 3, LEASE_TIMEOUT);
+        when(attachmentRepository.findIdsByProcessingStatus(AttachmentProcessingStatus.PENDING, Limit.of(3)))
+                .thenReturn(List.of());
+        LocalDateTime before = LocalDateTime.now();
+
+        pipeline.sweepPending();
+
+        ArgumentCaptor<LocalDateTime> claimedBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        InOrder inOrder = inOrder(attachmentRepository);
+        inOrder.verify(attachmentRepository).releaseExpiredClaims(claimedBefore.capture());
+        inOrder.verify(attachmentRepository).findIdsByProcessingStatus(AttachmentProcessingStatus.PENDING, Limit.of(3));
+        assertFalse(claimedBefore.getValue().isBefore(before.minus(LEASE_TIMEOUT)));
+        assertFalse(claimedBefore.getValue().isAfter(LocalDateTime.now().minus(LEASE_TIMEOUT)));
+    }
+}
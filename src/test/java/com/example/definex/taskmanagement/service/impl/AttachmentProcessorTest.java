@@ -0,0 +1,127 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.entities.Attachment;
+import com.example.definex.taskmanagement.entities.AttachmentProcessingStatus;
+import com.example.definex.taskmanagement.repository.AttachmentBlobRepository;
+import com.example.definex.taskmanagement.repository.AttachmentRepository;
+import com.example.definex.taskmanagement.service.AttachmentScanner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+ class AttachmentProcessorTest {
+    private static final String CONTENT_HASH = "6ae8a75555209fd6c44157c0aed8016e763ff435a19cf186f76863140143ff72";
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private AttachmentBlobRepository attachmentBlobRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    private FileSystemAttachmentStorage storage;
+    private Attachment attachment;
+
+    @BeforeEach
+    void setUp() {
+        storage = new FileSystemAttachmentStorage(tempDir.toString());
+        attachment = new Attachment();
+        attachment.setId(1L);
+        attachment.setContentHash(CONTENT_HASH);
+    }
+
+    @Test
+    void process_Image_ShouldStoreThumbnailWithinBounds() throws IOException {
+        Path image = tempDir.resolve("photo.png");
+        ImageIO.write(new BufferedImage(1024, 512, BufferedImage.TYPE_INT_RGB), "png", image.toFile());
+        stored("photo.png", image);
+
+        processor(List.of()).process(1L);
+
+        String thumbnailKey = "thumbnails/6a/e8/" + CONTENT_HASH + ".png";
+        verifyCompleted(AttachmentProcessingStatus.READY, "image/png", thumbnailKey, null);
+        BufferedImage thumbnail = ImageIO.read(tempDir.resolve(thumbnailKey).toFile());
+        assertEquals(256, thumbnail.getWidth());
+        assertEquals(128, thumbnail.getHeight());
+    }
+
+    @Test
+    void process_Text_ShouldStoreTruncatedPreview() throws IOException {
+        stored("notes.txt", Files.writeString(tempDir.resolve("notes.txt"), "a".repeat(20)));
+
+        processor(List.of()).process(1L);
+
+        verifyCompleted(AttachmentProcessingStatus.READY, "text/plain", null, "a".repeat(10));
+    }
+
+    @Test
+    void process_WhenScannerFlagsContent_ShouldQuarantine() throws IOException {
+        stored("notes.txt", Files.writeString(tempDir.resolve("notes.txt"), "X5O!P%@AP"));
+        AttachmentScanner scanner = (fileName, content) -> !new String(content.readAllBytes()).startsWith("X5O");
+
+        processor(List.of(scanner)).process(1L);
+
+        verifyCompleted(AttachmentProcessingStatus.QUARANTINED, null, null, null);
+    }
+
+    @Test
+    void process_WhenContentMissing_ShouldMarkFailed() {
+        attachment.setFilePath("missing.bin");
+        attachment.setFileName("missing.bin");
+        attachment.setFileSize(10L);
+        when(attachmentRepository.claimProcessing(eq(1L), any())).thenReturn(1);
+        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+
+        processor(List.of()).process(1L);
+
+        verifyCompleted(AttachmentProcessingStatus.FAILED, null, null, null);
+    }
+
+    @Test
+    void process_WhenAlreadyClaimed_ShouldSkip() {
+        when(attachmentRepository.claimProcessing(eq(1L), any())).thenReturn(0);
+
+        processor(List.of()).process(1L);
+
+        verify(attachmentRepository, never()).findById(anyLong());
+        verify(attachmentRepository, never()).completeProcessing(anyLong(), any(), any(), any(), any(), any());
+    }
+
+    private void verifyCompleted(AttachmentProcessingStatus status, String mimeType, String thumbnailKey, String textPreview) {
+        ArgumentCaptor<LocalDateTime> claimedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(attachmentRepository).claimProcessing(eq(1L), claimedAt.capture());
+        verify(attachmentRepository).completeProcessing(1L, claimedAt.getValue(), status, mimeType, thumbnailKey, textPreview);
+    }
+    private void stored(String fileName, Path file) throws IOException {
+        attachment.setFileName(fileName);
+        attachment.setFilePath(tempDir.relativize(file).toString());
+        attachment.setFileSize(Files.size(file));
+        when(attachmentRepository.claimProcessing(eq(1L), any())).thenReturn(1);
+        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+    }
+    private AttachmentProcessor processor(List<AttachmentScanner> scanners) {
+        AttachmentBlobStore blobStore = new AttachmentBlobStore(attachmentBlobRepository, storage, tempDir.resolve("incoming").toString(),
+                true, DataSize.ofKilobytes(1), DataSize.ofMegabytes(1));
+        return new AttachmentProcessor(attachmentRepository, storage, blobStore, scanners,
+                tempDir.resolve("incoming").toString(), 256, 10);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.entities.*;
+import com.example.definex.taskmanagement.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+ class DomainEventOutboxTest {
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @InjectMocks
+    private DomainEventOutbox domainEventOutbox;
+
+    @Captor
+    private ArgumentCaptor<List<OutboxEvent>> eventsCaptor;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        Department department = new Department();
+        department.setId(3L);
+        Project project = new Project();
+        project.setId(2L);
+        project.setDepartment(department);
+        User assignee = new User();
+        assignee.setId(4L);
+
+        task = new Task();
+        task.setId(1L);
+        task.setVersion(5L);
+        task.setProject(project);
+        task.setAssignee(assignee);
+        task.setState(TaskStateType.IN_PROGRESS);
+        task.setPriority(TaskPriorityType.HIGH);
+    }
+
+    @Test
+    void record_ShouldAppendEventForSavedEntity() {
+        Task result = domainEventOutbox.record(DomainEventType.TASK_STATE_CHANGED, () -> task);
+
+        assertSame(task, result);
+        verify(outboxEventRepository).saveAll(eventsCaptor.capture());
+        OutboxEvent event = eventsCaptor.getValue().get(0);
+        assertEquals("TASK", event.getAggregateType());
+        assertEquals(1L, event.getAggregateId());
+        assertEquals(DomainEventType.TASK_STATE_CHANGED, event.getEventType());
+        assertNotNull(event.getOccurredAt());
+        assertNull(event.getPublishedAt());
+        assertEquals(Map.of("id", 1L, "version", 5L, "projectId", 2L, "departmentId", 3L, "assigneeId", 4L,
+                "state", "IN_PROGRESS", "priority", "HIGH"), event.getPayload());
+    }
+
+    @Test
+    void record_WithSavedCollection_ShouldAppendOneEventPerEntity() {
+        Task other = new Task();
+        other.setId(9L);
+
+        domainEventOutbox.record(DomainEventType.TASK_ASSIGNED, () -> List.of(task, other));
+
+        verify(outboxEventRepository).saveAll(eventsCaptor.capture());
+        assertEquals(List.of(1L, 9L), eventsCaptor.getValue().stream().map(OutboxEvent::getAggregateId).toList());
+        assertNull(eventsCaptor.getValue().get(1).getPayload().get("projectId"));
+    }
+
+    @Test
+    void record_WithSubjects_ShouldRunMutationThenAppendEvents() {
+        User user = new User();
+        user.setId(7L);
+        user.setRole(Role.TEAM_MEMBER);
+        Runnable mutation = mock(Runnable.class);
+
+        domainEventOutbox.record(DomainEventType.USER_DELETED, List.of(user), mutation);
+
+        var inOrder = inOrder(mutation, outboxEventRepository);
+        inOrder.verify(mutation).run();
+        inOrder.verify(outboxEventRepository).saveAll(eventsCaptor.capture());
+        OutboxEvent event = eventsCaptor.getValue().get(0);
+        assertEquals("USER", event.getAggregateType());
+        assertEquals("TEAM_MEMBER", event.getPayload().get("role"));
+    }
+
+    @Test
+    void record_WhenMutationFails_ShouldNotAppendEvents() {
+        assertThrows(IllegalStateException.class, () -> domainEventOutbox.record(DomainEventType.TASK_CREATED, () -> {
+            throw new IllegalStateException();
+        }));
+
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    @Test
+    void record_WithEmptySubjects_ShouldNotWrite() {
+        domainEventOutbox.record(DomainEventType.PROJECT_DELETED, List.of(), () -> { });
+
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    @Test
+    void record_WithUnsupportedSubject_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> domainEventOutbox.record(DomainEventType.TASK_CREATED, () -> "not an entity"));
+    }
+}
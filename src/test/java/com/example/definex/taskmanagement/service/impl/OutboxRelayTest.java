@@ -0,0 +1,85 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.entities.OutboxEvent;
+import com.example.definex.taskmanagement.repository.OutboxEventRepository;
+import com.example.definex.taskmanagement.service.OutboxEventSink;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+ class OutboxRelayTest {
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxEventSink firstSink;
+
+    @Mock
+    private OutboxEventSink secondSink;
+
+    @Test
+    void relay_ShouldDeliverToEverySinkAndMarkPublished() {
+        List<OutboxEvent> events = List.of(new OutboxEvent(), new OutboxEvent());
+        when(outboxEventRepository.lockPending(Limit.of(2))).thenReturn(events, List.of());
+
+        assertEquals(2, relay(List.of(firstSink, secondSink), 2).relay());
+
+        verify(firstSink).deliver(events);
+        verify(secondSink).deliver(events);
+        events.forEach(event -> assertNotNull(event.getPublishedAt()));
+        verify(outboxEventRepository, times(2)).lockPending(Limit.of(2));
+    }
+
+    @Test
+    void relay_WhenBatchIsNotFull_ShouldStopWithoutPollingAgain() {
+        when(outboxEventRepository.lockPending(Limit.of(2))).thenReturn(List.of(new OutboxEvent()));
+
+        assertEquals(1, relay(List.of(firstSink), 2).relay());
+
+        verify(outboxEventRepository).lockPending(Limit.of(2));
+    }
+
+    @Test
+    void relay_WhenSinkFails_ShouldLeaveBatchPending() {
+        OutboxEvent event = new OutboxEvent();
+        when(outboxEventRepository.lockPending(Limit.of(2))).thenReturn(List.of(event));
+        doThrow(new IllegalStateException("broker down")).when(firstSink).deliver(any());
+
+        assertEquals(0, relay(List.of(firstSink, secondSink), 2).relay());
+
+        assertNull(event.getPublishedAt());
+        verifyNoInteractions(secondSink);
+    }
+
+    @Test
+    void relay_WithoutSinks_ShouldNotTouchOutbox() {
+        assertEquals(0, relay(List.of(), 2).relay());
+
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    @Test
+    void purgePublished_ShouldDeleteRowsPublishedBeforeRetention() {
+        when(outboxEventRepository.deletePublishedBefore(any(LocalDateTime.class))).thenReturn(3);
+
+        assertEquals(3, relay(List.of(firstSink), 2).purgePublished());
+
+        verify(outboxEventRepository).deletePublishedBefore(argThat(cutoff ->
+                cutoff.isBefore(LocalDateTime.now().minusDays(6)) && cutoff.isAfter(LocalDateTime.now().minusDays(8))));
+    }
+
+    private OutboxRelay relay(List<OutboxEventSink> sinks, int batchSize) {
+        return new OutboxRelay(outboxEventRepository, sinks, TransactionOperations.withoutTransaction(),
+                batchSize, 10, Duration.ofDays(7));
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.authorization.TaskAccessScope;
+import com.example.definex.taskmanagement.dto.response.ProjectEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+ class ProjectEventBroadcasterTest {
+    private static final Long PROJECT_ID = 1L;
+    private static final Long DEPARTMENT_ID = 10L;
+    private static final TaskAccessScope UNRESTRICTED = new TaskAccessScope(true, null, null);
+
+    private final ProjectEventBroadcaster broadcaster =
+            new ProjectEventBroadcaster(2, Duration.ZERO, Duration.ofMillis(50), Duration.ofMinutes(1));
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    void awaitBatch_ShouldCollapseRepeatedEventsForSameTaskToLatest() throws InterruptedException {
+        ProjectEventBroadcaster.Subscription subscription = subscription(UNRESTRICTED);
+        ProjectEvent first = event(ProjectEvent.Type.TASK_UPDATED, 5L, null);
+        ProjectEvent latest = event(ProjectEvent.Type.TASK_UPDATED, 5L, null);
+        ProjectEvent other = event(ProjectEvent.Type.TASK_STATE_CHANGED, 5L, null);
+
+        subscription.offer(first);
+        subscription.offer(other);
+        subscription.offer(latest);
+
+        List<ProjectEvent> batch = subscription.awaitBatch();
+        assertEquals(List.of(other, latest), batch);
+        assertSame(latest, batch.get(1));
+    }
+
+    @Test
+    void awaitBatch_WhenBufferOverflows_ShouldReturnSingleResync() throws InterruptedException {
+        ProjectEventBroadcaster.Subscription subscription = subscription(UNRESTRICTED);
+
+        for (long taskId = 1; taskId <= 3; taskId++) {
+            subscription.offer(event(ProjectEvent.Type.TASK_CREATED, taskId, null));
+        }
+
+        List<ProjectEvent> batch = subscription.awaitBatch();
+        assertEquals(1, batch.size());
+        assertEquals(ProjectEvent.Type.RESYNC, batch.get(0).type());
+        assertEquals(PROJECT_ID, batch.get(0).projectId());
+    }
+
+    @Test
+    void awaitBatch_WhenNothingArrivesWithinHeartbeat_ShouldReturnEmpty() throws InterruptedException {
+        assertTrue(subscription(UNRESTRICTED).awaitBatch().isEmpty());
+    }
+
+    @Test
+    void awaitBatch_WhenClosed_ShouldDropPendingEvents() throws InterruptedException {
+        ProjectEventBroadcaster.Subscription subscription = subscription(UNRESTRICTED);
+        subscription.offer(event(ProjectEvent.Type.TASK_CREATED, 1L, null));
+
+        subscription.close();
+
+        assertTrue(subscription.awaitBatch().isEmpty());
+    }
+
+    @Test
+    void canSee_ShouldApplyTaskAccessScope() {
+        ProjectEvent ownTask = event(ProjectEvent.Type.TASK_UPDATED, 1L, 7L);
+        ProjectEvent otherDepartment = new ProjectEvent(ProjectEvent.Type.TASK_UPDATED, PROJECT_ID, 99L, 2L, 8L, 2L, Instant.now());
+
+        assertTrue(subscription(UNRESTRICTED).canSee(otherDepartment));
+        assertTrue(subscription(new TaskAccessScope(false, DEPARTMENT_ID, null)).canSee(ownTask));
+        assertFalse(subscription(new TaskAccessScope(false, DEPARTMENT_ID, null)).canSee(otherDepartment));
+        assertTrue(subscription(new TaskAccessScope(false, null, 7L)).canSee(ownTask));
+        assertFalse(subscription(new TaskAccessScope(false, null, 7L)).canSee(otherDepartment));
+    }
+
+    @Test
+    void canSee_ShouldLetEveryScopeSeeResync() {
+        ProjectEvent resync = ProjectEvent.resync(PROJECT_ID);
+
+        assertTrue(subscription(new TaskAccessScope(false, DEPARTMENT_ID, null)).canSee(resync));
+        assertTrue(subscription(new TaskAccessScope(false, null, 7L)).canSee(resync));
+    }
+
+    @Test
+    void subscribe_ShouldTrackSubscriptionsPerProjectUntilDestroyed() {
+        broadcaster.subscribe(PROJECT_ID, UNRESTRICTED);
+        broadcaster.subscribe(PROJECT_ID, UNRESTRICTED);
+        broadcaster.subscribe(2L, UNRESTRICTED);
+
+        assertEquals(2, broadcaster.subscriberCount(PROJECT_ID));
+        assertEquals(1, broadcaster.subscriberCount(2L));
+
+        broadcaster.destroy();
+
+        assertEquals(0, broadcaster.subscriberCount(PROJECT_ID));
+    }
+
+    private ProjectEventBroadcaster.Subscription subscription(TaskAccessScope scope) {
+        return broadcaster.new Subscription(PROJECT_ID, scope, new SseEmitter());
+    }
+
+    private ProjectEvent event(ProjectEvent.Type type, Long taskId, Long assigneeId) {
+        return new ProjectEvent(type, PROJECT_ID, DEPARTMENT_ID, taskId, assigneeId, taskId, Instant.now());
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.definex.taskmanagement.service.impl;
+
+import com.example.definex.taskmanagement.service.AttachmentStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+ class S3AttachmentStorageTest {
+    private static final String BUCKET = "attachments";
+    private static final String KEY = "blobs/ab/cd/abcd";
+
+    @Mock
+    private S3Client s3Client;
+
+    @TempDir
+    private Path tempDir;
+
+    private S3AttachmentStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new S3AttachmentStorage(s3Client, BUCKET, DataSize.ofBytes(4), 2);
+    }
+    @AfterEach
+    void tearDown() {
+        storage.destroy();
+    }
+
+    @Test
+    void store_SmallFile_ShouldUseSinglePut() throws IOException {
+        Path staged = Files.writeString(tempDir.resolve("staged"), "abc");
+
+        storage.store(KEY, staged);
+
+        verify(s3Client).putObject(eq(PutObjectRequest.builder().bucket(BUCKET).key(KEY).build()), any(RequestBody.class));
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void store_LargeFile_ShouldUploadPartsAndCompleteInOrder() throws IOException {
+        Path staged = Files.writeString(tempDir.resolve("staged"), "0123456789");
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenAnswer(invocation -> UploadPartResponse.builder()
+                        .eTag("etag-" + invocation.getArgument(0, UploadPartRequest.class).partNumber()).build());
+
+        storage.store(KEY, staged);
+
+        ArgumentCaptor<UploadPartRequest> partRequests = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(3)).uploadPart(partRequests.capture(), any(RequestBody.class));
+        assertEquals(List.of(4L, 4L, 2L), partRequests.getAllValues().stream()
+                .sorted((a, b) -> a.partNumber() - b.partNumber()).map(UploadPartRequest::contentLength).toList());
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(complete.capture());
+        assertEquals("upload-1", complete.getValue().uploadId());
+        assertEquals(List.of("etag-1", "etag-2", "etag-3"),
+                complete.getValue().multipartUpload().parts().stream().map(CompletedPart::eTag).toList());
+    }
+
+    @Test
+    void store_WhenPartFails_ShouldAbortMultipartUpload() throws IOException {
+        Path staged = Files.writeString(tempDir.resolve("staged"), "0123456789");
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().statusCode(500).build());
+
+        assertThrows(IOException.class, () -> storage.store(KEY, staged));
+
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void stat_WhenObjectMissing_ShouldReturnNull() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(S3Exception.builder().statusCode(404).build());
+
+        assertNull(storage.stat(KEY));
+        assertFalse(storage.exists(KEY));
+    }
+
+    @Test
+    void stat_ShouldReturnSizeAndLastModified() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder()
+                .contentLength(10L).lastModified(Instant.ofEpochMilli(1000L)).build());
+
+        assertEquals(new AttachmentStorage.ObjectMetadata(10L, 1000L), storage.stat(KEY));
+    }
+
+    @Test
+    void open_ShouldRequestByteRange() {
+        storage.open(KEY, 5, 7);
+
+        verify(s3Client).getObject(GetObjectRequest.builder().bucket(BUCKET).key(KEY).range("bytes=5-11").build());
+        assertNull(storage.localPath(KEY));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.definex.taskmanagement.workflow;
+
+import com.example.definex.taskmanagement.config.TaskWorkflowProperties;
+import com.example.definex.taskmanagement.entities.Department;
+import com.example.definex.taskmanagement.entities.Project;
+import com.example.definex.taskmanagement.entities.Task;
+import com.example.definex.taskmanagement.entities.TaskStateType;
+import org.junit.jupiter.api.Test;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import static com.example.definex.taskmanagement.entities.TaskStateType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+ class TaskStateMachineTest {
+    private static final Long DEPARTMENT_ID = 1L;
+    private static final Long PROJECT_ID = 10L;
+
+    @Test
+    void allowedNextStates_WithoutOverrides_ShouldMatchDefaultWorkflow() {
+        TaskStateMachine stateMachine = new TaskStateMachine(new TaskWorkflowProperties());
+
+        assertEquals(EnumSet.of(IN_ANALYSIS, IN_PROGRESS, COMPLETED, CANCELLED), stateMachine.allowedNextStates(BACKLOG, PROJECT_ID, DEPARTMENT_ID));
+        assertEquals(EnumSet.of(BACKLOG, IN_PROGRESS, BLOCKED, COMPLETED, CANCELLED), stateMachine.allowedNextStates(IN_ANALYSIS, PROJECT_ID, DEPARTMENT_ID));
+        assertEquals(EnumSet.of(IN_ANALYSIS, COMPLETED, BLOCKED, CANCELLED), stateMachine.allowedNextStates(IN_PROGRESS, PROJECT_ID, DEPARTMENT_ID));
+        assertEquals(EnumSet.of(IN_ANALYSIS, IN_PROGRESS, BACKLOG, CANCELLED), stateMachine.allowedNextStates(BLOCKED, PROJECT_ID, DEPARTMENT_ID));
+        assertEquals(EnumSet.of(IN_ANALYSIS, IN_PROGRESS, BACKLOG), stateMachine.allowedNextStates(CANCELLED, PROJECT_ID, DEPARTMENT_ID));
+        assertTrue(stateMachine.allowedNextStates(COMPLETED, PROJECT_ID, DEPARTMENT_ID).isEmpty());
+    }
+
+    @Test
+    void allowedNextStates_ShouldResolveProjectThenDepartmentThenDefault() {
+        TaskWorkflowProperties properties = new TaskWorkflowProperties();
+        properties.getDepartments().put(DEPARTMENT_ID, Map.of(
+                BACKLOG, Set.of(IN_ANALYSIS),
+                IN_PROGRESS, Set.of(COMPLETED)));
+        properties.getProjects().put(PROJECT_ID, Map.of(BACKLOG, Set.of(IN_PROGRESS)));
+        TaskStateMachine stateMachine = new TaskStateMachine(properties);
+
+        assertEquals(EnumSet.of(IN_PROGRESS), stateMachine.allowedNextStates(BACKLOG, PROJECT_ID, DEPARTMENT_ID));
+        assertEquals(EnumSet.of(COMPLETED), stateMachine.allowedNextStates(IN_PROGRESS, PROJECT_ID, DEPARTMENT_ID));
+        assertEquals(EnumSet.of(IN_ANALYSIS), stateMachine.allowedNextStates(BACKLOG, 99L, DEPARTMENT_ID));
+        assertEquals(EnumSet.of(IN_ANALYSIS, IN_PROGRESS, BACKLOG, CANCELLED), stateMachine.allowedNextStates(BLOCKED, PROJECT_ID, DEPARTMENT_ID));
+        assertEquals(EnumSet.of(IN_ANALYSIS, IN_PROGRESS, COMPLETED, CANCELLED), stateMachine.allowedNextStates(BACKLOG, null, null));
+    }
+
+    @Test
+    void canTransition_ShouldUseTaskProjectAndDepartment() {
+        TaskWorkflowProperties properties = new TaskWorkflowProperties();
+        properties.getDepartments().put(DEPARTMENT_ID, Map.of(COMPLETED, Set.of(IN_PROGRESS)));
+        TaskStateMachine stateMachine = new TaskStateMachine(properties);
+        Task task = task(COMPLETED);
+
+        assertTrue(stateMachine.canTransition(task, IN_PROGRESS));
+        assertFalse(stateMachine.canTransition(task, BACKLOG));
+    }
+
+    @Test
+    void allowedNextStates_ShouldNotExposeMutableTable() {
+        TaskStateMachine stateMachine = new TaskStateMachine(new TaskWorkflowProperties());
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> stateMachine.allowedNextStates(task(BACKLOG)).add(BLOCKED));
+    }
+
+    @Test
+    void requiresReason_ShouldOnlyApplyToCancelledAndBlocked() {
+        TaskStateMachine stateMachine = new TaskStateMachine(new TaskWorkflowProperties());
+
+        for (TaskStateType state : TaskStateType.values()) {
+            assertEquals(state == CANCELLED || state == BLOCKED, stateMachine.requiresReason(state));
+        }
+    }
+
+    private Task task(TaskStateType state) {
+        Department department = new Department();
+        department.setId(DEPARTMENT_ID);
+        Project project = new Project();
+        project.setId(PROJECT_ID);
+        project.setDepartment(department);
+        Task task = new Task();
+        task.setState(state);
+        task.setProject(project);
+        return task;
+    }
+}